@@ -8,6 +8,7 @@ plugins {
   checkstyle
   jacoco
   id("io.qameta.allure") version "2.10.0"
+  id("me.champeau.jmh") version "0.6.8"
 }
 
 group = "com.UoU"
@@ -65,12 +66,13 @@ dependencies {
 
   // Database
   implementation("org.springframework.boot:spring-boot-starter-jooq")
-  runtimeOnly("org.postgresql:postgresql")
+  implementation("org.postgresql:postgresql") // not runtimeOnly because PgBinaryCopy uses COPY API
   jooqGenerator("org.postgresql:postgresql")
   implementation("org.flywaydb:flyway-core")
 
-  // Redis
+  // Redis and in-process caching
   implementation("org.springframework.boot:spring-boot-starter-data-redis")
+  implementation("com.github.ben-manes.caffeine:caffeine")
 
   // Kafka
   // TODO: Handle retry/backoff errors so they're not logged as errors, which should be
@@ -347,6 +349,72 @@ tasks.jacocoTestCoverageVerification {
   }
 }
 
+// ------------
+// JMH benchmarks config:
+// Benchmarks are in src/jmh and run with `./gradlew jmh`. Pass -PjmhIncludes=SomeBenchmark to run
+// only matching benchmarks. The gc profiler is always on so allocations per op are reported too.
+// Results are written to build/results/jmh/results.json, which can be diffed between runs/commits.
+// Benchmarks can use test helpers (TestData, ModelBuilders, etc.) for setup, but NOT mocks in the
+// measured code, since mock calls are much slower than the real thing.
+jmh {
+  jmhVersion.set("1.35")
+  includeTests.set(true)
+  profilers.add("gc")
+  resultFormat.set("JSON")
+  findProperty("jmhIncludes")?.let { includes.add(it.toString()) }
+  findProperty("jmhFork")?.let { fork.set(it.toString().toInt()) }
+}
+
+dependencies {
+  "jmhCompileOnly"("org.projectlombok:lombok")
+  "jmhAnnotationProcessor"("org.projectlombok:lombok")
+}
+
+// ------------
+// Load tests config:
+// Load tests are in src/loadTest and run with `./gradlew loadTest` (requires docker). They run the
+// real app with Postgres, Redis, and Kafka containers plus a fake Nylas server, so they're in their
+// own source set WITHOUT the test classes, which would replace the real task schedulers with fakes.
+// Pass -PloadTestScenarios=baseline,rate-limited to run only some scenarios. Reports are written to
+// build/reports/load-tests as JSON, one file per scenario, so runs can be diffed between commits.
+val loadTest: SourceSet by sourceSets.creating {
+  compileClasspath += sourceSets.main.get().output
+  runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName]
+  .extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName]
+  .extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+  "loadTestCompileOnly"("org.projectlombok:lombok")
+  "loadTestAnnotationProcessor"("org.projectlombok:lombok")
+  "loadTestImplementation"("org.springframework.boot:spring-boot-starter-test") {
+    exclude(group = "com.vaadin.external.google", module = "android-json")
+  }
+  "loadTestImplementation"("org.testcontainers:junit-jupiter")
+  "loadTestImplementation"("org.testcontainers:postgresql")
+  "loadTestImplementation"("org.testcontainers:kafka")
+  "loadTestImplementation"("com.squareup.okhttp3:mockwebserver:4.10.0")
+}
+
+tasks.register<Test>("loadTest") {
+  group = "verification"
+  description = "Run sync load tests against containers and a fake Nylas server"
+  testClassesDirs = loadTest.output.classesDirs
+  classpath = loadTest.runtimeClasspath
+  useJUnitPlatform()
+  shouldRunAfter(tasks.test)
+  outputs.upToDateWhen { false } // results depend on the machine, so always run when requested
+  testLogging.showStandardStreams = true
+  systemProperty("loadTest.reportDir", layout.buildDirectory.dir("reports/load-tests").get())
+  findProperty("loadTestScenarios")?.let { systemProperty("loadTest.scenarios", it) }
+  findProperty("loadTestPhaseTimeout")?.let { systemProperty("loadTest.phaseTimeout", it) }
+  findProperty("loadTestCalendarCount")?.let { systemProperty("loadTest.calendarCount", it) }
+  findProperty("loadTestEventCount")?.let { systemProperty("loadTest.eventCount", it) }
+}
+
 // ------------
 // Other helper tasks
 tasks.register("initDb") {
@@ -0,0 +1,103 @@
+package com.UoU.app.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.UoU.app.v1.dtos.nylas.NotificationDto;
+import com.UoU.core.SecretString;
+import com.UoU.core.nylas.ClientConfig;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.codec.Hex;
+
+/**
+ * Measures webhook signature validation and parsing, which runs for every Nylas webhook request.
+ *
+ * <p>Runs with several threads like a webhook burst across request threads. The stringHmac
+ * benchmark is the previous approach, with a shared (locked) Mac, hex strings, and a String body,
+ * for comparison with the current raw bytes approach. Run with -prof gc to compare allocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class WebhookSignatureBenchmark {
+  private static final String SECRET = "benchmark-client-secret";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  /**
+   * Deltas per notification: Nylas usually sends 1, but batches up to hundreds during bursts.
+   */
+  @Param({"1", "50"})
+  private int deltaCount;
+
+  private HmacUtil hmacUtil;
+  private Mac sharedMac;
+  private String body;
+  private byte[] bodyBytes;
+  private String signature;
+
+  @Setup
+  @SneakyThrows
+  public void setup() {
+    hmacUtil = new HmacUtil(new ClientConfig(
+        new SecretString("benchmark-client-id"), new SecretString(SECRET), "https://localhost"));
+    sharedMac = Mac.getInstance("HmacSHA256");
+    sharedMac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+
+    val deltas = new StringBuilder();
+    for (var i = 0; i < deltaCount; i++) {
+      deltas.append(i == 0 ? "" : ",").append(String.format("""
+          {"date":%d,"object":"event","type":"event.updated","object_data":{\
+          "namespace_id":"benchmarkaccount","account_id":"benchmarkaccount","object":"event",\
+          "attributes":null,"id":"benchmarkevent%04d","metadata":null}}""",
+          Instant.now().getEpochSecond(), i));
+    }
+    body = "{\"deltas\":[" + deltas + "]}";
+    bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+    signature = hmacUtil.createHmac(body);
+  }
+
+  @Benchmark
+  @SneakyThrows
+  public NotificationDto rawBytes() {
+    if (!hmacUtil.validate(signature, bodyBytes)) {
+      throw new IllegalStateException("Invalid signature");
+    }
+    return MAPPER.readValue(bodyBytes, NotificationDto.class);
+  }
+
+  @Benchmark
+  @SneakyThrows
+  public NotificationDto stringHmac() {
+    // Copy the body like the servlet String converter does for each request.
+    val requestBody = new String(bodyBytes, StandardCharsets.UTF_8);
+    String expected;
+    synchronized (sharedMac) {
+      expected = new String(Hex.encode(
+          sharedMac.doFinal(requestBody.getBytes(StandardCharsets.UTF_8))));
+    }
+    if (!signature.equals(expected)) {
+      throw new IllegalStateException("Invalid signature");
+    }
+    return MAPPER.readValue(requestBody, NotificationDto.class);
+  }
+}
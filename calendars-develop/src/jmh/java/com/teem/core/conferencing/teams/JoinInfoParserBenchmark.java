@@ -0,0 +1,47 @@
+package com.UoU.core.conferencing.teams;
+
+import com.microsoft.graph.models.OnlineMeeting;
+import com.UoU._helpers.TestData;
+import com.UoU.core.accounts.Provider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing Teams join info HTML into event descriptions.
+ *
+ * <p>Microsoft only URL-decodes the HTML, while Google also simplifies it with regexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JoinInfoParserBenchmark {
+  private static final String DESCRIPTION = "Agenda: ".repeat(20);
+
+  private final JoinInfoParser parser = new JoinInfoParser();
+  private final OnlineMeeting meeting = TestData.teamsMeeting();
+
+  @Param({"MICROSOFT", "GOOGLE"})
+  private Provider provider;
+
+  @Benchmark
+  public String parseJoinInfoHtml() {
+    return parser.parseJoinInfoHtml(meeting, provider);
+  }
+
+  @Benchmark
+  public String appendJoinInfoHtml() {
+    return parser.appendJoinInfoHtml(DESCRIPTION, meeting, provider);
+  }
+}
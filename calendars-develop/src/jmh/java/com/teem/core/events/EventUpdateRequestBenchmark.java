@@ -0,0 +1,71 @@
+package com.UoU.core.events;
+
+import com.UoU.core.nylas.NylasEventFixtures;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures removing unchanged fields from an update request that sets every field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventUpdateRequestBenchmark {
+
+  @Param({"2", "20"})
+  private int participantCount;
+
+  @Param({"false", "true"})
+  private boolean isRecurrenceMaster;
+
+  private Event event;
+  private EventUpdateRequest request;
+
+  @Setup
+  public void setup() {
+    event = NylasEventFixtures.localEvent(
+        NylasEventFixtures.nylasEvent(participantCount, isRecurrenceMaster));
+    request = EventUpdateRequest.builder()
+        .id(event.id())
+        .externalId(event.externalId())
+        .icalUid(event.icalUid())
+        .orgId(event.orgId())
+        .title(event.title())
+        .description(event.description())
+        .location(event.location())
+        .when(event.when())
+        .recurrence(event.recurrence().getMaster())
+        .status(event.status())
+        .isBusy(event.isBusy())
+        .isReadOnly(event.isReadOnly())
+        .owner(event.owner())
+        .participants(event.participants().stream()
+            .map(x -> ParticipantRequest.builder()
+                .name(x.name())
+                .email(x.email())
+                .status(x.status())
+                .comment(x.comment())
+                .build())
+            .toList())
+        .dataSource(DataSource.PROVIDER)
+        .build();
+  }
+
+  @Benchmark
+  public EventUpdateRequest withMatchingUpdateFieldsRemoved() {
+    return request.withMatchingUpdateFieldsRemoved(event);
+  }
+}
@@ -0,0 +1,50 @@
+package com.UoU.core.events;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures validating valid recurrence masters, which happens for every recurring event write.
+ *
+ * <p>The constraint context is only used when validation fails, so it's null here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecurrenceValidatorBenchmark {
+  private final Recurrence.Master.Validator validator = new Recurrence.Master.Validator();
+
+  private final Recurrence.Master master = new Recurrence.Master(
+      List.of("RRULE:FREQ=WEEKLY;BYDAY=MO,WE,FR;UNTIL=20231001T000000Z"),
+      "America/Chicago",
+      new Recurrence.Master.ValidationContext(false));
+
+  private final Recurrence.Master masterWithExdate = new Recurrence.Master(
+      List.of(
+          "RRULE:FREQ=WEEKLY;BYDAY=MO,WE,FR;UNTIL=20231001T000000Z",
+          "EXDATE:20221012T150000Z,20221014T150000Z,20221017T150000Z"),
+      "America/Chicago",
+      new Recurrence.Master.ValidationContext(false));
+
+  @Benchmark
+  public boolean isValid() {
+    return validator.isValid(master, null);
+  }
+
+  @Benchmark
+  public boolean isValidWithExdate() {
+    return validator.isValid(masterWithExdate, null);
+  }
+}
@@ -0,0 +1,68 @@
+package com.UoU.core.nylas;
+
+import com.UoU.core.Checksum;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating etags for Nylas events, which happens for every event on every sync.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExternalEtagBenchmark {
+
+  @Param({"2", "20"})
+  private int participantCount;
+
+  @Param({"false", "true"})
+  private boolean isRecurrenceMaster;
+
+  private com.nylas.Event nylasEvent;
+  private String[] checksumValues;
+
+  @Setup
+  public void setup() {
+    nylasEvent = NylasEventFixtures.nylasEvent(participantCount, isRecurrenceMaster);
+
+    val participants = new StringBuilder();
+    nylasEvent.getParticipants().forEach(x -> participants
+        .append(x.getName()).append('|').append(x.getEmail()).append('|'));
+    checksumValues = new String[] {
+        nylasEvent.getCalendarId(),
+        nylasEvent.getId(),
+        nylasEvent.getIcalUid(),
+        nylasEvent.getTitle(),
+        nylasEvent.getDescription(),
+        nylasEvent.getLocation(),
+        nylasEvent.getWhen().toString(),
+        nylasEvent.getStatus(),
+        nylasEvent.getOwner(),
+        participants.toString(),
+    };
+  }
+
+  @Benchmark
+  public long externalEtag() {
+    return new ExternalEtag(nylasEvent).fingerprint();
+  }
+
+  @Benchmark
+  public String checksum() {
+    return new Checksum(checksumValues).getValue();
+  }
+}
@@ -0,0 +1,124 @@
+package com.UoU.core.nylas;
+
+import com.nylas.Event;
+import com.UoU.core.OrgId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.DataSource;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.events.EventId;
+import com.UoU.core.events.Participant;
+import com.UoU.core.events.Recurrence;
+import com.UoU.core.mapping.WrappedValueMapperImpl;
+import com.UoU.core.nylas.mapping.NylasEventMapper;
+import com.UoU.core.nylas.mapping.NylasEventMapperImpl;
+import com.UoU.core.nylas.mapping.NylasParticipantMapperImpl;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.val;
+
+/**
+ * Realistic Nylas events and matching local events for benchmarks.
+ *
+ * <p>These are real objects rather than mocks, so benchmarks measure the code and not Mockito.
+ */
+public class NylasEventFixtures {
+  public static final NylasEventMapper MAPPER = new NylasEventMapperImpl(
+      new NylasParticipantMapperImpl(),
+      new WrappedValueMapperImpl());
+
+  private static final List<String> RRULE = List.of(
+      "RRULE:FREQ=WEEKLY;BYDAY=MO,WE,FR;UNTIL=20231001T000000Z",
+      "EXDATE:20221012T150000Z,20221014T150000Z");
+
+  public static Event nylasEvent(int participantCount, boolean isRecurrenceMaster) {
+    val event = new FixtureEvent(participantCount);
+    if (isRecurrenceMaster) {
+      event.setRecurrence(new Event.Recurrence("America/Chicago", RRULE));
+    }
+    return event;
+  }
+
+  /**
+   * Creates a local event with the same data as the Nylas event, so it's unchanged.
+   */
+  public static com.UoU.core.events.Event localEvent(Event event) {
+    val participants = event.getParticipants().stream()
+        .map(x -> new Participant(x.getName(), x.getEmail(), null, x.getComment()))
+        .toList();
+
+    return new com.UoU.core.events.Event(
+        EventId.create(),
+        new EventExternalId(event.getId()),
+        event.getIcalUid(),
+        new OrgId("benchmark"),
+        CalendarId.create(),
+        event.getTitle(),
+        event.getDescription(),
+        event.getLocation(),
+        MAPPER.toWhenModel(event.getWhen()),
+        Optional.ofNullable(event.getRecurrence())
+            .map(x -> Recurrence.master(x.getRrule(), x.getTimezone()))
+            .orElse(Recurrence.none()),
+        MAPPER.toStatusModel(event.getStatus()),
+        event.getBusy(),
+        event.getReadOnly(),
+        null,
+        null,
+        MAPPER.toOwnerModelFromNylasString(event.getOwner()),
+        participants,
+        Instant.now(),
+        DataSource.PROVIDER,
+        Instant.now(),
+        DataSource.PROVIDER);
+  }
+
+  /**
+   * Nylas event with the read-only properties that are normally set from Nylas JSON.
+   */
+  private static class FixtureEvent extends Event {
+    private final String id = UUID.randomUUID().toString();
+    private final String icalUid = UUID.randomUUID().toString();
+
+    FixtureEvent(int participantCount) {
+      super("calendar-" + UUID.randomUUID(), new Timespan(
+          Instant.parse("2022-10-03T15:00:00Z"), Instant.parse("2022-10-03T16:00:00Z")));
+      setTitle("Quarterly planning");
+      setDescription("Agenda: ".repeat(20));
+      setLocation("Room 101");
+      setBusy(true);
+      setParticipants(IntStream
+          .range(0, participantCount)
+          .mapToObj(i -> new com.nylas.Participant("person" + i + "@example.com")
+              .name("Person " + i))
+          .toList());
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public String getIcalUid() {
+      return icalUid;
+    }
+
+    @Override
+    public String getStatus() {
+      return "confirmed";
+    }
+
+    @Override
+    public Boolean getReadOnly() {
+      return false;
+    }
+
+    @Override
+    public String getOwner() {
+      return "Person 0 <person0@example.com>";
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.UoU.core.nylas.mapping;
+
+import static com.UoU.core.nylas.NylasEventFixtures.MAPPER;
+
+import com.UoU.core.OrgId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.Event;
+import com.UoU.core.events.EventCreateRequest;
+import com.UoU.core.events.EventId;
+import com.UoU.core.events.EventUpdateRequest;
+import com.UoU.core.nylas.NylasEventFixtures;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping Nylas events to create and update requests, which happens for every new or
+ * changed event on sync.
+ *
+ * <p>The Nylas event title is changed after creating the local event, so the update request has
+ * real updates like it would after {@link NylasEventMapper#isUnchanged} returns false.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NylasEventMapperBenchmark {
+  private static final OrgId ORG_ID = new OrgId("benchmark");
+
+  @Param({"2", "20"})
+  private int participantCount;
+
+  @Param({"false", "true"})
+  private boolean isRecurrenceMaster;
+
+  private com.nylas.Event nylasEvent;
+  private Event localEvent;
+  private CalendarId calendarId;
+
+  @Setup
+  public void setup() {
+    nylasEvent = NylasEventFixtures.nylasEvent(participantCount, isRecurrenceMaster);
+    localEvent = NylasEventFixtures.localEvent(nylasEvent);
+    nylasEvent.setTitle("New title");
+    calendarId = CalendarId.create();
+  }
+
+  @Benchmark
+  public EventCreateRequest toCreateRequestModel() {
+    return MAPPER.toCreateRequestModel(nylasEvent, EventId.create(), calendarId, ORG_ID);
+  }
+
+  @Benchmark
+  public EventUpdateRequest toUpdateRequestModel() {
+    return MAPPER.toUpdateRequestModel(nylasEvent, localEvent);
+  }
+}
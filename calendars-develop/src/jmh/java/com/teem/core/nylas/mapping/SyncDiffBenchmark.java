@@ -0,0 +1,240 @@
+package com.UoU.core.nylas.mapping;
+
+import com.UoU.core.Checksum;
+import com.UoU.core.OrgId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.DataSource;
+import com.UoU.core.events.Event;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.events.EventId;
+import com.UoU.core.events.Participant;
+import com.UoU.core.events.Recurrence;
+import com.UoU.core.mapping.WrappedValueMapperImpl;
+import com.UoU.core.nylas.ExternalEtag;
+import com.UoU.core.nylas.NylasEventFixtures;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-event cost of diffing an unchanged Nylas event during a full sync.
+ *
+ * <p>{@link #updateRequest()} is the old path that always builds the update request, and
+ * {@link #isUnchanged()} is the field-by-field fast path. Run with the gc profiler (on by default
+ * in the Gradle config) to see allocations per op, which should be ~0 for the fast path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SyncDiffBenchmark {
+  private static final NylasEventMapper MAPPER = new NylasEventMapperImpl(
+      new NylasParticipantMapperImpl(),
+      new WrappedValueMapperImpl());
+
+  @Param({"2", "20"})
+  private int participantCount;
+
+  private com.nylas.Event nylasEvent;
+  private Event localEvent;
+  private String[] checksumValues;
+
+  @Setup
+  public void setup() {
+    nylasEvent = new BenchmarkNylasEvent(participantCount);
+    localEvent = toLocalEvent(nylasEvent);
+    checksumValues = new String[] {
+        nylasEvent.getCalendarId(),
+        nylasEvent.getId(),
+        nylasEvent.getIcalUid(),
+        nylasEvent.getTitle(),
+        nylasEvent.getDescription(),
+        nylasEvent.getLocation(),
+        nylasEvent.getWhen().toString(),
+        null,
+        null,
+        null,
+        nylasEvent.getStatus(),
+        nylasEvent.getBusy().toString(),
+        nylasEvent.getReadOnly().toString(),
+        nylasEvent.getOwner(),
+        nylasEvent.getParticipants().stream()
+            .map(x -> x.getName() + "|" + x.getEmail() + "|" + x.getStatus() + "|" + x.getComment())
+            .collect(Collectors.joining("|")),
+        null,
+    };
+
+    if (MAPPER.toUpdateRequestModel(nylasEvent, localEvent).hasUpdates()
+        || !MAPPER.isUnchanged(nylasEvent, localEvent)) {
+      throw new IllegalStateException("Benchmark events should be unchanged");
+    }
+  }
+
+  @Benchmark
+  public boolean updateRequest() {
+    return MAPPER.toUpdateRequestModel(nylasEvent, localEvent).hasUpdates();
+  }
+
+  @Benchmark
+  public boolean isUnchanged() {
+    return MAPPER.isUnchanged(nylasEvent, localEvent);
+  }
+
+  /**
+   * Like {@link #updateRequest()}, but for a recurrence master, which also compares the rrule.
+   */
+  @Benchmark
+  public boolean updateRequestRecurrenceMaster(RecurrenceMasterState state) {
+    return MAPPER.toUpdateRequestModel(state.nylasEvent, state.localEvent).hasUpdates();
+  }
+
+  /**
+   * Like {@link #isUnchanged()}, but for a recurrence master, which also compares the rrule.
+   */
+  @Benchmark
+  public boolean isUnchangedRecurrenceMaster(RecurrenceMasterState state) {
+    return MAPPER.isUnchanged(state.nylasEvent, state.localEvent);
+  }
+
+  @Benchmark
+  public long externalEtag() {
+    return new ExternalEtag(nylasEvent).fingerprint();
+  }
+
+  @Benchmark
+  public String checksum() {
+    return new Checksum(checksumValues).getValue();
+  }
+
+  /**
+   * The previous Checksum implementation, which joined all values before hashing the bytes.
+   */
+  @Benchmark
+  public String checksumJoined() {
+    final byte[] bytes = IntStream
+        .range(0, checksumValues.length)
+        .mapToObj(i -> i + "(" + checksumValues[i] + ")")
+        .collect(Collectors.joining())
+        .getBytes(StandardCharsets.UTF_8);
+    final CRC32C crc = new CRC32C();
+    crc.update(bytes, 0, bytes.length);
+    return String.valueOf(crc.getValue()) + checksumValues.length + bytes.length;
+  }
+
+  /**
+   * Unchanged recurrence master from the shared {@link NylasEventFixtures}.
+   */
+  @State(Scope.Benchmark)
+  public static class RecurrenceMasterState {
+    @Param({"2", "20"})
+    private int participantCount;
+
+    private com.nylas.Event nylasEvent;
+    private Event localEvent;
+
+    @Setup
+    public void setup() {
+      nylasEvent = NylasEventFixtures.nylasEvent(participantCount, true);
+      localEvent = NylasEventFixtures.localEvent(nylasEvent);
+
+      if (MAPPER.toUpdateRequestModel(nylasEvent, localEvent).hasUpdates()
+          || !MAPPER.isUnchanged(nylasEvent, localEvent)) {
+        throw new IllegalStateException("Benchmark events should be unchanged");
+      }
+    }
+  }
+
+  private static Event toLocalEvent(com.nylas.Event event) {
+    final List<Participant> participants = event.getParticipants().stream()
+        .map(x -> new Participant(x.getName(), x.getEmail(), null, x.getComment()))
+        .toList();
+
+    return new Event(
+        EventId.create(),
+        new EventExternalId(event.getId()),
+        event.getIcalUid(),
+        new OrgId("benchmark"),
+        CalendarId.create(),
+        event.getTitle(),
+        event.getDescription(),
+        event.getLocation(),
+        MAPPER.toWhenModel(event.getWhen()),
+        Recurrence.none(),
+        MAPPER.toStatusModel(event.getStatus()),
+        event.getBusy(),
+        event.getReadOnly(),
+        null,
+        null,
+        MAPPER.toOwnerModelFromNylasString(event.getOwner()),
+        participants,
+        Instant.now(),
+        DataSource.PROVIDER,
+        Instant.now(),
+        DataSource.PROVIDER);
+  }
+
+  /**
+   * Nylas event with the read-only properties that are normally set from Nylas JSON.
+   */
+  private static class BenchmarkNylasEvent extends com.nylas.Event {
+    private final String id = UUID.randomUUID().toString();
+    private final String icalUid = UUID.randomUUID().toString();
+
+    BenchmarkNylasEvent(int participantCount) {
+      super("calendar-" + UUID.randomUUID(), new Timespan(
+          Instant.parse("2022-10-01T15:00:00Z"), Instant.parse("2022-10-01T16:00:00Z")));
+      setTitle("Quarterly planning");
+      setDescription("Agenda: ".repeat(20));
+      setLocation("Room 101");
+      setBusy(true);
+      setParticipants(IntStream
+          .range(0, participantCount)
+          .mapToObj(i -> new com.nylas.Participant("person" + i + "@example.com")
+              .name("Person " + i))
+          .toList());
+    }
+
+    @Override
+    public String getId() {
+      return id;
+    }
+
+    @Override
+    public String getIcalUid() {
+      return icalUid;
+    }
+
+    @Override
+    public String getStatus() {
+      return "confirmed";
+    }
+
+    @Override
+    public Boolean getReadOnly() {
+      return false;
+    }
+
+    @Override
+    public String getOwner() {
+      return "Person 0 <person0@example.com>";
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.UoU.infra.db;
+
+import com.UoU.infra.encryption.BenchmarkEncryptor;
+import com.UoU.infra.encryption.Encryptor;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding paging cursors, with and without encryption for PII cursors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CursorBenchmark {
+  private final Encryptor encryptor = BenchmarkEncryptor.create();
+  private final Cursor cursor = new Cursor(
+      OffsetDateTime.of(2022, 10, 3, 15, 0, 0, 0, ZoneOffset.UTC),
+      "someone.with.a.long.email@example.com");
+
+  private String encoded;
+  private String encrypted;
+
+  @Setup
+  public void setup() {
+    encoded = cursor.encode();
+    encrypted = cursor.encode(encryptor::encrypt);
+  }
+
+  @Benchmark
+  public String encode() {
+    return cursor.encode();
+  }
+
+  @Benchmark
+  public Optional<Cursor> decode() {
+    return Cursor.decoder().decode(encoded, 2);
+  }
+
+  @Benchmark
+  public String encodeEncrypted() {
+    return cursor.encode(encryptor::encrypt);
+  }
+
+  @Benchmark
+  public Optional<Cursor> decodeEncrypted() {
+    return Cursor.decoder(encryptor::decryptToString).decode(encrypted, 2);
+  }
+}
@@ -0,0 +1,72 @@
+package com.UoU.infra.db.mapping;
+
+import com.UoU.core.OrgId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.Event;
+import com.UoU.core.events.EventCreateRequest;
+import com.UoU.core.events.EventId;
+import com.UoU.core.nylas.NylasEventFixtures;
+import com.UoU.infra.db._helpers.Mappers;
+import com.UoU.infra.jooq.tables.records.EventRecord;
+import com.UoU.infra.jooq.tables.records.ParticipantRecord;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures mapping events to and from jOOQ records, which happens for every event read or written.
+ *
+ * <p>Recurrence masters store recurrence as JSON, so the recurring params show the JSON overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JooqEventMapperBenchmark {
+  private static final Supplier<ZoneId> ZONE_SUPPLIER = () -> ZoneId.of("America/Chicago");
+
+  @Param({"2", "20"})
+  private int participantCount;
+
+  @Param({"false", "true"})
+  private boolean isRecurrenceMaster;
+
+  private EventCreateRequest request;
+  private EventRecord record;
+  private List<ParticipantRecord> participantRecords;
+
+  @Setup
+  public void setup() {
+    val nylasEvent = NylasEventFixtures.nylasEvent(participantCount, isRecurrenceMaster);
+    request = NylasEventFixtures.MAPPER.toCreateRequestModel(
+        nylasEvent, EventId.create(), CalendarId.create(), new OrgId("benchmark"));
+    record = Mappers.EVENT_MAPPER.toRecord(request, ZONE_SUPPLIER);
+    participantRecords = Mappers.PARTICIPANT_MAPPER.toRecordsForCreate(
+        request.participants(), request.id());
+  }
+
+  @Benchmark
+  public EventRecord toRecord() {
+    return Mappers.EVENT_MAPPER.toRecord(request, ZONE_SUPPLIER);
+  }
+
+  @Benchmark
+  public Event toModel() {
+    return Mappers.EVENT_MAPPER.toModel(record, participantRecords);
+  }
+}
@@ -0,0 +1,16 @@
+package com.UoU.infra.encryption;
+
+import com.UoU.core.SecretString;
+import java.util.Base64;
+
+/**
+ * Creates an {@link Encryptor} for benchmarks, since the ctor is package-private.
+ */
+public class BenchmarkEncryptor {
+
+  public static Encryptor create() {
+    // Fixed 256-bit key, so it's the same key size as prod but the key is obviously not a secret.
+    return new Encryptor(new Config(new SecretString(
+        Base64.getEncoder().encodeToString("benchmark-key-benchmark-key-1234".getBytes()))));
+  }
+}
@@ -0,0 +1,183 @@
+package com.UoU.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.UoU.core.Fluent;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.infra.db.CalendarMetadataCache;
+import com.UoU.infra.db.JooqCalendarRepository;
+import com.UoU.infra.db.ReadReplica;
+import com.UoU.infra.db.mapping.JooqCalendarMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares the hourly listSyncableCalendarsAtLocalHour query, which finds the calendars that are
+ * at local midnight for the active period advance, against the old query that converted the time
+ * for every calendar row.
+ *
+ * <p>This only needs Postgres, so it runs the migrations and the repository directly rather than
+ * the whole app. The calendar count defaults to 1M and can be set with the loadTest.calendarCount
+ * system property (see build.gradle.kts). Results are logged and written as JSON to the
+ * loadTest.reportDir system property.
+ */
+@Slf4j
+class CalendarLocalHourLoadTests {
+  private static final int CALENDAR_COUNT = Integer.parseInt(
+      System.getProperty("loadTest.calendarCount", "1000000"));
+  private static final int ACCOUNT_COUNT = Math.max(1, CALENDAR_COUNT / 10);
+  private static final int BATCH_SIZE = 500; // same as AdvanceEventsActivePeriodTask
+  private static final int RUNS = 5;
+  private static final Path REPORT_DIR = Path.of(
+      System.getProperty("loadTest.reportDir", "build/reports/load-tests"));
+
+  // Common zones, weighted by repeats, plus a POSIX-style zone that only Postgres understands.
+  private static final List<String> TIMEZONES = List.of(
+      "America/New_York", "America/New_York", "America/New_York", "America/Chicago",
+      "America/Chicago", "America/Denver", "America/Los_Angeles", "America/Los_Angeles",
+      "America/Phoenix", "America/Sao_Paulo", "Europe/London", "Europe/London", "Europe/Berlin",
+      "Europe/Paris", "Europe/Rome", "Europe/Madrid", "Asia/Kolkata", "Asia/Tokyo",
+      "Asia/Singapore", "Asia/Shanghai", "Australia/Sydney", "Pacific/Auckland", "UTC", "UTC+5");
+
+  @Container
+  private static PostgreSQLContainer dbContainer = Fluent
+      .of(new PostgreSQLContainer(DockerImageName.parse("postgres:13.6-alpine")))
+      .also(x -> x
+          .withDatabaseName("calendars")
+          .withUsername("postgres")
+          .withPassword("postgres")
+          .start())
+      .get();
+
+  private final ObjectMapper reportMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT);
+
+  @SneakyThrows
+  @Test
+  void listSyncableCalendarsAtLocalHour_shouldBeFasterThanPerRowTimezoneQuery() {
+    Flyway.configure()
+        .dataSource(
+            dbContainer.getJdbcUrl(), dbContainer.getUsername(), dbContainer.getPassword())
+        .load()
+        .migrate();
+
+    try (var dsl = DSL.using(
+        dbContainer.getJdbcUrl(), dbContainer.getUsername(), dbContainer.getPassword())) {
+      seed(dsl);
+
+      val repo = new JooqCalendarRepository(
+          dsl, mock(ReadReplica.class), mock(JooqCalendarMapper.class),
+          mock(CalendarMetadataCache.class));
+
+      // Use the hour in a common zone so there are always matching calendars, whatever the time.
+      val localHour = OffsetTime.now(ZoneId.of("America/New_York")).getHour();
+      val perRow = measure(() -> listWithPerRowTimezoneQuery(dsl, localHour));
+      val indexed = measure(() -> repo.listSyncableCalendarsAtLocalHour(localHour, BATCH_SIZE)
+          .flatMap(List::stream)
+          .map(x -> x.getRight())
+          .toList());
+
+      assertThat(new HashSet<>(indexed.ids)).isEqualTo(new HashSet<>(perRow.ids));
+
+      val report = new LinkedHashMap<String, Object>();
+      report.put("calendars", CALENDAR_COUNT);
+      report.put("localHour", localHour);
+      report.put("matchingCalendars", indexed.ids.size());
+      report.put("perRowQueryMedianMillis", perRow.median.toMillis());
+      report.put("indexedQueryMedianMillis", indexed.median.toMillis());
+      log.info("listSyncableCalendarsAtLocalHour: {}", report);
+
+      Files.createDirectories(REPORT_DIR);
+      reportMapper.writeValue(REPORT_DIR.resolve("calendar-local-hour.json").toFile(), report);
+
+      assertThat(indexed.median).isLessThan(perRow.median);
+    }
+  }
+
+  private static void seed(DSLContext dsl) {
+    dsl.execute("""
+        INSERT INTO account (id, org_id, email, name, access_token_encrypted, linked_at,
+                             auth_method)
+        SELECT 'account-' || i, 'load-test', 'account-' || i || '@example.com', 'Account ' || i,
+               '\\x00'::bytea, now(), 'ms-oauth-sa'
+        FROM generate_series(1, ?) AS i
+        """, ACCOUNT_COUNT);
+
+    // Every 10th calendar is read-only and every 20th has no external id, so they aren't syncable.
+    dsl.execute("""
+        INSERT INTO calendar (id, org_id, account_id, external_id, name, timezone, is_read_only)
+        SELECT md5(i::text), 'load-test', 'account-' || (i % ? + 1),
+               CASE WHEN i % 20 = 0 THEN NULL ELSE 'external-' || i END, 'Calendar ' || i,
+               (?::text[])[i % ? + 1], i % 10 = 0
+        FROM generate_series(1, ?) AS i
+        """,
+        ACCOUNT_COUNT, TIMEZONES.toArray(String[]::new), TIMEZONES.size(), CALENDAR_COUNT);
+
+    dsl.execute("ANALYZE calendar");
+  }
+
+  /**
+   * The old query, which converted the current time to each calendar's timezone row by row.
+   */
+  private static List<CalendarId> listWithPerRowTimezoneQuery(DSLContext dsl, int localHour) {
+    val ids = new ArrayList<CalendarId>();
+    String afterId = "";
+    List<String> batch;
+    do {
+      batch = dsl
+          .resultQuery("""
+              SELECT c.id FROM calendar c
+              WHERE c.account_id IS NOT NULL AND c.external_id IS NOT NULL
+                AND c.is_read_only = false
+                AND EXTRACT(HOUR FROM NOW() AT TIME ZONE c.timezone) = ?
+                AND c.id > ?
+              ORDER BY c.id
+              LIMIT ?
+              """, localHour, afterId, BATCH_SIZE)
+          .fetch(0, String.class);
+      batch.forEach(id -> ids.add(new CalendarId(id)));
+      afterId = batch.isEmpty() ? afterId : batch.get(batch.size() - 1);
+    } while (batch.size() >= BATCH_SIZE);
+
+    return ids;
+  }
+
+  /**
+   * Runs the query once to warm up, then RUNS more times, and returns the median time.
+   */
+  private static Measurement measure(Supplier<List<CalendarId>> query) {
+    val ids = query.get();
+    val times = new ArrayList<Duration>();
+    for (var i = 0; i < RUNS; i++) {
+      val start = System.nanoTime();
+      query.get();
+      times.add(Duration.ofNanos(System.nanoTime() - start));
+    }
+    times.sort(Duration::compareTo);
+    return new Measurement(ids, times.get(RUNS / 2));
+  }
+
+  private record Measurement(List<CalendarId> ids, Duration median) {
+  }
+}
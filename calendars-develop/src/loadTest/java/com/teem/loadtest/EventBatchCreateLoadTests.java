@@ -0,0 +1,203 @@
+package com.UoU.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.UoU.core.Fluent;
+import com.UoU.core.OrgId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.DataSource;
+import com.UoU.core.events.EventCreateRequest;
+import com.UoU.core.events.EventId;
+import com.UoU.core.events.ParticipantRequest;
+import com.UoU.core.events.When;
+import com.UoU.core.mapping.WrappedValueMapperImpl;
+import com.UoU.infra.db.CalendarMetadataCache;
+import com.UoU.infra.db.EventBulkCopyConfig;
+import com.UoU.infra.db.JooqEventOutbox;
+import com.UoU.infra.db.JooqEventRepository;
+import com.UoU.infra.db.ReadReplica;
+import com.UoU.infra.db.mapping.JooqEventMapperImpl;
+import com.UoU.infra.db.mapping.JooqParticipantMapperImpl;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.flywaydb.core.Flyway;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares JooqEventRepository.batchCreate with binary COPY via staging tables against the same
+ * batches created with jooq batch inserts.
+ *
+ * <p>This only needs Postgres, so it runs the migrations and the repository directly rather than
+ * the whole app. Each run creates the events in batches like a full sync does, and runs alternate
+ * between the two repos so table growth affects both equally. The event count defaults to 20K and
+ * can be set with the loadTest.eventCount system property (see build.gradle.kts). Results are
+ * logged and written as JSON to the loadTest.reportDir system property.
+ */
+@Slf4j
+class EventBatchCreateLoadTests {
+  private static final int EVENT_COUNT = Integer.parseInt(
+      System.getProperty("loadTest.eventCount", "20000"));
+  private static final int BATCH_SIZE = 500; // same as the sync-all-events chunk size
+  private static final int CALENDAR_COUNT = 20;
+  private static final int PARTICIPANTS_PER_EVENT = 3;
+  private static final int RUNS = 5;
+  private static final OrgId ORG_ID = new OrgId("load-test");
+  private static final Path REPORT_DIR = Path.of(
+      System.getProperty("loadTest.reportDir", "build/reports/load-tests"));
+
+  @Container
+  private static PostgreSQLContainer dbContainer = Fluent
+      .of(new PostgreSQLContainer(DockerImageName.parse("postgres:13.6-alpine")))
+      .also(x -> x
+          .withDatabaseName("calendars")
+          .withUsername("postgres")
+          .withPassword("postgres")
+          .start())
+      .get();
+
+  private final ObjectMapper reportMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT);
+
+  @SneakyThrows
+  @Test
+  void batchCreate_shouldBeFasterWithCopyThanBatchInserts() {
+    Flyway.configure()
+        .dataSource(
+            dbContainer.getJdbcUrl(), dbContainer.getUsername(), dbContainer.getPassword())
+        .load()
+        .migrate();
+
+    try (var dsl = DSL.using(
+        dbContainer.getJdbcUrl(), dbContainer.getUsername(), dbContainer.getPassword())) {
+      val calendarIds = seed(dsl);
+      val copyRepo = createRepo(dsl, new EventBulkCopyConfig(true, 1));
+      val insertRepo = createRepo(dsl, new EventBulkCopyConfig(false, 1));
+
+      // Warm up both paths once, then alternate runs.
+      createAll(insertRepo, calendarIds);
+      createAll(copyRepo, calendarIds);
+      val insertTimes = new ArrayList<Duration>();
+      val copyTimes = new ArrayList<Duration>();
+      for (var i = 0; i < RUNS; i++) {
+        insertTimes.add(createAll(insertRepo, calendarIds));
+        copyTimes.add(createAll(copyRepo, calendarIds));
+      }
+
+      val expectedEvents = EVENT_COUNT * (RUNS + 1) * 2;
+      assertThat(dsl.fetchCount(DSL.table("event"))).isEqualTo(expectedEvents);
+      assertThat(dsl.fetchCount(DSL.table("participant")))
+          .isEqualTo(expectedEvents * PARTICIPANTS_PER_EVENT);
+
+      val insertMedian = median(insertTimes);
+      val copyMedian = median(copyTimes);
+      val report = new LinkedHashMap<String, Object>();
+      report.put("events", EVENT_COUNT);
+      report.put("batchSize", BATCH_SIZE);
+      report.put("participantsPerEvent", PARTICIPANTS_PER_EVENT);
+      report.put("batchInsertMedianMillis", insertMedian.toMillis());
+      report.put("copyMedianMillis", copyMedian.toMillis());
+      log.info("batchCreate: {}", report);
+
+      Files.createDirectories(REPORT_DIR);
+      reportMapper.writeValue(REPORT_DIR.resolve("event-batch-create.json").toFile(), report);
+
+      assertThat(copyMedian).isLessThan(insertMedian);
+    }
+  }
+
+  private static List<CalendarId> seed(DSLContext dsl) {
+    dsl.execute("""
+        INSERT INTO account (id, org_id, email, name, access_token_encrypted, linked_at,
+                             auth_method)
+        VALUES ('account-1', ?, 'account-1@example.com', 'Account 1', '\\x00'::bytea, now(),
+                'ms-oauth-sa')
+        """, ORG_ID.value());
+
+    return dsl
+        .resultQuery("""
+            INSERT INTO calendar (id, org_id, account_id, external_id, name, timezone)
+            SELECT md5(i::text), ?, 'account-1', 'external-' || i, 'Calendar ' || i, 'UTC'
+            FROM generate_series(1, ?) AS i
+            RETURNING id
+            """, ORG_ID.value(), CALENDAR_COUNT)
+        .fetch(0, String.class)
+        .stream()
+        .map(CalendarId::new)
+        .toList();
+  }
+
+  private static JooqEventRepository createRepo(DSLContext dsl, EventBulkCopyConfig config) {
+    val wrappedValueMapper = new WrappedValueMapperImpl();
+    val participantMapper = new JooqParticipantMapperImpl(wrappedValueMapper);
+    return new JooqEventRepository(
+        dsl,
+        new JooqEventMapperImpl(participantMapper, wrappedValueMapper),
+        participantMapper,
+        mock(JooqEventOutbox.class), // disabled, since the outbox write is the same for both
+        config,
+        mock(ReadReplica.class),
+        mock(CalendarMetadataCache.class));
+  }
+
+  /**
+   * Creates EVENT_COUNT new events in batches of BATCH_SIZE and returns the total time.
+   */
+  private static Duration createAll(JooqEventRepository repo, List<CalendarId> calendarIds) {
+    val start = Instant.now().truncatedTo(ChronoUnit.HOURS);
+    var elapsedNanos = 0L;
+    for (var offset = 0; offset < EVENT_COUNT; offset += BATCH_SIZE) {
+      val requests = IntStream.range(offset, Math.min(offset + BATCH_SIZE, EVENT_COUNT))
+          .mapToObj(i -> createRequest(calendarIds.get(i % calendarIds.size()), start, i))
+          .toList();
+
+      val batchStart = System.nanoTime();
+      repo.batchCreate(requests);
+      elapsedNanos += System.nanoTime() - batchStart;
+    }
+    return Duration.ofNanos(elapsedNanos);
+  }
+
+  private static EventCreateRequest createRequest(CalendarId calendarId, Instant start, int n) {
+    val startTime = start.plus(n % 1000, ChronoUnit.HOURS);
+    return EventCreateRequest.builder()
+        .id(EventId.create())
+        .orgId(ORG_ID)
+        .calendarId(calendarId)
+        .title("Event " + n)
+        .description("Load test event " + n)
+        .location("Room " + n % 50)
+        .when(new When.TimeSpan(startTime, startTime.plus(30, ChronoUnit.MINUTES)))
+        .isBusy(true)
+        .participants(IntStream.range(0, PARTICIPANTS_PER_EVENT)
+            .mapToObj(i -> ParticipantRequest.builder()
+                .name("Participant " + i)
+                .email("participant-" + i + "@example.com")
+                .build())
+            .toList())
+        .dataSource(DataSource.PROVIDER)
+        .build();
+  }
+
+  private static Duration median(List<Duration> times) {
+    val sorted = times.stream().sorted().toList();
+    return sorted.get(sorted.size() / 2);
+  }
+}
@@ -0,0 +1,267 @@
+package com.UoU.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.val;
+
+/**
+ * Generated Nylas accounts, calendars, and events that are served by {@link FakeNylasServer}.
+ *
+ * <p>Objects are kept as maps in the Nylas API JSON format so the real Nylas SDK parses them.
+ *
+ * <p>Event titles are like "Load {id} v{version}", and the part after the prefix is the title key
+ * (see {@link #titleKey(String)}). PUBLIC EventChanged messages include the title, so the tests can
+ * match each message back to the Nylas event and version that caused it.
+ *
+ * <p>All events start within the default events active period, and time filters in event queries
+ * are ignored, so every generated event is synced.
+ */
+class FakeNylasData {
+  private static final String TITLE_PREFIX = "Load ";
+  private static final String TIMEZONE = "America/Chicago";
+  private static final Duration MAX_START_OFFSET = Duration.ofDays(30);
+
+  private final Random random = new Random(42); // fixed seed so runs are comparable
+  private final Map<String, String> accountIdsByToken = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Object>> accountsById = new ConcurrentHashMap<>();
+  private final Map<String, List<String>> calendarIdsByAccount = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Object>> calendarsById = new ConcurrentHashMap<>();
+  private final Map<String, List<String>> eventIdsByCalendar = new ConcurrentHashMap<>();
+  private final Map<String, List<String>> instanceIdsByMaster = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Object>> eventsById = new ConcurrentHashMap<>();
+  private final Map<String, Integer> versionsById = new ConcurrentHashMap<>();
+
+  public static String accessToken(String accountId) {
+    return "load-token-" + accountId;
+  }
+
+  /**
+   * Gets the title key from an event title, or null if the title isn't from this data.
+   */
+  public static String titleKey(String title) {
+    return title != null && title.startsWith(TITLE_PREFIX)
+        ? title.substring(TITLE_PREFIX.length())
+        : null;
+  }
+
+  /**
+   * Generates an account with calendars and events based on the scenario.
+   */
+  public void addAccount(String accountId, String email, LoadScenario scenario) {
+    accountIdsByToken.put(accessToken(accountId), accountId);
+    accountsById.put(accountId, account(accountId, email));
+
+    val calendarIds = IntStream
+        .range(0, scenario.calendarsPerAccount())
+        .mapToObj(i -> addCalendar(accountId, i, scenario))
+        .toList();
+    calendarIdsByAccount.put(accountId, calendarIds);
+  }
+
+  public Optional<String> accountIdForToken(String token) {
+    return Optional.ofNullable(accountIdsByToken.get(token));
+  }
+
+  public Optional<Map<String, Object>> account(String accountId) {
+    return Optional.ofNullable(accountsById.get(accountId));
+  }
+
+  public List<Map<String, Object>> calendars(String accountId) {
+    return calendarIdsByAccount.getOrDefault(accountId, List.of()).stream()
+        .map(calendarsById::get)
+        .toList();
+  }
+
+  public Optional<Map<String, Object>> calendar(String accountId, String calendarId) {
+    return Optional
+        .ofNullable(calendarsById.get(calendarId))
+        .filter(x -> accountId.equals(x.get("account_id")));
+  }
+
+  public Optional<Map<String, Object>> event(String accountId, String eventId) {
+    return Optional
+        .ofNullable(eventsById.get(eventId))
+        .filter(x -> accountId.equals(x.get("account_id")));
+  }
+
+  /**
+   * Lists calendar events like the Nylas list endpoint.
+   *
+   * <p>When expandRecurring is true, masters are replaced by their instances like Nylas does.
+   */
+  public List<Map<String, Object>> events(String calendarId, boolean expandRecurring) {
+    return eventIdsByCalendar.getOrDefault(calendarId, List.of()).stream()
+        .flatMap(id -> expandRecurring && instanceIdsByMaster.containsKey(id)
+            ? instanceIdsByMaster.get(id).stream()
+            : Stream.of(id))
+        .map(eventsById::get)
+        .toList();
+  }
+
+  /**
+   * Lists the instances of a recurring master, or the event itself if it's not a master.
+   */
+  public List<Map<String, Object>> eventExpanded(String accountId, String eventId) {
+    return event(accountId, eventId)
+        .map(x -> instanceIdsByMaster.getOrDefault(eventId, List.of(eventId)).stream()
+            .map(eventsById::get)
+            .toList())
+        .orElse(List.of());
+  }
+
+  /**
+   * Lists title keys for every event in the account that should be synced, including instances.
+   */
+  public List<String> titleKeys(String accountId) {
+    return calendarIdsByAccount.getOrDefault(accountId, List.of()).stream()
+        .flatMap(calendarId -> eventIdsByCalendar.get(calendarId).stream())
+        .flatMap(id -> Stream.concat(
+            Stream.of(id), instanceIdsByMaster.getOrDefault(id, List.of()).stream()))
+        .map(id -> titleKey((String) eventsById.get(id).get("title")))
+        .toList();
+  }
+
+  /**
+   * Lists ids of events in the account that are not recurring, which can be updated.
+   */
+  public List<String> singleEventIds(String accountId) {
+    return calendarIdsByAccount.getOrDefault(accountId, List.of()).stream()
+        .flatMap(calendarId -> eventIdsByCalendar.get(calendarId).stream())
+        .filter(id -> !instanceIdsByMaster.containsKey(id))
+        .toList();
+  }
+
+  /**
+   * Changes the event title to the next version, like a user edit, and returns the new title key.
+   */
+  public String updateEvent(String eventId) {
+    val version = versionsById.merge(eventId, 1, Integer::sum);
+    val event = new LinkedHashMap<>(eventsById.get(eventId));
+    event.put("title", title(eventId, version));
+    eventsById.put(eventId, event);
+    return titleKey((String) event.get("title"));
+  }
+
+  private String addCalendar(String accountId, int index, LoadScenario scenario) {
+    val calendarId = "cal-" + UUID.randomUUID();
+    val calendar = new LinkedHashMap<String, Object>();
+    calendar.put("id", calendarId);
+    calendar.put("object", "calendar");
+    calendar.put("account_id", accountId);
+    calendar.put("name", "Load calendar " + index);
+    calendar.put("description", null);
+    calendar.put("location", null);
+    calendar.put("timezone", TIMEZONE);
+    calendar.put("read_only", false);
+    calendar.put("is_primary", index == 0);
+    calendar.put("metadata", Map.of());
+    calendarsById.put(calendarId, calendar);
+
+    val now = Instant.now().truncatedTo(ChronoUnit.HOURS);
+    val eventIds = new ArrayList<String>(scenario.eventsPerCalendar());
+    for (var i = 0; i < scenario.eventsPerCalendar(); i++) {
+      val eventId = "evt-" + UUID.randomUUID();
+      val start = now.plus(random.nextInt((int) MAX_START_OFFSET.toHours()), ChronoUnit.HOURS);
+      val event = event(eventId, accountId, calendarId, start, scenario.participantsPerEvent());
+
+      if (random.nextDouble() < scenario.recurringRatio()) {
+        val count = scenario.instancesPerMaster();
+        event.put("recurrence", Map.of(
+            "rrule", List.of("RRULE:FREQ=WEEKLY;COUNT=" + count),
+            "timezone", TIMEZONE));
+        instanceIdsByMaster.put(eventId, addInstances(event, start, count, scenario));
+      }
+
+      eventsById.put(eventId, event);
+      eventIds.add(eventId);
+    }
+
+    eventIdsByCalendar.put(calendarId, eventIds);
+    return calendarId;
+  }
+
+  private List<String> addInstances(
+      Map<String, Object> master, Instant start, int count, LoadScenario scenario) {
+    val instanceIds = new ArrayList<String>(count);
+    for (var i = 0; i < count; i++) {
+      val instanceStart = start.plus(Duration.ofDays(7L * i));
+      val instanceId = master.get("id") + "_" + instanceStart.getEpochSecond();
+      val instance = event(
+          instanceId,
+          (String) master.get("account_id"),
+          (String) master.get("calendar_id"),
+          instanceStart,
+          scenario.participantsPerEvent());
+      instance.put("master_event_id", master.get("id"));
+      instance.put("original_start_time", instanceStart.getEpochSecond());
+      eventsById.put(instanceId, instance);
+      instanceIds.add(instanceId);
+    }
+    return instanceIds;
+  }
+
+  private Map<String, Object> event(
+      String id, String accountId, String calendarId, Instant start, int participantCount) {
+    val participants = IntStream
+        .range(0, participantCount)
+        .mapToObj(i -> {
+          val participant = new LinkedHashMap<String, Object>();
+          participant.put("name", "Person " + i);
+          participant.put("email", "person" + i + "@example.com");
+          participant.put("status", i == 0 ? "yes" : "noreply");
+          participant.put("comment", null);
+          return participant;
+        })
+        .toList();
+
+    val event = new LinkedHashMap<String, Object>();
+    event.put("id", id);
+    event.put("object", "event");
+    event.put("account_id", accountId);
+    event.put("calendar_id", calendarId);
+    event.put("ical_uid", id + "@load.example.com");
+    event.put("title", title(id, versionsById.merge(id, 1, Integer::sum)));
+    event.put("description", "Load test event description");
+    event.put("location", "Room 101");
+    event.put("when", Map.of(
+        "object", "timespan",
+        "start_time", start.getEpochSecond(),
+        "end_time", start.plus(Duration.ofMinutes(30)).getEpochSecond()));
+    event.put("status", "confirmed");
+    event.put("busy", true);
+    event.put("read_only", false);
+    event.put("owner", "Person 0 <person0@example.com>");
+    event.put("participants", participants);
+    event.put("metadata", Map.of());
+    return event;
+  }
+
+  private static Map<String, Object> account(String accountId, String email) {
+    val account = new LinkedHashMap<String, Object>();
+    account.put("id", accountId);
+    account.put("object", "account");
+    account.put("account_id", accountId);
+    account.put("email_address", email);
+    account.put("name", "Load test account");
+    account.put("provider", "gmail");
+    account.put("organization_unit", "label");
+    account.put("sync_state", "running");
+    account.put("billing_state", "paid");
+    return account;
+  }
+
+  private static String title(String id, int version) {
+    return TITLE_PREFIX + id + " v" + version;
+  }
+}
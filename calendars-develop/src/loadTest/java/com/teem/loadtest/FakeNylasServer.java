@@ -0,0 +1,229 @@
+package com.UoU.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.SneakyThrows;
+import lombok.val;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+/**
+ * Local HTTP stand-in for the Nylas API that serves {@link FakeNylasData}.
+ *
+ * <p>This only implements the endpoints used by inbound sync, and responds to anything else with
+ * 404 so it shows up as "unhandled" in the request counts. Every response can be delayed by a fixed
+ * latency, and a fraction of requests can be rate limited with 429 and Retry-After, like Nylas does
+ * when provider or app limits are hit.
+ */
+class FakeNylasServer implements AutoCloseable {
+  private static final int DEFAULT_LIMIT = 100;
+
+  private final MockWebServer server = new MockWebServer();
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+  private final LongAdder rateLimitedCount = new LongAdder();
+  private volatile FakeNylasData data = new FakeNylasData();
+  private volatile Duration latency = Duration.ZERO;
+  private volatile double rateLimitedRatio;
+
+  @SneakyThrows
+  public FakeNylasServer start() {
+    server.setDispatcher(new NylasDispatcher());
+    server.start();
+    return this;
+  }
+
+  /**
+   * Gets the base URI to use for the Nylas client config.
+   */
+  public String uri() {
+    val url = server.url("/").toString();
+    return url.substring(0, url.length() - 1);
+  }
+
+  /**
+   * Replaces all data and behavior for a new scenario.
+   */
+  public FakeNylasData reset(LoadScenario scenario) {
+    data = new FakeNylasData();
+    latency = scenario.nylasLatency();
+    rateLimitedRatio = scenario.rateLimitedRatio();
+    resetCounts();
+    return data;
+  }
+
+  /**
+   * Resets request counts, and drops recorded requests so they don't pile up in memory.
+   */
+  @SneakyThrows
+  public void resetCounts() {
+    requestCounts.clear();
+    rateLimitedCount.reset();
+    while (server.takeRequest(0, TimeUnit.MILLISECONDS) != null) {
+      // MockWebServer records every request, which we don't need, so just drain them.
+    }
+  }
+
+  /**
+   * Gets request counts by route, like "GET /events/{id}", including rate limited requests.
+   */
+  public Map<String, Long> requestCounts() {
+    val counts = new TreeMap<String, Long>();
+    requestCounts.forEach((route, count) -> counts.put(route, count.sum()));
+    return counts;
+  }
+
+  public long rateLimitedCount() {
+    return rateLimitedCount.sum();
+  }
+
+  @Override
+  @SneakyThrows
+  public void close() {
+    server.shutdown();
+  }
+
+  private class NylasDispatcher extends Dispatcher {
+
+    @Override
+    @SneakyThrows
+    public MockResponse dispatch(RecordedRequest request) {
+      val url = request.getRequestUrl();
+      val path = url == null ? List.<String>of() : url.pathSegments();
+      val route = route(request.getMethod(), path);
+      requestCounts.computeIfAbsent(route, x -> new LongAdder()).increment();
+
+      if (!latency.isZero()) {
+        Thread.sleep(latency.toMillis());
+      }
+
+      if (rateLimitedRatio > 0 && ThreadLocalRandom.current().nextDouble() < rateLimitedRatio) {
+        rateLimitedCount.increment();
+        return error(429, "rate_limit_error", "Too many requests")
+            .setHeader("Retry-After", "1");
+      }
+
+      val currentData = data;
+      val accountId = accountId(currentData, request);
+      if (accountId.isEmpty() && !route.startsWith("GET /a/")) {
+        return error(401, "api_error", "Unauthorized");
+      }
+
+      return switch (route) {
+        case "GET /calendars" -> json(page(currentData.calendars(accountId.get()), url));
+        case "GET /calendars/{id}" -> currentData
+            .calendar(accountId.get(), path.get(1))
+            .map(this::json)
+            .orElseGet(() -> error(404, "invalid_request_error", "Calendar not found"));
+        case "GET /events" -> json(page(listEvents(currentData, accountId.get(), url), url));
+        case "GET /events/{id}" -> currentData
+            .event(accountId.get(), path.get(1))
+            .map(this::json)
+            .orElseGet(() -> error(404, "invalid_request_error", "Event not found"));
+        case "POST /delta/latest_cursor" -> json(Map.of("cursor", "load-cursor"));
+        case "GET /delta" -> json(Map.of(
+            "cursor_start", "load-cursor", "cursor_end", "load-cursor", "deltas", List.of()));
+        case "GET /a/{client_id}/accounts/{id}" -> currentData
+            .account(path.get(3))
+            .map(this::json)
+            .orElseGet(() -> error(404, "invalid_request_error", "Account not found"));
+        default -> error(404, "invalid_request_error", "Unhandled fake Nylas route: " + route);
+      };
+    }
+
+    private List<Map<String, Object>> listEvents(
+        FakeNylasData data, String accountId, HttpUrl url) {
+      val expandRecurring = "true".equals(url.queryParameter("expand_recurring"));
+      val eventId = url.queryParameter("event_id");
+      if (eventId != null) {
+        return expandRecurring
+            ? data.eventExpanded(accountId, eventId)
+            : data.event(accountId, eventId).map(List::of).orElse(List.of());
+      }
+
+      return Optional
+          .ofNullable(url.queryParameter("calendar_id"))
+          .filter(x -> data.calendar(accountId, x).isPresent())
+          .map(x -> data.events(x, expandRecurring))
+          .orElse(List.of());
+    }
+
+    private static <T> List<T> page(List<T> items, HttpUrl url) {
+      val offset = intParam(url, "offset", 0);
+      val limit = intParam(url, "limit", DEFAULT_LIMIT);
+      return offset >= items.size()
+          ? List.of()
+          : items.subList(offset, Math.min(items.size(), offset + limit));
+    }
+
+    private static int intParam(HttpUrl url, String name, int defaultValue) {
+      return Optional
+          .ofNullable(url.queryParameter(name))
+          .map(Integer::parseInt)
+          .orElse(defaultValue);
+    }
+
+    /**
+     * Gets the account from the access token, which is sent as bearer or basic auth.
+     */
+    private static Optional<String> accountId(FakeNylasData data, RecordedRequest request) {
+      return Optional
+          .ofNullable(request.getHeader("Authorization"))
+          .map(x -> {
+            if (x.startsWith("Bearer ")) {
+              return x.substring("Bearer ".length());
+            } else if (x.startsWith("Basic ")) {
+              val decoded = new String(
+                  Base64.getDecoder().decode(x.substring("Basic ".length())),
+                  StandardCharsets.UTF_8);
+              return decoded.endsWith(":") ? decoded.substring(0, decoded.length() - 1) : decoded;
+            }
+            return x;
+          })
+          .flatMap(data::accountIdForToken);
+    }
+
+    /**
+     * Gets a route with ids replaced by placeholders, so requests can be counted per endpoint.
+     */
+    private static String route(String method, List<String> path) {
+      val route = new StringBuilder(method).append(' ');
+      if (path.size() >= 1 && List.of("calendars", "events", "delta").contains(path.get(0))) {
+        route.append('/').append(path.get(0));
+        if (path.size() == 2) {
+          route.append(path.get(0).equals("delta") ? "/" + path.get(1) : "/{id}");
+        }
+      } else if (path.size() == 4 && path.get(0).equals("a") && path.get(2).equals("accounts")) {
+        route.append("/a/{client_id}/accounts/{id}");
+      } else {
+        route.append('/').append(String.join("/", path));
+      }
+      return route.toString();
+    }
+
+    @SneakyThrows
+    private MockResponse json(Object body) {
+      return new MockResponse()
+          .setHeader("Content-Type", "application/json")
+          .setBody(mapper.writeValueAsString(body));
+    }
+
+    @SneakyThrows
+    private MockResponse error(int status, String type, String message) {
+      return json(Map.of("type", type, "message", message)).setResponseCode(status);
+    }
+  }
+}
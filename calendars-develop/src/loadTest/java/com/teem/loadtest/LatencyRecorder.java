@@ -0,0 +1,80 @@
+package com.UoU.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.SneakyThrows;
+import lombok.val;
+
+/**
+ * Records end-to-end latency from when something starts (like a webhook) until its PUBLIC
+ * EventChanged message is consumed, keyed by event title key.
+ *
+ * <p>Only the first finish for each started key counts, so duplicate messages for the same
+ * version are ignored, as are messages for keys that weren't started in this phase.
+ */
+class LatencyRecorder {
+  private final Map<String, Long> startNanos = new ConcurrentHashMap<>();
+  private final Map<String, Long> latencyNanos = new ConcurrentHashMap<>();
+  private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong lastFinishNanos = new AtomicLong(Long.MIN_VALUE);
+
+  public void start(String key) {
+    val now = System.nanoTime();
+    startNanos.putIfAbsent(key, now);
+    firstStartNanos.accumulateAndGet(now, Math::min);
+  }
+
+  public void finish(String key) {
+    val now = System.nanoTime();
+    val start = startNanos.get(key);
+    if (start != null && latencyNanos.putIfAbsent(key, now - start) == null) {
+      lastFinishNanos.accumulateAndGet(now, Math::max);
+    }
+  }
+
+  public int expected() {
+    return startNanos.size();
+  }
+
+  public int completed() {
+    return latencyNanos.size();
+  }
+
+  /**
+   * Waits until all started keys are finished or the timeout passes, and returns if all finished.
+   */
+  @SneakyThrows
+  public boolean awaitCompleted(Duration timeout) {
+    val deadline = System.nanoTime() + timeout.toNanos();
+    while (completed() < expected()) {
+      if (System.nanoTime() > deadline) {
+        return false;
+      }
+      Thread.sleep(100);
+    }
+    return true;
+  }
+
+  /**
+   * Gets the time from the first start to the last finish.
+   */
+  public Duration elapsed() {
+    return completed() == 0
+        ? Duration.ZERO
+        : Duration.ofNanos(lastFinishNanos.get() - firstStartNanos.get());
+  }
+
+  /**
+   * Gets the latency percentile (0 to 100) with the nearest-rank method.
+   */
+  public Duration percentile(double percentile) {
+    val sorted = latencyNanos.values().stream().mapToLong(x -> x).sorted().toArray();
+    if (sorted.length == 0) {
+      return Duration.ZERO;
+    }
+    val rank = (int) Math.ceil(percentile / 100 * sorted.length);
+    return Duration.ofNanos(sorted[Math.max(0, Math.min(sorted.length, rank) - 1)]);
+  }
+}
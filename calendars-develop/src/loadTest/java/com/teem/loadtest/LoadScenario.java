@@ -0,0 +1,112 @@
+package com.UoU.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Builder;
+import lombok.val;
+
+/**
+ * Load test scenario that determines the generated Nylas data and fake Nylas server behavior.
+ *
+ * @param accounts             Number of Nylas accounts, which are synced concurrently.
+ * @param calendarsPerAccount  Number of calendars per account.
+ * @param eventsPerCalendar    Number of non-instance events (single events and masters).
+ * @param recurringRatio       Fraction of events that are recurring masters (0 to 1).
+ * @param instancesPerMaster   Number of instances for each recurring master.
+ * @param participantsPerEvent Number of participants for each event.
+ * @param nylasLatency         Added latency for every fake Nylas response.
+ * @param rateLimitedRatio     Fraction of fake Nylas requests that get a 429 (0 to 1).
+ * @param webhookUpdates       Number of single events to update with event.updated webhooks.
+ * @param webhookConcurrency   Number of webhooks sent at the same time.
+ */
+@Builder(toBuilder = true)
+record LoadScenario(
+    String name,
+    int accounts,
+    int calendarsPerAccount,
+    int eventsPerCalendar,
+    double recurringRatio,
+    int instancesPerMaster,
+    int participantsPerEvent,
+    Duration nylasLatency,
+    double rateLimitedRatio,
+    int webhookUpdates,
+    int webhookConcurrency) {
+
+  public static final String SCENARIOS_PROPERTY = "loadTest.scenarios";
+
+  public LoadScenario {
+    if (name == null || name.isBlank() || accounts < 1 || calendarsPerAccount < 1
+        || recurringRatio < 0 || recurringRatio > 1
+        || rateLimitedRatio < 0 || rateLimitedRatio >= 1
+        || webhookConcurrency < 1) {
+      throw new IllegalArgumentException("Invalid load scenario: " + name);
+    }
+    nylasLatency = nylasLatency != null ? nylasLatency : Duration.ZERO;
+  }
+
+  /**
+   * Gets all scenarios, or only those named in the {@link #SCENARIOS_PROPERTY} system property.
+   */
+  public static Stream<LoadScenario> all() {
+    val names = Optional
+        .ofNullable(System.getProperty(SCENARIOS_PROPERTY))
+        .filter(x -> !x.isBlank())
+        .map(x -> Arrays.stream(x.split(",")).map(String::trim).collect(Collectors.toSet()));
+
+    return Stream
+        .of(baseline(), largeCalendars(), recurringHeavy(), rateLimited())
+        .filter(x -> names.map(n -> n.contains(x.name())).orElse(true));
+  }
+
+  private static LoadScenario baseline() {
+    return LoadScenario.builder()
+        .name("baseline")
+        .accounts(4)
+        .calendarsPerAccount(2)
+        .eventsPerCalendar(250)
+        .recurringRatio(0.1)
+        .instancesPerMaster(4)
+        .participantsPerEvent(4)
+        .nylasLatency(Duration.ofMillis(20))
+        .rateLimitedRatio(0)
+        .webhookUpdates(500)
+        .webhookConcurrency(8)
+        .build();
+  }
+
+  private static LoadScenario largeCalendars() {
+    return baseline().toBuilder()
+        .name("large-calendars")
+        .accounts(2)
+        .calendarsPerAccount(1)
+        .eventsPerCalendar(5000)
+        .recurringRatio(0.05)
+        .participantsPerEvent(20)
+        .nylasLatency(Duration.ofMillis(50))
+        .build();
+  }
+
+  private static LoadScenario recurringHeavy() {
+    return baseline().toBuilder()
+        .name("recurring-heavy")
+        .recurringRatio(0.5)
+        .instancesPerMaster(8)
+        .build();
+  }
+
+  private static LoadScenario rateLimited() {
+    return baseline().toBuilder()
+        .name("rate-limited")
+        .rateLimitedRatio(0.05)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return name; // used as the parameterized test display name
+  }
+}
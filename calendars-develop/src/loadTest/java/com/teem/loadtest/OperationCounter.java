@@ -0,0 +1,88 @@
+package com.UoU.loadtest;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jooq.DSLContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Takes snapshots of Postgres and Redis server stats so operation counts can be diffed per phase.
+ *
+ * <p>Postgres reports stats asynchronously, so snapshots wait briefly for stats to settle, and the
+ * counts are approximate. Redis counts are exact calls per command from INFO commandstats.
+ */
+@AllArgsConstructor
+class OperationCounter {
+  private static final long SETTLE_MILLIS = 1000;
+  private static final String DB_STATS_SQL = """
+      select xact_commit, xact_rollback, tup_returned, tup_fetched,
+        tup_inserted, tup_updated, tup_deleted
+      from pg_stat_database
+      where datname = current_database()
+      """;
+
+  private final DSLContext dsl;
+  private final StringRedisTemplate redisTemplate;
+
+  public record Snapshot(Map<String, Long> db, Map<String, Long> redis) {
+
+    /**
+     * Gets the counts since an earlier snapshot.
+     */
+    public Snapshot minus(Snapshot start) {
+      return new Snapshot(diff(db, start.db), diff(redis, start.redis));
+    }
+
+    private static Map<String, Long> diff(Map<String, Long> end, Map<String, Long> start) {
+      val result = new TreeMap<String, Long>();
+      end.forEach((key, value) -> {
+        val count = value - start.getOrDefault(key, 0L);
+        if (count != 0) {
+          result.put(key, count);
+        }
+      });
+      return result;
+    }
+  }
+
+  @SneakyThrows
+  public Snapshot snapshot() {
+    Thread.sleep(SETTLE_MILLIS);
+    return new Snapshot(dbStats(), redisStats());
+  }
+
+  private Map<String, Long> dbStats() {
+    dsl.execute("select pg_stat_clear_snapshot()"); // else stats are cached for the transaction
+    val record = dsl.fetchOne(DB_STATS_SQL);
+    val stats = new TreeMap<String, Long>();
+    for (val field : record.fields()) {
+      stats.put(field.getName(), ((Number) record.get(field)).longValue());
+    }
+    return stats;
+  }
+
+  /**
+   * Gets calls per command, parsed from lines like "cmdstat_get:calls=2,usec=15,...".
+   */
+  private Map<String, Long> redisStats() {
+    val info = redisTemplate.execute(
+        (RedisCallback<Properties>) conn -> conn.serverCommands().info("commandstats"));
+    val stats = new TreeMap<String, Long>();
+    if (info != null) {
+      info.stringPropertyNames().stream()
+          .filter(x -> x.startsWith("cmdstat_"))
+          .forEach(key -> {
+            val calls = info.getProperty(key).split(",")[0];
+            stats.put(
+                key.substring("cmdstat_".length()),
+                Long.parseLong(calls.substring(calls.indexOf('=') + 1)));
+          });
+    }
+    return stats;
+  }
+}
@@ -0,0 +1,67 @@
+package com.UoU.loadtest;
+
+import java.util.Map;
+import lombok.val;
+
+/**
+ * Results for one phase of a load test scenario, which is written to the JSON report.
+ */
+record PhaseResult(
+    String scenario,
+    String phase,
+    int expectedEvents,
+    int completedEvents,
+    long elapsedMillis,
+    double eventsPerSecond,
+    long p50LatencyMillis,
+    long p99LatencyMillis,
+    long maxLatencyMillis,
+    long webhookFailures,
+    Map<String, Long> nylasRequests,
+    long nylasRateLimited,
+    Map<String, Long> dbOperations,
+    Map<String, Long> redisCalls) {
+
+  public static PhaseResult create(
+      LoadScenario scenario,
+      String phase,
+      LatencyRecorder recorder,
+      long webhookFailures,
+      FakeNylasServer nylas,
+      OperationCounter.Snapshot operations) {
+
+    val elapsed = recorder.elapsed();
+    return new PhaseResult(
+        scenario.name(),
+        phase,
+        recorder.expected(),
+        recorder.completed(),
+        elapsed.toMillis(),
+        elapsed.isZero() ? 0 : recorder.completed() * 1e9 / elapsed.toNanos(),
+        recorder.percentile(50).toMillis(),
+        recorder.percentile(99).toMillis(),
+        recorder.percentile(100).toMillis(),
+        webhookFailures,
+        nylas.requestCounts(),
+        nylas.rateLimitedCount(),
+        operations.db(),
+        operations.redis());
+  }
+
+  public boolean isComplete() {
+    return completedEvents == expectedEvents;
+  }
+
+  /**
+   * Formats a short summary for logs.
+   */
+  public String summary() {
+    return String.format(
+        "%s/%s: %d/%d events in %dms (%.1f events/sec), latency p50=%dms p99=%dms max=%dms, "
+            + "webhook failures=%d, nylas requests=%d (429s=%d), db=%s, redis calls=%d",
+        scenario, phase, completedEvents, expectedEvents, elapsedMillis, eventsPerSecond,
+        p50LatencyMillis, p99LatencyMillis, maxLatencyMillis, webhookFailures,
+        nylasRequests.values().stream().mapToLong(x -> x).sum(), nylasRateLimited,
+        dbOperations, redisCalls.values().stream().mapToLong(x -> x).sum());
+  }
+}
@@ -0,0 +1,71 @@
+package com.UoU.loadtest;
+
+import com.UoU.infra.avro.publicevents.EventChanged;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.val;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+/**
+ * Consumes PUBLIC EventChanged messages in the background and finishes matching recorder keys.
+ *
+ * <p>This is the end of the pipeline for load tests: a change isn't done until other teams and
+ * apps can see it, so latency is measured up to when the PUBLIC message is consumed.
+ */
+class PublicEventWatcher implements AutoCloseable {
+  private final Thread thread;
+  private volatile boolean isClosed;
+  private volatile LatencyRecorder recorder;
+
+  public PublicEventWatcher(String bootstrapServers, String schemaRegistryUrl, String topic) {
+    val config = Map.<String, Object>of(
+        ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+        ConsumerConfig.GROUP_ID_CONFIG, "load-test-" + UUID.randomUUID(),
+        ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+        ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+        ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, KafkaAvroDeserializer.class,
+        KafkaAvroDeserializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl,
+        KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, true);
+
+    thread = new Thread(() -> consume(config, topic), "public-event-watcher");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Sets the recorder for the current phase, so messages from earlier phases are ignored.
+   */
+  public void watch(LatencyRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  private void consume(Map<String, Object> config, String topic) {
+    try (val consumer = new KafkaConsumer<String, EventChanged>(config)) {
+      consumer.subscribe(List.of(topic));
+      while (!isClosed) {
+        for (val record : consumer.poll(Duration.ofMillis(100))) {
+          val currentRecorder = recorder;
+          if (currentRecorder == null || record.value() == null) {
+            continue;
+          }
+          record.value().getEvent()
+              .flatMap(x -> x.getTitle())
+              .map(x -> FakeNylasData.titleKey(x.toString()))
+              .ifPresent(currentRecorder::finish);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    isClosed = true;
+    thread.join(Duration.ofSeconds(10).toMillis());
+  }
+}
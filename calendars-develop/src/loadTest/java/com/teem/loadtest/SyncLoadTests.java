@@ -0,0 +1,342 @@
+package com.UoU.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.UoU.app.Application;
+import com.UoU.core.Fluent;
+import com.UoU.core.OrgId;
+import com.UoU.core.SecretString;
+import com.UoU.core.accounts.AccountCreateRequest;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.accounts.AccountRepository;
+import com.UoU.core.accounts.SyncState;
+import com.UoU.core.auth.AuthMethod;
+import com.UoU.core.nylas.ClientConfig;
+import com.UoU.core.nylas.InboundSyncLocker;
+import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import com.UoU.infra.kafka.TopicNames;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Load tests for inbound sync, from Nylas through Kafka tasks to Postgres, Redis, and PUBLIC
+ * EventChanged messages, with the real app and a fake Nylas server.
+ *
+ * <p>Each scenario has two phases:
+ * - initial-sync: Imports all calendars and events for new accounts, like after connecting.
+ * - webhooks: Updates single events in Nylas and sends an event.updated webhook for each.
+ *
+ * <p>Each phase reports events/sec, p50/p99 latency from the start (account import or webhook) to
+ * the PUBLIC EventChanged message, and Nylas requests, db, and redis operation counts. Reports are
+ * logged and written as JSON to the loadTest.reportDir system property (see build.gradle.kts).
+ */
+@SpringBootTest(
+    classes = {Application.class},
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+@ActiveProfiles(profiles = {"loadtest"})
+@Slf4j
+class SyncLoadTests {
+  private static final String SCHEMA_REGISTRY_URL = "mock://load-test";
+  private static final String WEBHOOK_PATH = "/v1/inbound-webhooks/nylas";
+  private static final Duration PHASE_TIMEOUT = Optional
+      .ofNullable(System.getProperty("loadTest.phaseTimeout"))
+      .map(Duration::parse)
+      .orElse(Duration.ofMinutes(10));
+  private static final Path REPORT_DIR = Path.of(
+      System.getProperty("loadTest.reportDir", "build/reports/load-tests"));
+
+  private static final FakeNylasServer nylas = new FakeNylasServer().start();
+  private static PublicEventWatcher publicEventWatcher;
+
+  @Container
+  private static PostgreSQLContainer dbContainer = Fluent
+      .of(new PostgreSQLContainer(DockerImageName.parse("postgres:13.6-alpine")))
+      .also(x -> x
+          .withDatabaseName("calendars")
+          .withUsername("postgres")
+          .withPassword("postgres")
+          .start())
+      .get();
+
+  @Container
+  private static GenericContainer redisContainer = Fluent
+      .of(new GenericContainer(DockerImageName.parse("redis:6.0-alpine")))
+      .also(x -> x
+          .withExposedPorts(6379)
+          .start())
+      .get();
+
+  @Container
+  private static KafkaContainer kafkaContainer = Fluent
+      .of(new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.1.2")))
+      .also(x -> x.start())
+      .get();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private AccountRepository accountRepo;
+
+  @Autowired
+  private NylasTaskScheduler nylasTaskScheduler;
+
+  @Autowired
+  private InboundSyncLocker inboundSyncLocker;
+
+  @Autowired
+  private TopicNames.PublicEvents publicEventTopics;
+
+  @Autowired
+  private ClientConfig clientConfig;
+
+  @Autowired
+  private DSLContext dsl;
+
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final ObjectMapper webhookMapper = new ObjectMapper();
+  private final ObjectMapper reportMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT);
+
+  @DynamicPropertySource
+  static void registerDynamicProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", dbContainer::getJdbcUrl);
+    registry.add("spring.datasource.username", dbContainer::getUsername);
+    registry.add("spring.datasource.password", dbContainer::getPassword);
+    registry.add("spring.redis.url", () -> String.format(
+        "redis://%s:%d/0", redisContainer.getHost(), redisContainer.getFirstMappedPort()));
+    registry.add("spring.kafka.bootstrap-servers", kafkaContainer::getBootstrapServers);
+    registry.add("nylas.client.uri", nylas::uri);
+  }
+
+  @BeforeEach
+  void setUp() {
+    if (publicEventWatcher == null) {
+      publicEventWatcher = new PublicEventWatcher(
+          kafkaContainer.getBootstrapServers(),
+          SCHEMA_REGISTRY_URL,
+          publicEventTopics.getEventChanged());
+    }
+  }
+
+  @AfterAll
+  static void tearDown() throws InterruptedException {
+    if (publicEventWatcher != null) {
+      publicEventWatcher.close();
+    }
+    nylas.close();
+  }
+
+  static Stream<LoadScenario> scenarios() {
+    return LoadScenario.all();
+  }
+
+  @SneakyThrows
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("scenarios")
+  void inboundSync_shouldSyncAllEventsForScenario(LoadScenario scenario) {
+    val data = nylas.reset(scenario);
+    val orgId = new OrgId("load-test-" + UUID.randomUUID());
+    val accountIds = IntStream
+        .range(0, scenario.accounts())
+        .mapToObj(i -> createAccount(orgId, data, scenario))
+        .toList();
+
+    val initialSync = runPhase(scenario, "initial-sync", recorder -> {
+      accountIds.forEach(accountId -> {
+        data.titleKeys(accountId.value()).forEach(recorder::start);
+        nylasTaskScheduler.importAllCalendarsFromNylas(accountId, true);
+      });
+      return 0;
+    });
+
+    // Webhooks are skipped while accounts are locked for inbound sync, so wait for unlock first.
+    awaitUnlocked(accountIds);
+
+    val webhooks = runPhase(scenario, "webhooks", recorder -> sendWebhooks(
+        scenario, recorder, data, accountIds));
+
+    val results = List.of(initialSync, webhooks);
+    results.forEach(x -> log.info("Load test result: {}", x.summary()));
+    Files.createDirectories(REPORT_DIR);
+    reportMapper.writeValue(REPORT_DIR.resolve(scenario.name() + ".json").toFile(), Map.of(
+        "scenario", scenario,
+        "completedAt", Instant.now().toString(),
+        "phases", results));
+
+    results.forEach(x -> assertThat(x.isComplete())
+        .as("All events should be synced for %s/%s within %s", x.scenario(), x.phase(),
+            PHASE_TIMEOUT)
+        .isTrue());
+  }
+
+  private PhaseResult runPhase(
+      LoadScenario scenario, String phase, ToLongFunction<LatencyRecorder> driver) {
+
+    val recorder = new LatencyRecorder();
+    val counter = new OperationCounter(dsl, redisTemplate);
+    publicEventWatcher.watch(recorder);
+    nylas.resetCounts();
+    val start = counter.snapshot();
+
+    log.info("Load test {}/{} starting", scenario.name(), phase);
+    val webhookFailures = driver.applyAsLong(recorder);
+    if (!recorder.awaitCompleted(PHASE_TIMEOUT)) {
+      log.warn("Load test {}/{} timed out with {}/{} events completed",
+          scenario.name(), phase, recorder.completed(), recorder.expected());
+    }
+
+    val operations = counter.snapshot().minus(start);
+    return PhaseResult.create(scenario, phase, recorder, webhookFailures, nylas, operations);
+  }
+
+  private AccountId createAccount(OrgId orgId, FakeNylasData data, LoadScenario scenario) {
+    val id = new AccountId("load-" + UUID.randomUUID());
+    val email = id.value() + "@load.example.com";
+    data.addAccount(id.value(), email, scenario);
+    accountRepo.create(AccountCreateRequest.builder()
+        .id(id)
+        .orgId(orgId)
+        .name("Load test account")
+        .email(email)
+        .authMethod(AuthMethod.GOOGLE_OAUTH)
+        .accessToken(new SecretString(FakeNylasData.accessToken(id.value())))
+        .syncState(SyncState.RUNNING)
+        .build());
+    return id;
+  }
+
+  @SneakyThrows
+  private void awaitUnlocked(List<AccountId> accountIds) {
+    val deadline = Instant.now().plus(PHASE_TIMEOUT);
+    while (accountIds.stream().anyMatch(x -> inboundSyncLocker.isAccountLocked(x))
+        && Instant.now().isBefore(deadline)) {
+      Thread.sleep(100);
+    }
+  }
+
+  /**
+   * Updates random single events in Nylas and sends a webhook for each, returning the failures.
+   */
+  @SneakyThrows
+  private long sendWebhooks(
+      LoadScenario scenario, LatencyRecorder recorder, FakeNylasData data,
+      List<AccountId> accountIds) {
+
+    val events = new ArrayList<Map.Entry<AccountId, String>>();
+    accountIds.forEach(accountId -> data.singleEventIds(accountId.value())
+        .forEach(eventId -> events.add(Map.entry(accountId, eventId))));
+    Collections.shuffle(events, new Random(42));
+
+    val failures = new LongAdder();
+    val executor = Executors.newFixedThreadPool(scenario.webhookConcurrency());
+    events.stream().limit(scenario.webhookUpdates()).forEach(x -> {
+      val key = data.updateEvent(x.getValue());
+      recorder.start(key);
+      executor.execute(() -> {
+        if (!sendWebhook(x.getKey(), x.getValue())) {
+          failures.increment();
+        }
+      });
+    });
+
+    executor.shutdown();
+    executor.awaitTermination(PHASE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    return failures.sum();
+  }
+
+  @SneakyThrows
+  private boolean sendWebhook(AccountId accountId, String eventId) {
+    val objectData = new LinkedHashMap<String, Object>();
+    objectData.put("namespace_id", accountId.value());
+    objectData.put("account_id", accountId.value());
+    objectData.put("object", "event");
+    objectData.put("attributes", null);
+    objectData.put("id", eventId);
+    objectData.put("metadata", null);
+    val body = webhookMapper.writeValueAsString(Map.of("deltas", List.of(Map.of(
+        "date", Instant.now().getEpochSecond(),
+        "object", "event",
+        "type", "event.updated",
+        "object_data", objectData))));
+
+    val request = HttpRequest.newBuilder()
+        .uri(URI.create("http://localhost:" + port + WEBHOOK_PATH))
+        .header("Content-Type", "application/json")
+        .header("X-Nylas-Signature", sign(body))
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+
+    try {
+      val response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() / 100 == 2) {
+        return true;
+      }
+      log.warn("Webhook for event {} failed with status {}", eventId, response.statusCode());
+    } catch (Exception ex) {
+      log.warn("Webhook for event {} failed", eventId, ex);
+    }
+    return false;
+  }
+
+  /**
+   * Signs the body like Nylas does, with a hex HMAC-SHA256 using the client secret.
+   */
+  @SneakyThrows
+  private String sign(String body) {
+    val mac = Mac.getInstance("HmacSHA256");
+    mac.init(new SecretKeySpec(
+        clientConfig.secret().value().getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+    return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+  }
+}
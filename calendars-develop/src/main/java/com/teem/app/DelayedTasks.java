@@ -0,0 +1,36 @@
+package com.UoU.app;
+
+import com.UoU.core.tasks.DelayedTaskDrainer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Configures draining of durable delayed tasks when `delayed-tasks.drain.enabled` is true.
+ *
+ * <p>Unlike {@link RecurringTasks}, draining is not locked via Shedlock, since the delayed task
+ * queue ensures each task is claimed by only one node. Any number of nodes can drain at once, and
+ * the rate limits in `delayed-tasks.rate-limits` apply across all of them.
+ */
+@Configuration
+@ConditionalOnProperty("delayed-tasks.drain.enabled")
+@Slf4j
+@AllArgsConstructor
+class DelayedTasks {
+  private final DelayedTaskDrainer delayedTaskDrainer;
+
+  @Scheduled(
+      fixedDelayString = "${delayed-tasks.drain.interval-ms}",
+      initialDelayString = "${delayed-tasks.drain.interval-ms}")
+  void drain() {
+    // Catch everything so one failed drain, like when redis is briefly down, is just logged, and
+    // the next drain retries. Any tasks that were claimed are retried after their lease expires.
+    try {
+      delayedTaskDrainer.drain();
+    } catch (Exception ex) {
+      log.error("Delayed task drain FAILED", ex);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package com.UoU.app;
+
+import com.UoU.infra.kafka.EventOutboxRelay;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Configures relaying of the event outbox to kafka when `event-outbox.relay.enabled` is true.
+ *
+ * <p>Like {@link DelayedTasks}, this is not locked via Shedlock. Instead, the outbox takes a db
+ * advisory lock while relaying so only one node publishes at a time and message order is kept.
+ *
+ * <p>The relay runs on its own thread rather than the shared scheduling pool, since each run waits
+ * for kafka acks and keeps going until the outbox is empty, which would block other jobs.
+ */
+@Configuration
+@ConditionalOnProperty({"event-outbox.enabled", "event-outbox.relay.enabled"})
+@Slf4j
+class EventOutbox {
+  private final EventOutboxRelay eventOutboxRelay;
+  private final ScheduledExecutorService executor;
+
+  public EventOutbox(
+      EventOutboxRelay eventOutboxRelay,
+      @Value("${event-outbox.relay.interval-ms}") long intervalMs) {
+    this.eventOutboxRelay = eventOutboxRelay;
+
+    val threadFactory = new CustomizableThreadFactory("event-outbox-relay-");
+    threadFactory.setDaemon(true);
+    this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    executor.scheduleWithFixedDelay(this::relay, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  void relay() {
+    // Catch everything so one failed relay, like when kafka is briefly down, is just logged, and
+    // the next relay retries. Messages are only removed from the outbox after they're published.
+    // This also keeps the executor running, since it stops scheduling a task that throws.
+    try {
+      eventOutboxRelay.relay();
+    } catch (Exception ex) {
+      log.error("Event outbox relay FAILED", ex);
+    }
+  }
+}
@@ -2,30 +2,82 @@ package com.UoU.app.security;
 
 import com.UoU.core.nylas.ClientConfig;
 import java.nio.charset.StandardCharsets;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
+import java.security.GeneralSecurityException;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.val;
 import org.springframework.security.crypto.codec.Hex;
 import org.springframework.stereotype.Service;
 
+/**
+ * Creates and validates hex HMAC-SHA256 signatures, like Nylas sends for webhooks.
+ *
+ * <p>Mac instances are stateful and not thread-safe, so each thread gets its own. Validation works
+ * on the raw body bytes and compares against the hex signature in constant time, without decoding
+ * or encoding hex strings, since it runs for every webhook request.
+ */
 @Service
 public class HmacUtil {
   private static final String HMAC_ALG = "HmacSHA256";
-  private final Mac hmac = Mac.getInstance(HMAC_ALG);
+  private final SecretKeySpec key;
+  private final ThreadLocal<Mac> hmac;
 
-  public HmacUtil(ClientConfig config) throws NoSuchAlgorithmException, InvalidKeyException {
-    hmac.init(
-        new SecretKeySpec(config.secret().value().getBytes(StandardCharsets.UTF_8), HMAC_ALG));
+  public HmacUtil(ClientConfig config) throws GeneralSecurityException {
+    key = new SecretKeySpec(config.secret().value().getBytes(StandardCharsets.UTF_8), HMAC_ALG);
+    createMac(key); // fail on startup for an invalid key rather than on first request
+    hmac = ThreadLocal.withInitial(() -> {
+      try {
+        return createMac(key);
+      } catch (GeneralSecurityException ex) {
+        throw new IllegalStateException("Could not create " + HMAC_ALG + " instance", ex);
+      }
+    });
   }
 
-  public boolean validate(String hmac, String message) {
-    val expectedHmac = createHmac(message);
-    return hmac.equals(expectedHmac);
+  /**
+   * Validates a hex signature (case-insensitive) for the raw message bytes in constant time.
+   */
+  public boolean validate(String hexHmac, byte[] message) {
+    val expected = hmac.get().doFinal(message);
+    if (hexHmac == null || hexHmac.length() != expected.length * 2) {
+      return false;
+    }
+
+    var diff = 0;
+    for (var i = 0; i < expected.length; i++) {
+      val high = hexDigit(hexHmac.charAt(i * 2));
+      val low = hexDigit(hexHmac.charAt(i * 2 + 1));
+      diff |= (high | low) & 0x100; // hexDigit() returns -1 for invalid chars, which sets this bit
+      diff |= ((high << 4) | low) ^ (expected[i] & 0xff);
+    }
+    return diff == 0;
   }
 
   public String createHmac(String message) {
-    return new String(Hex.encode(hmac.doFinal(message.getBytes(StandardCharsets.UTF_8))));
+    return new String(Hex.encode(hmac.get().doFinal(message.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  /**
+   * Gets the value of an ASCII hex digit, or -1 if invalid.
+   *
+   * <p>Unlike Character.digit(), this doesn't accept non-ASCII Unicode digits, like Arabic-Indic.
+   */
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+
+  private static Mac createMac(SecretKeySpec key) throws GeneralSecurityException {
+    val mac = Mac.getInstance(HMAC_ALG);
+    mac.init(key);
+    return mac;
   }
 }
@@ -0,0 +1,23 @@
+package com.UoU.app.security;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for the verified JWT cache in {@link JwtDecoder}.
+ *
+ * @param maxSize Max number of verified tokens cached per node.
+ * @param maxTtl  Max time a token is cached, though never past its exp. Zero disables caching.
+ */
+@ConfigurationProperties("jwt.cache")
+record JwtCacheConfig(int maxSize, @NonNull Duration maxTtl) {
+  public JwtCacheConfig {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Invalid maxSize: " + maxSize);
+    }
+    if (maxTtl.isNegative()) {
+      throw new IllegalArgumentException("Invalid maxTtl: " + maxTtl);
+    }
+  }
+}
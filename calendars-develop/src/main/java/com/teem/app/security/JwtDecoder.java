@@ -1,35 +1,116 @@
 package com.UoU.app.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.JWK;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Base64;
 import lombok.NonNull;
 import lombok.SneakyThrows;
+import lombok.val;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.JwtValidationException;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.stereotype.Service;
 
 /**
  * Wraps the NimbusJwtDecoder and configures it to use the public key from JwtConfig.
+ *
+ * <p>API clients reuse the same token for its whole lifetime, so verified tokens are cached by a
+ * hash of the raw token to skip RSA verification and the full validator chain for reused tokens.
+ * Cached tokens expire at their exp minus the allowed clock skew (or maxTtl if sooner), and the
+ * time-based validation still runs on each cache hit. Only successfully verified tokens are cached.
+ *
+ * <p>Metrics are bound as cache.* with cache=verified-jwts, including hits and misses.
  */
 @Service
-class JwtDecoder implements org.springframework.security.oauth2.jwt.JwtDecoder {
+class JwtDecoder implements org.springframework.security.oauth2.jwt.JwtDecoder, MeterBinder {
+  private static final String CACHE_NAME = "verified-jwts";
+  private static final Duration CLOCK_SKEW = Duration.ofSeconds(60); // same as validator default
+
   private final NimbusJwtDecoder decoder;
+  private final JwtTimestampValidator timestampValidator = new JwtTimestampValidator(CLOCK_SKEW);
+  private final Duration maxTtl;
+  private final Cache<ByteBuffer, Jwt> cache;
 
   @SneakyThrows
-  public JwtDecoder(@NonNull JwtConfig config, @NonNull JwtValidator validator) {
+  public JwtDecoder(
+      @NonNull JwtConfig config,
+      @NonNull JwtValidator validator,
+      @NonNull JwtCacheConfig cacheConfig) {
     decoder = NimbusJwtDecoder.withPublicKey(getPublicKey(config.publicJwk())).build();
     decoder.setJwtValidator(validator);
+    maxTtl = cacheConfig.maxTtl();
+    cache = Caffeine.newBuilder()
+        .maximumSize(cacheConfig.maxSize())
+        .expireAfter(new TokenExpiry())
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
   }
 
   @Override
   public Jwt decode(String token) throws JwtException {
-    return decoder.decode(token);
+    if (maxTtl.isZero() || token == null) {
+      return decoder.decode(token);
+    }
+
+    val key = hash(token);
+    val cached = cache.getIfPresent(key);
+    if (cached != null) {
+      val result = timestampValidator.validate(cached);
+      if (!result.hasErrors()) {
+        return cached;
+      }
+
+      cache.invalidate(key);
+      throw new JwtValidationException(
+          "An error occurred while attempting to decode the Jwt: "
+              + result.getErrors().iterator().next().getDescription(),
+          result.getErrors());
+    }
+
+    val jwt = decoder.decode(token);
+    if (getTtl(jwt) > 0) {
+      cache.put(key, jwt);
+    }
+    return jwt;
+  }
+
+  /**
+   * Gets nanos until the token should leave the cache, which may be zero or negative.
+   */
+  private long getTtl(Jwt jwt) {
+    val expiresAt = jwt.getExpiresAt();
+    if (expiresAt == null) {
+      return 0;
+    }
+    val untilExpires = Duration.between(Instant.now(), expiresAt.minus(CLOCK_SKEW));
+    return (untilExpires.compareTo(maxTtl) < 0 ? untilExpires : maxTtl).toNanos();
+  }
+
+  @SneakyThrows
+  private static ByteBuffer hash(String token) {
+    return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+        .digest(token.getBytes(StandardCharsets.UTF_8)));
   }
 
   @SneakyThrows
@@ -46,4 +127,23 @@ class JwtDecoder implements org.springframework.security.oauth2.jwt.JwtDecoder {
       throw new InvalidKeyException("Invalid jwk public key in config");
     }
   }
+
+  private class TokenExpiry implements Expiry<ByteBuffer, Jwt> {
+    @Override
+    public long expireAfterCreate(ByteBuffer key, Jwt value, long currentTime) {
+      return Math.max(getTtl(value), 0);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        ByteBuffer key, Jwt value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        ByteBuffer key, Jwt value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
 }
@@ -1,20 +1,26 @@
 package com.UoU.app.v1.unauthenticated;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.UoU.app.security.HmacUtil;
 import com.UoU.app.v1.dtos.nylas.NotificationDto;
 import com.UoU.core.accounts.AccountId;
 import com.UoU.core.calendars.CalendarExternalId;
 import com.UoU.core.events.EventExternalId;
+import com.UoU.core.nylas.PendingEventImportRepository;
 import com.UoU.core.nylas.tasks.NylasTaskScheduler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
 import javax.validation.ValidationException;
 import javax.ws.rs.QueryParam;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -32,12 +38,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class InboundWebhookController {
   private HmacUtil hmacUtil;
   private NylasTaskScheduler nylasTaskScheduler;
+  private PendingEventImportRepository pendingEventImportRepo;
   private ObjectMapper mapper;
 
   @PostMapping("/nylas")
   @ResponseStatus(HttpStatus.NO_CONTENT)
   @Operation(summary = "Handles inbound webhooks from Nylas")
-  public void push(@RequestBody String body, @RequestHeader("X-Nylas-Signature") String hmac) {
+  public void push(@RequestBody byte[] body, @RequestHeader("X-Nylas-Signature") String hmac) {
+    // Validate and parse the raw bytes so the body isn't copied to a string for each webhook.
     if (!hmacUtil.validate(hmac, body)) {
       throw new ValidationException("HMAC validation failed");
     }
@@ -45,51 +53,86 @@ public class InboundWebhookController {
     NotificationDto notification;
     try {
       notification = mapper.readValue(body, NotificationDto.class);
-    } catch (JsonProcessingException e) {
+    } catch (IOException e) {
       throw new ValidationException("Invalid request body sent");
     }
 
-    val info = notification.deltas().get(0);
-    val accountId = new AccountId(info.objectData().accountId());
-    log.debug("Nylas {} push received for account={}, {}={}, raw={}",
-        info.type(), accountId.value(), info.objectData().object(), info.objectData().id(), body);
+    val deltas = Optional.ofNullable(notification.deltas()).orElse(List.of());
+    if (deltas.stream().anyMatch(x -> x == null || x.type() == null || x.objectData() == null)) {
+      throw new ValidationException("Invalid delta sent");
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("Nylas push received with {} deltas, raw={}",
+          deltas.size(), new String(body, StandardCharsets.UTF_8));
+    }
+
+    // Nylas may batch multiple deltas into one notification, and there are often several deltas
+    // for the same object, such as 1 EVENT_CREATED and then 2 EVENT_UPDATED for each export. Each
+    // task fetches the latest object from Nylas anyway, so only the latest delta per object matters.
+    val latestDeltas = new LinkedHashMap<Pair<String, String>, NotificationDto.Delta>();
+    deltas.forEach(x -> latestDeltas.merge(
+        Pair.of(x.objectData().object(), x.objectData().id()),
+        x,
+        (existing, delta) -> delta.date() >= existing.date() ? delta : existing));
+
+    latestDeltas.values().forEach(this::handleDelta);
+  }
+
+  private void handleDelta(NotificationDto.Delta delta) {
+    val accountId = new AccountId(delta.objectData().accountId());
+    log.debug("Nylas {} push handled for account={}, {}={}",
+        delta.type(), accountId.value(), delta.objectData().object(), delta.objectData().id());
 
-    switch (info.type()) {
-      // TODO: When we create an event and exportToNylas, we then receive immediate webhooks back,
-      // usually 1 EVENT_CREATED immediately and then 2 EVENT_UPDATED 10-20 seconds later. Each of
-      // the webhooks has a different delta time, so they are not duplicates. These probably have
-      // something to do with nylas getting changes back from the provider for normalization and
-      // such. We need to figure out how to handle this to reduce unnecessary updates. For example,
-      // we could at least debounce the EVENT_UPDATED events by a few seconds since they are usually
-      // received less than a second apart. We need to think about it.
+    switch (delta.type()) {
       case EVENT_CREATED, EVENT_UPDATED -> {
-        val externalId = new EventExternalId(info.objectData().id());
-        nylasTaskScheduler.importEventFromNylas(accountId, externalId);
+        val externalId = new EventExternalId(delta.objectData().id());
+        scheduleEventImport(accountId, externalId);
       }
       case EVENT_DELETED -> {
         // This is for rare syncback errors. EVENT_UPDATED with cancelled status is for deletes.
         // See https://developer.nylas.com/docs/developer-tools/webhooks/#event-update-and-delete
-        val externalId = new EventExternalId(info.objectData().id());
+        val externalId = new EventExternalId(delta.objectData().id());
         nylasTaskScheduler.handleEventDeleteFromNylas(accountId, externalId);
       }
       case CALENDAR_CREATED, CALENDAR_UPDATED -> {
-        val calendarExternalId = new CalendarExternalId(info.objectData().id());
+        val calendarExternalId = new CalendarExternalId(delta.objectData().id());
         nylasTaskScheduler.importCalendarFromNylas(accountId, calendarExternalId, false);
       }
       case CALENDAR_DELETED -> {
-        val calendarExternalId = new CalendarExternalId(info.objectData().id());
+        val calendarExternalId = new CalendarExternalId(delta.objectData().id());
         nylasTaskScheduler.handleCalendarDeleteFromNylas(accountId, calendarExternalId);
       }
       case ACCOUNT_RUNNING, ACCOUNT_STOPPED, ACCOUNT_CONNECTED, ACCOUNT_INVALID -> {
         nylasTaskScheduler.updateAccountSyncState(accountId);
       }
       default -> {
-        log.error("Unknown webhook received from Nylas: {}", info.type());
+        log.error("Unknown webhook received from Nylas: {}", delta.type());
         throw new ValidationException("Unknown webhook type");
       }
     }
   }
 
+  /**
+   * Schedules an event import unless one is already pending, in which case the pending import will
+   * fetch the latest event anyway. This dedupes the webhook bursts that Nylas sends across several
+   * notifications, which would otherwise each cause a separate fetch from Nylas and db update.
+   */
+  private void scheduleEventImport(AccountId accountId, EventExternalId externalId) {
+    if (!pendingEventImportRepo.tryAdd(externalId)) {
+      log.debug("Import already pending for event {}. Skipping duplicate push.", externalId);
+      return;
+    }
+
+    try {
+      nylasTaskScheduler.importEventFromNylas(accountId, externalId);
+    } catch (RuntimeException ex) {
+      // Remove pending mark so the import isn't skipped for later pushes until the mark expires.
+      pendingEventImportRepo.tryDelete(externalId);
+      throw ex;
+    }
+  }
+
   @GetMapping("/nylas")
   @Operation(summary = "Handles webhook verification from Nylas")
   public String verifyWebhook(@QueryParam("challenge") String challenge) {
@@ -1,8 +1,5 @@
 package com.UoU.core;
 
-import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.zip.CRC32C;
 import lombok.Getter;
 import lombok.val;
@@ -14,8 +11,10 @@ import lombok.val;
  */
 @Getter
 public class Checksum {
-  private static final String INDEX_WRAP_OPEN = "(";
-  private static final String INDEX_WRAP_CLOSE = ")";
+  private static final byte INDEX_WRAP_OPEN = '(';
+  private static final byte INDEX_WRAP_CLOSE = ')';
+  private static final byte MALFORMED_REPLACEMENT = '?'; // what String.getBytes() uses
+  private static final int BUFFER_SIZE = 256;
 
   private final String value;
 
@@ -24,17 +23,81 @@ public class Checksum {
       throw new IllegalArgumentException("Values cannot be empty");
     }
 
-    val bytes = IntStream
-        .range(0, values.length)
-        // Wrap w/ index like 0(value) to reduce chance of collisions:
-        .mapToObj(i -> i + INDEX_WRAP_OPEN + values[i] + INDEX_WRAP_CLOSE)
-        .collect(Collectors.joining())
-        .getBytes(StandardCharsets.UTF_8);
-
-    val checksum = new CRC32C();
-    checksum.update(bytes, 0, bytes.length);
+    // Stream each value like 0(value) as UTF-8 into the checksum, which is the same as joining
+    // all the wrapped values and hashing the bytes, but without building the intermediate strings.
+    // Wrap w/ index to reduce chance of collisions.
+    val writer = new Utf8ChecksumWriter();
+    for (var i = 0; i < values.length; i++) {
+      writer.writeInt(i);
+      writer.writeByte(INDEX_WRAP_OPEN);
+      writer.writeString(values[i]);
+      writer.writeByte(INDEX_WRAP_CLOSE);
+    }
+    writer.flush();
 
     // Add values.length and bytes.length to reduce chance of collisions.
-    value = String.valueOf(checksum.getValue()) + values.length + bytes.length;
+    value = String.valueOf(writer.checksum.getValue()) + values.length + writer.byteCount;
+  }
+
+  /**
+   * Encodes strings as UTF-8 (same as String.getBytes) into a small buffer that feeds the CRC.
+   */
+  private static class Utf8ChecksumWriter {
+    private final CRC32C checksum = new CRC32C();
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private long byteCount;
+
+    void writeInt(int value) {
+      if (value >= 10) {
+        writeInt(value / 10);
+      }
+      writeByte('0' + value % 10);
+    }
+
+    void writeString(String value) {
+      if (value == null) {
+        writeString("null"); // same as string concatenation
+        return;
+      }
+
+      val length = value.length();
+      for (var i = 0; i < length; i++) {
+        val c = value.charAt(i);
+        if (c < 0x80) {
+          writeByte(c);
+        } else if (c < 0x800) {
+          writeByte(0xc0 | (c >> 6));
+          writeByte(0x80 | (c & 0x3f));
+        } else if (!Character.isSurrogate(c)) {
+          writeByte(0xe0 | (c >> 12));
+          writeByte(0x80 | ((c >> 6) & 0x3f));
+          writeByte(0x80 | (c & 0x3f));
+        } else if (Character.isHighSurrogate(c)
+            && i + 1 < length
+            && Character.isLowSurrogate(value.charAt(i + 1))) {
+          val codePoint = Character.toCodePoint(c, value.charAt(++i));
+          writeByte(0xf0 | (codePoint >> 18));
+          writeByte(0x80 | ((codePoint >> 12) & 0x3f));
+          writeByte(0x80 | ((codePoint >> 6) & 0x3f));
+          writeByte(0x80 | (codePoint & 0x3f));
+        } else {
+          writeByte(MALFORMED_REPLACEMENT);
+        }
+      }
+    }
+
+    void writeByte(int b) {
+      if (position == buffer.length) {
+        flush();
+      }
+      buffer[position++] = (byte) b;
+      byteCount++;
+    }
+
+    void flush() {
+      checksum.update(buffer, 0, position);
+      position = 0;
+    }
   }
 }
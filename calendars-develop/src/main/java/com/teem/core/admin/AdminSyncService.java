@@ -5,6 +5,7 @@ import com.UoU.core.accounts.AccountId;
 import com.UoU.core.accounts.AccountRepository;
 import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.calendars.CalendarRepository;
+import com.UoU.core.nylas.DeltaCursorRepository;
 import com.UoU.core.nylas.NylasClientFactory;
 import com.UoU.core.nylas.tasks.NylasTaskScheduler;
 import java.util.Map;
@@ -26,7 +27,14 @@ public class AdminSyncService {
   private final CalendarRepository calendarRepo;
   private final NylasTaskScheduler nylasTaskScheduler;
   private final NylasClientFactory nylasClientFactory;
+  private final DeltaCursorRepository deltaCursorRepo;
 
+  /**
+   * Does a full sync of all calendars and events for the account.
+   *
+   * <p>The account delta cursor is removed first so that events are fully synced rather than only
+   * synced incrementally, since admin syncs are usually for recovering from sync issues.
+   */
   public void syncAllCalendars(Admin admin, AccountId accountId) {
     accountRepo.getAccessInfo(accountId)
         .requireOrgOrThrowNotFound(admin.orgId());
@@ -36,6 +44,7 @@ public class AdminSyncService {
         "syncAllCalendars",
         Map.of("accountId", accountId.value()));
 
+    deltaCursorRepo.tryDelete(accountId);
     nylasTaskScheduler.importAllCalendarsFromNylas(accountId, true);
   }
 
@@ -0,0 +1,227 @@
+package com.UoU.core.calendars;
+
+import com.UoU.core.OrgId;
+import com.UoU.core.TimeSpan;
+import com.UoU.core.events.EventsConfig;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Optional in-memory index of event time spans per calendar, so the hot availability and busy
+ * period requests (like room displays polling) can be answered without querying the db.
+ *
+ * <p>Each calendar's spans for the whole active period are loaded from the db into an
+ * {@link IntervalTree}. Requests are only answered from the index when every requested calendar is
+ * indexed for a period that contains the request timespan. Otherwise, the caller should fall back
+ * to the db, and any missing calendars are loaded in the background so later requests hit.
+ *
+ * <p>Event changes must be passed to {@link #invalidate(Collection)} on every node, which drops
+ * the calendars so they're reloaded. If an invalidation arrives while a calendar is loading, the
+ * load result is discarded since it may have read the db before the change. The ttl bounds how
+ * stale a calendar can get for changes that don't broadcast an invalidation.
+ */
+@Service
+@Slf4j
+public class AvailabilityIndex {
+  private static final int LOAD_QUEUE_CAPACITY = 100;
+
+  private final AvailabilityIndexConfig config;
+  private final AvailabilityRepository repo;
+  private final EventsConfig eventsConfig;
+  private final ExecutorService loadExecutor;
+  private final Map<CalendarId, Entry> entries;
+
+  /**
+   * Calendars being loaded, mapped to whether the load is still valid (no invalidation since).
+   */
+  private final Map<CalendarId, Boolean> loading = new ConcurrentHashMap<>();
+
+  public AvailabilityIndex(
+      AvailabilityIndexConfig config, AvailabilityRepository repo, EventsConfig eventsConfig) {
+    this(config, repo, eventsConfig, createLoadExecutor());
+  }
+
+  AvailabilityIndex(
+      AvailabilityIndexConfig config,
+      AvailabilityRepository repo,
+      EventsConfig eventsConfig,
+      ExecutorService loadExecutor) {
+    this.config = config;
+    this.repo = repo;
+    this.eventsConfig = eventsConfig;
+    this.loadExecutor = loadExecutor;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<CalendarId, Entry> eldest) {
+        return size() > config.maxCalendars();
+      }
+    };
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    loadExecutor.shutdownNow();
+  }
+
+  public boolean isEnabled() {
+    return config.enabled();
+  }
+
+  /**
+   * Gets calendar availability from the index, or empty if the request can't be answered from it.
+   *
+   * <p>This matches {@link AvailabilityRepository#getAvailability(AvailabilityRequest)}.
+   */
+  public Optional<Map<CalendarId, Boolean>> tryGetAvailability(AvailabilityRequest request) {
+    return tryGet(request, entry -> !entry.allEvents().overlapsAny(request.timeSpan()));
+  }
+
+  /**
+   * Gets calendar busy periods from the index, or empty if the request can't be answered from it.
+   *
+   * <p>This matches {@link AvailabilityRepository#getBusyPeriods(AvailabilityRequest)}.
+   */
+  public Optional<Map<CalendarId, List<TimeSpan>>> tryGetBusyPeriods(AvailabilityRequest request) {
+    return tryGet(request, entry -> entry.busyEvents().listOverlapping(request.timeSpan()));
+  }
+
+  /**
+   * Invalidates calendars on this node so they're reloaded on the next request.
+   */
+  public void invalidate(Collection<CalendarId> calendarIds) {
+    // Mark loads invalid under the same lock that load() checks them under before storing, so a
+    // load can't pass the check after the removal and then store spans read before the change.
+    synchronized (entries) {
+      calendarIds.forEach(id -> {
+        entries.remove(id);
+        loading.computeIfPresent(id, (k, v) -> false);
+      });
+    }
+  }
+
+  private <T> Optional<Map<CalendarId, T>> tryGet(
+      AvailabilityRequest request, Function<Entry, T> getter) {
+    if (!config.enabled()) {
+      return Optional.empty();
+    }
+
+    val now = Instant.now();
+    val result = new HashMap<CalendarId, T>();
+    val missing = new ArrayList<CalendarId>();
+
+    synchronized (entries) {
+      for (var id : request.calendarIds()) {
+        val entry = entries.get(id);
+        if (entry == null || !entry.isUsable(request.timeSpan(), now)) {
+          missing.add(id);
+        } else if (request.orgId().equals(entry.orgId())) {
+          result.put(id, getter.apply(entry));
+        }
+        // Else calendar doesn't exist or is for another org, so exclude it like the db does.
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      loadAsync(missing);
+      return Optional.empty();
+    }
+
+    return Optional.of(result);
+  }
+
+  private void loadAsync(List<CalendarId> calendarIds) {
+    val toLoad = calendarIds.stream()
+        .filter(id -> loading.putIfAbsent(id, true) == null)
+        .toList();
+
+    if (toLoad.isEmpty()) {
+      return;
+    }
+
+    try {
+      loadExecutor.execute(() -> load(toLoad));
+    } catch (RejectedExecutionException ex) {
+      // Queue is full, so just let a later request try again.
+      toLoad.forEach(loading::remove);
+    }
+  }
+
+  private void load(List<CalendarId> calendarIds) {
+    try {
+      val period = eventsConfig.activePeriod().current();
+      val spans = repo.listEventSpans(calendarIds, period);
+      val expiresAt = Instant.now().plus(config.ttl());
+
+      synchronized (entries) {
+        for (var id : calendarIds) {
+          if (Boolean.TRUE.equals(loading.get(id))) {
+            entries.put(id, Entry.create(spans.get(id), period, expiresAt));
+          }
+        }
+      }
+    } catch (Exception ex) {
+      log.warn("Failed loading availability index for calendars: {}", calendarIds, ex);
+    } finally {
+      calendarIds.forEach(loading::remove);
+    }
+  }
+
+  private static ExecutorService createLoadExecutor() {
+    val threadFactory = new CustomizableThreadFactory("availability-index-load-");
+    threadFactory.setDaemon(true);
+    return new ThreadPoolExecutor(
+        1, 1, 0, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(LOAD_QUEUE_CAPACITY),
+        threadFactory);
+  }
+
+  /**
+   * Indexed calendar, where orgId is null if the calendar doesn't exist.
+   */
+  private record Entry(
+      @Nullable OrgId orgId,
+      TimeSpan period,
+      Instant expiresAt,
+      IntervalTree allEvents,
+      IntervalTree busyEvents) {
+
+    static Entry create(@Nullable CalendarEventSpans spans, TimeSpan period, Instant expiresAt) {
+      if (spans == null) {
+        val empty = new IntervalTree(List.of());
+        return new Entry(null, period, expiresAt, empty, empty);
+      }
+
+      val all = new ArrayList<>(spans.eventSpans());
+      all.addAll(spans.recurrenceMasterSpans());
+      return new Entry(
+          spans.orgId(),
+          period,
+          expiresAt,
+          new IntervalTree(all),
+          new IntervalTree(spans.eventSpans()));
+    }
+
+    boolean isUsable(TimeSpan timeSpan, Instant now) {
+      return expiresAt.isAfter(now) && period.contains(timeSpan);
+    }
+  }
+}
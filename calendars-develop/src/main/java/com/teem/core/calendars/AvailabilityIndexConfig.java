@@ -0,0 +1,30 @@
+package com.UoU.core.calendars;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link AvailabilityIndex}.
+ *
+ * @param enabled      Whether availability and busy period requests use the in-memory index.
+ * @param maxCalendars Max calendars indexed per node, after which least recently used are evicted.
+ * @param ttl          How long a calendar's index is used before it's reloaded from the db, which
+ *                     bounds staleness for any changes that don't broadcast an invalidation.
+ */
+@ConfigurationProperties("availability.index")
+public record AvailabilityIndexConfig(
+    boolean enabled,
+    int maxCalendars,
+    @NonNull Duration ttl) {
+
+  public AvailabilityIndexConfig {
+    if (maxCalendars <= 0) {
+      throw new IllegalArgumentException("Invalid maxCalendars: " + maxCalendars);
+    }
+
+    if (ttl.isZero() || ttl.isNegative()) {
+      throw new IllegalArgumentException("Invalid ttl: " + ttl);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.UoU.core.calendars;
 
 import com.UoU.core.TimeSpan;
 import com.UoU.core.events.EventTimeSpan;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -11,4 +12,12 @@ public interface AvailabilityRepository {
   Map<CalendarId, List<TimeSpan>> getBusyPeriods(AvailabilityRequest request);
 
   Map<CalendarId, List<EventTimeSpan>> getDetailedBusyPeriods(AvailabilityRequest request);
+
+  /**
+   * Lists event spans that overlap the timespan for each calendar, for {@link AvailabilityIndex}.
+   *
+   * <p>Calendars that don't exist will be excluded from the results.
+   */
+  Map<CalendarId, CalendarEventSpans> listEventSpans(
+      Collection<CalendarId> calendarIds, TimeSpan timeSpan);
 }
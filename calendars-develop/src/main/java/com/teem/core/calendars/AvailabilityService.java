@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class AvailabilityService {
   private final AvailabilityRepository repo;
+  private final AvailabilityIndex index;
   private final ValidatorWrapper validator;
   private final EventsConfig eventsConfig;
 
@@ -25,11 +26,13 @@ public class AvailabilityService {
    *
    * <p>Note that start times are inclusive and end times are exclusive, so events can abut the
    * request timespan without making the calendar unavailable.
+   *
+   * <p>This uses the {@link AvailabilityIndex} when enabled and all calendars are indexed.
    */
   public Map<CalendarId, Boolean> getAvailability(AvailabilityRequest request) {
     validator.validateAndThrow(request);
     validateActivePeriod(request.timeSpan());
-    return repo.getAvailability(request);
+    return index.tryGetAvailability(request).orElseGet(() -> repo.getAvailability(request));
   }
 
   /**
@@ -37,11 +40,13 @@ public class AvailabilityService {
    *
    * <p>Note that start times are inclusive and end times are exclusive, so events can abut the
    * request timespan without being considered a busy period.
+   *
+   * <p>This uses the {@link AvailabilityIndex} when enabled and all calendars are indexed.
    */
   public Map<CalendarId, List<TimeSpan>> getBusyPeriods(AvailabilityRequest request) {
     validator.validateAndThrow(request);
     validateActivePeriod(request.timeSpan());
-    return repo.getBusyPeriods(request);
+    return index.tryGetBusyPeriods(request).orElseGet(() -> repo.getBusyPeriods(request));
   }
 
   /**
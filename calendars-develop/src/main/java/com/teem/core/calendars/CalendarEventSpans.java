@@ -0,0 +1,20 @@
+package com.UoU.core.calendars;
+
+import com.UoU.core.OrgId;
+import com.UoU.core.TimeSpan;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Event time spans for a single calendar, used to build an {@link AvailabilityIndex}.
+ *
+ * @param orgId                 The calendar org, so requests for other orgs can be excluded.
+ * @param eventSpans            Spans for all events except recurrence masters.
+ * @param recurrenceMasterSpans Spans for recurrence masters, which count for availability but not
+ *                              for busy periods since they would duplicate expanded instances.
+ */
+public record CalendarEventSpans(
+    @NonNull OrgId orgId,
+    @NonNull List<TimeSpan> eventSpans,
+    @NonNull List<TimeSpan> recurrenceMasterSpans) {
+}
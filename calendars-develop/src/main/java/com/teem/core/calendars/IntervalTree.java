@@ -0,0 +1,118 @@
+package com.UoU.core.calendars;
+
+import com.UoU.core.TimeSpan;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import lombok.val;
+import org.springframework.lang.Nullable;
+
+/**
+ * Read-only interval tree of time spans for fast overlap queries.
+ *
+ * <p>Spans are sorted by start and end, and the sorted array forms an implicit balanced binary
+ * tree where each node is the middle of its range. Each node also stores the max end of its
+ * subtree, so queries can skip subtrees that end before the query starts, and the sort order lets
+ * them skip everything that starts at or after the query ends. This gives O(log n + k) queries.
+ *
+ * <p>Like the db queries, span starts are inclusive and ends are exclusive, so spans that only
+ * abut the query are not overlapping.
+ */
+class IntervalTree {
+  private static final Comparator<TimeSpan> ORDER = Comparator
+      .comparing(TimeSpan::start)
+      .thenComparing(TimeSpan::end);
+
+  private final TimeSpan[] spans;
+  private final Instant[] maxEnds;
+
+  public IntervalTree(Collection<TimeSpan> spans) {
+    this.spans = spans.stream()
+        .map(x -> new TimeSpan(x.start(), x.end()))
+        .distinct()
+        .sorted(ORDER)
+        .toArray(TimeSpan[]::new);
+    this.maxEnds = new Instant[this.spans.length];
+
+    if (this.spans.length > 0) {
+      buildMaxEnds(0, this.spans.length - 1);
+    }
+  }
+
+  public int size() {
+    return spans.length;
+  }
+
+  /**
+   * Checks whether any span overlaps the query.
+   */
+  public boolean overlapsAny(TimeSpan query) {
+    return find(query, 0, spans.length - 1, null);
+  }
+
+  /**
+   * Lists all spans that overlap the query, ordered by start and end.
+   */
+  public List<TimeSpan> listOverlapping(TimeSpan query) {
+    val results = new ArrayList<TimeSpan>();
+    find(query, 0, spans.length - 1, results);
+    return results;
+  }
+
+  private Instant buildMaxEnds(int low, int high) {
+    val mid = (low + high) >>> 1;
+    var max = spans[mid].end();
+
+    if (low < mid) {
+      max = latest(max, buildMaxEnds(low, mid - 1));
+    }
+
+    if (mid < high) {
+      max = latest(max, buildMaxEnds(mid + 1, high));
+    }
+
+    maxEnds[mid] = max;
+    return max;
+  }
+
+  /**
+   * Finds overlapping spans in order, adding them to results, or stopping at the first match if
+   * results is null. Returns whether any overlapping span was found.
+   */
+  private boolean find(TimeSpan query, int low, int high, @Nullable List<TimeSpan> results) {
+    if (low > high) {
+      return false;
+    }
+
+    val mid = (low + high) >>> 1;
+    if (!maxEnds[mid].isAfter(query.start())) {
+      return false; // everything in this subtree ends before the query starts
+    }
+
+    var found = find(query, low, mid - 1, results);
+    if (found && results == null) {
+      return true;
+    }
+
+    val span = spans[mid];
+    if (!span.start().isBefore(query.end())) {
+      return found; // this span and everything to the right start after the query ends
+    }
+
+    if (span.end().isAfter(query.start())) {
+      if (results == null) {
+        return true;
+      }
+      results.add(span);
+      found = true;
+    }
+
+    return find(query, mid + 1, high, results) || found;
+  }
+
+  private static Instant latest(Instant a, Instant b) {
+    return a.isAfter(b) ? a : b;
+  }
+}
@@ -350,7 +350,7 @@ public class CalendarSyncDiagnosticTask implements Task<CalendarSyncDiagnosticTa
 
       runner.run(
           "Delete local event.",
-          () -> eventRepo.delete(eventId.orElseThrow()));
+          () -> eventRepo.delete(eventId.orElseThrow(), null)); // no source, same as create
 
       eventExternalId.ifPresent(x -> runner.run(
           "Request delete from external calendar provider.",
@@ -63,7 +63,9 @@ class Runner {
    * <p>Note that this relies on spring taskscheduler that uses local threads, so if the running
    * node dies, the tasks will be lost. However, since we're not scheduling very far in advance,
    * this should be an ok risk for now, especially since diagnostics are not critical.
-   * DO-LATER: If we end up implementing durable delayed tasks, we should switch this over.
+   * DO-LATER: Durable delayed tasks exist now (see core.tasks.DelayedTaskQueue), but they only hold
+   * ids, not closures and futures. Switching this over would mean persisting the diagnostic run
+   * state between attempts and resuming the run from a delayed task, which isn't worth it yet.
    */
   public <T> ListenableFuture<T> runAsyncUntilMatch(
       String description,
@@ -4,10 +4,13 @@ import com.UoU.core.OrgId;
 import com.UoU.core.PagedItems;
 import com.UoU.core.accounts.AccountId;
 import com.UoU.core.calendars.CalendarId;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.lang.Nullable;
 
 public interface EventRepository {
   PagedItems<Event> list(EventQuery query);
@@ -17,6 +20,28 @@ public interface EventRepository {
   // DO-LATER: Remove this non-paged method when nylas sync doesn't rely on it and batches better.
   Stream<Event> listByCalendar(OrgId orgId, CalendarId calendarId);
 
+  Stream<Event> listByCalendarAndExternalIds(
+      OrgId orgId, CalendarId calendarId, Collection<EventExternalId> externalIds);
+
+  /**
+   * Lists events by external id in any calendar, like {@link #tryGetByExternalId} for many ids.
+   */
+  Stream<Event> listByExternalIds(Collection<EventExternalId> externalIds);
+
+  /**
+   * Lists events for the calendar that have not been exported yet and so have no external id.
+   */
+  Stream<Event> listByCalendarWithoutExternalId(OrgId orgId, CalendarId calendarId);
+
+  /**
+   * Lists one chunk of (id, externalId) pairs for the calendar, ordered by externalId.
+   *
+   * <p>Pass the last externalId of the previous chunk as afterExternalId to get the next chunk
+   * (keyset paging). Events without an externalId are never returned.
+   */
+  List<Pair<EventId, EventExternalId>> listExternalIdPairsByCalendar(
+      CalendarId calendarId, @Nullable EventExternalId afterExternalId, int limit);
+
   Stream<Pair<EventId, Optional<EventExternalId>>> listRecurrenceInstanceIdPairs(
       EventId masterEventId);
 
@@ -54,17 +79,29 @@ public interface EventRepository {
       EventId id, EventExternalId newExternalId, boolean isRecurrenceOverride,
       DataSource dataSource);
 
-  void delete(EventId id);
+  void delete(EventId id, DataSource dataSource);
 
-  void deleteByExternalId(EventExternalId externalId);
+  void deleteByExternalId(EventExternalId externalId, DataSource dataSource);
 
-  void tryDeleteByExternalId(EventExternalId externalId);
+  void tryDeleteByExternalId(EventExternalId externalId, DataSource dataSource);
 
   void batchCreate(Collection<EventCreateRequest> requests);
 
   void batchUpdate(Collection<EventUpdateRequest> requests);
 
-  void batchDelete(Collection<EventId> ids);
+  void batchDelete(Collection<EventId> ids, DataSource dataSource);
+
+  /**
+   * Deletes the calendar's events and recurrence instances that start before startsBefore, which
+   * is a cheap range delete for events that have left the active period.
+   *
+   * <p>Recurrence masters are kept since they may still have later instances, and events without an
+   * externalId are kept since they haven't been exported yet.
+   *
+   * @return The deleted (id, externalId) pairs, so callers can publish deletes and remove etags.
+   */
+  List<Pair<EventId, EventExternalId>> deleteByCalendarStartingBefore(
+      CalendarId calendarId, Instant startsBefore, DataSource dataSource);
 
   Optional<AccountId> getAccountId(EventId id);
 
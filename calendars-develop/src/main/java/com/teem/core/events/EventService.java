@@ -72,7 +72,7 @@ public class EventService {
     } catch (Exception ex) {
       // If nylas export cannot be scheduled, remove the event so caller can try again rather than
       // allowing the event to be created and not exported so that it's in a weird state.
-      eventRepo.delete(eventId);
+      eventRepo.delete(eventId, request.dataSource());
       throw ex;
     }
 
@@ -172,7 +172,7 @@ public class EventService {
     val allIds = new HashSet<>(List.of(coreIds.id()));
     eventRepo.listRecurrenceInstanceIdPairs(coreIds.id()).forEach(x -> allIds.add(x.getLeft()));
 
-    eventRepo.delete(request.id());
+    eventRepo.delete(request.id(), request.dataSource());
 
     try {
       syncArgs.getLeft().ifPresent(
@@ -0,0 +1,9 @@
+package com.UoU.core.nylas;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("nylas.delta-cursors")
+public record DeltaCursorConfig(@NonNull Duration expiration) {
+}
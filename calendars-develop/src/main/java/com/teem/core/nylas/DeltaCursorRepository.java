@@ -0,0 +1,17 @@
+package com.UoU.core.nylas;
+
+import com.UoU.core.accounts.AccountId;
+import java.util.Optional;
+
+/**
+ * Stores the Nylas delta cursor for each account so event changes can be synced incrementally.
+ *
+ * <p>A missing cursor means the account needs a full sync, after which a new cursor is saved.
+ */
+public interface DeltaCursorRepository {
+  Optional<String> get(AccountId accountId);
+
+  void save(AccountId accountId, String cursor);
+
+  void tryDelete(AccountId accountId);
+}
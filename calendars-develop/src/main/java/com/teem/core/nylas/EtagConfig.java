@@ -4,6 +4,24 @@ import java.time.Duration;
 import lombok.NonNull;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+/**
+ * Config for storing external etags.
+ *
+ * @param expiration     How long a saved etag is kept before it's treated as missing.
+ * @param buckets        Number of hashes that etags are spread over, which should keep each hash
+ *                       small enough for the compact encoding (~100 etags per bucket is ideal).
+ * @param readLegacyKeys Whether to fall back to the old per-event keys when an etag is missing.
+ *                       Old keys expire on their own, so this can be disabled once the expiration
+ *                       has passed since switching to buckets.
+ */
 @ConfigurationProperties("nylas.etags")
-public record EtagConfig(@NonNull Duration expiration) {
+public record EtagConfig(@NonNull Duration expiration, int buckets, boolean readLegacyKeys) {
+  public EtagConfig {
+    if (expiration.isNegative() || expiration.isZero()) {
+      throw new IllegalArgumentException("Invalid expiration: " + expiration);
+    }
+    if (buckets <= 0) {
+      throw new IllegalArgumentException("Invalid buckets: " + buckets);
+    }
+  }
 }
@@ -5,10 +5,10 @@ import static java.util.stream.Collectors.joining;
 import com.nylas.Event;
 import com.nylas.Participant;
 import com.UoU.core.Checksum;
+import java.nio.charset.StandardCharsets;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Optional;
-import lombok.AllArgsConstructor;
 
 /**
  * Represents the Nylas state of an event to determine if an event has changed externally.
@@ -18,12 +18,26 @@ import lombok.AllArgsConstructor;
  *
  * <p>The checksum value is NOT secure by design, so ensure that anyone/anything that can read the
  * checksum is able to read all the event data that goes into the checksum.
+ *
+ * <p>The etag is kept as a 64-bit fingerprint of the checksum value so it can be stored and
+ * compared compactly. Etags created from the same checksum value always have the same
+ * fingerprint, so an etag read back via {@link #fromFingerprint(long)} equals one created from the
+ * event.
  */
-@AllArgsConstructor
 public class ExternalEtag {
   private static final String SEP = "|";
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final long fingerprint;
+
+  public ExternalEtag(String value) {
+    this(fingerprint(value));
+  }
 
-  private final String value;
+  private ExternalEtag(long fingerprint) {
+    this.fingerprint = fingerprint;
+  }
 
   public ExternalEtag(Event event) {
     // Assume all fields could be null. Some should never be null, but etag should be permissive.
@@ -81,18 +95,39 @@ public class ExternalEtag {
     ).getValue());
   }
 
+  public static ExternalEtag fromFingerprint(long fingerprint) {
+    return new ExternalEtag(fingerprint);
+  }
+
+  public long fingerprint() {
+    return fingerprint;
+  }
+
   @Override
   public String toString() {
-    return value;
+    return String.format("%016x", fingerprint);
   }
 
   @Override
   public int hashCode() {
-    return value.hashCode();
+    return Long.hashCode(fingerprint);
   }
 
   @Override
   public boolean equals(Object obj) {
-    return obj == this || (obj instanceof ExternalEtag && value.equals(((ExternalEtag) obj).value));
+    return obj == this
+        || (obj instanceof ExternalEtag && fingerprint == ((ExternalEtag) obj).fingerprint);
+  }
+
+  /**
+   * Computes a 64-bit FNV-1a hash of the value, which is stable across processes and versions.
+   */
+  private static long fingerprint(String value) {
+    var hash = FNV_OFFSET_BASIS;
+    for (var b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return hash;
   }
 }
@@ -0,0 +1,43 @@
+package com.UoU.core.nylas;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for the shared HTTP client used by all Nylas clients (see {@link NylasClientFactory}).
+ *
+ * @param maxIdleConnections Max idle connections kept alive in the pool for reuse.
+ * @param keepAlive          How long idle connections are kept before being closed.
+ * @param connectTimeout     Timeout for establishing a connection, including TLS.
+ * @param readTimeout        Timeout between bytes read from Nylas.
+ * @param writeTimeout       Timeout between bytes written to Nylas.
+ * @param http2              Whether to negotiate HTTP/2 with Nylas, else only HTTP/1.1 is used.
+ */
+@ConfigurationProperties("nylas.http-client")
+public record HttpClientConfig(
+    int maxIdleConnections,
+    @NonNull Duration keepAlive,
+    @NonNull Duration connectTimeout,
+    @NonNull Duration readTimeout,
+    @NonNull Duration writeTimeout,
+    boolean http2) {
+
+  public HttpClientConfig {
+    if (maxIdleConnections < 0) {
+      throw new IllegalArgumentException("Invalid maxIdleConnections: " + maxIdleConnections);
+    }
+    if (keepAlive.isNegative() || keepAlive.isZero()) {
+      throw new IllegalArgumentException("Invalid keepAlive: " + keepAlive);
+    }
+    if (connectTimeout.isNegative()) {
+      throw new IllegalArgumentException("Invalid connectTimeout: " + connectTimeout);
+    }
+    if (readTimeout.isNegative()) {
+      throw new IllegalArgumentException("Invalid readTimeout: " + readTimeout);
+    }
+    if (writeTimeout.isNegative()) {
+      throw new IllegalArgumentException("Invalid writeTimeout: " + writeTimeout);
+    }
+  }
+}
@@ -5,31 +5,118 @@ import com.nylas.NylasApplication;
 import com.nylas.NylasClient;
 import com.UoU.core.Fluent;
 import com.UoU.core.SecretString;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
 import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.val;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+/**
+ * Creates Nylas clients that all share a single OkHttp client.
+ *
+ * <p>OkHttp should be a single instance to reuse resources like connection pools and threads,
+ * which saves a TLS handshake for most Nylas requests.
+ * <a href="https://square.github.io/okhttp/4.x/okhttp/okhttp3/-ok-http-client/#okhttpclients-should-be-shared">See the docs.</a>
+ * Account clients are lightweight views with the access token on top of a shared Nylas client. When
+ * rate limiting is enabled, each account client needs its own interceptor, but the OkHttp client is
+ * derived via newBuilder(), which still shares the connection pool and dispatcher.
+ */
 @Service
-@AllArgsConstructor
 public class NylasClientFactory {
   @NonNull private final ClientConfig config;
+  @NonNull private final RateLimitConfig rateLimitConfig;
+  @NonNull private final NylasRateLimiter rateLimiter;
+  private final OkHttpClient httpClient;
+  private final NylasClient sharedClient;
+
+  public NylasClientFactory(
+      @NonNull ClientConfig config,
+      @NonNull HttpClientConfig httpClientConfig,
+      @NonNull RateLimitConfig rateLimitConfig,
+      @NonNull NylasRateLimiter rateLimiter) {
+    this.config = config;
+    this.rateLimitConfig = rateLimitConfig;
+    this.rateLimiter = rateLimiter;
+    this.httpClient = createHttpClient(httpClientConfig);
+    this.sharedClient = client(null);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    httpClient.dispatcher().executorService().shutdown();
+    httpClient.connectionPool().evictAll();
+  }
+
+  /**
+   * Gets the connection pool shared by all Nylas clients, mainly for metrics.
+   */
+  public ConnectionPool getConnectionPool() {
+    return httpClient.connectionPool();
+  }
 
   public NylasApplication createApplicationClient() {
-    return client().application(config.id().value(), config.secret().value());
+    return sharedClient.application(config.id().value(), config.secret().value());
   }
 
   public NylasAccount createAccountClient(SecretString accessToken) {
-    return client().account(accessToken.value());
+    val client = rateLimitConfig.enabled() ? client(createAccountKey(accessToken)) : sharedClient;
+    return client.account(accessToken.value());
   }
 
-  private NylasClient client() {
+  private NylasClient client(@Nullable String accountKey) {
     return Fluent
         .of(new NylasClient.Builder())
         .ifThenAlso(
             Optional.ofNullable(config.uri()).filter(uri -> !uri.isBlank()),
             (builder, uri) -> builder.baseUrl(uri))
+        .also(builder -> builder.httpClient(Fluent
+            .of(httpClient.newBuilder())
+            .ifThenAlso(rateLimitConfig.enabled(), x -> x.addInterceptor(new RateLimitInterceptor(
+                rateLimiter,
+                rateLimitConfig,
+                new NylasRateLimiter.Target(config.id().value(), accountKey))))
+            .get()))
         .get()
         .build();
   }
+
+  /**
+   * Creates the shared OkHttp client, starting from the Nylas SDK defaults and applying config.
+   */
+  private static OkHttpClient createHttpClient(HttpClientConfig config) {
+    return NylasClient.defaultHttpClient()
+        .connectionPool(new ConnectionPool(
+            config.maxIdleConnections(),
+            config.keepAlive().toMillis(),
+            TimeUnit.MILLISECONDS))
+        .connectTimeout(config.connectTimeout())
+        .readTimeout(config.readTimeout())
+        .writeTimeout(config.writeTimeout())
+        .protocols(config.http2()
+            ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1)
+            : List.of(Protocol.HTTP_1_1))
+        .build();
+  }
+
+  /**
+   * Creates a key for the Nylas account from the access token, which is all an account client
+   * knows. The token is hashed so it never ends up in rate limiter keys.
+   */
+  @SneakyThrows
+  private static String createAccountKey(SecretString accessToken) {
+    final byte[] hash = MessageDigest
+        .getInstance("SHA-256")
+        .digest(accessToken.value().getBytes(StandardCharsets.UTF_8));
+    return HexFormat.of().formatHex(hash, 0, 16);
+  }
 }
@@ -0,0 +1,59 @@
+package com.UoU.core.nylas;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Limits outbound Nylas requests per Nylas account and per Nylas app across all nodes, plus a
+ * local concurrency cap per node, so bursts of tasks don't turn into bursts of 429s.
+ *
+ * <p>See {@link RateLimitInterceptor} for how this is applied to the Nylas clients.
+ */
+public interface NylasRateLimiter {
+
+  /**
+   * Waits for capacity in every limit that applies to the target, up to the configured max wait,
+   * and then for a local concurrency slot. The returned permit must be closed when the request
+   * finishes.
+   *
+   * @throws MaxWaitExceededException when the limits still have no capacity after the max wait,
+   *                                  in which case the request must not be sent.
+   */
+  Permit acquire(Target target) throws InterruptedException, MaxWaitExceededException;
+
+  /**
+   * Makes all requests for the target wait for the duration on all nodes, such as after a 429.
+   */
+  void backoff(Target target, Duration duration);
+
+  /**
+   * Held while a request is in flight, and closed to release the concurrency slot.
+   */
+  interface Permit extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /**
+   * What a Nylas client calls on behalf of: the app, plus an account for account clients.
+   *
+   * @param appId      The Nylas app (client) id.
+   * @param accountKey A key that identifies the Nylas account, or null for app clients. This is
+   *                   a hash of the access token, since account clients only know the token.
+   */
+  record Target(@NonNull String appId, @Nullable String accountKey) {
+    public boolean isAccount() {
+      return accountKey != null;
+    }
+  }
+
+  /**
+   * Thrown when a request waited the max time and the limits still have no capacity.
+   */
+  class MaxWaitExceededException extends Exception {
+    public MaxWaitExceededException(Target target, Duration maxWait) {
+      super("Nylas rate limit max wait of " + maxWait + " exceeded for: " + target);
+    }
+  }
+}
@@ -15,4 +15,17 @@ public class NylasValues {
     public static final String CONFIRMED = "confirmed";
     public static final String CANCELLED = "cancelled";
   }
+
+  /**
+   * Possible delta object and change types (returned by SDK as raw String).
+   *
+   * <p>See https://developer.nylas.com/docs/developer-guide/inbox/deltas/
+   */
+  public static class Delta {
+    public static final String OBJECT_EVENT = "event";
+    public static final String OBJECT_CALENDAR = "calendar";
+    public static final String EVENT_CREATE = "create";
+    public static final String EVENT_MODIFY = "modify";
+    public static final String EVENT_DELETE = "delete";
+  }
 }
@@ -0,0 +1,20 @@
+package com.UoU.core.nylas;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link PendingEventImportRepository}.
+ *
+ * @param expiration Max time an import stays pending if the task never starts, such as when the
+ *                   task message is lost. Zero disables deduping so every change is imported.
+ */
+@ConfigurationProperties("nylas.pending-event-imports")
+public record PendingEventImportConfig(@NonNull Duration expiration) {
+  public PendingEventImportConfig {
+    if (expiration.isNegative()) {
+      throw new IllegalArgumentException("Invalid expiration: " + expiration);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.UoU.core.nylas;
+
+import com.UoU.core.events.EventExternalId;
+import java.util.Collection;
+
+/**
+ * Tracks event imports that have been scheduled but not yet started, so bursts of webhooks for the
+ * same event only cause one import.
+ *
+ * <p>An import is pending from when it's scheduled until the import task starts. Any change that
+ * arrives while an import is pending is already covered, since the import will fetch the latest
+ * event from Nylas when it runs. Once the task starts, the next change schedules a new import.
+ */
+public interface PendingEventImportRepository {
+
+  /**
+   * Marks the event import as pending and returns true, or returns false if it was already pending.
+   */
+  boolean tryAdd(EventExternalId externalId);
+
+  void tryDelete(EventExternalId externalId);
+
+  void tryDelete(Collection<EventExternalId> externalIds);
+}
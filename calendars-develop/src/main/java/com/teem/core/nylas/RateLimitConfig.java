@@ -0,0 +1,59 @@
+package com.UoU.core.nylas;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for rate limiting outbound Nylas requests (see {@link NylasRateLimiter}).
+ *
+ * @param enabled           Whether Nylas clients are rate limited at all.
+ * @param account           Limit per Nylas account across all nodes, for account clients.
+ * @param app               Limit for the Nylas app across all nodes, for all clients.
+ * @param maxConcurrency    Max in-flight Nylas requests per node, for all clients.
+ * @param maxWait           Max time a request waits for the limits before failing, so requests
+ *                          are never sent while the limits or a 429 backoff are in effect.
+ * @param maxRetries        Max retries for a request that gets a 429 from Nylas.
+ * @param defaultRetryAfter Backoff after a 429 when Nylas doesn't send a valid Retry-After.
+ * @param maxRetryAfter     Max backoff after a 429, regardless of Retry-After.
+ */
+@ConfigurationProperties("nylas.rate-limits")
+public record RateLimitConfig(
+    boolean enabled,
+    @NonNull Limit account,
+    @NonNull Limit app,
+    int maxConcurrency,
+    @NonNull Duration maxWait,
+    int maxRetries,
+    @NonNull Duration defaultRetryAfter,
+    @NonNull Duration maxRetryAfter) {
+
+  public RateLimitConfig {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("Invalid maxConcurrency: " + maxConcurrency);
+    }
+    if (maxWait.isNegative()) {
+      throw new IllegalArgumentException("Invalid maxWait: " + maxWait);
+    }
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("Invalid maxRetries: " + maxRetries);
+    }
+    if (defaultRetryAfter.isNegative() || defaultRetryAfter.compareTo(maxRetryAfter) > 0) {
+      throw new IllegalArgumentException("Invalid defaultRetryAfter: " + defaultRetryAfter);
+    }
+  }
+
+  /**
+   * Token bucket limit that allows bursts up to burst requests, refilled at requestsPerSecond.
+   */
+  public record Limit(int requestsPerSecond, int burst) {
+    public Limit {
+      if (requestsPerSecond <= 0) {
+        throw new IllegalArgumentException("Invalid requestsPerSecond: " + requestsPerSecond);
+      }
+      if (burst < 1) {
+        throw new IllegalArgumentException("Invalid burst: " + burst);
+      }
+    }
+  }
+}
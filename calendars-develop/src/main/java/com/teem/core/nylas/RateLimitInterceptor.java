@@ -0,0 +1,79 @@
+package com.UoU.core.nylas;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.lang.Nullable;
+
+/**
+ * OkHttp interceptor that rate limits the requests of a single Nylas client via the rate limiter.
+ *
+ * <p>When Nylas responds with 429, the Retry-After backoff is shared with all nodes via the rate
+ * limiter so they all slow down for the target, and then the request is retried here up to the
+ * max retries. Nylas doesn't process requests that get a 429, so retrying is safe for all methods.
+ */
+@AllArgsConstructor
+@Slf4j
+class RateLimitInterceptor implements Interceptor {
+  private static final int STATUS_TOO_MANY_REQUESTS = 429;
+  private static final String HEADER_RETRY_AFTER = "Retry-After";
+
+  private final NylasRateLimiter rateLimiter;
+  private final RateLimitConfig config;
+  private final NylasRateLimiter.Target target;
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    var retries = 0;
+
+    while (true) {
+      final Response response;
+      try (val permit = acquire()) {
+        response = chain.proceed(chain.request());
+      }
+
+      if (response.code() != STATUS_TOO_MANY_REQUESTS || retries >= config.maxRetries()) {
+        return response;
+      }
+
+      val retryAfter = parseRetryAfter(response.header(HEADER_RETRY_AFTER));
+      log.info("Nylas 429, backing off {} before retry {}/{}: {} {}",
+          retryAfter, retries + 1, config.maxRetries(), chain.request().method(), target);
+
+      response.close(); // must close old response before making new request
+      rateLimiter.backoff(target, retryAfter);
+      retries++;
+    }
+  }
+
+  private NylasRateLimiter.Permit acquire() throws IOException {
+    try {
+      return rateLimiter.acquire(target);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for Nylas rate limit");
+    } catch (NylasRateLimiter.MaxWaitExceededException ex) {
+      // Fail rather than send a request that would most likely get another 429.
+      throw new IOException(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Parses Retry-After seconds, falling back to the default when missing or an HTTP date.
+   */
+  private Duration parseRetryAfter(@Nullable String value) {
+    return Optional.ofNullable(value)
+        .map(String::trim)
+        .filter(NumberUtils::isDigits)
+        .map(x -> Duration.ofSeconds(Long.parseLong(x)))
+        .map(x -> x.compareTo(config.maxRetryAfter()) > 0 ? config.maxRetryAfter() : x)
+        .orElse(config.defaultRetryAfter());
+  }
+}
@@ -0,0 +1,211 @@
+package com.UoU.core.nylas.mapping;
+
+import com.UoU.core.events.Event;
+import com.UoU.core.events.Owner;
+import com.UoU.core.events.Participant;
+import com.UoU.core.events.ParticipantStatus;
+import com.UoU.core.events.Recurrence;
+import com.UoU.core.events.When;
+import java.util.List;
+import java.util.Objects;
+import lombok.val;
+
+/**
+ * Compares a Nylas event to a local event field-by-field without mapping or allocating anything.
+ *
+ * <p>This is a fast path for {@link NylasEventMapper#toUpdateRequestModel}: when it returns true,
+ * the update request would have no update fields, so there's no need to build it. It's deliberately
+ * conservative, so anything that isn't clearly unchanged (unusual owner formats, unknown statuses,
+ * etc.) returns false and the caller should fall back to the full mapping, which has the final say.
+ */
+class NylasEventChanges {
+
+  /**
+   * Returns true if the Nylas event has no changes that the update mapping would apply.
+   */
+  public static boolean isUnchanged(com.nylas.Event event, Event localEvent) {
+    return localEvent.externalId() != null
+        && localEvent.externalId().value().equals(event.getId())
+        && Objects.equals(event.getIcalUid(), localEvent.icalUid())
+        && Objects.equals(event.getTitle(), localEvent.title())
+        && Objects.equals(event.getDescription(), localEvent.description())
+        && Objects.equals(event.getLocation(), localEvent.location())
+        && (event.getBusy() == null || event.getBusy() == localEvent.isBusy())
+        && (event.getReadOnly() == null || event.getReadOnly() == localEvent.isReadOnly())
+        && statusMatches(event.getStatus(), localEvent.status())
+        && whenMatches(event.getWhen(), localEvent.when())
+        && recurrenceMatches(event, localEvent.recurrence())
+        && ownerMatches(event.getOwner(), localEvent.owner())
+        && participantsMatch(event.getParticipants(), localEvent.participants());
+  }
+
+  private static boolean statusMatches(String status, Event.Status localStatus) {
+    return status == null
+        ? localStatus == null
+        : localStatus != null && localStatus.getValue().equals(status);
+  }
+
+  private static boolean whenMatches(com.nylas.Event.When when, When localWhen) {
+    // All-day Whens are unchanged if the dates match, regardless of effectiveUtcTimeSpan.
+    if (when instanceof com.nylas.Event.Timespan nylasWhen) {
+      return localWhen instanceof When.TimeSpan x
+          && nylasWhen.getStartTime() != null && nylasWhen.getEndTime() != null
+          && x.startTime() != null && x.endTime() != null
+          // Local times are truncated to seconds, so compare seconds to match When.TimeSpan:
+          && x.startTime().getEpochSecond() == nylasWhen.getStartTime().getEpochSecond()
+          && x.endTime().getEpochSecond() == nylasWhen.getEndTime().getEpochSecond();
+    } else if (when instanceof com.nylas.Event.Datespan nylasWhen) {
+      return localWhen instanceof When.DateSpan x
+          && Objects.equals(x.startDate(), nylasWhen.getStartDate())
+          && Objects.equals(x.endDate(), nylasWhen.getEndDate());
+    } else if (when instanceof com.nylas.Event.Date nylasWhen) {
+      return localWhen instanceof When.Date x
+          && Objects.equals(x.date(), nylasWhen.getDate());
+    }
+    return false;
+  }
+
+  private static boolean recurrenceMatches(com.nylas.Event event, Recurrence localRecurrence) {
+    // Recurrence is only mapped for non-instances, and it's never updated on local instances.
+    if (event.getMasterEventId() != null || localRecurrence.isInstance()) {
+      return true;
+    }
+
+    val recurrence = event.getRecurrence();
+    if (recurrence == null) {
+      return !localRecurrence.isMaster();
+    }
+
+    val localMaster = localRecurrence.getMaster();
+    return localMaster != null
+        && Objects.equals(recurrence.getTimezone(), localMaster.timezone())
+        && rruleMatches(recurrence.getRrule(), localMaster.rrule());
+  }
+
+  /**
+   * Compares rrule lists while skipping blank values, like the Recurrence.Master ctor does.
+   */
+  private static boolean rruleMatches(List<String> rrule, List<String> localRrule) {
+    var localIndex = 0;
+    if (rrule != null) {
+      for (var value : rrule) {
+        if (value.isBlank()) {
+          continue;
+        }
+        if (localIndex >= localRrule.size() || !value.equals(localRrule.get(localIndex++))) {
+          return false;
+        }
+      }
+    }
+    return localIndex == localRrule.size();
+  }
+
+  /**
+   * Checks the owner string is exactly in a format that the mapper would parse to the local owner.
+   *
+   * <p>Only the canonical formats are handled here ("Name &lt;email&gt;", "&lt;email&gt;", and
+   * "email"), so anything else is treated as changed and left to the mapper to parse.
+   */
+  private static boolean ownerMatches(String owner, Owner localOwner) {
+    if (localOwner == null) {
+      return owner == null || owner.isBlank();
+    }
+
+    val email = localOwner.email();
+    if (owner == null || !isPlainToken(email) || email.indexOf('@') <= 0
+        || email.lastIndexOf('@') == email.length() - 1) {
+      return false;
+    }
+
+    val name = localOwner.name();
+    if (name == null) {
+      return owner.equals(email)
+          || (owner.length() == email.length() + 2
+          && owner.charAt(0) == '<'
+          && owner.startsWith(email, 1)
+          && owner.charAt(owner.length() - 1) == '>');
+    }
+
+    val nameLength = name.length();
+    return isPlainToken(name)
+        && owner.length() == nameLength + email.length() + 3
+        && owner.startsWith(name)
+        && owner.charAt(nameLength) == ' '
+        && owner.charAt(nameLength + 1) == '<'
+        && owner.startsWith(email, nameLength + 2)
+        && owner.charAt(owner.length() - 1) == '>';
+  }
+
+  /**
+   * Returns true if the value isn't empty, isn't padded with whitespace, and has no angle brackets.
+   */
+  private static boolean isPlainToken(String value) {
+    return value != null
+        && !value.isEmpty()
+        && value.charAt(0) > ' '
+        && value.charAt(value.length() - 1) > ' '
+        && value.indexOf('<') < 0
+        && value.indexOf('>') < 0;
+  }
+
+  /**
+   * Checks that every Nylas participant matches a local participant by email, with the same
+   * counts, which is when the mapper would remove the participants update field.
+   */
+  private static boolean participantsMatch(
+      List<com.nylas.Participant> participants, List<Participant> localParticipants) {
+    val size = participants == null ? 0 : participants.size();
+    val localSize = localParticipants == null ? 0 : localParticipants.size();
+    if (size != localSize) {
+      return false;
+    }
+
+    for (var i = 0; i < size; i++) {
+      val participant = participants.get(i);
+      val status = toStatus(participant.getStatus());
+      if (participant.getStatus() != null && status == null) {
+        return false; // unknown status, so let the mapper handle it
+      }
+
+      // Participants are usually in the same order, so check the same index before searching.
+      var localParticipant = localParticipants.get(i);
+      if (!Objects.equals(localParticipant.email(), participant.getEmail())) {
+        localParticipant = findByEmail(localParticipants, participant.getEmail());
+      }
+
+      if (localParticipant == null
+          || !Objects.equals(localParticipant.name(), participant.getName())
+          || localParticipant.status() != status
+          || !Objects.equals(localParticipant.comment(), participant.getComment())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static Participant findByEmail(List<Participant> participants, String email) {
+    for (var participant : participants) {
+      if (Objects.equals(participant.email(), email)) {
+        return participant;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Maps status like {@link NylasParticipantMapper#mapStatus(String)}, but null if unknown.
+   */
+  private static ParticipantStatus toStatus(String status) {
+    if (status == null) {
+      return null;
+    }
+    return switch (status) {
+      case "yes" -> ParticipantStatus.YES;
+      case "no" -> ParticipantStatus.NO;
+      case "maybe" -> ParticipantStatus.MAYBE;
+      case "noreply" -> ParticipantStatus.NO_REPLY;
+      default -> null;
+    };
+  }
+}
@@ -80,6 +80,15 @@ public interface NylasEventMapper {
   EventUpdateRequest toUpdateRequestModel(
       com.nylas.Event event, com.UoU.core.events.Event localEvent);
 
+  /**
+   * Returns true if {@link #toUpdateRequestModel} would have no updates, without building it.
+   *
+   * <p>This is conservative, so false means the event MAY have changed and should be mapped.
+   */
+  default boolean isUnchanged(com.nylas.Event event, com.UoU.core.events.Event localEvent) {
+    return NylasEventChanges.isUnchanged(event, localEvent);
+  }
+
   @AfterMapping
   static void afterToUpdateRequestModel(
       @MappingTarget EventUpdateRequest.Builder builder, com.UoU.core.events.Event localEvent) {
@@ -0,0 +1,203 @@
+package com.UoU.core.nylas.tasks;
+
+import com.nylas.Event;
+import com.nylas.EventQuery;
+import com.nylas.NylasAccount;
+import com.nylas.RequestFailedException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Fetches Nylas events concurrently so the many requests needed for a sync overlap in time.
+ *
+ * <p>Each call (one set of pages or one batch of gets) is limited to a max concurrency so one large
+ * sync can't hog the shared threads. Those permits are acquired on the calling thread before work
+ * is submitted, and belong to the call, so there's no per-account state to clean up.
+ *
+ * <p>Nylas rate limits for the account are enforced by the client's rate limit interceptor (see
+ * NylasRateLimiter), which is shared by all nodes. Shared threads can block in the interceptor
+ * while waiting for the account's tokens, but only up to the per-call concurrency for each call.
+ */
+@Service
+public class ConcurrentEventFetcher {
+  private final EventFetchConfig config;
+  private final ExecutorService executor;
+
+  public ConcurrentEventFetcher(EventFetchConfig config) {
+    this.config = config;
+
+    val threadFactory = new CustomizableThreadFactory("nylas-event-fetch-");
+    threadFactory.setDaemon(true);
+    this.executor = Executors.newFixedThreadPool(config.threads(), threadFactory);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Starts fetching pages of events for the query, using the configured page size.
+   *
+   * @see #listEventPages(NylasAccount, Supplier, int)
+   */
+  public Pages listEventPages(NylasAccount client, Supplier<EventQuery> queryFactory) {
+    return listEventPages(client, queryFactory, config.pageSize());
+  }
+
+  /**
+   * Starts fetching pages of events for the query via offset paging, and returns pages in order.
+   *
+   * <p>The first page is requested right away. Once a full page comes back, which means there are
+   * probably more, up to prefetchPages more pages are kept in flight ahead of the consumer. The
+   * queryFactory must return a new query each time because offset and limit are set per page.
+   */
+  public Pages listEventPages(
+      NylasAccount client, Supplier<EventQuery> queryFactory, int pageSize) {
+    return new Pages(client, queryFactory, pageSize);
+  }
+
+  /**
+   * Gets events by id concurrently, omitting any that are not found (404).
+   */
+  public Map<String, Event> tryGetEvents(NylasAccount client, Collection<String> ids) {
+    val permits = createPermits();
+    val futures = new LinkedHashMap<String, Future<Optional<Event>>>();
+    ids.forEach(id -> futures.computeIfAbsent(id, x -> submit(permits, () -> {
+      try {
+        return Optional.ofNullable(client.events().get(x));
+      } catch (RequestFailedException ex) {
+        if (Exceptions.isNotFound(ex)) {
+          return Optional.empty();
+        }
+        throw ex;
+      }
+    })));
+
+    val events = new HashMap<String, Event>();
+    futures.forEach((id, future) -> join(future).ifPresent(event -> events.put(id, event)));
+    return events;
+  }
+
+  private Semaphore createPermits() {
+    return new Semaphore(config.maxConcurrencyPerCall());
+  }
+
+  /**
+   * Submits work for a call, first waiting for one of the call's concurrency permits.
+   */
+  @SneakyThrows
+  private <T> Future<T> submit(Semaphore permits, Callable<T> callable) {
+    permits.acquire();
+
+    var isSubmitted = false;
+    try {
+      val future = executor.submit(() -> {
+        try {
+          return callable.call();
+        } finally {
+          permits.release();
+        }
+      });
+      isSubmitted = true;
+      return future;
+    } finally {
+      if (!isSubmitted) {
+        permits.release();
+      }
+    }
+  }
+
+  @SneakyThrows
+  private static <T> T join(Future<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  /**
+   * Pages of events for one query, returned in order while later pages are prefetched.
+   *
+   * <p>This is not thread-safe and should be consumed by a single thread.
+   */
+  public class Pages implements Iterator<List<Event>> {
+    private final Semaphore permits = createPermits();
+    private final NylasAccount client;
+    private final Supplier<EventQuery> queryFactory;
+    private final int pageSize;
+    private final Deque<Future<List<Event>>> pending = new ArrayDeque<>();
+    private int nextOffset;
+
+    private Pages(NylasAccount client, Supplier<EventQuery> queryFactory, int pageSize) {
+      this.client = client;
+      this.queryFactory = queryFactory;
+      this.pageSize = pageSize;
+      submitNextPage();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !pending.isEmpty();
+    }
+
+    @Override
+    public List<Event> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      val page = join(pending.removeFirst());
+      if (page.size() < pageSize) {
+        // A short page is the last one, so drop any prefetched pages past the end. They will
+        // finish in the background and release their permits, but their results aren't needed.
+        pending.clear();
+      } else {
+        while (pending.size() < config.prefetchPages()) {
+          submitNextPage();
+        }
+      }
+
+      return page;
+    }
+
+    /**
+     * Consumes all remaining pages into a single list.
+     */
+    public List<Event> fetchAll() {
+      val events = new ArrayList<Event>();
+      forEachRemaining(events::addAll);
+      return events;
+    }
+
+    private void submitNextPage() {
+      val offset = nextOffset;
+      nextOffset += pageSize;
+      pending.addLast(submit(permits, () -> client.events()
+          .list(queryFactory.get().offset(offset).limit(pageSize))
+          .fetchAll()));
+    }
+  }
+}
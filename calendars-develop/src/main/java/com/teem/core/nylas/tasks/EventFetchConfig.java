@@ -0,0 +1,33 @@
+package com.UoU.core.nylas.tasks;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link ConcurrentEventFetcher}.
+ *
+ * <p>The threads are shared by all accounts, while maxConcurrencyPerCall limits how many of them
+ * any single fetch can use at once. Nylas rate limits are handled by the NylasRateLimiter.
+ */
+@ConfigurationProperties("nylas.event-fetch")
+public record EventFetchConfig(
+    int threads,
+    int maxConcurrencyPerCall,
+    int prefetchPages,
+    int pageSize) {
+
+  public EventFetchConfig {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Invalid threads: " + threads);
+    }
+    if (maxConcurrencyPerCall <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid maxConcurrencyPerCall: " + maxConcurrencyPerCall);
+    }
+    if (prefetchPages <= 0) {
+      throw new IllegalArgumentException("Invalid prefetchPages: " + prefetchPages);
+    }
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Invalid pageSize: " + pageSize);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.UoU.core.nylas.tasks;
 
 import com.nylas.NylasAccount;
 import com.nylas.RequestFailedException;
+import com.UoU.core.OrgId;
 import com.UoU.core.TimeSpan;
 import com.UoU.core.accounts.AccountId;
 import com.UoU.core.accounts.AccountRepository;
@@ -39,9 +40,15 @@ public class EventHelper {
     return eventsConfig.activePeriod().current();
   }
 
-  public Calendar getCalendarByExternalId(CalendarExternalId calendarExternalId) {
-    return calendarRepo.tryGetByExternalId(calendarExternalId).orElseThrow(() ->
-        NotFoundException.ofClass(Calendar.class));
+  /**
+   * Gets the calendar id and access info by external id, which are cached by the repository so
+   * event imports don't query the calendar for every event.
+   */
+  public CalendarInfo getCalendarInfoByExternalId(CalendarExternalId calendarExternalId) {
+    return calendarRepo.tryGetId(calendarExternalId)
+        .flatMap(id -> calendarRepo.tryGetAccessInfo(id)
+            .map(accessInfo -> new CalendarInfo(id, accessInfo.orgId(), accessInfo.isReadOnly())))
+        .orElseThrow(() -> NotFoundException.ofClass(Calendar.class));
   }
 
   public CalendarExternalId getCalendarExternalId(CalendarId calendarId) {
@@ -65,4 +72,10 @@ public class EventHelper {
       throw ex;
     }
   }
+
+  /**
+   * Calendar info needed to import events.
+   */
+  public record CalendarInfo(CalendarId id, OrgId orgId, boolean isReadOnly) {
+  }
 }
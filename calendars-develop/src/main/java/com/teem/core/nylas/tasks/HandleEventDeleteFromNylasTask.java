@@ -60,7 +60,7 @@ public class HandleEventDeleteFromNylasTask implements Task<HandleEventDeleteFro
         pair.getRight().ifPresent(allExternalIds::add);
       });
 
-      eventRepo.delete(coreIds.id()); // will also delete recurrence instances
+      eventRepo.delete(coreIds.id(), DataSource.PROVIDER); // will also delete recurrence instances
       eventPublisher.eventDeleted(
           coreIds.orgId(), coreIds.calendarId(), allIds, DataSource.PROVIDER);
       etagRepo.tryDelete(allExternalIds);
@@ -1,5 +1,7 @@
 package com.UoU.core.nylas.tasks;
 
+import com.nylas.NylasAccount;
+import com.nylas.RequestFailedException;
 import com.UoU.core.Task;
 import com.UoU.core.accounts.AccountId;
 import com.UoU.core.accounts.AccountRepository;
@@ -8,9 +10,11 @@ import com.UoU.core.calendars.CalendarCreateRequest;
 import com.UoU.core.calendars.CalendarExternalId;
 import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.calendars.CalendarRepository;
+import com.UoU.core.nylas.DeltaCursorRepository;
 import com.UoU.core.nylas.InboundSyncLocker;
 import com.UoU.core.nylas.NylasClientFactory;
 import com.UoU.core.nylas.mapping.NylasCalendarMapper;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -35,6 +39,13 @@ import org.springframework.stereotype.Service;
  *
  * <p>This uses {@link com.UoU.core.nylas.InboundSyncLocker} to lock the account and prevent other
  * inbound syncs from occurring, which will help prevent race conditions and unnecessary operations.
+ *
+ * <p>When events are included and the account already has a delta cursor, events are synced
+ * incrementally with {@link SyncEventDeltasTask} rather than syncing all events for every calendar.
+ * A full sync is still done when there's no cursor or when there are new calendars, timezone
+ * changes, or calendars that are no longer read-only, since the deltas would not contain existing
+ * events for those. Before a full sync, the
+ * latest delta cursor is saved so the next sync can be incremental.
  */
 @Service
 @Slf4j
@@ -47,6 +58,7 @@ public class ImportAllCalendarsFromNylasTask implements
   private final NylasCalendarMapper mapper;
   private final NylasTaskScheduler scheduler;
   private final InboundSyncLocker inboundSyncLocker;
+  private final DeltaCursorRepository deltaCursorRepo;
   private final Duration inboundSyncAccountLockTtl;
 
   public ImportAllCalendarsFromNylasTask(NylasClientFactory nylasClientFactory,
@@ -55,6 +67,7 @@ public class ImportAllCalendarsFromNylasTask implements
       NylasCalendarMapper mapper,
       NylasTaskScheduler scheduler,
       InboundSyncLocker inboundSyncLocker,
+      DeltaCursorRepository deltaCursorRepo,
 
       @NonNull
       @Value("${nylas.tasks.import-all-calendars-from-nylas.inbound-sync-account-lock-ttl}")
@@ -65,6 +78,7 @@ public class ImportAllCalendarsFromNylasTask implements
     this.mapper = mapper;
     this.scheduler = scheduler;
     this.inboundSyncLocker = inboundSyncLocker;
+    this.deltaCursorRepo = deltaCursorRepo;
     this.inboundSyncAccountLockTtl = inboundSyncAccountLockTtl;
   }
 
@@ -128,12 +142,17 @@ public class ImportAllCalendarsFromNylasTask implements
     val calendarsToUpdate = new HashMap<>(nylasCalendarsMap);
     calendarsToUpdate.keySet().retainAll(localCalendarsMap.keySet());
     val calendarsWithTimezoneChanged = new HashSet<CalendarExternalId>();
+    val calendarsNoLongerReadOnly = new HashSet<CalendarExternalId>();
 
     if (!calendarsToUpdate.isEmpty()) {
       // Check if the calendars have changed. We only care about changes to name, readOnly, tz.
       val unchangedCalendars = new HashSet<CalendarExternalId>();
       calendarsToUpdate.forEach((externalId, nylasCalendar) -> {
         val calendar = getOrThrow(localCalendarsMap, externalId);
+        if (calendar.isReadOnly() && !nylasCalendar.isReadOnly()) {
+          calendarsNoLongerReadOnly.add(externalId);
+        }
+
         if (nylasCalendar.getTimezone() != null
             && !nylasCalendar.getTimezone().equals(calendar.timezone())) {
           calendarsWithTimezoneChanged.add(externalId);
@@ -165,6 +184,23 @@ public class ImportAllCalendarsFromNylasTask implements
       calendarRepo.batchDelete(calendarsToDelete);
     }
 
+    // If events were requested and we have a delta cursor, only changes since the cursor need to be
+    // synced, unless there are new calendars, timezone changes, or calendars that are no longer
+    // read-only that require a full event sync. We never imported events for read-only calendars,
+    // so the deltas wouldn't contain their existing events.
+    if (params.includeEvents()
+        && calendarsToCreate.isEmpty()
+        && calendarsWithTimezoneChanged.isEmpty()
+        && calendarsNoLongerReadOnly.isEmpty()
+        && deltaCursorRepo.get(params.accountId()).isPresent()) {
+      inboundSyncLocker.unlockAccount(params.accountId(), params.inboundSyncAccountLock());
+      scheduler.syncEventDeltas(params.accountId());
+
+      log.debug("Imported all calendars for {}: create=0, update={}, events=deltas",
+          params.accountId(), calendarsToUpdate.size());
+      return;
+    }
+
     // Sync events if requested and if not read-only (we don't import events for read-only).
     // Also sync events if calendar timezone changed, so we can update all-day event timestamps.
     val calendarsToSyncEvents = nylasCalendarsMap.entrySet().stream()
@@ -173,6 +209,10 @@ public class ImportAllCalendarsFromNylasTask implements
         .map(x -> x.getKey())
         .toList();
 
+    if (params.includeEvents()) {
+      saveLatestDeltaCursor(params.accountId(), nylas);
+    }
+
     if (!calendarsToSyncEvents.isEmpty()) {
       // If there is more than 1 calendar, re-lock account with count equal to calendarIds, and then
       // each syncAllEvents task will decrement the lock when the task finishes, until it reaches 0
@@ -203,6 +243,22 @@ public class ImportAllCalendarsFromNylasTask implements
         params.accountId(), calendarsToCreate.size(), calendarsToUpdate.size());
   }
 
+  /**
+   * Saves the latest delta cursor before a full sync so that the next sync can use deltas.
+   *
+   * <p>The cursor is fetched before the full sync runs, so changes made during the full sync will
+   * also be in the deltas, which is fine since imports are idempotent. Failure is only logged since
+   * the full sync can still proceed, and the next sync will just be another full sync.
+   */
+  private void saveLatestDeltaCursor(AccountId accountId, NylasAccount nylas) {
+    try {
+      deltaCursorRepo.save(accountId, nylas.deltas().latestCursor());
+    } catch (IOException | RequestFailedException ex) {
+      deltaCursorRepo.tryDelete(accountId);
+      log.warn("Could not get latest delta cursor for {}: {}", accountId, ex.getMessage());
+    }
+  }
+
   /**
    * Helper to get a non-null value from a map, else throw an exception because null is invalid.
    */
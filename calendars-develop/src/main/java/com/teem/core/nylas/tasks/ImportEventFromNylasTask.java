@@ -21,6 +21,7 @@ import com.UoU.core.nylas.ExternalEtag;
 import com.UoU.core.nylas.ExternalEtagRepository;
 import com.UoU.core.nylas.InboundSyncLocker;
 import com.UoU.core.nylas.NylasValues;
+import com.UoU.core.nylas.PendingEventImportRepository;
 import com.UoU.core.nylas.RecurrenceInfo;
 import com.UoU.core.nylas.mapping.NylasEventMapper;
 import java.util.ArrayList;
@@ -48,6 +49,9 @@ import org.springframework.stereotype.Service;
  *
  * <p>This uses {@link com.UoU.core.nylas.InboundSyncLocker} to skip sync when another major
  * inbound sync is occurring, which will help prevent race conditions and unnecessary operations.
+ *
+ * <p>The pending import mark (see {@link PendingEventImportRepository}) is removed as soon as this
+ * starts, so any change that arrives after the event is fetched will schedule another import.
  */
 @Service
 @AllArgsConstructor
@@ -60,6 +64,7 @@ public class ImportEventFromNylasTask implements Task<ImportEventFromNylasTask.P
   private final EventPublisher eventPublisher;
   private final InboundSyncLocker inboundSyncLocker;
   private final HandleEventDeleteFromNylasTask handleEventDeleteFromNylasTask;
+  private final PendingEventImportRepository pendingImportRepo;
 
   public record Params(
       @NonNull AccountId accountId,
@@ -69,6 +74,8 @@ public class ImportEventFromNylasTask implements Task<ImportEventFromNylasTask.P
 
   @Override
   public void run(Params params) {
+    pendingImportRepo.tryDelete(params.externalId());
+
     if (inboundSyncLocker.isAccountLocked(params.accountId())) {
       log.debug("Inbound sync locked for {}. Skipping: Import event {} from Nylas",
           params.accountId(), params.externalId());
@@ -77,6 +84,17 @@ public class ImportEventFromNylasTask implements Task<ImportEventFromNylasTask.P
 
     val client = eventHelper.createNylasClient(params.accountId());
     val nylasEventOptional = eventHelper.tryGetNylasEvent(client, params.externalId());
+    run(params, client, nylasEventOptional);
+  }
+
+  /**
+   * Imports an event that has already been fetched from Nylas (empty if not found).
+   *
+   * <p>This is for {@link ImportEventsFromNylasTask}, which fetches in batches and has already
+   * done the lock check, so this skips straight to the import.
+   */
+  void run(
+      Params params, NylasAccount client, Optional<com.nylas.Event> nylasEventOptional) {
 
     // If the event is missing from nylas or marked as cancelled, delegate to the delete task
     // and end. Nylas updates events to "cancelled" for most deletes, but then they may also send
@@ -104,7 +122,7 @@ public class ImportEventFromNylasTask implements Task<ImportEventFromNylasTask.P
     val localEvent = new Lazy<>(() -> eventRepo.tryGetByExternalId(params.externalId()));
     val localId = new Lazy<>(() -> localEvent.get().map(x -> x.id()).orElseGet(EventId::create));
     val calendarExternalId = new CalendarExternalId(nylasEvent.getCalendarId());
-    val calendar = new Lazy<>(() -> eventHelper.getCalendarByExternalId(calendarExternalId));
+    val calendar = new Lazy<>(() -> eventHelper.getCalendarInfoByExternalId(calendarExternalId));
     val calendarId = calendar.map(x -> x.id());
     val orgId = calendar.map(x -> x.orgId());
 
@@ -134,7 +152,6 @@ public class ImportEventFromNylasTask implements Task<ImportEventFromNylasTask.P
             // Skip creating new events for read-only calendars because there are entire calendars
             // we ignore from nylas except for the main calendar record, which differentiates
             // a read-only calendar we ignore from a calendar that doesn't exist and should error.
-            // DO-LATER: Optimize this so we don't have to do this extra db call every time.
             if (calendar.get().isReadOnly()) {
               log.debug("Skipping event import for read-only calendar: {}", calendarExternalId);
               return;
@@ -285,7 +302,7 @@ public class ImportEventFromNylasTask implements Task<ImportEventFromNylasTask.P
     eventRepo.batchUpdate(updateBatch);
     eventPublisher.eventUpdated(updateIdsWithChanges);
 
-    eventRepo.batchDelete(deleteBatch);
+    eventRepo.batchDelete(deleteBatch, DataSource.PROVIDER);
     eventPublisher.eventDeleted(orgId, calendarId, deleteBatch, DataSource.PROVIDER);
 
     etagRepo.save(newExternalEtags);
@@ -0,0 +1,185 @@
+package com.UoU.core.nylas.tasks;
+
+import com.UoU.core.DataConfig;
+import com.UoU.core.Task;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.calendars.CalendarExternalId;
+import com.UoU.core.events.EventCreateRequest;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.events.EventId;
+import com.UoU.core.events.EventPublisher;
+import com.UoU.core.events.EventRepository;
+import com.UoU.core.events.EventUpdateRequest;
+import com.UoU.core.nylas.ExternalEtag;
+import com.UoU.core.nylas.ExternalEtagRepository;
+import com.UoU.core.nylas.InboundSyncLocker;
+import com.UoU.core.nylas.NylasValues;
+import com.UoU.core.nylas.PendingEventImportRepository;
+import com.UoU.core.nylas.RecurrenceInfo;
+import com.UoU.core.nylas.mapping.NylasEventMapper;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.stereotype.Service;
+
+/**
+ * Inbound: Batch version of {@link ImportEventFromNylasTask} for many events in one account.
+ *
+ * <p>Events are fetched from Nylas concurrently, and then simple (non-recurring) events are
+ * imported together: etags are fetched with one multi-get, local events are fetched with one query
+ * by external id, db changes are made with batch operations, and event changes are published once.
+ *
+ * <p>Recurrence masters and instances, and events that were deleted or cancelled, need extra
+ * lookups and so are imported one at a time with {@link ImportEventFromNylasTask}, but still
+ * without fetching the event from Nylas again.
+ *
+ * <p>This uses {@link com.UoU.core.nylas.InboundSyncLocker} to skip sync when another major
+ * inbound sync is occurring, which will help prevent race conditions and unnecessary operations.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+public class ImportEventsFromNylasTask implements Task<ImportEventsFromNylasTask.Params> {
+  private final EventHelper eventHelper;
+  private final EventRepository eventRepo;
+  private final ExternalEtagRepository etagRepo;
+  private final NylasEventMapper mapper;
+  private final EventPublisher eventPublisher;
+  private final InboundSyncLocker inboundSyncLocker;
+  private final PendingEventImportRepository pendingImportRepo;
+  private final ConcurrentEventFetcher fetcher;
+  private final ImportEventFromNylasTask importEventFromNylasTask;
+
+  public record Params(
+      @NonNull AccountId accountId,
+      @NonNull Collection<EventExternalId> externalIds
+  ) {
+  }
+
+  @Override
+  public void run(Params params) {
+    val externalIds = new LinkedHashSet<>(params.externalIds());
+    pendingImportRepo.tryDelete(externalIds);
+
+    if (inboundSyncLocker.isAccountLocked(params.accountId())) {
+      log.debug("Inbound sync locked for {}. Skipping: Import {} events from Nylas",
+          params.accountId(), externalIds.size());
+      return;
+    }
+
+    val client = eventHelper.createNylasClient(params.accountId());
+    val nylasEvents = fetcher.tryGetEvents(
+        client, externalIds.stream().map(x -> x.value()).toList());
+
+    val simpleEvents = new LinkedHashMap<EventExternalId, com.nylas.Event>();
+    externalIds.forEach(externalId -> {
+      val nylasEvent = nylasEvents.get(externalId.value());
+      if (nylasEvent != null && isSimpleEvent(nylasEvent)) {
+        simpleEvents.put(externalId, nylasEvent);
+      } else {
+        importEventFromNylasTask.run(
+            new ImportEventFromNylasTask.Params(params.accountId(), externalId),
+            client,
+            Optional.ofNullable(nylasEvent));
+      }
+    });
+
+    if (!simpleEvents.isEmpty()) {
+      importSimpleEvents(simpleEvents);
+    }
+  }
+
+  /**
+   * Returns true for events that are not deleted and have no recurrence to handle.
+   */
+  private static boolean isSimpleEvent(com.nylas.Event nylasEvent) {
+    val recurrenceInfo = new RecurrenceInfo(nylasEvent);
+    return !NylasValues.EventStatus.CANCELLED.equals(nylasEvent.getStatus())
+        && !recurrenceInfo.isMaster()
+        && !recurrenceInfo.isInstance();
+  }
+
+  private void importSimpleEvents(LinkedHashMap<EventExternalId, com.nylas.Event> nylasEvents) {
+    val existingEtags = etagRepo.get(nylasEvents.keySet());
+    val newExternalEtags = new HashMap<EventExternalId, ExternalEtag>();
+    val changedEvents = new LinkedHashMap<EventExternalId, com.nylas.Event>();
+
+    nylasEvents.forEach((externalId, nylasEvent) -> {
+      // Always save the etag, even if the value is the same, so the expiration gets updated.
+      val externalEtag = new ExternalEtag(nylasEvent);
+      newExternalEtags.put(externalId, externalEtag);
+
+      if (externalEtag.equals(existingEtags.get(externalId))) {
+        log.debug("Skipping import of event {} with matching external etag {}",
+            externalId, externalEtag);
+        return;
+      }
+
+      changedEvents.put(externalId, nylasEvent);
+    });
+
+    // Look up local events by external id across all calendars, like ImportEventFromNylasTask
+    // does, so an event that moved to another calendar is updated rather than duplicated.
+    val localEvents = eventRepo
+        .listByExternalIds(changedEvents.keySet())
+        .collect(Collectors.toMap(x -> x.externalId(), x -> x));
+
+    val syncPeriod = eventHelper.getCurrentActivePeriod();
+    val calendars = new HashMap<CalendarExternalId, EventHelper.CalendarInfo>();
+    val createBatch = new ArrayList<EventCreateRequest>();
+    val updateBatch = new ArrayList<EventUpdateRequest>();
+
+    changedEvents.forEach((externalId, nylasEvent) -> {
+      val localEvent = localEvents.get(externalId);
+      if (localEvent != null) {
+        val updateRequest = mapper.toUpdateRequestModel(nylasEvent, localEvent);
+        if (updateRequest.hasUpdates()) {
+          updateBatch.add(updateRequest);
+        }
+        return;
+      }
+
+      // Same rules as ImportEventFromNylasTask: skip read-only calendars and skip events that
+      // start outside the sync period (there are no recurrence instances to consider here).
+      val calendarExternalId = new CalendarExternalId(nylasEvent.getCalendarId());
+      val calendar = calendars.computeIfAbsent(
+          calendarExternalId, eventHelper::getCalendarInfoByExternalId);
+      if (calendar.isReadOnly()) {
+        log.debug("Skipping event import for read-only calendar: {}", calendarExternalId);
+        return;
+      }
+
+      val start = mapper
+          .toWhenModel(nylasEvent.getWhen())
+          .toUtcTimeSpan(() -> DataConfig.Calendars.DEFAULT_TIMEZONE) // default is close enough
+          .start();
+      if (!syncPeriod.contains(start)) {
+        log.debug("Skipping import of event {} outside allowed timespan on calendar: {}",
+            nylasEvent.getId(), calendarExternalId);
+        return;
+      }
+
+      createBatch.add(mapper.toCreateRequestModel(
+          nylasEvent, EventId.create(), calendar.id(), calendar.orgId()));
+    });
+
+    eventRepo.batchCreate(createBatch);
+    eventPublisher.eventCreated(createBatch.stream().map(x -> x.id()).toList());
+
+    eventRepo.batchUpdate(updateBatch);
+    eventPublisher.eventUpdated(updateBatch.stream().map(x -> x.id()).toList());
+
+    etagRepo.save(newExternalEtags);
+
+    log.debug("Imported events from Nylas in batch: create={}, update={}, etags={}",
+        createBatch.size(), updateBatch.size(), newExternalEtags.size());
+  }
+}
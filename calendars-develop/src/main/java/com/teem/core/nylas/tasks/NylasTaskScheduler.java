@@ -101,6 +101,22 @@ public interface NylasTaskScheduler {
       AccountId accountId, CalendarId calendarId, boolean forceUpdateAllDayEventWhens,
       UUID inboundSyncAccountLock);
 
+  /**
+   * Inbound: Imports events that just entered the active period and deletes events that left it.
+   *
+   * <p>This is a cheaper alternative to {@link #syncAllEvents(AccountId, CalendarId)} for the
+   * daily active period advance, but it doesn't repair other drift, so calendars still need a full
+   * sync now and then.
+   */
+  void advanceEventsActivePeriod(AccountId accountId, CalendarId calendarId);
+
+  /**
+   * Inbound: Syncs event and calendar changes since the account's last Nylas delta cursor.
+   *
+   * <p>This falls back to a full import of all calendars and events if there's no valid cursor.
+   */
+  void syncEventDeltas(AccountId accountId);
+
   /**
    * Inbound: Imports an event from Nylas to local.
    */
@@ -0,0 +1,20 @@
+package com.UoU.core.nylas.tasks;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link SyncAllEventsTask}.
+ *
+ * <p>When streaming is enabled, the sync walks Nylas and local events in chunks of chunkSize and
+ * flushes changes per chunk, which keeps memory bounded for very large calendars. Otherwise, all
+ * events for the calendar are loaded into memory at once and diffed in a single pass.
+ */
+@ConfigurationProperties("nylas.tasks.sync-all-events")
+public record SyncAllEventsConfig(boolean streaming, int chunkSize) {
+
+  public SyncAllEventsConfig {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Invalid chunkSize: " + chunkSize);
+    }
+  }
+}
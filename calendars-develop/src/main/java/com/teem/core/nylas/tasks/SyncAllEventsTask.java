@@ -3,8 +3,11 @@ package com.UoU.core.nylas.tasks;
 import com.nylas.Event;
 import com.nylas.NylasAccount;
 import com.nylas.RequestFailedException;
+import com.UoU.core.OrgId;
 import com.UoU.core.Task;
+import com.UoU.core.TimeSpan;
 import com.UoU.core.accounts.AccountId;
+import com.UoU.core.calendars.Calendar;
 import com.UoU.core.calendars.CalendarExternalId;
 import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.calendars.CalendarRepository;
@@ -21,11 +24,16 @@ import com.UoU.core.nylas.InboundSyncLocker;
 import com.UoU.core.nylas.NylasValues;
 import com.UoU.core.nylas.mapping.NylasEventMapper;
 import java.io.IOException;
+import java.time.Period;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -33,6 +41,7 @@ import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.stereotype.Service;
 
 /**
@@ -43,11 +52,26 @@ import org.springframework.stereotype.Service;
  * When an inboundSyncAccountLock is provided, this operation is part of a parent operation
  * that has already locked the account. In this case, the task will decrement the lock so that the
  * account will become unlocked once all child operations are complete.
+ *
+ * <p>By default, all Nylas and local events for the calendar are loaded into memory and diffed at
+ * once. When {@link SyncAllEventsConfig#streaming()} is enabled, Nylas events are instead fetched
+ * in pages and flushed chunk by chunk, and local events are walked via an externalId keyset to
+ * find deletes, so memory stays bounded by the chunk size (plus a set of seen Nylas ids) rather
+ * than the size of the calendar.
+ *
+ * <p>Nylas requests are made through {@link ConcurrentEventFetcher} so pages and recurrence
+ * master lookups are fetched concurrently, within per-account concurrency and rate limits.
+ *
+ * <p>When advanceActivePeriodOnly is set, this only imports events from the days that just entered
+ * the active period and range deletes local events that left it, rather than diffing the whole
+ * active period. This is for the daily advance, and the full sync is still needed to repair drift.
  */
 @Service
 @AllArgsConstructor
 @Slf4j
 public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
+  private static final Period ADVANCE_IMPORT_DAYS = Period.ofDays(2);
+
   private final EventHelper eventHelper;
   private final EventRepository eventRepo;
   private final ExternalEtagRepository etagRepo;
@@ -55,12 +79,15 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
   private final NylasEventMapper mapper;
   private final EventPublisher eventPublisher;
   private final InboundSyncLocker inboundSyncLocker;
+  private final SyncAllEventsConfig config;
+  private final ConcurrentEventFetcher fetcher;
 
   public record Params(
       @NonNull AccountId accountId,
       @NonNull CalendarId calendarId,
       boolean forceUpdateAllDayEventWhens,
-      UUID inboundSyncAccountLock
+      UUID inboundSyncAccountLock,
+      boolean advanceActivePeriodOnly
   ) {
   }
 
@@ -76,20 +103,41 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
       return;
     }
 
-    // TODO: We need error handling in this method and to finish the sync implementation.
-    // TODO: This assumes all the events for a calendar can fit in memory at once. We may need to
-    // think about or document the scale we're expecting. Also many maps/lists in here get iterated
-    // more than is necessary. Once we decide on some of the bigger optimizations like batching,
-    // caching, etc., revisit and optimize if still needed.
-
     val calendar = calendarRepo.get(params.calendarId());
 
     // Sync will only work for eligible calendars, so if this task is run for a read-only calendar,
     // for example, it's either a bug or someone running the task manually and improperly.
     calendar.requireIsEligibleToSync();
 
-    // Get the events from Nylas for the calendar, including recurring event instances.
     val client = eventHelper.createNylasClient(params.accountId());
+    val counts = params.advanceActivePeriodOnly()
+        ? syncAdvance(params, calendar, client)
+        : (config.streaming()
+            ? syncStreaming(params, calendar, client)
+            : syncInMemory(params, calendar, client));
+
+    Optional
+        .ofNullable(params.inboundSyncAccountLock())
+        .ifPresent(lock -> inboundSyncLocker.unlockAccount(params.accountId(), lock));
+
+    log.debug(
+        "Synced {} events for {}: create={}, update={}, delete={}, exports={}, etags=+{}/-{}",
+        params.advanceActivePeriodOnly() ? "advanced" : "all",
+        params.calendarId(), counts.creates, counts.updates, counts.deletes,
+        counts.exports, counts.etagsSaved, counts.etagsDeleted);
+  }
+
+  /**
+   * Syncs by loading all Nylas and local events for the calendar into memory and diffing at once.
+   */
+  private SyncCounts syncInMemory(Params params, Calendar calendar, NylasAccount client) {
+    // TODO: We need error handling in this method and to finish the sync implementation.
+    // TODO: This assumes all the events for a calendar can fit in memory at once. We may need to
+    // think about or document the scale we're expecting. Also many maps/lists in here get iterated
+    // more than is necessary. Once we decide on some of the bigger optimizations like batching,
+    // caching, etc., revisit and optimize if still needed. See syncStreaming() for large calendars.
+
+    // Get the events from Nylas for the calendar, including recurring event instances.
     val nylasEventMap = getNylasEvents(client, calendar.externalId());
 
     // Get the events from the database for the calendar.
@@ -112,22 +160,14 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
         .filter(event -> localEventMap.containsKey(event.getId()))
         .forEach(event -> {
           val localEvent = localEventMap.get(event.getId());
-          var updateRequest = mapper.toUpdateRequestModel(event, localEvent);
-
-          // When requested, force update all-day event whens, which will also update the calculated
-          // all-day timestamps. This is useful when the calendar timezone changes because nothing
-          // about the actual event will change in that case except how we interpret all-day times.
-          if (params.forceUpdateAllDayEventWhens()
-              && updateRequest.when().isAllDay()
-              && !updateRequest.hasUpdate(EventUpdateRequest.UpdateField.WHEN)) {
-            updateRequest = updateRequest.toBuilder().when(updateRequest.when()).build();
-          }
+          toUpdateRequest(params, event, localEvent).ifPresent(updateRequest -> {
+            updateBatch.add(updateRequest);
+            if (updateRequest.hasUpdates()) {
+              updateIdsWithChanges.add(localEvent.id());
+            }
+          });
 
-          updateBatch.add(updateRequest);
           newExternalEtags.put(localEvent.externalId(), new ExternalEtag(event));
-          if (updateRequest.hasUpdates()) {
-            updateIdsWithChanges.add(localEvent.id());
-          }
         });
 
     eventRepo.batchUpdate(updateBatch);
@@ -151,22 +191,9 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
                   .ofNullable(localEventMap.get(masterNylasId))
                   .map(x -> x.id())
                   .or(() -> Optional.ofNullable(newLocalIds.get(masterNylasId)))
-                  .orElseGet(() -> {
-                    // If the master event is not found, something is really wrong. Rather than
-                    // fail the whole sync, import the event without the master id so it will be
-                    // treated as non-recurring. But log the error so we can see if this ever
-                    // happens, and then we'll possibly need a way to resolve it.
-                    log.error(
-                        "Master event {} not found for instance {}. Importing as non-recurring.",
-                        masterNylasId, nylasId);
-                    return null;
-                  }));
-
-          createBatch.add(masterLocalId
-              .map(masterId -> mapper.toCreateRequestModel(
-                  event, localId, masterId, params.calendarId(), orgId))
-              .orElseGet(() -> mapper.toCreateRequestModel(
-                  event, localId, params.calendarId(), orgId)));
+                  .orElseGet(() -> logMasterNotFound(masterNylasId, nylasId)));
+
+          createBatch.add(toCreateRequest(params, orgId, event, localId, masterLocalId));
 
           newExternalEtags.put(new EventExternalId(event.getId()), new ExternalEtag(event));
         });
@@ -175,43 +202,9 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
     eventPublisher.eventCreated(newLocalIds.values());
 
     // For events in the db where the external id is missing, create them in Nylas, then update db.
-    // We can skip eventPublisher.eventUpdate() because only the externalId should be updated, which
-    // is not part of the EventChanged contract, and also the provider will update the icaluid (at
-    // least) and cause a webhook update momentarily anyway.
     final long exportSuccessCount = localEvents.stream()
         .filter(x -> x.externalId() == null)
-        .map(localEvent -> {
-          Event createdEvent;
-          EventExternalId externalId;
-
-          try {
-            createdEvent = client.events().create(
-                mapper.toNylasEvent(localEvent, calendar.externalId()), true);
-          } catch (IOException | RequestFailedException ex) {
-            log.error("Error while exporting event {} for calendar {}: {}",
-                localEvent.id(), params.calendarId, ex.getMessage(), ex);
-            return false; // failure
-          }
-
-          externalId = new EventExternalId(createdEvent.getId());
-
-          try {
-            eventRepo.update(mapper.toUpdateRequestModel(createdEvent, localEvent));
-          } catch (Exception ex) {
-            // The nylas event has been created, but our update failed. This is a bad state to be in
-            // because the externalId will not be set locally, so retries at this point would create
-            // duplicate events in nylas. We will try once more to set only externalId to tie the
-            // local and nylas events together. If that works, we'll retry the original update.
-            log.error("Error while updating exported event {}, {} for calendar {}",
-                localEvent.id(), externalId, params.calendarId(), ex);
-            eventRepo.updateExternalId(localEvent.id(), externalId, DataSource.PROVIDER);
-            eventRepo.update(mapper.toUpdateRequestModel(createdEvent, localEvent));
-          }
-
-          newExternalEtags.put(externalId, new ExternalEtag(createdEvent));
-
-          return true; // success
-        })
+        .map(localEvent -> exportEvent(client, calendar, localEvent, newExternalEtags))
         .filter(x -> x)
         .count();
 
@@ -228,21 +221,338 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
           deleteBatchExternalIds.add(x.externalId());
         });
 
-    eventRepo.batchDelete(deleteBatch);
+    eventRepo.batchDelete(deleteBatch, DataSource.PROVIDER);
     eventPublisher.eventDeleted(orgId, params.calendarId(), deleteBatch, DataSource.PROVIDER);
 
     // Persist external etag changes.
     etagRepo.save(newExternalEtags);
     etagRepo.tryDelete(deleteBatchExternalIds);
 
-    Optional
-        .ofNullable(params.inboundSyncAccountLock())
-        .ifPresent(lock -> inboundSyncLocker.unlockAccount(params.accountId(), lock));
+    val counts = new SyncCounts();
+    counts.creates = createBatch.size();
+    counts.updates = updateBatch.size();
+    counts.deletes = deleteBatch.size();
+    counts.exports = exportSuccessCount;
+    counts.etagsSaved = newExternalEtags.size();
+    counts.etagsDeleted = deleteBatchExternalIds.size();
+    return counts;
+  }
 
-    log.debug(
-        "Synced all events for {}: create={}, update={}, delete={}, exports={}, etags=+{}/-{}",
-        params.calendarId(), createBatch.size(), updateBatch.size(), deleteBatch.size(),
-        exportSuccessCount, newExternalEtags.size(), deleteBatchExternalIds.size());
+  /**
+   * Syncs in bounded chunks so that large calendars don't need to fit in memory at once.
+   *
+   * <p>Nylas doesn't support sorting events by id, so the Nylas side is walked page by page, and
+   * each page is diffed against only the matching local events, which are fetched by externalId.
+   * Recurrence masters are synced first so instances in later chunks can reference their local
+   * master ids. Then local events are walked in externalId order (keyset paging) and any that
+   * Nylas didn't return are deleted. Only the Nylas ids seen so far are kept for the whole sync.
+   */
+  private SyncCounts syncStreaming(Params params, Calendar calendar, NylasAccount client) {
+    val counts = new SyncCounts();
+    val seenExternalIds = new HashSet<String>();
+    importNylasEvents(
+        params, calendar, client, eventHelper.getCurrentActivePeriod(), seenExternalIds, counts);
+
+    // For events in the database where the external id wasn't returned by Nylas, delete them.
+    // Deleting as we go doesn't affect the keyset, which only moves forward by externalId.
+    EventExternalId afterExternalId = null;
+    List<Pair<EventId, EventExternalId>> localChunk;
+    do {
+      localChunk = eventRepo.listExternalIdPairsByCalendar(
+          params.calendarId(), afterExternalId, config.chunkSize());
+      afterExternalId = localChunk.isEmpty() ? null : localChunk.get(localChunk.size() - 1)
+          .getRight();
+
+      val deleteBatch = new ArrayList<EventId>();
+      val deleteBatchExternalIds = new HashSet<EventExternalId>();
+      localChunk.stream()
+          .filter(x -> !seenExternalIds.contains(x.getRight().value()))
+          .forEach(x -> {
+            deleteBatch.add(x.getLeft());
+            deleteBatchExternalIds.add(x.getRight());
+          });
+
+      if (!deleteBatch.isEmpty()) {
+        eventRepo.batchDelete(deleteBatch, DataSource.PROVIDER);
+        eventPublisher.eventDeleted(
+            calendar.orgId(), params.calendarId(), deleteBatch, DataSource.PROVIDER);
+        etagRepo.tryDelete(deleteBatchExternalIds);
+        counts.deletes += deleteBatch.size();
+        counts.etagsDeleted += deleteBatchExternalIds.size();
+      }
+    } while (localChunk.size() >= config.chunkSize());
+
+    // For events in the db where the external id is missing, create them in Nylas, then update db.
+    // These are only events waiting to be exported, so there shouldn't be many at once.
+    val exportExternalEtags = new HashMap<EventExternalId, ExternalEtag>();
+    counts.exports = eventRepo
+        .listByCalendarWithoutExternalId(calendar.orgId(), params.calendarId())
+        .map(localEvent -> exportEvent(client, calendar, localEvent, exportExternalEtags))
+        .filter(x -> x)
+        .count();
+    etagRepo.save(exportExternalEtags);
+    counts.etagsSaved += exportExternalEtags.size();
+
+    return counts;
+  }
+
+  /**
+   * Imports only events starting in the days that just entered the active period, then range
+   * deletes local events that started before the active period.
+   *
+   * <p>The imported timespan overlaps the previous advance by a day, because the calendar's local
+   * midnight can move across a UTC day boundary with DST, and imports are idempotent anyway.
+   * Changes to events already in the active period come from webhooks and deltas, and anything
+   * that drifts (like recurrence masters whose instances have all left) is fixed by a full sync.
+   */
+  private SyncCounts syncAdvance(Params params, Calendar calendar, NylasAccount client) {
+    val counts = new SyncCounts();
+    val activePeriod = eventHelper.getCurrentActivePeriod();
+    val enteredPeriod = new TimeSpan(
+        activePeriod.end().minus(ADVANCE_IMPORT_DAYS), activePeriod.end());
+    importNylasEvents(params, calendar, client, enteredPeriod, new HashSet<>(), counts);
+
+    val deleted = eventRepo.deleteByCalendarStartingBefore(
+        params.calendarId(), activePeriod.start(), DataSource.PROVIDER);
+    if (!deleted.isEmpty()) {
+      val deleteBatch = deleted.stream().map(x -> x.getLeft()).toList();
+      val deleteBatchExternalIds = deleted.stream()
+          .map(x -> x.getRight())
+          .collect(Collectors.toSet());
+      eventPublisher.eventDeleted(
+          calendar.orgId(), params.calendarId(), deleteBatch, DataSource.PROVIDER);
+      etagRepo.tryDelete(deleteBatchExternalIds);
+      counts.deletes += deleteBatch.size();
+      counts.etagsDeleted += deleteBatchExternalIds.size();
+    }
+
+    return counts;
+  }
+
+  /**
+   * Imports Nylas events starting within the timespan in chunks, recurrence masters first.
+   */
+  private void importNylasEvents(
+      Params params, Calendar calendar, NylasAccount client, TimeSpan timeSpan,
+      Set<String> seenExternalIds, SyncCounts counts) {
+
+    // Start fetching both masters and normal events/instances so that requests overlap, but flush
+    // recurrence masters first, including masters with no instances (see getNylasEvents()).
+    val masterPages = listNylasEventPages(client, calendar.externalId(), timeSpan, false);
+    val eventPages = listNylasEventPages(client, calendar.externalId(), timeSpan, true);
+
+    masterPages.forEachRemaining(chunk -> flushNylasChunk(
+        params, calendar, client,
+        chunk.stream()
+            .filter(x -> x.getMasterEventId() == null && x.getRecurrence() != null)
+            .toList(),
+        seenExternalIds, counts));
+
+    // Nylas always returns cancelled recurrence instances regardless of query, so skip them.
+    eventPages.forEachRemaining(chunk -> flushNylasChunk(
+        params, calendar, client,
+        chunk.stream()
+            .filter(x -> !NylasValues.EventStatus.CANCELLED.equals(x.getStatus()))
+            .toList(),
+        seenExternalIds, counts));
+  }
+
+  /**
+   * Starts fetching Nylas events in pages of the configured chunk size.
+   */
+  private ConcurrentEventFetcher.Pages listNylasEventPages(
+      NylasAccount client, CalendarExternalId calendarExternalId, TimeSpan activePeriod,
+      boolean expandRecurring) {
+    return fetcher.listEventPages(
+        client,
+        () -> new EventQueryBuilder()
+            .calendarExternalId(calendarExternalId)
+            .startsWithin(activePeriod)
+            .and(x -> x.expandRecurring(expandRecurring))
+            .build(),
+        config.chunkSize());
+  }
+
+  /**
+   * Diffs one chunk of Nylas events against matching local events and flushes the changes.
+   */
+  private void flushNylasChunk(
+      Params params, Calendar calendar, NylasAccount client, List<Event> chunk,
+      Set<String> seenExternalIds, SyncCounts counts) {
+
+    // Skip events already flushed in an earlier chunk, which can happen if offset paging shifts
+    // because events change in Nylas while the sync is running.
+    val nylasEventMap = new LinkedHashMap<String, Event>();
+    chunk.stream()
+        .filter(x -> !seenExternalIds.contains(x.getId()))
+        .forEach(x -> nylasEventMap.putIfAbsent(x.getId(), x));
+    if (nylasEventMap.isEmpty()) {
+      return;
+    }
+
+    // Fetch master events that haven't been flushed yet and aren't in this chunk (outside the sync
+    // timespan) so they get created before, or along with, their instances.
+    val missingMasterIds = nylasEventMap.values().stream()
+        .map(x -> x.getMasterEventId())
+        .filter(Objects::nonNull)
+        .filter(x -> !seenExternalIds.contains(x) && !nylasEventMap.containsKey(x))
+        .distinct()
+        .toList();
+    val missingMasters = fetcher.tryGetEvents(client, missingMasterIds);
+    missingMasterIds.forEach(masterEventId -> Optional
+        .ofNullable(missingMasters.get(masterEventId))
+        .ifPresentOrElse(
+            masterEvent -> nylasEventMap.put(masterEventId, masterEvent),
+            () -> log.error("Master event {} not found in Nylas", masterEventId)));
+
+    // Get matching local events, plus local masters that instances in this chunk may reference.
+    val orgId = calendar.orgId();
+    val lookupExternalIds = new HashSet<EventExternalId>();
+    nylasEventMap.values().forEach(x -> {
+      lookupExternalIds.add(new EventExternalId(x.getId()));
+      Optional.ofNullable(x.getMasterEventId())
+          .ifPresent(masterId -> lookupExternalIds.add(new EventExternalId(masterId)));
+    });
+    val localEventMap = eventRepo
+        .listByCalendarAndExternalIds(orgId, params.calendarId(), lookupExternalIds)
+        .collect(Collectors.toMap(x -> x.externalId().value(), x -> x));
+
+    val newExternalEtags = new HashMap<EventExternalId, ExternalEtag>();
+    val updateBatch = new ArrayList<EventUpdateRequest>();
+    val updateIdsWithChanges = new ArrayList<EventId>();
+    val newLocalIds = new HashMap<String, EventId>();
+    nylasEventMap.keySet().stream()
+        .filter(x -> !localEventMap.containsKey(x))
+        .forEach(x -> newLocalIds.put(x, EventId.create()));
+    val createBatch = new ArrayList<EventCreateRequest>();
+
+    nylasEventMap.values().forEach(event -> {
+      val localEvent = localEventMap.get(event.getId());
+      if (localEvent != null) {
+        toUpdateRequest(params, event, localEvent).ifPresent(updateRequest -> {
+          updateBatch.add(updateRequest);
+          if (updateRequest.hasUpdates()) {
+            updateIdsWithChanges.add(localEvent.id());
+          }
+        });
+      } else {
+        val masterLocalId = Optional
+            .ofNullable(event.getMasterEventId())
+            .map(masterNylasId -> Optional
+                .ofNullable(localEventMap.get(masterNylasId))
+                .map(x -> x.id())
+                .or(() -> Optional.ofNullable(newLocalIds.get(masterNylasId)))
+                .orElseGet(() -> logMasterNotFound(masterNylasId, event.getId())));
+        createBatch.add(toCreateRequest(
+            params, orgId, event, newLocalIds.get(event.getId()), masterLocalId));
+      }
+
+      newExternalEtags.put(new EventExternalId(event.getId()), new ExternalEtag(event));
+    });
+
+    eventRepo.batchUpdate(updateBatch);
+    eventPublisher.eventUpdated(updateIdsWithChanges);
+    eventRepo.batchCreate(createBatch);
+    eventPublisher.eventCreated(newLocalIds.values());
+    etagRepo.save(newExternalEtags);
+
+    seenExternalIds.addAll(nylasEventMap.keySet());
+    counts.updates += updateBatch.size();
+    counts.creates += createBatch.size();
+    counts.etagsSaved += newExternalEtags.size();
+  }
+
+  /**
+   * Maps the update request for a matched event, or empty if the event is unchanged.
+   *
+   * <p>Most events are unchanged on a resync, so they're compared field-by-field first to avoid
+   * building update requests that would be skipped anyway.
+   */
+  private Optional<EventUpdateRequest> toUpdateRequest(
+      Params params, Event event, com.UoU.core.events.Event localEvent) {
+    if (!params.forceUpdateAllDayEventWhens() && mapper.isUnchanged(event, localEvent)) {
+      return Optional.empty();
+    }
+
+    val updateRequest = mapper.toUpdateRequestModel(event, localEvent);
+
+    // When requested, force update all-day event whens, which will also update the calculated
+    // all-day timestamps. This is useful when the calendar timezone changes because nothing
+    // about the actual event will change in that case except how we interpret all-day times.
+    if (params.forceUpdateAllDayEventWhens()
+        && updateRequest.when().isAllDay()
+        && !updateRequest.hasUpdate(EventUpdateRequest.UpdateField.WHEN)) {
+      return Optional.of(updateRequest.toBuilder().when(updateRequest.when()).build());
+    }
+
+    return Optional.of(updateRequest);
+  }
+
+  private EventCreateRequest toCreateRequest(
+      Params params, OrgId orgId, Event event, EventId localId, Optional<EventId> masterLocalId) {
+    return masterLocalId
+        .map(masterId -> mapper.toCreateRequestModel(
+            event, localId, masterId, params.calendarId(), orgId))
+        .orElseGet(() -> mapper.toCreateRequestModel(
+            event, localId, params.calendarId(), orgId));
+  }
+
+  /**
+   * Logs that a master event is missing and returns null so the instance is imported without it.
+   *
+   * <p>If the master event is not found, something is really wrong. Rather than fail the whole
+   * sync, import the event without the master id so it will be treated as non-recurring. But log
+   * the error so we can see if this ever happens, and then we'll possibly need a way to resolve it.
+   */
+  private EventId logMasterNotFound(String masterNylasId, String nylasId) {
+    log.error(
+        "Master event {} not found for instance {}. Importing as non-recurring.",
+        masterNylasId, nylasId);
+    return null;
+  }
+
+  /**
+   * Exports a local event without an external id to Nylas, then updates the local event.
+   *
+   * <p>We can skip eventPublisher.eventUpdate() because only the externalId should be updated,
+   * which is not part of the EventChanged contract, and also the provider will update the icaluid
+   * (at least) and cause a webhook update momentarily anyway.
+   *
+   * @return true on success, false if the Nylas create failed
+   */
+  private boolean exportEvent(
+      NylasAccount client, Calendar calendar, com.UoU.core.events.Event localEvent,
+      Map<EventExternalId, ExternalEtag> newExternalEtags) {
+    Event createdEvent;
+    EventExternalId externalId;
+
+    try {
+      createdEvent = client.events().create(
+          mapper.toNylasEvent(localEvent, calendar.externalId()), true);
+    } catch (IOException | RequestFailedException ex) {
+      log.error("Error while exporting event {} for calendar {}: {}",
+          localEvent.id(), calendar.id(), ex.getMessage(), ex);
+      return false; // failure
+    }
+
+    externalId = new EventExternalId(createdEvent.getId());
+
+    try {
+      eventRepo.update(mapper.toUpdateRequestModel(createdEvent, localEvent));
+    } catch (Exception ex) {
+      // The nylas event has been created, but our update failed. This is a bad state to be in
+      // because the externalId will not be set locally, so retries at this point would create
+      // duplicate events in nylas. We will try once more to set only externalId to tie the
+      // local and nylas events together. If that works, we'll retry the original update.
+      log.error("Error while updating exported event {}, {} for calendar {}",
+          localEvent.id(), externalId, calendar.id(), ex);
+      eventRepo.updateExternalId(localEvent.id(), externalId, DataSource.PROVIDER);
+      eventRepo.update(mapper.toUpdateRequestModel(createdEvent, localEvent));
+    }
+
+    newExternalEtags.put(externalId, new ExternalEtag(createdEvent));
+
+    return true; // success
   }
 
   /**
@@ -250,13 +560,16 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
    *
    * <p>Recurrence masters outside the sync timespan will also be included if they are active for
    * the sync timespan, which means there is at least one instance within the timespan.
+   *
+   * <p>Both list queries are paged and fetched concurrently, and missing masters are then fetched
+   * concurrently too, so the total time is closer to the slowest request than the sum of them.
    */
-  @SneakyThrows
   private Map<String, Event> getNylasEvents(
       NylasAccount client, CalendarExternalId calendarExternalId) {
 
     val events = new HashMap<String, Event>();
     val masterEventIds = new HashSet<String>();
+    val activePeriod = eventHelper.getCurrentActivePeriod();
 
     // Fetch all recurrence masters in active period, including masters 
     // with no instances.
@@ -266,56 +579,64 @@ public class SyncAllEventsTask implements Task<SyncAllEventsTask.Params> {
     // EDGE CASE : Master event is created with the RRULE date until
     // the past date when event actually occurring.
     // Ex. Event Date: Jan 20  & RRULE :"FREQ=DAILY;UNTIL=20230119"
-    client.events()
-        .list(new EventQueryBuilder()
-            .calendarExternalId(calendarExternalId)
-            .startsWithin(eventHelper.getCurrentActivePeriod())
-            .and(x -> x.expandRecurring(false))
-            .build())
-        .fetchAll()
-        .forEach(event -> {
-          if (event.getMasterEventId() == null && event.getRecurrence() != null) {
-            events.put(event.getId(), event);
-          }
-        });
+    val masterPages = fetcher.listEventPages(client, () -> new EventQueryBuilder()
+        .calendarExternalId(calendarExternalId)
+        .startsWithin(activePeriod)
+        .and(x -> x.expandRecurring(false))
+        .build());
 
     // Fetch normal events and recurrence instances within sync timespan.
-    client.events()
-        .list(new EventQueryBuilder()
-            .calendarExternalId(calendarExternalId)
-            .startsWithin(eventHelper.getCurrentActivePeriod())
-            .and(x -> x.expandRecurring(true))
-            .build())
-        .fetchAll()
-        .forEach(event -> {
-          // Nylas always returns cancelled recurrence instances regardless of query, so skip them.
-          if (NylasValues.EventStatus.CANCELLED.equals(event.getStatus())) {
-            return;
-          }
+    val eventPages = fetcher.listEventPages(client, () -> new EventQueryBuilder()
+        .calendarExternalId(calendarExternalId)
+        .startsWithin(activePeriod)
+        .and(x -> x.expandRecurring(true))
+        .build());
+
+    masterPages.fetchAll().forEach(event -> {
+      if (event.getMasterEventId() == null && event.getRecurrence() != null) {
+        events.put(event.getId(), event);
+      }
+    });
 
-          // For recurrence instances, store master id to fetch master event later.
-          if (event.getMasterEventId() != null) {
-            masterEventIds.add(event.getMasterEventId());
-          }
+    eventPages.fetchAll().forEach(event -> {
+      // Nylas always returns cancelled recurrence instances regardless of query, so skip them.
+      if (NylasValues.EventStatus.CANCELLED.equals(event.getStatus())) {
+        return;
+      }
 
-          events.put(event.getId(), event);
-        });
+      // For recurrence instances, store master id to fetch master event later.
+      if (event.getMasterEventId() != null) {
+        masterEventIds.add(event.getMasterEventId());
+      }
+
+      events.put(event.getId(), event);
+    });
 
     // Fetch master events that haven't already been fetched (outside the sync timespan).
     // If any master event doesn't exist in Nylas, something is very wrong with the Nylas data,
     // but we'll log and continue, and the sync processing can deal with it further.
     // DO-LATER: See if Nylas will add a list filter to fetch multiple event_ids at once, a
     // filter to fetch only masters, or something more efficient to avoid multiple requests.
-    masterEventIds.forEach(masterEventId -> {
-      if (events.containsKey(masterEventId)) {
-        return;
-      }
-
-      eventHelper.tryGetNylasEvent(client, new EventExternalId(masterEventId)).ifPresentOrElse(
-          masterEvent -> events.put(masterEventId, masterEvent),
-          () -> log.error("Master event {} not found in Nylas", masterEventId));
-    });
+    val missingMasterIds = masterEventIds.stream().filter(x -> !events.containsKey(x)).toList();
+    val missingMasters = fetcher.tryGetEvents(client, missingMasterIds);
+    missingMasterIds.forEach(masterEventId -> Optional
+        .ofNullable(missingMasters.get(masterEventId))
+        .ifPresentOrElse(
+            masterEvent -> events.put(masterEventId, masterEvent),
+            () -> log.error("Master event {} not found in Nylas", masterEventId)));
 
     return events;
   }
+
+  /**
+   * Counts of sync operations, for logging.
+   */
+  private static class SyncCounts {
+    private long creates;
+    private long updates;
+    private long deletes;
+    private long exports;
+    private long etagsSaved;
+    private long etagsDeleted;
+  }
 }
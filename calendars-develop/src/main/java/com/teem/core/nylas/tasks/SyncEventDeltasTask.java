@@ -0,0 +1,165 @@
+package com.UoU.core.nylas.tasks;
+
+import com.nylas.Delta;
+import com.nylas.DeltaCursor;
+import com.nylas.RequestFailedException;
+import com.UoU.core.Noop;
+import com.UoU.core.Task;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.calendars.CalendarExternalId;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.nylas.DeltaCursorRepository;
+import com.UoU.core.nylas.InboundSyncLocker;
+import com.UoU.core.nylas.NylasValues;
+import com.UoU.core.tasks.DelayedTask;
+import com.UoU.core.tasks.DelayedTaskQueue;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.stereotype.Service;
+
+/**
+ * Inbound: Syncs event and calendar changes for the account since the last Nylas delta cursor.
+ *
+ * <p>This is the incremental alternative to a full sync of every calendar: only objects that have
+ * changed since the cursor are fetched. Changes are coalesced to the last change per object, and
+ * then the same import/delete tasks that webhooks use are scheduled for each changed object.
+ *
+ * <p>If the account has no cursor, or Nylas rejects the cursor, this falls back to a full import of
+ * all calendars and events, which will save a new cursor to start from next time.
+ *
+ * <p>This uses {@link com.UoU.core.nylas.InboundSyncLocker} to skip sync when another major
+ * inbound sync is occurring. In that case, the cursor is not moved because the scheduled imports
+ * would be skipped as well, and the task is rescheduled via the {@link DelayedTaskQueue} to pick up
+ * the same changes after a delay. Otherwise, nothing would run the task again for the account.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+public class SyncEventDeltasTask implements Task<SyncEventDeltasTask.Params> {
+  private static final int MAX_PAGES_PER_RUN = 20;
+  private static final Set<Integer> INVALID_CURSOR_STATUS_CODES = Set.of(400, 404, 410);
+  private static final Duration LOCKED_RETRY_DELAY = Duration.ofMinutes(1);
+
+  private final EventHelper eventHelper;
+  private final DeltaCursorRepository deltaCursorRepo;
+  private final NylasTaskScheduler scheduler;
+  private final InboundSyncLocker inboundSyncLocker;
+  private final DelayedTaskQueue delayedTaskQueue;
+
+  public record Params(@NonNull AccountId accountId) {
+  }
+
+  @SneakyThrows
+  @Override
+  public void run(Params params) {
+    val accountId = params.accountId();
+    if (inboundSyncLocker.isAccountLocked(accountId)) {
+      log.debug("Inbound sync locked for {}. Rescheduling: Sync event deltas", accountId);
+      delayedTaskQueue.enqueue(
+          List.of(DelayedTask.syncEventDeltas(accountId)),
+          Instant.now().plus(LOCKED_RETRY_DELAY));
+      return;
+    }
+
+    val storedCursor = deltaCursorRepo.get(accountId);
+    if (storedCursor.isEmpty()) {
+      log.info("No delta cursor for {}. Falling back to full sync.", accountId);
+      scheduler.importAllCalendarsFromNylas(accountId, true);
+      return;
+    }
+
+    val client = eventHelper.createNylasClient(accountId);
+    var cursor = storedCursor.get();
+    var pageCount = 0;
+    var changeCount = 0;
+    var isDone = false;
+
+    while (!isDone && pageCount < MAX_PAGES_PER_RUN) {
+      DeltaCursor deltaCursor;
+      try {
+        deltaCursor = client.deltas().since(cursor);
+      } catch (RequestFailedException ex) {
+        if (!INVALID_CURSOR_STATUS_CODES.contains(ex.getStatusCode())) {
+          throw ex;
+        }
+
+        log.warn("Invalid delta cursor for {}. Falling back to full sync: {}",
+            accountId, ex.getMessage());
+        deltaCursorRepo.tryDelete(accountId);
+        scheduler.importAllCalendarsFromNylas(accountId, true);
+        return;
+      }
+
+      val deltas = Optional.ofNullable(deltaCursor.getDeltas()).orElse(List.of());
+      changeCount += scheduleChanges(accountId, deltas);
+      pageCount++;
+
+      // Save the cursor after each page so that progress is kept even if a later page fails.
+      val nextCursor = deltaCursor.getCursorEnd();
+      isDone = deltas.isEmpty() || nextCursor == null || nextCursor.equals(cursor);
+      if (nextCursor != null && !nextCursor.equals(cursor)) {
+        cursor = nextCursor;
+        deltaCursorRepo.save(accountId, cursor);
+      }
+    }
+
+    // If there are lots of changes, continue in a new task rather than hog the consumer.
+    if (!isDone) {
+      scheduler.syncEventDeltas(accountId);
+    }
+
+    log.debug("Synced event deltas for {}: pages={}, changes={}, done={}",
+        accountId, pageCount, changeCount, isDone);
+  }
+
+  /**
+   * Schedules an import or delete for each changed object and returns the number scheduled.
+   */
+  private int scheduleChanges(AccountId accountId, List<Delta<?>> deltas) {
+    // Keep only the last change per object, so an object is imported or deleted only once even if
+    // it changed many times since the cursor (insertion order is kept for the last change).
+    val lastChanges = new LinkedHashMap<Pair<String, String>, String>();
+    deltas.stream()
+        .filter(x -> x.getObject() != null && x.getId() != null)
+        .forEach(x -> {
+          val key = Pair.of(x.getObject(), x.getId());
+          lastChanges.remove(key);
+          lastChanges.put(key, x.getEvent());
+        });
+
+    lastChanges.forEach((key, change) -> {
+      val isDelete = NylasValues.Delta.EVENT_DELETE.equals(change);
+      switch (key.getLeft()) {
+        case NylasValues.Delta.OBJECT_EVENT -> {
+          val externalId = new EventExternalId(key.getRight());
+          if (isDelete) {
+            scheduler.handleEventDeleteFromNylas(accountId, externalId);
+          } else {
+            scheduler.importEventFromNylas(accountId, externalId);
+          }
+        }
+        case NylasValues.Delta.OBJECT_CALENDAR -> {
+          val externalId = new CalendarExternalId(key.getRight());
+          if (isDelete) {
+            scheduler.handleCalendarDeleteFromNylas(accountId, externalId);
+          } else {
+            scheduler.importCalendarFromNylas(accountId, externalId, false);
+          }
+        }
+        default -> Noop.because("only events and calendars are synced");
+      }
+    });
+
+    return lastChanges.size();
+  }
+}
@@ -0,0 +1,22 @@
+package com.UoU.core.tasks;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link AdvanceEventsActivePeriodTask}.
+ *
+ * @param incremental          When true, calendars only import the events that entered the active
+ *                             period and delete the events that left it, rather than doing a full
+ *                             sync of the whole active period every day.
+ * @param fullSyncIntervalDays When incremental, each calendar still gets a full sync every this
+ *                             many days to repair drift. 1 means a full sync every day.
+ */
+@ConfigurationProperties("advance-events-active-period")
+public record AdvanceEventsActivePeriodConfig(boolean incremental, int fullSyncIntervalDays) {
+
+  public AdvanceEventsActivePeriodConfig {
+    if (fullSyncIntervalDays <= 0) {
+      throw new IllegalArgumentException("Invalid fullSyncIntervalDays: " + fullSyncIntervalDays);
+    }
+  }
+}
@@ -1,9 +1,11 @@
 package com.UoU.core.tasks;
 
 import com.UoU.core.Task;
+import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.calendars.CalendarRepository;
-import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -14,6 +16,10 @@ import org.springframework.stereotype.Service;
  *
  * <p>Each calendar will advance at midnight local time according to the calendar timezone. When no
  * timezone is set on a calendar, the default timezone will be assumed.
+ *
+ * <p>When {@link AdvanceEventsActivePeriodConfig#incremental()} is enabled, most calendars only
+ * advance incrementally, and full syncs are spread evenly over the configured interval by calendar
+ * id so that each calendar still gets one regularly to repair drift.
  */
 @Service
 @RequiredArgsConstructor
@@ -23,21 +29,32 @@ public class AdvanceEventsActivePeriodTask implements Task.WithNoParams {
   private static final int BATCH_SIZE = 500;
   private static final int BATCH_DELAY_SECONDS = 10;
 
+  private final AdvanceEventsActivePeriodConfig config;
   private final CalendarRepository calendarRepo;
-  private final NylasTaskScheduler nylasTaskScheduler;
-  private final BatchSpringTaskScheduler batchSpringTaskScheduler;
+  private final BatchDelayedTaskScheduler batchDelayedTaskScheduler;
 
   @Override
   public void run() {
-    // Get all calendar ids in batches and schedule syncAllEvents via batches with spring
-    // taskscheduler so that we don't overwhelm our db or Nylas by running too many syncs at once.
-    // Note that spring taskscheduler just uses local threads, so if the running node dies, the
-    // tasks will be lost. However, since we're not scheduling very far in advance, and this should
-    // be run regularly, that's an ok risk for now.
-    val batches = calendarRepo.listSyncableCalendarsAtLocalHour(SYNC_HOUR, BATCH_SIZE);
-    batchSpringTaskScheduler.scheduleBatches(
-        batches.iterator(),
-        BATCH_DELAY_SECONDS,
-        batch -> batch.forEach(x -> nylasTaskScheduler.syncAllEvents(x.getLeft(), x.getRight())));
+    // Get all calendar ids in batches and schedule syncs via durable delayed task batches so that
+    // we don't overwhelm our db or Nylas by running too many syncs at once. The delayed tasks
+    // survive node restarts, and any node can run them when they're due.
+    val epochDay = LocalDate.now(ZoneOffset.UTC).toEpochDay();
+    val batches = calendarRepo
+        .listSyncableCalendarsAtLocalHour(SYNC_HOUR, BATCH_SIZE)
+        .map(batch -> batch.stream()
+            .map(x -> isFullSyncDue(x.getRight(), epochDay)
+                ? DelayedTask.syncAllEvents(x.getLeft(), x.getRight())
+                : DelayedTask.advanceEventsActivePeriod(x.getLeft(), x.getRight()))
+            .toList());
+    batchDelayedTaskScheduler.scheduleBatches(batches.iterator(), BATCH_DELAY_SECONDS);
+  }
+
+  /**
+   * Checks if the calendar is due a full sync today, based on a stable hash of the calendar id.
+   */
+  private boolean isFullSyncDue(CalendarId calendarId, long epochDay) {
+    val interval = config.fullSyncIntervalDays();
+    return !config.incremental()
+        || Math.floorMod(calendarId.value().hashCode(), interval) == epochDay % interval;
   }
 }
@@ -0,0 +1,50 @@
+package com.UoU.core.tasks;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import lombok.AllArgsConstructor;
+import lombok.val;
+import org.springframework.stereotype.Service;
+
+/**
+ * Schedules batches of delayed tasks, spreading the batches out over time to avoid load spikes.
+ *
+ * <p>Tasks are stored in the durable {@link DelayedTaskQueue}, so they survive restarts of the
+ * node that scheduled them, and {@link DelayedTaskDrainer} on any node will run them when due.
+ */
+@Service
+@AllArgsConstructor
+public class BatchDelayedTaskScheduler {
+  private final DelayedTaskQueue delayedTaskQueue;
+
+  /**
+   * Schedules batches of tasks, delaying each batch after the first.
+   *
+   * <p>The first batch is due now, and each subsequent batch is due delaySeconds after the
+   * previous one. The drainer rate limits also apply, so batches can run later than scheduled
+   * when there is a backlog, but never earlier.
+   *
+   * @param batches The batches to schedule.
+   * @param delaySeconds The delay between the scheduled batches.
+   */
+  public void scheduleBatches(
+      Iterator<? extends Collection<DelayedTask>> batches, int delaySeconds) {
+
+    if (delaySeconds <= 0) {
+      throw new IllegalArgumentException(
+          "delaySeconds must be greater than 0, else batches are unnecessary");
+    }
+
+    val now = Instant.now();
+    var batchIndex = 0;
+
+    while (batches.hasNext()) {
+      delayedTaskQueue.enqueue(
+          batches.next(),
+          now.plusSeconds((long) batchIndex * delaySeconds));
+
+      batchIndex++;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.UoU.core.tasks;
+
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.accounts.ServiceAccountId;
+import com.UoU.core.calendars.CalendarId;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * A task that is stored durably in the {@link DelayedTaskQueue} and run when due by
+ * {@link DelayedTaskDrainer}.
+ *
+ * <p>Tasks only hold a type and string args (usually ids), not closures, so that any node can run
+ * them, even after the node that scheduled them is gone. Tasks with the same type and args are
+ * the same task, so they are deduped while queued.
+ */
+public record DelayedTask(@NonNull Type type, @NonNull List<String> args) {
+
+  public DelayedTask {
+    if (args.isEmpty() || args.stream().anyMatch(x -> x == null || x.isBlank())) {
+      throw new IllegalArgumentException("Invalid args: " + args);
+    }
+    args = List.copyOf(args);
+  }
+
+  public static DelayedTask syncAllEvents(AccountId accountId, CalendarId calendarId) {
+    return new DelayedTask(Type.SYNC_ALL_EVENTS, List.of(accountId.value(), calendarId.value()));
+  }
+
+  public static DelayedTask syncEventDeltas(AccountId accountId) {
+    return new DelayedTask(Type.SYNC_EVENT_DELTAS, List.of(accountId.value()));
+  }
+
+  public static DelayedTask advanceEventsActivePeriod(AccountId accountId, CalendarId calendarId) {
+    return new DelayedTask(
+        Type.ADVANCE_EVENTS_ACTIVE_PERIOD, List.of(accountId.value(), calendarId.value()));
+  }
+
+  public static DelayedTask updateServiceAccountRefreshToken(ServiceAccountId id) {
+    return new DelayedTask(
+        Type.UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN, List.of(id.value().toString()));
+  }
+
+  /**
+   * The delayed task types, which are each queued and rate limited separately.
+   */
+  public enum Type {
+    SYNC_ALL_EVENTS,
+    SYNC_EVENT_DELTAS,
+    ADVANCE_EVENTS_ACTIVE_PERIOD,
+    UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN,
+  }
+}
@@ -0,0 +1,38 @@
+package com.UoU.core.tasks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link DelayedTaskDrainer}.
+ *
+ * @param lease       How long claimed tasks are leased to a node before another node can retry
+ *                    them, which is also how long a failed task waits before it's retried.
+ * @param maxAttempts Max times a task is run before it's dropped when it keeps failing.
+ * @param rateLimits  Max tasks per second for each task type across all nodes, which protects the
+ *                    db and the external services the tasks call.
+ */
+@ConfigurationProperties("delayed-tasks")
+public record DelayedTaskConfig(
+    @NonNull Duration lease,
+    int maxAttempts,
+    @NonNull Map<DelayedTask.Type, Integer> rateLimits) {
+
+  public DelayedTaskConfig {
+    if (lease.isZero() || lease.isNegative()) {
+      throw new IllegalArgumentException("Invalid lease: " + lease);
+    }
+
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("Invalid maxAttempts: " + maxAttempts);
+    }
+
+    if (Arrays.stream(DelayedTask.Type.values())
+        .anyMatch(x -> rateLimits.getOrDefault(x, 0) <= 0)) {
+      throw new IllegalArgumentException("Invalid rateLimits: " + rateLimits);
+    }
+  }
+}
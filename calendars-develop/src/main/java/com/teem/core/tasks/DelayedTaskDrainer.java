@@ -0,0 +1,80 @@
+package com.UoU.core.tasks;
+
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.accounts.ServiceAccountId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import java.util.ArrayList;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs due tasks from the {@link DelayedTaskQueue}.
+ *
+ * <p>This is safe to run on many nodes at once, since each task is claimed by only one node. The
+ * tasks themselves should be lightweight, usually just scheduling the real task via kafka. Failed
+ * tasks are retried after their lease expires, up to the max attempts.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+public class DelayedTaskDrainer {
+  private final DelayedTaskConfig config;
+  private final DelayedTaskQueue delayedTaskQueue;
+  private final NylasTaskScheduler nylasTaskScheduler;
+  private final TaskScheduler taskScheduler;
+
+  /**
+   * Claims and runs due tasks for each task type, up to the rate limit for the type.
+   */
+  public void drain() {
+    for (val type : DelayedTask.Type.values()) {
+      val tasks = delayedTaskQueue.claimDue(type, config.rateLimits().get(type), config.lease());
+      if (tasks.isEmpty()) {
+        continue;
+      }
+
+      log.debug("Running {} delayed tasks: {}", tasks.size(), type);
+
+      // Only successful tasks are acked, so failed tasks are retried after their lease expires.
+      // Tasks that fail on their last attempt are acked too, else a bad task would retry forever.
+      val toAck = new ArrayList<DelayedTaskQueue.ClaimedTask>();
+      for (val claimed : tasks) {
+        try {
+          run(claimed.task());
+          toAck.add(claimed);
+        } catch (Exception ex) {
+          if (claimed.attempts() >= config.maxAttempts()) {
+            log.error("Delayed task FAILED on last attempt {}, dropping: {}",
+                claimed.attempts(), claimed.task(), ex);
+            toAck.add(claimed);
+          } else {
+            log.warn("Delayed task FAILED on attempt {}/{}, retrying after lease: {}",
+                claimed.attempts(), config.maxAttempts(), claimed.task(), ex);
+          }
+        }
+      }
+
+      if (!toAck.isEmpty()) {
+        delayedTaskQueue.ack(toAck);
+      }
+    }
+  }
+
+  private void run(DelayedTask task) {
+    val args = task.args();
+    switch (task.type()) {
+      case SYNC_ALL_EVENTS -> nylasTaskScheduler.syncAllEvents(
+          new AccountId(args.get(0)), new CalendarId(args.get(1)));
+      case SYNC_EVENT_DELTAS -> nylasTaskScheduler.syncEventDeltas(new AccountId(args.get(0)));
+      case ADVANCE_EVENTS_ACTIVE_PERIOD -> nylasTaskScheduler.advanceEventsActivePeriod(
+          new AccountId(args.get(0)), new CalendarId(args.get(1)));
+      case UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN -> taskScheduler.updateServiceAccountRefreshToken(
+          new ServiceAccountId(UUID.fromString(args.get(0))));
+      default -> throw new IllegalArgumentException("Invalid delayed task type: " + task.type());
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.UoU.core.tasks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import lombok.NonNull;
+
+/**
+ * Durable queue of delayed tasks that any node can drain.
+ *
+ * <p>Claimed tasks are leased rather than removed, so if a node dies before it acks the tasks it
+ * claimed, or a task fails and isn't acked, the tasks become due again after the lease expires and
+ * another node will run them. Each claim has a lease token, so a node whose lease expired can't ack
+ * a task that has since been claimed again by another node.
+ */
+public interface DelayedTaskQueue {
+
+  /**
+   * Enqueues tasks to be run at or after dueAt, ignoring any tasks that are already queued.
+   */
+  void enqueue(Collection<DelayedTask> tasks, Instant dueAt);
+
+  /**
+   * Claims due tasks of the type, oldest first, and leases them for the lease duration.
+   *
+   * <p>At most maxPerSecond tasks of the type are claimed per second across all nodes, so this may
+   * return fewer tasks than are due, or none at all.
+   */
+  List<ClaimedTask> claimDue(DelayedTask.Type type, int maxPerSecond, Duration lease);
+
+  /**
+   * Acks claimed tasks so they are removed for good instead of being retried after their lease.
+   *
+   * <p>Tasks are only acked if their lease token still matches, so this does nothing for tasks
+   * whose lease expired and which were claimed again.
+   */
+  void ack(Collection<ClaimedTask> tasks);
+
+  /**
+   * Task claimed with a lease token, where attempts is how many times it has been claimed.
+   */
+  record ClaimedTask(@NonNull DelayedTask task, @NonNull String leaseToken, int attempts) {
+  }
+}
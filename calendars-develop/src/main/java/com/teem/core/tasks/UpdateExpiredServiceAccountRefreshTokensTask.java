@@ -26,23 +26,19 @@ public class UpdateExpiredServiceAccountRefreshTokensTask implements Task.WithNo
   private static final int BATCH_DELAY_SECONDS = 5;
 
   private final ServiceAccountRepository serviceAccountRepo;
-  private final TaskScheduler taskScheduler;
-  private final BatchSpringTaskScheduler batchSpringTaskScheduler;
+  private final BatchDelayedTaskScheduler batchDelayedTaskScheduler;
 
   @Override
   public void run() {
     // Get expired service account ids in batches and schedule updateServiceAccountRefreshToken in
-    // batches with spring taskscheduler so that we don't overwhelm our db or send too many calls
-    // to an OAuth provider at once. Normally, there shouldn't be too many service accounts anyway,
-    // and often there will probably only be one batch. But if this task failed to run for a while,
-    // there could be many service accounts. Note that spring taskscheduler just uses local threads,
-    // so if the running node dies, the tasks will be lost. However, since we're not scheduling very
-    // far in advance, and this should be run regularly, that's an ok risk for now.
-    val batches = serviceAccountRepo.listExpiredSettings(AUTH_METHODS, BATCH_SIZE);
-    batchSpringTaskScheduler.scheduleBatches(
-        batches.iterator(),
-        BATCH_DELAY_SECONDS,
-        batch -> batch.forEach(taskScheduler::updateServiceAccountRefreshToken));
+    // durable delayed task batches so that we don't overwhelm our db or send too many calls to an
+    // OAuth provider at once. Normally, there shouldn't be too many service accounts anyway, and
+    // often there will probably only be one batch. But if this task failed to run for a while,
+    // there could be many service accounts.
+    val batches = serviceAccountRepo
+        .listExpiredSettings(AUTH_METHODS, BATCH_SIZE)
+        .map(batch -> batch.stream().map(DelayedTask::updateServiceAccountRefreshToken).toList());
+    batchDelayedTaskScheduler.scheduleBatches(batches.iterator(), BATCH_DELAY_SECONDS);
   }
 
 }
@@ -0,0 +1,95 @@
+package com.UoU.infra.db;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.UoU.core.SecretString;
+import com.UoU.core.accounts.AccountId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-process cache of decrypted account access tokens, so that the many tasks for the same
+ * accounts don't each query and decrypt the token.
+ *
+ * <p>Invalidation is broadcast to all nodes via redis pub/sub. Loading happens inside the cache's
+ * atomic compute for the key, and invalidation for the key waits for any load in progress, so a
+ * load that read the old token before an update can't leave the old token cached. If a broadcast
+ * is missed, such as when redis is briefly down, the ttl bounds how long a node can use an old
+ * token, and Nylas will reject a revoked token with 401 just like it would without the cache.
+ *
+ * <p>Metrics are bound as cache.* with cache=account-access-tokens, including hits and misses.
+ */
+@Service
+@Slf4j
+class AccessTokenCache implements MeterBinder {
+  private static final String CACHE_NAME = "account-access-tokens";
+  private static final String INVALIDATE_CHANNEL = "account-access-token-invalidate";
+
+  private final StringRedisTemplate redisTemplate;
+  private final boolean isEnabled;
+  private final Cache<AccountId, SecretString> cache;
+
+  public AccessTokenCache(
+      AccessTokenCacheConfig config,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.redisTemplate = redisTemplate;
+    this.isEnabled = !config.ttl().isZero();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(config.maxSize())
+        .expireAfterWrite(config.ttl())
+        .recordStats()
+        .build();
+
+    if (isEnabled) {
+      listenerContainer.addMessageListener(
+          (message, pattern) -> cache.invalidate(
+              new AccountId(new String(message.getBody(), StandardCharsets.UTF_8))),
+          new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+  }
+
+  /**
+   * Gets the cached token for the account, or loads and caches it via the loader.
+   */
+  public SecretString get(AccountId id, Supplier<SecretString> loader) {
+    if (!isEnabled) {
+      return loader.get();
+    }
+
+    return cache.get(id, x -> loader.get());
+  }
+
+  /**
+   * Invalidates the token for the account on this node and, via pub/sub, on all other nodes.
+   *
+   * <p>This should be called after the change to the token has been committed.
+   */
+  public void invalidate(AccountId id) {
+    if (!isEnabled) {
+      return;
+    }
+
+    cache.invalidate(id);
+
+    try {
+      redisTemplate.convertAndSend(INVALIDATE_CHANNEL, id.value());
+    } catch (DataAccessException ex) {
+      log.warn("Access token cache invalidation broadcast failed for account: {}", id, ex);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.UoU.infra.db;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link AccessTokenCache}.
+ *
+ * @param maxSize Max number of decrypted account access tokens cached per node.
+ * @param ttl     How long a token is cached. Zero disables caching.
+ */
+@ConfigurationProperties("accounts.access-token-cache")
+public record AccessTokenCacheConfig(int maxSize, @NonNull Duration ttl) {
+  public AccessTokenCacheConfig {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Invalid maxSize: " + maxSize);
+    }
+    if (ttl.isNegative()) {
+      throw new IllegalArgumentException("Invalid ttl: " + ttl);
+    }
+  }
+}
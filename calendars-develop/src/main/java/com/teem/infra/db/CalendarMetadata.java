@@ -0,0 +1,43 @@
+package com.UoU.infra.db;
+
+import com.UoU.core.OrgId;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.accounts.Provider;
+import com.UoU.core.calendars.CalendarAccessInfo;
+import com.UoU.core.calendars.CalendarExternalId;
+import com.UoU.core.calendars.CalendarId;
+import java.util.Optional;
+import lombok.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Small, rarely-changing calendar facts that are looked up for nearly every sync task and event
+ * write, and so are cached by {@link CalendarMetadataCache}.
+ *
+ * <p>The provider comes from the calendar's account, if the calendar is linked to one.
+ */
+public record CalendarMetadata(
+    @NonNull CalendarId id,
+    @Nullable CalendarExternalId externalId,
+    @Nullable AccountId accountId,
+    @NonNull OrgId orgId,
+    @Nullable String timezone,
+    boolean isReadOnly,
+    @Nullable Provider provider) {
+
+  public CalendarAccessInfo accessInfo() {
+    return new CalendarAccessInfo(orgId, isReadOnly);
+  }
+
+  public Optional<CalendarExternalId> tryGetExternalId() {
+    return Optional.ofNullable(externalId);
+  }
+
+  public Optional<AccountId> tryGetAccountId() {
+    return Optional.ofNullable(accountId);
+  }
+
+  public Optional<Provider> tryGetProvider() {
+    return Optional.ofNullable(provider);
+  }
+}
@@ -0,0 +1,205 @@
+package com.UoU.infra.db;
+
+import static com.UoU.infra.jooq.Tables.ACCOUNT;
+import static com.UoU.infra.jooq.Tables.CALENDAR;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.UoU.core.OrgId;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.calendars.CalendarExternalId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.infra.db.mapping.JooqAccountMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.DSLContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * In-process cache of calendar metadata and external id to id mappings, so that the sync tasks and
+ * event writes for the same calendars don't each query the calendar. This is only for use by the
+ * jooq repositories, which load through it and invalidate it on writes.
+ *
+ * <p>Only found calendars are cached, so creates don't need invalidation. Updates, links, and
+ * deletes invalidate the calendars on all nodes via redis pub/sub, which also removes their
+ * external id mappings since a deleted calendar's external id may be imported again with a new id.
+ * Like {@link AccessTokenCache}, single loads happen inside the cache's atomic compute for the key,
+ * and the ttl bounds how long a node can use old metadata if a broadcast is missed or a batch load
+ * races with a write.
+ *
+ * <p>Metrics are bound as cache.* with cache=calendar-metadata and cache=calendar-external-ids.
+ */
+@Service
+@Slf4j
+public class CalendarMetadataCache implements MeterBinder {
+  private static final String CACHE_NAME = "calendar-metadata";
+  private static final String EXTERNAL_IDS_CACHE_NAME = "calendar-external-ids";
+  private static final String INVALIDATE_CHANNEL = "calendar-metadata-invalidate";
+  private static final String INVALIDATE_SEPARATOR = "\n";
+
+  private final DSLContext dsl;
+  private final JooqAccountMapper accountMapper;
+  private final StringRedisTemplate redisTemplate;
+  private final boolean isEnabled;
+  private final Cache<CalendarId, CalendarMetadata> cache;
+  private final Cache<CalendarExternalId, CalendarId> idsByExternalId;
+
+  public CalendarMetadataCache(
+      CalendarMetadataCacheConfig config,
+      DSLContext dsl,
+      JooqAccountMapper accountMapper,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.dsl = dsl;
+    this.accountMapper = accountMapper;
+    this.redisTemplate = redisTemplate;
+    this.isEnabled = !config.ttl().isZero();
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(config.maxSize())
+        .expireAfterWrite(config.ttl())
+        .recordStats()
+        .build();
+    this.idsByExternalId = Caffeine.newBuilder()
+        .maximumSize(config.maxSize())
+        .expireAfterWrite(config.ttl())
+        .recordStats()
+        .build();
+
+    if (isEnabled) {
+      listenerContainer.addMessageListener(
+          (message, pattern) -> invalidateLocal(Arrays
+              .stream(new String(message.getBody(), StandardCharsets.UTF_8)
+                  .split(INVALIDATE_SEPARATOR))
+              .map(CalendarId::new)
+              .collect(Collectors.toSet())),
+          new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    CaffeineCacheMetrics.monitor(registry, idsByExternalId, EXTERNAL_IDS_CACHE_NAME);
+  }
+
+  /**
+   * Gets the metadata for the calendar, if it exists, from the cache or db.
+   */
+  public Optional<CalendarMetadata> get(CalendarId id) {
+    if (!isEnabled) {
+      return Optional.ofNullable(fetch(Set.of(id)).get(id));
+    }
+
+    return Optional.ofNullable(cache.get(id, x -> fetch(Set.of(x)).get(x)));
+  }
+
+  /**
+   * Gets the metadata for the calendars that exist, from the cache or with one db query for all
+   * the calendars that aren't cached.
+   */
+  public Map<CalendarId, CalendarMetadata> getAll(Collection<CalendarId> ids) {
+    if (!isEnabled) {
+      return fetch(ids);
+    }
+
+    return cache.getAll(ids, this::fetch);
+  }
+
+  /**
+   * Gets the calendar id for the external id, if it exists, from the cache or db.
+   */
+  public Optional<CalendarId> getId(CalendarExternalId externalId) {
+    if (!isEnabled) {
+      return Optional.ofNullable(fetchId(externalId));
+    }
+
+    return Optional.ofNullable(idsByExternalId.get(externalId, this::fetchId));
+  }
+
+  /**
+   * Invalidates the calendars on this node and, via pub/sub, on all other nodes.
+   *
+   * <p>This should be called after the changes to the calendars have been committed.
+   */
+  public void invalidate(Collection<CalendarId> ids) {
+    if (!isEnabled || ids.isEmpty()) {
+      return;
+    }
+
+    invalidateLocal(Set.copyOf(ids));
+
+    try {
+      redisTemplate.convertAndSend(INVALIDATE_CHANNEL, ids.stream()
+          .map(x -> x.value())
+          .collect(Collectors.joining(INVALIDATE_SEPARATOR)));
+    } catch (DataAccessException ex) {
+      log.warn("Calendar metadata cache invalidation broadcast failed for calendars: {}", ids, ex);
+    }
+  }
+
+  private void invalidateLocal(Set<CalendarId> ids) {
+    cache.invalidateAll(ids);
+
+    // External ids are only mapped for live calendars, so the scan only matters after deletes,
+    // and it's cheap compared to the db writes that cause invalidations.
+    val externalIds = idsByExternalId.asMap().entrySet().stream()
+        .filter(x -> ids.contains(x.getValue()))
+        .map(x -> x.getKey())
+        .toList();
+    idsByExternalId.invalidateAll(externalIds);
+  }
+
+  private Map<CalendarId, CalendarMetadata> fetch(Iterable<? extends CalendarId> ids) {
+    val idValues = new ArrayList<String>();
+    ids.forEach(x -> idValues.add(x.value()));
+
+    return dsl
+        .select(
+            CALENDAR.ID,
+            CALENDAR.EXTERNAL_ID,
+            CALENDAR.ACCOUNT_ID,
+            CALENDAR.ORG_ID,
+            CALENDAR.TIMEZONE,
+            CALENDAR.IS_READ_ONLY,
+            ACCOUNT.AUTH_METHOD)
+        .from(CALENDAR)
+        .leftJoin(ACCOUNT).on(ACCOUNT.ID.eq(CALENDAR.ACCOUNT_ID))
+        .where(CALENDAR.ID.in(idValues))
+        .fetchMap(
+            x -> new CalendarId(x.value1()),
+            x -> new CalendarMetadata(
+                new CalendarId(x.value1()),
+                Optional.ofNullable(x.value2()).map(CalendarExternalId::new).orElse(null),
+                Optional.ofNullable(x.value3()).map(AccountId::new).orElse(null),
+                new OrgId(x.value4()),
+                x.value5(),
+                x.value6(),
+                Optional.ofNullable(x.value7())
+                    .map(authMethod -> accountMapper.toModelEnum(authMethod).getProvider())
+                    .orElse(null)));
+  }
+
+  private CalendarId fetchId(CalendarExternalId externalId) {
+    return dsl
+        .select(CALENDAR.ID)
+        .from(CALENDAR)
+        .where(CALENDAR.EXTERNAL_ID.eq(externalId.value()))
+        .fetchOptional(x -> new CalendarId(x.value1()))
+        .orElse(null);
+  }
+}
@@ -0,0 +1,23 @@
+package com.UoU.infra.db;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link CalendarMetadataCache}.
+ *
+ * @param maxSize Max number of calendars cached per node.
+ * @param ttl     How long calendar metadata is cached. Zero disables caching.
+ */
+@ConfigurationProperties("calendars.metadata-cache")
+public record CalendarMetadataCacheConfig(int maxSize, @NonNull Duration ttl) {
+  public CalendarMetadataCacheConfig {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("Invalid maxSize: " + maxSize);
+    }
+    if (ttl.isNegative()) {
+      throw new IllegalArgumentException("Invalid ttl: " + ttl);
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.UoU.infra.db;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for bulk creating events via binary COPY in {@link JooqEventRepository#batchCreate}.
+ *
+ * @param enabled      Whether large batch creates use COPY instead of batch inserts.
+ * @param minBatchSize Min number of events in a batch create to use COPY, since batch inserts are
+ *                     just as fast for small batches and don't need staging tables.
+ */
+@ConfigurationProperties("event-bulk-copy")
+public record EventBulkCopyConfig(boolean enabled, int minBatchSize) {
+  public EventBulkCopyConfig {
+    if (minBatchSize <= 0) {
+      throw new IllegalArgumentException("Invalid minBatchSize: " + minBatchSize);
+    }
+  }
+}
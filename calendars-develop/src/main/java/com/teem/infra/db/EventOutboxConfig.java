@@ -0,0 +1,20 @@
+package com.UoU.infra.db;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link JooqEventOutbox}.
+ *
+ * @param enabled   Whether event writes add PUBLIC EventChanged messages to the outbox, instead of
+ *                  producing internal EventChanged messages to be enriched by a consumer.
+ * @param batchSize Max outbox messages relayed to kafka at once. Each relay run keeps relaying
+ *                  batches until the outbox is empty.
+ */
+@ConfigurationProperties("event-outbox")
+public record EventOutboxConfig(boolean enabled, int batchSize) {
+  public EventOutboxConfig {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Invalid batchSize: " + batchSize);
+    }
+  }
+}
@@ -21,6 +21,7 @@ import com.UoU.core.accounts.AccountRepository;
 import com.UoU.core.accounts.AccountUpdateRequest;
 import com.UoU.core.accounts.ServiceAccountId;
 import com.UoU.core.accounts.SyncState;
+import com.UoU.core.calendars.CalendarId;
 import com.UoU.infra.db.mapping.JooqAccountMapper;
 import com.UoU.infra.encryption.Encryptor;
 import com.UoU.infra.jooq.enums.AuthMethod;
@@ -43,6 +44,8 @@ public class JooqAccountRepository implements AccountRepository {
   private final DSLContext dsl;
   private final JooqAccountMapper mapper;
   private final Encryptor encryptor;
+  private final AccessTokenCache accessTokenCache;
+  private final CalendarMetadataCache calendarMetadataCache;
   private final ExceptionHelper exceptionHelper = new ExceptionHelper(Account.class);
 
   @Override
@@ -182,6 +185,10 @@ public class JooqAccountRepository implements AccountRepository {
 
   @Override
   public SecretString getAccessToken(AccountId id) {
+    return accessTokenCache.get(id, () -> fetchAccessToken(id));
+  }
+
+  private SecretString fetchAccessToken(AccountId id) {
     return exceptionHelper.throwNotFoundIfNoData(() -> Fluent.of(dsl
             .select(ACCOUNT.ACCESS_TOKEN_ENCRYPTED)
             .from(ACCOUNT)
@@ -236,6 +243,7 @@ public class JooqAccountRepository implements AccountRepository {
   public void update(AccountUpdateRequest request) {
     val record = mapper.toRecord(request, encryptor.encrypt(request.accessToken().value()));
     dsl.executeUpdate(record);
+    accessTokenCache.invalidate(request.id());
   }
 
   public void updateAccessToken(AccountId id, SecretString accessToken) {
@@ -247,6 +255,7 @@ public class JooqAccountRepository implements AccountRepository {
         .where(ACCOUNT.ID.eq(id.value()))
         .execute()
     );
+    accessTokenCache.invalidate(id);
   }
 
   public void updateSyncState(AccountId id, SyncState syncState) {
@@ -264,7 +273,7 @@ public class JooqAccountRepository implements AccountRepository {
     // using jooq's default.
     // See: https://www.jooq.org/doc/latest/manual/sql-execution/transaction-management/
 
-    dsl.transaction(config -> {
+    val calendarIds = dsl.transactionResult(config -> {
       val txDsl = config.dsl();
 
       txDsl
@@ -280,10 +289,12 @@ public class JooqAccountRepository implements AccountRepository {
           .and(CALENDAR.ACCOUNT_ID.eq(id.value()))
           .execute();
 
-      txDsl
+      val deletedCalendarIds = txDsl
           .deleteFrom(CALENDAR)
           .where(CALENDAR.ACCOUNT_ID.eq(id.value()))
-          .execute();
+          .returning(CALENDAR.ID)
+          .fetch()
+          .map(x -> new CalendarId(x.getId()));
 
       txDsl.deleteFrom(ACCOUNT_ERROR)
           .where(ACCOUNT_ERROR.ACCOUNT_ID.eq(id.value()))
@@ -293,7 +304,12 @@ public class JooqAccountRepository implements AccountRepository {
           .deleteFrom(ACCOUNT)
           .where(ACCOUNT.ID.eq(id.value()))
           .execute());
+
+      return deletedCalendarIds;
     });
+
+    accessTokenCache.invalidate(id);
+    calendarMetadataCache.invalidate(calendarIds);
   }
 
   @Override
@@ -1,16 +1,22 @@
 package com.UoU.infra.db;
 
+import static com.UoU.infra.jooq.tables.BusySpan.BUSY_SPAN;
 import static com.UoU.infra.jooq.tables.Calendar.CALENDAR;
 import static com.UoU.infra.jooq.tables.Event.EVENT;
-import static org.jooq.impl.DSL.if_;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.notExists;
+import static org.jooq.impl.DSL.selectOne;
 
+import com.UoU.core.OrgId;
 import com.UoU.core.TimeSpan;
 import com.UoU.core.calendars.AvailabilityRepository;
 import com.UoU.core.calendars.AvailabilityRequest;
+import com.UoU.core.calendars.CalendarEventSpans;
 import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.events.EventTimeSpan;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,10 +25,14 @@ import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
+import lombok.val;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.SelectField;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Service;
 
 /**
@@ -45,12 +55,21 @@ import org.springframework.stereotype.Service;
  * event abuts start (FREE):       ---
  * event abuts end (FREE):                    ---
  * </pre>
+ *
+ * <p>Queries use the busy_span table, which a db trigger keeps in sync with every event write.
+ * It has each event span as a closed range with a GiST index on calendar_id and span, so overlap
+ * queries for a few calendars only read the candidate spans. The closed range also finds
+ * zero-length events and events that touch the window, and the exact start/end comparisons above
+ * are then checked on the start_at and end_at copied from the event.
+ *
+ * <p>API availability queries are replica-eligible (see {@link ReadReplica}), but listing spans for
+ * the availability index reads the primary so a reload after an invalidation is never stale.
  */
 @Service
 @AllArgsConstructor
 public class JooqAvailabilityRepository implements AvailabilityRepository {
-
   private final DSLContext dsl;
+  private final ReadReplica readReplica;
 
   /**
    * Returns boolean availability for the passed calendars and timespan.
@@ -59,12 +78,15 @@ public class JooqAvailabilityRepository implements AvailabilityRepository {
    */
   @Override
   public Map<CalendarId, Boolean> getAvailability(AvailabilityRequest request) {
-    return dsl
-        .selectDistinct(CALENDAR.ID, if_(EVENT.ID.isNull(), true, false).as("is_available"))
+    return readReplica.readDsl()
+        .select(
+            CALENDAR.ID,
+            field(notExists(selectOne()
+                .from(BUSY_SPAN)
+                .where(BUSY_SPAN.CALENDAR_ID.eq(CALENDAR.ID))
+                .and(spanOverlaps(request.timeSpan()))))
+                .as("is_available"))
         .from(CALENDAR)
-        .leftJoin(EVENT).on(EVENT.CALENDAR_ID.eq(CALENDAR.ID)
-            .and(EVENT.START_AT.lessThan(request.timeSpan().endAtUtcOffset()))
-            .and(EVENT.END_AT.greaterThan(request.timeSpan().startAtUtcOffset())))
         .where(Conditions.orgMatches(CALENDAR, request.orgId()))
         .and(CALENDAR.ID.in(request.calendarIdValues()))
         .stream()
@@ -100,42 +122,107 @@ public class JooqAvailabilityRepository implements AvailabilityRepository {
             record.getValue(EVENT.TITLE)));
   }
 
+  /**
+   * Lists event spans that overlap the timespan for each calendar, for the availability index.
+   *
+   * <p>Unlike the other methods, this doesn't filter by org or exclude recurrence masters, so the
+   * index can do both per request. Calendars that don't exist will be excluded from the results.
+   */
+  @Override
+  public Map<CalendarId, CalendarEventSpans> listEventSpans(
+      Collection<CalendarId> calendarIds, TimeSpan timeSpan) {
+
+    val map = new HashMap<CalendarId, CalendarEventSpans>();
+    dsl
+        .select(
+            CALENDAR.ID,
+            CALENDAR.ORG_ID,
+            BUSY_SPAN.START_AT,
+            BUSY_SPAN.END_AT,
+            BUSY_SPAN.IS_RECURRENCE_MASTER)
+        .from(CALENDAR)
+        .leftJoin(BUSY_SPAN).on(BUSY_SPAN.CALENDAR_ID.eq(CALENDAR.ID)
+            .and(spanOverlaps(timeSpan)))
+        .where(CALENDAR.ID.in(calendarIds.stream().map(x -> x.value()).toList()))
+        .fetch()
+        .forEach(record -> {
+          val spans = map.computeIfAbsent(
+              new CalendarId(record.value1()),
+              id -> new CalendarEventSpans(
+                  new OrgId(record.value2()), new ArrayList<>(), new ArrayList<>()));
+
+          if (record.value3() != null) {
+            val span = new TimeSpan(record.value3(), record.value4());
+            if (record.value5()) {
+              spans.recurrenceMasterSpans().add(span);
+            } else {
+              spans.eventSpans().add(span);
+            }
+          }
+        });
+
+    return map;
+  }
+
   /**
    * Fetches busy periods, optionally with extra event fields.
    *
    * <p>Result records will have at least these fields (plus any extra you pass):
    * - CALENDAR.ID
-   * - EVENT.START_AT
-   * - EVENT.END_AT
+   * - BUSY_SPAN.START_AT
+   * - BUSY_SPAN.END_AT
+   *
+   * <p>The event table is only joined if extra event fields are passed.
    */
   private Result<Record> fetchBusyPeriods(
       AvailabilityRequest request, SelectField<?>... extraEventFields) {
 
-    return dsl
+    val spans = CALENDAR
+        .leftJoin(BUSY_SPAN).on(BUSY_SPAN.CALENDAR_ID.eq(CALENDAR.ID)
+            .and(spanOverlaps(request.timeSpan()))
+            // Exclude recurrence masters because they will duplicate expanded instances:
+            .and(BUSY_SPAN.IS_RECURRENCE_MASTER.isFalse()));
+    final Table<?> from = extraEventFields.length == 0
+        ? spans
+        : spans.leftJoin(EVENT).on(EVENT.ID.eq(BUSY_SPAN.EVENT_ID));
+
+    return readReplica.readDsl()
         .selectDistinct(Stream
             .concat(
-                Stream.of(CALENDAR.ID, EVENT.START_AT, EVENT.END_AT),
+                Stream.of(CALENDAR.ID, BUSY_SPAN.START_AT, BUSY_SPAN.END_AT),
                 Stream.of(extraEventFields))
             .toList())
-        .from(CALENDAR)
-        .leftJoin(EVENT).on(EVENT.CALENDAR_ID.eq(CALENDAR.ID)
-            .and(EVENT.START_AT.lessThan(request.timeSpan().endAtUtcOffset()))
-            .and(EVENT.END_AT.greaterThan(request.timeSpan().startAtUtcOffset()))
-            // Exclude recurrence masters because they will duplicate expanded instances:
-            .and(EVENT.RECURRENCE.isNull()))
+        .from(from)
         .where(Conditions.orgMatches(CALENDAR, request.orgId()))
         .and(CALENDAR.ID.in(request.calendarIdValues()))
-        .orderBy(CALENDAR.ID, EVENT.START_AT, EVENT.END_AT)
+        .orderBy(CALENDAR.ID, BUSY_SPAN.START_AT, BUSY_SPAN.END_AT)
         .fetch();
   }
 
+  /**
+   * Condition for busy spans that overlap the timespan.
+   *
+   * <p>The closed range overlap uses the GiST index to find candidates, which are a superset of
+   * the matches, and the start/end comparisons then match exactly like a query on event would.
+   */
+  private static Condition spanOverlaps(TimeSpan timeSpan) {
+    val start = DSL.val(timeSpan.startAtUtcOffset());
+    val end = DSL.val(timeSpan.endAtUtcOffset());
+    return DSL
+        .condition(
+            "{0} && tstzrange(least({1}, {2}), greatest({1}, {2}), '[]')",
+            BUSY_SPAN.SPAN, start, end)
+        .and(BUSY_SPAN.START_AT.lessThan(end))
+        .and(BUSY_SPAN.END_AT.greaterThan(start));
+  }
+
   /**
    * Creates a busy periods map of the desired type by applying the mapper to result timeSpans.
    *
    * <p>This requires the Result records to have these minimum fields in order:
    * - CALENDAR.ID
-   * - EVENT.START_AT
-   * - EVENT.END_AT
+   * - BUSY_SPAN.START_AT
+   * - BUSY_SPAN.END_AT
    */
   private <R extends Record, T> Map<CalendarId, List<T>> createBusyPeriodsMap(
       Result<R> result,
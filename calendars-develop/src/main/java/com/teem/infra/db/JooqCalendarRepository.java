@@ -1,6 +1,5 @@
 package com.UoU.infra.db;
 
-import static com.UoU.infra.jooq.Tables.ACCOUNT;
 import static com.UoU.infra.jooq.Tables.CALENDAR;
 import static com.UoU.infra.jooq.Tables.EVENT;
 import static com.UoU.infra.jooq.Tables.PARTICIPANT;
@@ -18,44 +17,78 @@ import com.UoU.core.calendars.CalendarExternalId;
 import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.calendars.CalendarRepository;
 import com.UoU.core.calendars.CalendarUpdateRequest;
-import com.UoU.infra.db.mapping.JooqAccountMapper;
 import com.UoU.infra.db.mapping.JooqCalendarMapper;
 import com.UoU.infra.jooq.tables.records.CalendarRecord;
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Supplier;
+import java.util.Set;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
-import org.jooq.Record2;
 import org.jooq.SelectConditionStep;
-import org.jooq.SelectSeekStep1;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class JooqCalendarRepository implements CalendarRepository {
+  private static final Set<String> REGION_IDS = ZoneId.getAvailableZoneIds();
+
+  // Must match the calendar_syncable_timezone_id_idx partial index predicate so it can be used.
+  private static final Condition SYNCABLE_CONDITION = CALENDAR.ACCOUNT_ID.isNotNull()
+      .and(CALENDAR.EXTERNAL_ID.isNotNull())
+      .and(CALENDAR.IS_READ_ONLY.eq(false)); // we don't sync read-only calendars
+
+  // Loose index scan: Postgres can't skip through an index for DISTINCT, so this recursive query
+  // jumps from each timezone to the next with one index lookup each, rather than reading all rows.
+  private static final String SELECT_SYNCABLE_TIMEZONES_SQL = """
+      WITH RECURSIVE tz AS (
+        (SELECT timezone FROM calendar
+         WHERE account_id IS NOT NULL AND external_id IS NOT NULL AND is_read_only = false
+         ORDER BY timezone LIMIT 1)
+        UNION ALL
+        SELECT (SELECT c.timezone FROM calendar c
+                WHERE c.account_id IS NOT NULL AND c.external_id IS NOT NULL
+                  AND c.is_read_only = false AND c.timezone > tz.timezone
+                ORDER BY c.timezone LIMIT 1)
+        FROM tz
+        WHERE tz.timezone IS NOT NULL
+      )
+      SELECT timezone FROM tz WHERE timezone IS NOT NULL
+      """;
+
   private final DSLContext dsl;
-  private final JooqAccountMapper accountMapper;
+  private final ReadReplica readReplica;
   private final JooqCalendarMapper calendarMapper;
+  private final CalendarMetadataCache metadataCache;
   private final ExceptionHelper exceptionHelper = new ExceptionHelper(Calendar.class);
 
   @Override
   public Stream<Calendar> listByAccount(
       OrgId orgId, AccountId accountId, boolean includeReadOnly) {
 
-    val records = selectAccounts(orgId, accountId, includeReadOnly)
+    val records = selectAccounts(dsl, orgId, accountId, includeReadOnly)
         .orderBy(CALENDAR.CREATED_AT, CALENDAR.ID)
         .fetch();
 
     return records.stream().map(calendarMapper::toModel);
   }
 
+  /**
+   * Lists calendars by account for the API, which is replica-eligible (see {@link ReadReplica}).
+   */
   @Override
   public PagedItems<Calendar> listByAccount(
       OrgId orgId, AccountId accountId, boolean includeReadOnly, PageParams page) {
@@ -72,7 +105,7 @@ public class JooqCalendarRepository implements CalendarRepository {
         });
 
     val records = Fluent
-        .of(selectAccounts(orgId, accountId, includeReadOnly))
+        .of(selectAccounts(readReplica.readDsl(), orgId, accountId, includeReadOnly))
         .ifThenAlso(cursor, (query, cursorValue) -> query
             .and(CALENDAR.CREATED_AT.gt(cursorValue.getLeft())
                 .or(CALENDAR.CREATED_AT.eq(cursorValue.getLeft())
@@ -94,9 +127,9 @@ public class JooqCalendarRepository implements CalendarRepository {
         nextCursor.orElse(null));
   }
 
-  private SelectConditionStep<CalendarRecord> selectAccounts(
-      OrgId orgId, AccountId accountId, boolean includeReadOnly) {
-    return Fluent.of(dsl
+  private static SelectConditionStep<CalendarRecord> selectAccounts(
+      DSLContext ctx, OrgId orgId, AccountId accountId, boolean includeReadOnly) {
+    return Fluent.of(ctx
             .selectFrom(CALENDAR)
             .where(Conditions.orgMatches(CALENDAR, orgId))
             .and(CALENDAR.ACCOUNT_ID.eq(accountId.value())))
@@ -110,6 +143,11 @@ public class JooqCalendarRepository implements CalendarRepository {
    * <p>Minutes are ignored, so a calendar would be at hour 0 from 00:00 until 00:59.
    *
    * <p>DataConfig.Calendars.DEFAULT_TIMEZONE will be used for calendars without a timezone.
+   *
+   * <p>Rather than converting the current time for every calendar row, this finds the distinct
+   * timezones of syncable calendars with a loose index scan, picks the ones at the localHour, and
+   * then walks the calendars in each of those timezones by id. All the queries use the partial
+   * calendar_syncable_timezone_id_idx index, so each run reads only the matching calendars.
    */
   @Override
   public Stream<List<Pair<AccountId, CalendarId>>> listSyncableCalendarsAtLocalHour(
@@ -123,31 +161,82 @@ public class JooqCalendarRepository implements CalendarRepository {
       throw new IllegalArgumentException("Batch size must be greater than 0.");
     }
 
-    val calendar = CALENDAR.as("c");
-    final Supplier<SelectSeekStep1<Record2<String, String>, String>> query = () -> dsl
-        .select(calendar.ACCOUNT_ID, calendar.ID)
-        .from(calendar)
-        .where(calendar.ACCOUNT_ID.isNotNull())
-        .and(calendar.EXTERNAL_ID.isNotNull())
-        .and(calendar.IS_READ_ONLY.eq(false)) // we don't sync read-only calendars
-        .and("EXTRACT(HOUR FROM NOW() AT TIME ZONE c.timezone) = ?", localHour)
-        .orderBy(calendar.ID);
-
-    // Return a lazy stream of batches by executing the query for each next batch on iteration.
-    // This continues while the returned rows >= batch size, which means there could be more.
-    // Each batch query is created by using the last calendar id from the prev batch as a cursor.
+    // Return a lazy stream of batches by executing the queries for each next batch on iteration.
+    // Batches are filled across timezones, so the remaining timezones are consumed as we go, and
+    // the last calendar id from the prev batch is the cursor within the current timezone.
+    val timezones = new ArrayDeque<>(listSyncableTimezonesAtLocalHour(localHour, Instant.now()));
     return Stream
         .iterate(
-            query.get().limit(batchSize).fetch(), // seed
-            batch -> batch != null && batch.isNotEmpty(), // has next?
-            batch -> batch.size() < batchSize ? null : query.get() // create next
-                .seekAfter(batch.get(batch.size() - 1).getValue(calendar.ID))
-                .limit(batchSize)
-                .fetch())
-        .filter(batch -> batch != null && batch.isNotEmpty())
-        .map(batch -> batch.map(record -> Pair.of(
-            new AccountId(record.getValue(calendar.ACCOUNT_ID)),
-            new CalendarId(record.getValue(calendar.ID)))));
+            fetchSyncableCalendarBatch(timezones, null, batchSize), // seed
+            batch -> !batch.isEmpty(), // has next?
+            batch -> fetchSyncableCalendarBatch( // create next
+                timezones, batch.get(batch.size() - 1).getRight().value(), batchSize));
+  }
+
+  /**
+   * Fetches the next batch of syncable calendars in the timezones, removing finished timezones.
+   */
+  private List<Pair<AccountId, CalendarId>> fetchSyncableCalendarBatch(
+      Deque<String> timezones, @Nullable String afterId, int batchSize) {
+
+    val batch = new ArrayList<Pair<AccountId, CalendarId>>(batchSize);
+    var cursor = afterId;
+    while (batch.size() < batchSize && !timezones.isEmpty()) {
+      val limit = batchSize - batch.size();
+      val records = Fluent
+          .of(dsl
+              .select(CALENDAR.ACCOUNT_ID, CALENDAR.ID)
+              .from(CALENDAR)
+              .where(SYNCABLE_CONDITION)
+              .and(CALENDAR.TIMEZONE.eq(timezones.peek())))
+          .ifThenAlso(Optional.ofNullable(cursor), (x, id) -> x.and(CALENDAR.ID.gt(id)))
+          .get()
+          .orderBy(CALENDAR.ID)
+          .limit(limit)
+          .fetch();
+
+      records.forEach(record -> batch.add(Pair.of(
+          new AccountId(record.value1()), new CalendarId(record.value2()))));
+
+      if (records.size() < limit) {
+        timezones.poll();
+        cursor = null;
+      } else {
+        cursor = records.get(records.size() - 1).value2();
+      }
+    }
+
+    return batch;
+  }
+
+  /**
+   * Lists the distinct timezones of syncable calendars that are currently at the localHour.
+   *
+   * <p>Java and Postgres use the same tz database for region ids like America/Denver, so those are
+   * checked in java, including DST. Anything else (like abbreviations or POSIX-style offsets, which
+   * Postgres interprets differently than java) is checked by Postgres, like the per-row query was.
+   */
+  private List<String> listSyncableTimezonesAtLocalHour(int localHour, Instant now) {
+    val timezones = new ArrayList<String>();
+    val otherTimezones = new ArrayList<String>();
+    dsl.resultQuery(SELECT_SYNCABLE_TIMEZONES_SQL).fetch(0, String.class).forEach(timezone -> {
+      if (!REGION_IDS.contains(timezone)) {
+        otherTimezones.add(timezone);
+      } else if (now.atZone(ZoneId.of(timezone)).getHour() == localHour) {
+        timezones.add(timezone);
+      }
+    });
+
+    if (!otherTimezones.isEmpty()) {
+      timezones.addAll(dsl
+          .resultQuery(
+              "SELECT tz FROM unnest(?::text[]) AS tz "
+                  + "WHERE EXTRACT(HOUR FROM ?::timestamptz AT TIME ZONE tz) = ?",
+              otherTimezones.toArray(String[]::new), now.atOffset(ZoneOffset.UTC), localHour)
+          .fetch(0, String.class));
+    }
+
+    return timezones;
   }
 
   @Override
@@ -176,65 +265,42 @@ public class JooqCalendarRepository implements CalendarRepository {
         .fetchOptional(calendarMapper::toModel);
   }
 
+  /**
+   * Gets the calendar id for the external id.
+   *
+   * <p>This and the other small, rarely-changing calendar facts below are cached (see
+   * {@link CalendarMetadataCache}) and invalidated by the writes in this repository.
+   */
   @Override
   public Optional<CalendarId> tryGetId(CalendarExternalId externalId) {
-    return dsl
-        .select(CALENDAR.ID)
-        .from(CALENDAR)
-        .where(CALENDAR.EXTERNAL_ID.eq(externalId.value()))
-        .fetchOptional(x -> x.value1())
-        .map(CalendarId::new);
+    return metadataCache.getId(externalId);
   }
 
   @Override
   public Optional<CalendarExternalId> tryGetExternalId(CalendarId id) {
-    return dsl
-        .select(CALENDAR.EXTERNAL_ID)
-        .from(CALENDAR)
-        .where(CALENDAR.ID.eq(id.value()))
-        .fetchOptional(x -> x.value1())
-        .map(CalendarExternalId::new);
+    return metadataCache.get(id).flatMap(x -> x.tryGetExternalId());
   }
 
   @Override
   public Optional<CalendarAccessInfo> tryGetAccessInfo(CalendarId id) {
-    return dsl
-        .select(CALENDAR.ORG_ID, CALENDAR.IS_READ_ONLY)
-        .from(CALENDAR)
-        .where(CALENDAR.ID.eq(id.value()))
-        .fetchOptional(x -> new CalendarAccessInfo(new OrgId(x.value1()), x.value2()));
+    return metadataCache.get(id).map(x -> x.accessInfo());
   }
 
   @Override
   public Optional<AccountId> getAccountId(CalendarId id) {
-    return Optional.ofNullable(dsl
-            .select(CALENDAR.ACCOUNT_ID)
-            .from(CALENDAR)
-            .where(CALENDAR.ID.eq(id.value()))
-            .fetchOne())
-        .map(x -> x.value1())
-        .map(AccountId::new);
+    return metadataCache.get(id).flatMap(x -> x.tryGetAccountId());
   }
 
   @Override
   public Optional<Provider> getAccountProvider(CalendarId id) {
-    return Optional.ofNullable(dsl
-            .select(ACCOUNT.AUTH_METHOD)
-            .from(ACCOUNT)
-            .join(CALENDAR).on(ACCOUNT.ID.eq(CALENDAR.ACCOUNT_ID))
-            .where(CALENDAR.ID.eq(id.value()))
-            .fetchOne())
-        .map(x -> accountMapper.toModelEnum(x.value1()).getProvider());
+    return metadataCache.get(id).flatMap(x -> x.tryGetProvider());
   }
 
   @Override
   public String getTimezone(CalendarId id) {
-    return exceptionHelper.throwNotFoundIfNoData(() -> dsl
-        .select(CALENDAR.TIMEZONE)
-        .from(CALENDAR)
-        .where(CALENDAR.ID.eq(id.value()))
-        .fetchSingle()
-        .value1());
+    return metadataCache.get(id)
+        .orElseThrow(exceptionHelper::notFound)
+        .timezone();
   }
 
   @Override
@@ -253,6 +319,7 @@ public class JooqCalendarRepository implements CalendarRepository {
     val record = calendarMapper.toRecord(request);
     exceptionHelper.throwNotFoundIfNoRowsAffected(
         dsl.executeUpdate(record));
+    metadataCache.invalidate(List.of(request.id()));
   }
 
   @Override
@@ -267,6 +334,7 @@ public class JooqCalendarRepository implements CalendarRepository {
         .and(CALENDAR.ACCOUNT_ID.isNull().or(CALENDAR.ACCOUNT_ID.eq(accountId.value())))
         .and(CALENDAR.EXTERNAL_ID.isNull().or(CALENDAR.EXTERNAL_ID.eq(externalId.value())))
         .execute());
+    metadataCache.invalidate(List.of(id));
   }
 
   @Override
@@ -291,6 +359,7 @@ public class JooqCalendarRepository implements CalendarRepository {
               .where(CALENDAR.ID.eq(id.value()))
               .execute());
     });
+    metadataCache.invalidate(List.of(id));
   }
 
   @Override
@@ -316,6 +385,7 @@ public class JooqCalendarRepository implements CalendarRepository {
 
     if (!records.isEmpty()) {
       dsl.batchUpdate(records).execute();
+      metadataCache.invalidate(records.stream().map(x -> new CalendarId(x.getId())).toList());
     }
   }
 
@@ -340,5 +410,6 @@ public class JooqCalendarRepository implements CalendarRepository {
           .batchDelete(calendarRecords)
           .execute();
     });
+    metadataCache.invalidate(ids);
   }
 }
@@ -0,0 +1,200 @@
+package com.UoU.infra.db;
+
+import static com.UoU.infra.jooq.Tables.EVENT_OUTBOX;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+
+import com.UoU.core.OrgId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.DataSource;
+import com.UoU.core.events.Event;
+import com.UoU.core.events.EventId;
+import com.UoU.infra.avro.publicevents.EventChangeType;
+import com.UoU.infra.avro.publicevents.EventChanged;
+import com.UoU.infra.jooq.tables.records.EventOutboxRecord;
+import com.UoU.infra.jooq.tables.records.EventRecord;
+import com.UoU.infra.kafka.mapping.PublicEventMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.val;
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.impl.DefaultConnectionProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * Transactional outbox for PUBLIC EventChanged messages.
+ *
+ * <p>{@link JooqEventRepository} adds the fully enriched messages in the same transaction as the
+ * event writes, so a message is stored if and only if the change is committed, and no consumer
+ * has to re-read the events to enrich them. Deletes are added in the same transaction as the
+ * deletes too, so they can't overtake an earlier create or update for the same event and aren't
+ * lost if the process dies right after the delete. The messages are relayed to kafka in id order.
+ *
+ * <p>Relaying is at-least-once: messages are only deleted after they're sent, so if the delete
+ * fails or the node dies after sending, they'll be sent again. Only one node relays at a time, via
+ * a session-level advisory lock, so messages for the same event are never sent out of order.
+ */
+@Service
+public class JooqEventOutbox {
+  private static final long RELAY_LOCK_KEY = 0x6576656e746f7574L; // "eventout"
+
+  private final EventOutboxConfig config;
+  private final DSLContext dsl;
+  private final PublicEventMapper mapper;
+
+  public JooqEventOutbox(EventOutboxConfig config, DSLContext dsl, PublicEventMapper mapper) {
+    this.config = config;
+    this.dsl = dsl;
+    this.mapper = mapper;
+  }
+
+  public boolean isEnabled() {
+    return config.enabled();
+  }
+
+  /**
+   * Adds messages for the events, which must be done within the transaction that changed them.
+   */
+  void add(DSLContext txDsl, ChangeType changeType, Collection<Event> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+
+    val records = events.stream()
+        .map(event -> {
+          val message = mapper.toEventChangedAvro(
+              event, changeType.avroValue, changeType.changeSourceSelector.apply(event));
+          val record = new EventOutboxRecord();
+          record.setEventId(event.id().value());
+          record.setPayload(encode(message));
+          return record;
+        })
+        .toList();
+
+    txDsl.batchInsert(records).execute();
+  }
+
+  /**
+   * Adds deleted messages for the deleted event records, which must be done within the transaction
+   * that deleted them. The records only need id, org_id, and calendar_id, as from DELETE RETURNING.
+   */
+  void addDeleted(DSLContext txDsl, Collection<EventRecord> deleted, DataSource dataSource) {
+    if (deleted.isEmpty()) {
+      return;
+    }
+
+    val records = deleted.stream()
+        .map(event -> {
+          val message = mapper.toEventChangedDeletedAvro(
+              new OrgId(event.getOrgId()),
+              new CalendarId(event.getCalendarId()),
+              new EventId(event.getId()),
+              dataSource);
+          val record = new EventOutboxRecord();
+          record.setEventId(event.getId());
+          record.setPayload(encode(message));
+          return record;
+        })
+        .toList();
+
+    txDsl.batchInsert(records).execute();
+  }
+
+  /**
+   * Relays messages to the publisher in batches, in id order, until the outbox is empty.
+   *
+   * <p>Each batch is deleted by id after the publisher succeeds. The publisher must throw if any
+   * message fails to send, so the batch is kept for the next relay. Returns the number of messages
+   * relayed, which is zero if another node is already relaying.
+   *
+   * <p>No transaction is held while the publisher waits. Instead, a session-level advisory lock is
+   * held on one connection, which postgres releases if the connection dies, and each statement
+   * commits on its own.
+   */
+  public int relay(Consumer<List<EventChanged>> publisher) {
+    return dsl.connectionResult(connection -> {
+      val connectionDsl = dsl.configuration()
+          .derive(new DefaultConnectionProvider(connection))
+          .dsl();
+
+      val isLocked = connectionDsl
+          .select(field("pg_try_advisory_lock({0})", Boolean.class, inline(RELAY_LOCK_KEY)))
+          .fetchSingle()
+          .value1();
+      if (!isLocked) {
+        return 0;
+      }
+
+      try {
+        var count = 0;
+        Result<EventOutboxRecord> records;
+        do {
+          records = connectionDsl
+              .selectFrom(EVENT_OUTBOX)
+              .orderBy(EVENT_OUTBOX.ID)
+              .limit(config.batchSize())
+              .fetch();
+          if (records.isEmpty()) {
+            break;
+          }
+
+          publisher.accept(records.map(x -> decode(x.getPayload())));
+
+          // Delete by exact ids, since rows with lower ids may be committed later by other writers.
+          connectionDsl
+              .deleteFrom(EVENT_OUTBOX)
+              .where(EVENT_OUTBOX.ID.in(records.map(x -> x.getId())))
+              .execute();
+          count += records.size();
+        } while (records.size() >= config.batchSize());
+
+        return count;
+      } finally {
+        connectionDsl
+            .select(field("pg_advisory_unlock({0})", Boolean.class, inline(RELAY_LOCK_KEY)))
+            .fetch();
+      }
+    });
+  }
+
+  private static byte[] encode(EventChanged message) {
+    try {
+      val buffer = message.toByteBuffer();
+      val bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed encoding EventChanged for outbox", ex);
+    }
+  }
+
+  private static EventChanged decode(byte[] payload) {
+    try {
+      return EventChanged.fromByteBuffer(ByteBuffer.wrap(payload));
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed decoding EventChanged from outbox", ex);
+    }
+  }
+
+  /**
+   * Type of change for outbox messages, which determines the message change type and source.
+   */
+  enum ChangeType {
+    CREATED(EventChangeType.created, Event::createdFrom),
+    UPDATED(EventChangeType.updated, Event::updatedFrom);
+
+    private final EventChangeType avroValue;
+    private final Function<Event, DataSource> changeSourceSelector;
+
+    ChangeType(EventChangeType avroValue, Function<Event, DataSource> changeSourceSelector) {
+      this.avroValue = avroValue;
+      this.changeSourceSelector = changeSourceSelector;
+    }
+  }
+}
@@ -9,6 +9,7 @@ import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
+import static org.jooq.impl.DSL.selectOne;
 
 import com.UoU.core.Fluent;
 import com.UoU.core.Noop;
@@ -32,14 +33,19 @@ import com.UoU.infra.db.mapping.JooqEventMapper;
 import com.UoU.infra.db.mapping.JooqParticipantMapper;
 import com.UoU.infra.jooq.tables.records.EventRecord;
 import com.UoU.infra.jooq.tables.records.ParticipantRecord;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
@@ -49,22 +55,42 @@ import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.jooq.Result;
+import org.jooq.RowN;
 import org.jooq.SelectConditionStep;
+import org.jooq.Table;
+import org.jooq.TableRecord;
 import org.jooq.UpdateSetMoreStep;
+import org.jooq.impl.DSL;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 @Service
 @AllArgsConstructor
 @Slf4j
 public class JooqEventRepository implements EventRepository {
+  /**
+   * Max bind values per statement, which is a little under the postgres protocol limit of 32767.
+   */
+  private static final int MAX_BIND_VALUES = 32_000;
+
   private final DSLContext dsl;
   private final JooqEventMapper eventMapper;
   private final JooqParticipantMapper participantMapper;
+  private final JooqEventOutbox outbox;
+  private final EventBulkCopyConfig bulkCopyConfig;
+  private final ReadReplica readReplica;
+  private final CalendarMetadataCache calendarMetadataCache;
   private final ExceptionHelper exceptionHelper = new ExceptionHelper(Event.class);
 
+  /**
+   * Lists events for the API, which is replica-eligible (see {@link ReadReplica}).
+   */
   @Override
   public PagedItems<Event> list(EventQuery query) {
+    val readDsl = readReplica.readDsl();
     // Cursor paging fields: START_AT, ID, filterChecksum
     // The filterChecksum is used to make sure filtering remains stable through the pages.
     val cursor = Cursor.decoder().decodeThreeAndMap(
@@ -76,7 +102,7 @@ public class JooqEventRepository implements EventRepository {
     val when = Optional.ofNullable(query.when());
 
     val events = Fluent
-        .of(selectEvents(query.orgId(), query.calendarId()))
+        .of(selectEvents(readDsl, query.orgId(), query.calendarId()))
         .ifThenAlso(cursor, (x, cursorValue) -> x.and(
             EVENT.START_AT.gt(cursorValue.getLeft())
                 .or(EVENT.START_AT.eq(cursorValue.getLeft())
@@ -109,7 +135,7 @@ public class JooqEventRepository implements EventRepository {
         .map(x -> new Cursor(x.getStartAt(), x.getId(), query.toFilterChecksum()).encode());
     nextCursor.ifPresent(x -> events.remove(events.size() - 1)); // remove one extra
 
-    val participants = fetchEventParticipants(events);
+    val participants = fetchEventParticipants(readDsl, events);
 
     return new PagedItems<>(
         events.map(x -> eventMapper.toModel(x, participants.get(x.getId()))),
@@ -137,6 +163,64 @@ public class JooqEventRepository implements EventRepository {
     return events.stream().map(x -> eventMapper.toModel(x, participants.get(x.getId())));
   }
 
+  @Override
+  public Stream<Event> listByCalendarAndExternalIds(
+      OrgId orgId, CalendarId calendarId, Collection<EventExternalId> externalIds) {
+    if (externalIds.isEmpty()) {
+      return Stream.empty();
+    }
+
+    val events = selectEvents(orgId, calendarId)
+        .and(EVENT.EXTERNAL_ID.in(externalIds.stream().map(x -> x.value()).toList()))
+        .fetch();
+    val participants = fetchEventParticipants(events);
+
+    return events.stream().map(x -> eventMapper.toModel(x, participants.get(x.getId())));
+  }
+
+  @Override
+  public Stream<Event> listByExternalIds(Collection<EventExternalId> externalIds) {
+    if (externalIds.isEmpty()) {
+      return Stream.empty();
+    }
+
+    val events = dsl
+        .selectFrom(EVENT)
+        .where(EVENT.EXTERNAL_ID.in(externalIds.stream().map(x -> x.value()).toList()))
+        .fetch();
+    val participants = fetchEventParticipants(events);
+
+    return events.stream().map(x -> eventMapper.toModel(x, participants.get(x.getId())));
+  }
+
+  @Override
+  public Stream<Event> listByCalendarWithoutExternalId(OrgId orgId, CalendarId calendarId) {
+    val events = selectEvents(orgId, calendarId)
+        .and(EVENT.EXTERNAL_ID.isNull())
+        .orderBy(EVENT.START_AT, EVENT.ID)
+        .fetch();
+    val participants = fetchEventParticipants(events);
+
+    return events.stream().map(x -> eventMapper.toModel(x, participants.get(x.getId())));
+  }
+
+  @Override
+  public List<Pair<EventId, EventExternalId>> listExternalIdPairsByCalendar(
+      CalendarId calendarId, @Nullable EventExternalId afterExternalId, int limit) {
+    return Fluent
+        .of(dsl
+            .select(EVENT.ID, EVENT.EXTERNAL_ID)
+            .from(EVENT)
+            .where(EVENT.CALENDAR_ID.eq(calendarId.value()))
+            .and(EVENT.EXTERNAL_ID.isNotNull()))
+        .ifThenAlso(Optional.ofNullable(afterExternalId), (x, after) -> x.and(
+            EVENT.EXTERNAL_ID.gt(after.value())))
+        .get()
+        .orderBy(EVENT.EXTERNAL_ID)
+        .limit(limit)
+        .fetch(x -> Pair.of(new EventId(x.value1()), new EventExternalId(x.value2())));
+  }
+
   @Override
   public Stream<Pair<EventId, Optional<EventExternalId>>> listRecurrenceInstanceIdPairs(
       EventId masterEventId) {
@@ -165,21 +249,92 @@ public class JooqEventRepository implements EventRepository {
   }
 
   private SelectConditionStep<EventRecord> selectEvents(OrgId orgId, CalendarId calendarId) {
-    return dsl
+    return selectEvents(dsl, orgId, calendarId);
+  }
+
+  private static SelectConditionStep<EventRecord> selectEvents(
+      DSLContext ctx, OrgId orgId, CalendarId calendarId) {
+    return ctx
         .selectFrom(EVENT)
         .where(Conditions.orgMatches(EVENT, orgId))
         .and(EVENT.CALENDAR_ID.eq(calendarId.value()));
   }
 
-  private Map<UUID, Result<ParticipantRecord>> fetchEventParticipants(Result<EventRecord> events) {
-    return Optional
-        .of(events.map(x -> x.getId()))
-        .map(eventIds -> dsl
-            .selectFrom(PARTICIPANT)
-            .where(PARTICIPANT.EVENT_ID.in(eventIds))
-            .orderBy(PARTICIPANT.EVENT_ID, PARTICIPANT.EMAIL)
-            .fetchGroups(PARTICIPANT.EVENT_ID))
-        .orElse(Map.of());
+  /**
+   * Adds the events to the outbox, if enabled, which must be called at the end of the transaction
+   * that changed them so the messages contain the final event data.
+   */
+  private void addToOutbox(
+      DSLContext txDsl, JooqEventOutbox.ChangeType changeType, Collection<UUID> eventIds) {
+    if (!outbox.isEnabled() || eventIds.isEmpty()) {
+      return;
+    }
+
+    val events = txDsl
+        .selectFrom(EVENT)
+        .where(EVENT.ID.in(eventIds))
+        .fetch();
+    val participants = fetchEventParticipants(txDsl, events);
+
+    outbox.add(
+        txDsl,
+        changeType,
+        events.map(x -> eventMapper.toModel(x, participants.get(x.getId()))));
+  }
+
+  /**
+   * Adds deleted messages for the deleted event records, which need id, org_id, and calendar_id.
+   */
+  private void addDeletedToOutbox(
+      DSLContext txDsl, Collection<EventRecord> deleted, DataSource dataSource) {
+    if (!outbox.isEnabled() || deleted.isEmpty()) {
+      return;
+    }
+
+    outbox.addDeleted(txDsl, deleted, dataSource);
+  }
+
+  /**
+   * Fetches participants for the events, where recurrence instances marked as inheriting get the
+   * master's participants.
+   */
+  private Map<UUID, List<ParticipantRecord>> fetchEventParticipants(Result<EventRecord> events) {
+    return fetchEventParticipants(dsl, events);
+  }
+
+  private Map<UUID, List<ParticipantRecord>> fetchEventParticipants(
+      DSLContext ctx, Result<EventRecord> events) {
+    val eventIds = new HashSet<>(events.map(x -> x.getId()));
+    events.stream()
+        .filter(JooqEventRepository::isInheritingParticipants)
+        .forEach(x -> eventIds.add(x.getRecurrenceMasterId()));
+
+    val participants = ctx
+        .selectFrom(PARTICIPANT)
+        .where(PARTICIPANT.EVENT_ID.in(eventIds))
+        .orderBy(PARTICIPANT.EVENT_ID, PARTICIPANT.EMAIL)
+        .fetchGroups(PARTICIPANT.EVENT_ID);
+
+    val map = new HashMap<UUID, List<ParticipantRecord>>();
+    events.forEach(x -> Optional
+        .<List<ParticipantRecord>>ofNullable(participants.get(
+            isInheritingParticipants(x) ? x.getRecurrenceMasterId() : x.getId()))
+        .ifPresent(list -> map.put(x.getId(), list)));
+    return map;
+  }
+
+  /**
+   * Returns whether the event is a recurrence instance that doesn't store its own participants and
+   * inherits the master's participants on read.
+   *
+   * <p>Non-override instances usually have the same participants as the master, and storing them
+   * would multiply participant rows by the number of instances. So when an instance's participants
+   * equal the master's and aren't empty, it's marked as inheriting and stores none. Otherwise, its
+   * own participants are stored and used, even when there are none.
+   */
+  private static boolean isInheritingParticipants(EventRecord record) {
+    return record.getRecurrenceMasterId() != null
+        && Boolean.TRUE.equals(record.getParticipantsInherited());
   }
 
   private Optional<Pair<EventRecord, List<ParticipantRecord>>> tryGet(Condition where) {
@@ -206,6 +361,14 @@ public class JooqEventRepository implements EventRepository {
     }
 
     val participants = result.get(event.get());
+    if (isInheritingParticipants(event.get())) {
+      return Optional.of(Pair.of(event.get(), dsl
+          .selectFrom(PARTICIPANT)
+          .where(PARTICIPANT.EVENT_ID.eq(event.get().getRecurrenceMasterId()))
+          .orderBy(PARTICIPANT.EMAIL)
+          .fetch()));
+    }
+
     return Optional.of(Pair.of(event.get(), participants));
   }
 
@@ -337,14 +500,19 @@ public class JooqEventRepository implements EventRepository {
         request, zoneSupplier.createSupplier(request.calendarId()));
     val participantRecords = participantMapper.toRecordsForCreate(
         request.participants(), request.id());
+    val isInheriting = !findInstancesInheritingParticipants(
+        List.of(request), Map.of(request.id().value(), participantRecords)).isEmpty();
+    eventRecord.setParticipantsInherited(isInheriting);
 
     dsl.transaction(config -> {
       val txDsl = config.dsl();
       txDsl.executeInsert(eventRecord);
 
-      if (!participantRecords.isEmpty()) {
+      if (!isInheriting && !participantRecords.isEmpty()) {
         txDsl.batchInsert(participantRecords).execute();
       }
+
+      addToOutbox(txDsl, JooqEventOutbox.ChangeType.CREATED, List.of(request.id().value()));
     });
   }
 
@@ -362,8 +530,10 @@ public class JooqEventRepository implements EventRepository {
     val eventRecord = eventMapper.toRecord(
         request, zoneSupplier.createSupplier(request.id()));
 
-    // If only updating event table, not participants, execute without transaction:
-    if (!request.updateFields().contains(EventUpdateRequest.UpdateField.PARTICIPANTS)) {
+    // If only updating event table, not participants or outbox, execute without transaction:
+    val isParticipantsUpdate = request.updateFields()
+        .contains(EventUpdateRequest.UpdateField.PARTICIPANTS);
+    if (!isParticipantsUpdate && !outbox.isEnabled()) {
       exceptionHelper.throwNotFoundIfNoRowsAffected(
           dsl.executeUpdate(eventRecord));
       return;
@@ -374,44 +544,57 @@ public class JooqEventRepository implements EventRepository {
       exceptionHelper.throwNotFoundIfNoRowsAffected(
           txDsl.executeUpdate(eventRecord));
 
-      val participants = txDsl
-          .selectFrom(PARTICIPANT)
-          .where(PARTICIPANT.EVENT_ID.eq(request.id().value()))
-          .forNoKeyUpdate()
-          .fetchMap(PARTICIPANT.EMAIL);
-
-      val participantsToStore = Optional
-          .ofNullable(request.participants())
-          .map(list -> list.stream())
-          .orElse(Stream.of())
-          .map(p -> Optional
-              .ofNullable(participants.get(p.email()))
-              .map(record -> Fluent
-                  .of(record)
-                  .also(r -> participantMapper.updateRecord(r, p))
-                  .get())
-              .orElseGet(() -> participantMapper.toRecordForCreate(p, request.id())))
-          .collect(toMap(x -> x.getEmail(), x -> x));
-
-      val participantsToDelete = participants.entrySet().stream()
-          .filter(entry -> !participantsToStore.keySet().contains(entry.getKey()))
-          .map(entry -> entry.getValue())
-          .toList();
-
-      if (!participantsToStore.isEmpty()) {
-        txDsl.batchStore(participantsToStore.values()).execute();
+      if (isParticipantsUpdate) {
+        materializeInheritedParticipants(txDsl, List.of(request));
+        updateParticipants(txDsl, request);
       }
 
-      if (!participantsToDelete.isEmpty()) {
-        txDsl.batchDelete(participantsToDelete).execute();
-      }
+      addToOutbox(txDsl, JooqEventOutbox.ChangeType.UPDATED, List.of(request.id().value()));
     });
   }
 
+  private void updateParticipants(DSLContext txDsl, EventUpdateRequest request) {
+    if (!updateInheritedParticipants(txDsl, List.of(request)).isEmpty()) {
+      return; // instance inherits the master's participants, so there's nothing to store
+    }
+
+    val participants = txDsl
+        .selectFrom(PARTICIPANT)
+        .where(PARTICIPANT.EVENT_ID.eq(request.id().value()))
+        .forNoKeyUpdate()
+        .fetchMap(PARTICIPANT.EMAIL);
+
+    val participantsToStore = Optional
+        .ofNullable(request.participants())
+        .map(list -> list.stream())
+        .orElse(Stream.of())
+        .map(p -> Optional
+            .ofNullable(participants.get(p.email()))
+            .map(record -> Fluent
+                .of(record)
+                .also(r -> participantMapper.updateRecord(r, p))
+                .get())
+            .orElseGet(() -> participantMapper.toRecordForCreate(p, request.id())))
+        .collect(toMap(x -> x.getEmail(), x -> x));
+
+    val participantsToDelete = participants.entrySet().stream()
+        .filter(entry -> !participantsToStore.keySet().contains(entry.getKey()))
+        .map(entry -> entry.getValue())
+        .toList();
+
+    if (!participantsToStore.isEmpty()) {
+      txDsl.batchStore(participantsToStore.values()).execute();
+    }
+
+    if (!participantsToDelete.isEmpty()) {
+      txDsl.batchDelete(participantsToDelete).execute();
+    }
+  }
+
   @Override
   public void updateExternalId(EventId id, EventExternalId externalId, DataSource dataSource) {
     // externalId always comes from DataSource.PROVIDER
-    updateFields(id, dataSource, (update, now) -> update
+    updateFields(dsl, id, dataSource, (update, now) -> update
         .set(EVENT.EXTERNAL_ID, externalId.value()));
   }
 
@@ -420,13 +603,28 @@ public class JooqEventRepository implements EventRepository {
       EventId id, EventExternalId newExternalId, boolean isRecurrenceOverride,
       DataSource dataSource) {
     // newExternalId and recurrence changes always comes from DataSource.PROVIDER
-    updateFields(id, dataSource, (update, now) -> update
-        .set(EVENT.EXTERNAL_ID, newExternalId.value())
-        .set(EVENT.IS_RECURRENCE_OVERRIDE, isRecurrenceOverride));
+    dsl.transaction(config -> {
+      val txDsl = config.dsl();
+
+      // Overrides don't inherit participants, so copy the master's if the instance was inheriting.
+      if (isRecurrenceOverride) {
+        copyMasterParticipants(
+            txDsl, EVENT.ID.eq(id.value()).and(EVENT.PARTICIPANTS_INHERITED.isTrue()));
+      }
+
+      updateFields(txDsl, id, dataSource, (update, now) -> Fluent
+          .of(update
+              .set(EVENT.EXTERNAL_ID, newExternalId.value())
+              .set(EVENT.IS_RECURRENCE_OVERRIDE, isRecurrenceOverride))
+          .map(x -> isRecurrenceOverride ? x.set(EVENT.PARTICIPANTS_INHERITED, false) : x)
+          .get());
+
+      addToOutbox(txDsl, JooqEventOutbox.ChangeType.UPDATED, List.of(id.value()));
+    });
   }
 
   @Override
-  public void delete(EventId id) {
+  public void delete(EventId id, DataSource dataSource) {
     dsl.transaction(config -> {
       val txDsl = config.dsl();
 
@@ -440,32 +638,37 @@ public class JooqEventRepository implements EventRepository {
           .execute();
 
       // Delete recurrence instances in case the main event is a master.
-      txDsl
+      val deletedInstances = txDsl
           .deleteFrom(EVENT)
           .where(EVENT.RECURRENCE_MASTER_ID.eq(id.value()))
-          .execute();
+          .returning(EVENT.ID, EVENT.ORG_ID, EVENT.CALENDAR_ID)
+          .fetch();
 
       // Delete the main event.
-      exceptionHelper.throwNotFoundIfNoRowsAffected(
-          txDsl
-              .deleteFrom(EVENT)
-              .where(EVENT.ID.eq(id.value()))
-              .execute());
+      val deleted = txDsl
+          .deleteFrom(EVENT)
+          .where(EVENT.ID.eq(id.value()))
+          .returning(EVENT.ID, EVENT.ORG_ID, EVENT.CALENDAR_ID)
+          .fetch();
+      exceptionHelper.throwNotFoundIfNoRowsAffected(deleted.size());
+
+      addDeletedToOutbox(txDsl, deletedInstances, dataSource);
+      addDeletedToOutbox(txDsl, deleted, dataSource);
     });
   }
 
   @Override
-  public void deleteByExternalId(EventExternalId externalId) {
+  public void deleteByExternalId(EventExternalId externalId, DataSource dataSource) {
     // Delete by primary id because we'd have to look it up to handle recurrence series anyway.
-    delete(getId(externalId).orElseThrow(exceptionHelper::notFound));
+    delete(getId(externalId).orElseThrow(exceptionHelper::notFound), dataSource);
   }
 
   @Override
-  public void tryDeleteByExternalId(EventExternalId externalId) {
+  public void tryDeleteByExternalId(EventExternalId externalId, DataSource dataSource) {
     // Delete by primary id because we'd have to look it up to handle recurrence series anyway.
     getId(externalId).ifPresent(id -> {
       try {
-        delete(id);
+        delete(id, dataSource);
       } catch (NotFoundException ex) {
         Noop.because("We tried to delete and don't care if the event wasn't found.");
       }
@@ -485,7 +688,7 @@ public class JooqEventRepository implements EventRepository {
 
     val eventInserts = new ArrayList<EventRecord>();
     val recurrenceInstanceInserts = new ArrayList<EventRecord>();
-    val participantInserts = new ArrayList<ParticipantRecord>();
+    val participantRecords = new HashMap<UUID, List<ParticipantRecord>>();
     for (var request : requests) {
       val record = eventMapper.toRecord(request, zoneSupplier.createSupplier(request.calendarId()));
 
@@ -497,18 +700,288 @@ public class JooqEventRepository implements EventRepository {
         eventInserts.add(record);
       }
 
-      participantInserts.addAll(participantMapper.toRecordsForCreate(
-          request.participants(), request.id()));
+      participantRecords.put(
+          request.id().value(),
+          participantMapper.toRecordsForCreate(request.participants(), request.id()));
     }
 
+    val inheritingIds = findInstancesInheritingParticipants(requests, participantRecords);
+    Stream.concat(eventInserts.stream(), recurrenceInstanceInserts.stream())
+        .forEach(x -> x.setParticipantsInherited(inheritingIds.contains(x.getId())));
+    val participantInserts = participantRecords.entrySet().stream()
+        .filter(x -> !inheritingIds.contains(x.getKey()))
+        .flatMap(x -> x.getValue().stream())
+        .toList();
+
     dsl.transaction(config -> {
       val txDsl = config.dsl();
-      txDsl.batchInsert(eventInserts).execute();
-      txDsl.batchInsert(recurrenceInstanceInserts).execute();
-      txDsl.batchInsert(participantInserts).execute();
+      if (bulkCopyConfig.enabled() && requests.size() >= bulkCopyConfig.minBatchSize()) {
+        eventInserts.addAll(recurrenceInstanceInserts); // fine with COPY, see copyViaStaging()
+        copyViaStaging(txDsl, EVENT, eventInserts);
+        copyViaStaging(txDsl, PARTICIPANT, participantInserts);
+      } else {
+        txDsl.batchInsert(eventInserts).execute();
+        txDsl.batchInsert(recurrenceInstanceInserts).execute();
+        txDsl.batchInsert(participantInserts).execute();
+      }
+      addToOutbox(
+          txDsl,
+          JooqEventOutbox.ChangeType.CREATED,
+          requests.stream().map(x -> x.id().value()).toList());
     });
   }
 
+  /**
+   * Inserts records via binary COPY into a temp staging table, and then one INSERT ... SELECT.
+   *
+   * <p>Temp tables aren't WAL-logged, so only the final insert is. And since foreign keys are
+   * checked at the end of the statement, recurrence instances can be inserted with their masters.
+   * Only fields that were set on the records are copied, so the rest get their column defaults.
+   */
+  private static <R extends TableRecord<R>> void copyViaStaging(
+      DSLContext txDsl, Table<R> table, List<R> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+
+    val staging = DSL.name(table.getName() + "_copy_staging");
+    val fields = Arrays.stream(table.fields())
+        .filter(field -> records.stream().anyMatch(x -> x.changed(field)))
+        .toList();
+
+    txDsl.execute(
+        "CREATE TEMP TABLE {0} (LIKE {1} INCLUDING DEFAULTS) ON COMMIT DROP", staging, table);
+    PgBinaryCopy.copy(txDsl, staging, fields, records);
+    txDsl.execute("INSERT INTO {0} SELECT * FROM {1}", table, staging);
+    txDsl.dropTable(staging).execute();
+  }
+
+  /**
+   * Finds the non-override recurrence instances being created whose participants equal the
+   * master's and aren't empty, so they can inherit them rather than store them.
+   *
+   * <p>Masters are usually created in the same batch as their instances, but if not, the master
+   * participants are fetched from the db.
+   */
+  private Set<UUID> findInstancesInheritingParticipants(
+      Collection<EventCreateRequest> requests, Map<UUID, List<ParticipantRecord>> participants) {
+
+    val instanceMasterIds = new HashMap<UUID, UUID>();
+    requests.forEach(request -> request.recurrence()
+        .withInstance()
+        .filter(x -> x.isNotOverride())
+        .ifPresent(x -> instanceMasterIds.put(request.id().value(), x.masterId().value())));
+
+    val dbMasterIds = instanceMasterIds.values().stream()
+        .filter(x -> !participants.containsKey(x))
+        .collect(toSet());
+    val masterParticipants = dbMasterIds.isEmpty()
+        ? Map.<UUID, Result<ParticipantRecord>>of()
+        : dsl
+            .selectFrom(PARTICIPANT)
+            .where(PARTICIPANT.EVENT_ID.in(dbMasterIds))
+            .fetchGroups(PARTICIPANT.EVENT_ID);
+
+    return instanceMasterIds.entrySet().stream()
+        .filter(entry -> isSameAsMasterParticipants(
+            participants.getOrDefault(entry.getKey(), List.of()),
+            Optional
+                .<List<ParticipantRecord>>ofNullable(participants.get(entry.getValue()))
+                .or(() -> Optional.ofNullable(masterParticipants.get(entry.getValue())))
+                .orElse(List.of())))
+        .map(entry -> entry.getKey())
+        .collect(toSet());
+  }
+
+  /**
+   * Updates which non-override recurrence instances inherit the master's participants, for
+   * requests that update participants, and returns the ids of instances that now inherit.
+   *
+   * <p>The participants an instance would have after the update (keeping existing values for
+   * fields that aren't being updated) are compared to the master's. Instances that now inherit
+   * have their own participants deleted. Instances that stop inheriting get a copy of the master's
+   * participants first, so the update then applies to them like it does to any other event.
+   *
+   * <p>Instances whose master is updated in the same batch never start inheriting, since they'd be
+   * compared to the master's participants from before the update.
+   */
+  private Set<UUID> updateInheritedParticipants(
+      DSLContext txDsl, Collection<EventUpdateRequest> requests) {
+    val requestsById = requests.stream().collect(toMap(x -> x.id().value(), x -> x));
+    val instances = txDsl
+        .select(EVENT.ID, EVENT.RECURRENCE_MASTER_ID, EVENT.PARTICIPANTS_INHERITED)
+        .from(EVENT)
+        .where(EVENT.ID.in(requestsById.keySet()))
+        .and(EVENT.RECURRENCE_MASTER_ID.isNotNull())
+        .and(EVENT.IS_RECURRENCE_OVERRIDE.isFalse())
+        .fetch();
+    if (instances.isEmpty()) {
+      return Set.of();
+    }
+
+    val participants = txDsl
+        .selectFrom(PARTICIPANT)
+        .where(PARTICIPANT.EVENT_ID.in(instances.map(x -> x.value1()))
+            .or(PARTICIPANT.EVENT_ID.in(instances.map(x -> x.value2()))))
+        .fetchGroups(PARTICIPANT.EVENT_ID);
+
+    val inheritingIds = new HashSet<UUID>();
+    val noLongerInheritingIds = new HashSet<UUID>();
+    instances.forEach(instance -> {
+      val id = instance.value1();
+      val wasInheriting = Boolean.TRUE.equals(instance.value3());
+      val masterList = Optional
+          .<List<ParticipantRecord>>ofNullable(participants.get(instance.value2()))
+          .orElse(List.of());
+      val currentList = wasInheriting
+          ? masterList
+          : Optional.<List<ParticipantRecord>>ofNullable(participants.get(id)).orElse(List.of());
+
+      if (!requestsById.containsKey(instance.value2())
+          && isSameAsMasterParticipants(
+              mergeParticipants(requestsById.get(id), currentList), masterList)) {
+        inheritingIds.add(id);
+      } else if (wasInheriting) {
+        noLongerInheritingIds.add(id);
+      }
+    });
+
+    if (!noLongerInheritingIds.isEmpty()) {
+      copyMasterParticipants(txDsl, EVENT.ID.in(noLongerInheritingIds));
+      txDsl
+          .update(EVENT)
+          .set(EVENT.PARTICIPANTS_INHERITED, false)
+          .where(EVENT.ID.in(noLongerInheritingIds))
+          .execute();
+    }
+
+    if (!inheritingIds.isEmpty()) {
+      txDsl
+          .deleteFrom(PARTICIPANT)
+          .where(PARTICIPANT.EVENT_ID.in(inheritingIds))
+          .execute();
+      txDsl
+          .update(EVENT)
+          .set(EVENT.PARTICIPANTS_INHERITED, true)
+          .where(EVENT.ID.in(inheritingIds))
+          .execute();
+    }
+
+    return inheritingIds;
+  }
+
+  /**
+   * Gives instances inheriting participants from masters whose participants are changing a copy of
+   * the master's current participants, so they keep them.
+   *
+   * <p>Otherwise changing the master's participants would silently change the participants of
+   * every inheriting instance, without an update or outbox message for those instances. Masters
+   * whose participants end up the same are skipped so their instances keep inheriting.
+   */
+  private void materializeInheritedParticipants(
+      DSLContext txDsl, Collection<EventUpdateRequest> requests) {
+    val requestsById = requests.stream().collect(toMap(x -> x.id().value(), x -> x));
+    val masterIds = txDsl
+        .selectDistinct(EVENT.RECURRENCE_MASTER_ID)
+        .from(EVENT)
+        .where(EVENT.RECURRENCE_MASTER_ID.in(requestsById.keySet()))
+        .and(EVENT.PARTICIPANTS_INHERITED.isTrue())
+        .fetchSet(EVENT.RECURRENCE_MASTER_ID);
+    if (masterIds.isEmpty()) {
+      return;
+    }
+
+    val participants = txDsl
+        .selectFrom(PARTICIPANT)
+        .where(PARTICIPANT.EVENT_ID.in(masterIds))
+        .fetchGroups(PARTICIPANT.EVENT_ID);
+    val changedMasterIds = masterIds.stream()
+        .filter(id -> {
+          val current = Optional
+              .<List<ParticipantRecord>>ofNullable(participants.get(id))
+              .orElse(List.of());
+          return !toParticipantValues(mergeParticipants(requestsById.get(id), current))
+              .equals(toParticipantValues(current));
+        })
+        .collect(toSet());
+    if (changedMasterIds.isEmpty()) {
+      return;
+    }
+
+    val instances = EVENT.RECURRENCE_MASTER_ID.in(changedMasterIds)
+        .and(EVENT.PARTICIPANTS_INHERITED.isTrue());
+    copyMasterParticipants(txDsl, instances);
+    txDsl
+        .update(EVENT)
+        .set(EVENT.PARTICIPANTS_INHERITED, false)
+        .where(instances)
+        .execute();
+  }
+
+  /**
+   * Gets the participants the event would have after the request, where existing participants
+   * keep their current values for fields that aren't in the participant update fields.
+   */
+  private List<ParticipantRecord> mergeParticipants(
+      EventUpdateRequest request, List<ParticipantRecord> current) {
+    val currentByEmail = current.stream().collect(toMap(x -> x.getEmail(), x -> x));
+    return Optional
+        .ofNullable(request.participants())
+        .map(list -> list.stream())
+        .orElse(Stream.of())
+        .map(participant -> Fluent
+            .of(participantMapper.toRecordForCreate(participant, request.id()))
+            .ifThenAlso(
+                Optional.ofNullable(currentByEmail.get(participant.email())),
+                (record, existing) -> JooqParticipantMapper.PARTICIPANT_UPDATE_FIELDS.forEach(
+                    (field, recordField) -> {
+                      if (!participant.updateFields().contains(field)) {
+                        copyValue(existing, record, recordField);
+                      }
+                    }))
+            .get())
+        .toList();
+  }
+
+  private static <T> void copyValue(Record from, Record to, Field<T> field) {
+    to.set(field, from.get(field));
+  }
+
+  /**
+   * Copies the master's participants to the matching recurrence instances.
+   */
+  private static void copyMasterParticipants(DSLContext txDsl, Condition instances) {
+    txDsl
+        .insertInto(PARTICIPANT,
+            PARTICIPANT.EVENT_ID, PARTICIPANT.EMAIL, PARTICIPANT.NAME, PARTICIPANT.STATUS,
+            PARTICIPANT.COMMENT)
+        .select(txDsl
+            .select(EVENT.ID, PARTICIPANT.EMAIL, PARTICIPANT.NAME, PARTICIPANT.STATUS,
+                PARTICIPANT.COMMENT)
+            .from(EVENT)
+            .join(PARTICIPANT).on(PARTICIPANT.EVENT_ID.eq(EVENT.RECURRENCE_MASTER_ID))
+            .where(instances))
+        .execute();
+  }
+
+  /**
+   * Returns whether participants equal the master's and aren't empty, so they can be inherited.
+   */
+  private static boolean isSameAsMasterParticipants(
+      List<ParticipantRecord> participants, List<ParticipantRecord> masterParticipants) {
+    return !masterParticipants.isEmpty()
+        && toParticipantValues(participants).equals(toParticipantValues(masterParticipants));
+  }
+
+  /**
+   * Gets the participant values that matter for comparison, ignoring the event id.
+   */
+  private static Set<List<Object>> toParticipantValues(List<ParticipantRecord> records) {
+    return records.stream()
+        .map(x -> Arrays.<Object>asList(x.getEmail(), x.getName(), x.getStatus(), x.getComment()))
+        .collect(toSet());
+  }
+
   @Override
   public void batchUpdate(Collection<EventUpdateRequest> requests) {
     val finalRequests = requests.stream()
@@ -540,54 +1013,173 @@ public class JooqEventRepository implements EventRepository {
       }
     }
 
-    // If only updating event table, not participants, execute without transaction:
-    if (participantEventIds.isEmpty()) {
-      dsl.batchUpdate(eventUpdates).execute();
+    // If only updating event table, not participants or outbox, execute without transaction:
+    if (participantEventIds.isEmpty() && !outbox.isEnabled()) {
+      batchUpdateEvents(dsl, eventUpdates);
       return;
     }
 
     dsl.transaction(config -> {
       val txDsl = config.dsl();
-      txDsl.batchUpdate(eventUpdates).execute();
+      batchUpdateEvents(txDsl, eventUpdates);
 
-      val participants = txDsl
-          .selectFrom(PARTICIPANT)
-          .where(PARTICIPANT.EVENT_ID.in(participantEventIds))
-          .forNoKeyUpdate()
-          .collect(toMap(x -> Pair.of(x.getEventId(), x.getEmail()), x -> x));
-
-      val participantsToStore = finalRequests.stream()
-          .filter(request -> participantEventIds.contains(request.id().value()))
-          .flatMap(request -> Optional
-              .ofNullable(request.participants())
-              .map(list -> list.stream())
-              .orElse(Stream.of())
-              .map(participant -> Optional
-                  .ofNullable(participants.get(Pair.of(request.id().value(), participant.email())))
-                  .map(record -> Fluent
-                      .of(record)
-                      .also(r -> participantMapper.updateRecord(r, participant))
-                      .get())
-                  .orElseGet(() -> participantMapper.toRecordForCreate(participant, request.id()))))
-          .collect(toMap(x -> Pair.of(x.getEventId(), x.getEmail()), x -> x));
-
-      val participantsToDelete = participants.entrySet().stream()
-          .filter(entry -> !participantsToStore.keySet().contains(entry.getKey()))
-          .map(entry -> entry.getValue())
-          .toList();
-
-      if (!participantsToStore.isEmpty()) {
-        txDsl.batchStore(participantsToStore.values()).execute();
+      if (!participantEventIds.isEmpty()) {
+        val participantRequests = finalRequests.stream()
+            .filter(x -> participantEventIds.contains(x.id().value()))
+            .toList();
+        materializeInheritedParticipants(txDsl, participantRequests);
+
+        val ownParticipantEventIds = new HashSet<>(participantEventIds);
+        ownParticipantEventIds.removeAll(updateInheritedParticipants(txDsl, participantRequests));
+
+        if (!ownParticipantEventIds.isEmpty()) {
+          batchUpdateParticipants(txDsl, finalRequests, ownParticipantEventIds);
+        }
+      }
+
+      addToOutbox(
+          txDsl,
+          JooqEventOutbox.ChangeType.UPDATED,
+          finalRequests.stream().map(x -> x.id().value()).toList());
+    });
+  }
+
+  /**
+   * Updates events with one UPDATE ... FROM (VALUES ...) for each set of changed fields.
+   *
+   * <p>Updates from the same sync almost always change the same fields, so a batch of any size
+   * takes a constant number of statements (one per chunk of rows that fits the bind limit),
+   * instead of one statement per event.
+   */
+  private static void batchUpdateEvents(DSLContext ctx, List<EventRecord> records) {
+    val recordsByFields = records.stream().collect(groupingBy(
+        record -> Arrays.stream(EVENT.fields())
+            .filter(field -> !field.equals(EVENT.ID) && record.changed(field))
+            .toList()));
+
+    recordsByFields.forEach((fields, group) -> {
+      if (fields.isEmpty()) {
+        return;
       }
 
-      if (!participantsToDelete.isEmpty()) {
-        txDsl.batchDelete(participantsToDelete).execute();
+      val columns = Stream.concat(Stream.of(EVENT.ID), fields.stream()).toList();
+      val columnNames = columns.stream().map(x -> x.getName()).toArray(String[]::new);
+
+      for (var chunk : partition(group, MAX_BIND_VALUES / columns.size())) {
+        val values = DSL
+            .values(chunk.stream()
+                .map(record -> DSL.row(columns.stream()
+                    .map(field -> typedValue(record, field))
+                    .toArray(Field[]::new)))
+                .toArray(RowN[]::new))
+            .as("v", columnNames);
+
+        ctx.update(EVENT)
+            .set(fields.stream().collect(toMap(x -> x, x -> values.field(x.getName()))))
+            .from(values)
+            .where(EVENT.ID.eq(values.field(EVENT.ID.getName(), UUID.class)))
+            .execute();
       }
     });
   }
 
+  /**
+   * Merges participants for the events with one upsert for each set of participant update fields,
+   * and one anti-join delete for participants that are no longer in the requests.
+   *
+   * <p>Participants aren't read or locked first, so this is a constant number of statements and
+   * row locks are only held for the rows that are actually written.
+   */
+  private void batchUpdateParticipants(
+      DSLContext txDsl, List<EventUpdateRequest> requests, Set<UUID> participantEventIds) {
+    val participants = requests.stream()
+        .filter(request -> participantEventIds.contains(request.id().value()))
+        .flatMap(request -> Optional
+            .ofNullable(request.participants())
+            .map(list -> list.stream())
+            .orElse(Stream.of())
+            .map(participant -> Pair.of(
+                participant.updateFields(),
+                participantMapper.toRecordForCreate(participant, request.id()))))
+        .collect(toMap(
+            x -> Pair.of(x.getRight().getEventId(), x.getRight().getEmail()),
+            x -> x,
+            (first, second) -> second, // upsert can't affect the same row twice, so last one wins
+            LinkedHashMap::new))
+        .values();
+
+    // New participants are inserted with all fields, but existing ones only get update fields:
+    participants.stream()
+        .collect(groupingBy(x -> x.getLeft(), mapping(x -> x.getRight(), toList())))
+        .forEach((updateFields, records) -> {
+          val updateColumns = updateFields.stream()
+              .map(JooqParticipantMapper.PARTICIPANT_UPDATE_FIELDS::get)
+              .collect(toMap(x -> x, x -> excluded(x)));
+
+          for (var chunk : partition(records, MAX_BIND_VALUES / 5)) {
+            val insert = txDsl.insertInto(
+                PARTICIPANT,
+                PARTICIPANT.EVENT_ID,
+                PARTICIPANT.EMAIL,
+                PARTICIPANT.NAME,
+                PARTICIPANT.STATUS,
+                PARTICIPANT.COMMENT);
+            chunk.forEach(x -> insert.values(
+                x.getEventId(), x.getEmail(), x.getName(), x.getStatus(), x.getComment()));
+
+            val conflict = insert.onConflict(PARTICIPANT.EVENT_ID, PARTICIPANT.EMAIL);
+            if (updateColumns.isEmpty()) {
+              conflict.doNothing().execute();
+            } else {
+              conflict.doUpdate().set(updateColumns).execute();
+            }
+          }
+        });
+
+    // Keys are sent as two arrays, so the delete is always one statement with two bind values.
+    val kept = DSL
+        .table(
+            "unnest({0}, {1})",
+            DSL.val(
+                participants.stream().map(x -> x.getRight().getEventId()).toArray(UUID[]::new)),
+            DSL.val(
+                participants.stream().map(x -> x.getRight().getEmail()).toArray(String[]::new)))
+        .as("kept", "event_id", "email");
+
+    txDsl
+        .deleteFrom(PARTICIPANT)
+        .where(PARTICIPANT.EVENT_ID.in(participantEventIds))
+        .andNotExists(selectOne()
+            .from(kept)
+            .where(kept.field("event_id", UUID.class).eq(PARTICIPANT.EVENT_ID))
+            .and(kept.field("email", String.class).eq(PARTICIPANT.EMAIL)))
+        .execute();
+  }
+
+  /**
+   * Creates a typed bind value for the record field, since VALUES can't infer types from binds.
+   */
+  private static <T> Field<T> typedValue(Record record, Field<T> field) {
+    return DSL.cast(DSL.val(record.get(field), field.getDataType()), field.getDataType());
+  }
+
+  /**
+   * Creates a reference to the value proposed for insert in an ON CONFLICT DO UPDATE clause.
+   */
+  private static <T> Field<T> excluded(Field<T> field) {
+    return DSL.field("excluded.{0}", field.getDataType(), field.getUnqualifiedName());
+  }
+
+  private static <T> List<List<T>> partition(List<T> list, int size) {
+    val chunks = new ArrayList<List<T>>();
+    for (var i = 0; i < list.size(); i += size) {
+      chunks.add(list.subList(i, Math.min(i + size, list.size())));
+    }
+    return chunks;
+  }
+
   @Override
-  public void batchDelete(Collection<EventId> ids) {
+  public void batchDelete(Collection<EventId> ids, DataSource dataSource) {
     if (ids.isEmpty()) {
       return;
     }
@@ -607,16 +1199,51 @@ public class JooqEventRepository implements EventRepository {
           .execute();
 
       // Delete recurrence instances.
-      txDsl
+      val deletedInstances = txDsl
           .deleteFrom(EVENT)
           .where(EVENT.RECURRENCE_MASTER_ID.in(eventIds))
-          .execute();
+          .returning(EVENT.ID, EVENT.ORG_ID, EVENT.CALENDAR_ID)
+          .fetch();
 
       // Delete main events.
-      txDsl
+      val deleted = txDsl
           .deleteFrom(EVENT)
           .where(EVENT.ID.in(eventIds))
+          .returning(EVENT.ID, EVENT.ORG_ID, EVENT.CALENDAR_ID)
+          .fetch();
+
+      addDeletedToOutbox(txDsl, deletedInstances, dataSource);
+      addDeletedToOutbox(txDsl, deleted, dataSource);
+    });
+  }
+
+  @Override
+  public List<Pair<EventId, EventExternalId>> deleteByCalendarStartingBefore(
+      CalendarId calendarId, Instant startsBefore, DataSource dataSource) {
+    val condition = EVENT.CALENDAR_ID.eq(calendarId.value())
+        .and(EVENT.START_AT.lt(startsBefore.atOffset(ZoneOffset.UTC)))
+        .and(EVENT.RECURRENCE.isNull())
+        .and(EVENT.EXTERNAL_ID.isNotNull());
+
+    return dsl.transactionResult(config -> {
+      val txDsl = config.dsl();
+
+      txDsl
+          .delete(PARTICIPANT)
+          .using(EVENT)
+          .where(EVENT.ID.eq(PARTICIPANT.EVENT_ID))
+          .and(condition)
           .execute();
+
+      val deleted = txDsl
+          .deleteFrom(EVENT)
+          .where(condition)
+          .returning(EVENT.ID, EVENT.EXTERNAL_ID, EVENT.ORG_ID, EVENT.CALENDAR_ID)
+          .fetch();
+
+      addDeletedToOutbox(txDsl, deleted, dataSource);
+      return deleted.map(
+          x -> Pair.of(new EventId(x.getId()), new EventExternalId(x.getExternalId())));
     });
   }
 
@@ -633,29 +1260,59 @@ public class JooqEventRepository implements EventRepository {
         .map(AccountId::new);
   }
 
+  /**
+   * Creates a timezone supplier by calendar id, which uses cached calendar metadata (see
+   * {@link CalendarMetadataCache}) so creates usually don't query the calendars at all.
+   */
   private LazyBatchCalendarTimeZoneSupplier<CalendarId> createTimeZoneByCalendarIdSupplier(
       Stream<CalendarId> calendarIds) {
-    return new LazyBatchCalendarTimeZoneSupplier<>(() -> dsl
-        .select(CALENDAR.ID, CALENDAR.TIMEZONE)
-        .from(CALENDAR)
-        .where(CALENDAR.ID.in(calendarIds.map(x -> x.value()).collect(toSet())))
-        .fetchMap(x -> new CalendarId(x.value1()), x -> x.value2()));
+    return new LazyBatchCalendarTimeZoneSupplier<>(() -> {
+      val timezones = new HashMap<CalendarId, String>();
+      calendarMetadataCache
+          .getAll(calendarIds.collect(toSet()))
+          .forEach((id, metadata) -> timezones.put(id, metadata.timezone()));
+      return timezones;
+    });
   }
 
   @Override
   public void checkin(EventId id, DataSource dataSource) {
-    updateFields(id, dataSource, (update, now) -> update.set(EVENT.CHECKIN_AT, now));
+    updateFieldsWithOutbox(id, dataSource, (update, now) -> update.set(EVENT.CHECKIN_AT, now));
   }
 
   @Override
   public void checkout(EventId id, DataSource dataSource) {
-    updateFields(id, dataSource, (update, now) -> update.set(EVENT.CHECKOUT_AT, now));
+    updateFieldsWithOutbox(id, dataSource, (update, now) -> update.set(EVENT.CHECKOUT_AT, now));
+  }
+
+  /**
+   * Calls {@link #updateFields} and adds to the outbox in one transaction, if outbox is enabled.
+   */
+  private void updateFieldsWithOutbox(
+      EventId id,
+      DataSource dataSource,
+      BiFunction<
+          UpdateSetMoreStep<EventRecord>,
+          OffsetDateTime,
+          UpdateSetMoreStep<EventRecord>> setter) {
+
+    if (!outbox.isEnabled()) {
+      updateFields(dsl, id, dataSource, setter);
+      return;
+    }
+
+    dsl.transaction(config -> {
+      val txDsl = config.dsl();
+      updateFields(txDsl, id, dataSource, setter);
+      addToOutbox(txDsl, JooqEventOutbox.ChangeType.UPDATED, List.of(id.value()));
+    });
   }
 
   /**
    * Updates UPDATED_AT and UPDATED_FROM plus any additional fields via passed setter.
    */
   private void updateFields(
+      DSLContext ctx,
       EventId id,
       DataSource dataSource,
       BiFunction<
@@ -665,7 +1322,7 @@ public class JooqEventRepository implements EventRepository {
 
     val now = OffsetDateTime.now();
     val query = Fluent
-        .of(dsl
+        .of(ctx
             .update(EVENT)
             .set(EVENT.UPDATED_AT, now)
             .set(EVENT.UPDATED_FROM, dataSource == null ? null : dataSource.value()))
@@ -0,0 +1,119 @@
+package com.UoU.infra.db;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.val;
+import org.jooq.DSLContext;
+import org.jooq.EnumType;
+import org.jooq.Field;
+import org.jooq.JSON;
+import org.jooq.Name;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.lang.Nullable;
+
+/**
+ * Package private helper for bulk loading jooq records with PostgreSQL binary COPY.
+ *
+ * <p>Binary COPY streams all rows in one statement without parsing each value as text, so it's
+ * much faster than batch inserts for large batches. Values are encoded from the java types jooq
+ * generates for our columns, and any other type throws so an unsupported column fails loudly.
+ *
+ * <p>See the binary format at https://www.postgresql.org/docs/current/sql-copy.html
+ */
+class PgBinaryCopy {
+  private static final byte[] SIGNATURE = {
+      'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+  private static final Instant PG_EPOCH = Instant.parse("2000-01-01T00:00:00Z");
+  private static final long PG_EPOCH_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+  private static final int BUFFER_SIZE = 65536;
+
+  /**
+   * Copies the fields of the records into the table and returns the number of rows copied.
+   *
+   * <p>This must run on a connection that's in the transaction with any related statements.
+   */
+  static long copy(
+      DSLContext ctx, Name table, List<Field<?>> fields, Collection<? extends Record> records) {
+    val sql = "COPY " + ctx.render(table)
+        + fields.stream()
+            .map(x -> ctx.render(DSL.name(x.getName())))
+            .collect(Collectors.joining(", ", " (", ")"))
+        + " FROM STDIN (FORMAT binary)";
+
+    return ctx.connectionResult(connection -> {
+      val copyOut = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql);
+      try {
+        val out = new DataOutputStream(new BufferedOutputStream(copyOut, BUFFER_SIZE));
+        out.write(SIGNATURE);
+        out.writeInt(0); // flags
+        out.writeInt(0); // header extension length
+
+        for (var record : records) {
+          out.writeShort(fields.size());
+          for (var field : fields) {
+            writeValue(out, record.get(field));
+          }
+        }
+
+        out.writeShort(-1); // trailer
+        out.flush();
+        return copyOut.endCopy();
+      } catch (IOException | RuntimeException ex) {
+        if (copyOut.isActive()) {
+          copyOut.cancelCopy();
+        }
+        throw ex;
+      }
+    });
+  }
+
+  private static void writeValue(DataOutputStream out, @Nullable Object value)
+      throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    } else if (value instanceof UUID uuid) {
+      out.writeInt(16);
+      out.writeLong(uuid.getMostSignificantBits());
+      out.writeLong(uuid.getLeastSignificantBits());
+    } else if (value instanceof String string) {
+      writeBytes(out, string.getBytes(UTF_8));
+    } else if (value instanceof Boolean bool) {
+      out.writeInt(1);
+      out.writeByte(bool ? 1 : 0);
+    } else if (value instanceof OffsetDateTime dateTime) {
+      out.writeInt(8);
+      out.writeLong(ChronoUnit.MICROS.between(PG_EPOCH, dateTime.toInstant()));
+    } else if (value instanceof LocalDate date) {
+      out.writeInt(4);
+      out.writeInt(Math.toIntExact(date.toEpochDay() - PG_EPOCH_DAY));
+    } else if (value instanceof EnumType enumValue) {
+      // Binary enum values are sent as their text labels.
+      writeBytes(out, enumValue.getLiteral().getBytes(UTF_8));
+    } else if (value instanceof JSON json) {
+      // Binary json (not jsonb) values are sent as text.
+      writeBytes(out, json.data().getBytes(UTF_8));
+    } else {
+      throw new IllegalArgumentException(
+          "Unsupported COPY value type: " + value.getClass().getName());
+    }
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+}
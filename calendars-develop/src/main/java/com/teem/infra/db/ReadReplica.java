@@ -0,0 +1,167 @@
+package com.UoU.infra.db;
+
+import static org.jooq.impl.DSL.field;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.DSLContext;
+import org.jooq.impl.DataSourceConnectionProvider;
+import org.jooq.impl.SQLDataType;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Routes replica-eligible reads to the read replica, when configured, or else the primary.
+ *
+ * <p>Repositories opt in per method by using {@link #readDsl()} instead of the primary
+ * DSLContext. Only do this for API reads that can tolerate slightly stale data, like lists and
+ * availability, and never for reads that come before writes, like in sync tasks.
+ *
+ * <p>Reads fall back to the primary when the replication lag was over the max at the last check
+ * (or the check failed), or when the current web request already wrote to the primary, so that
+ * requests can always read their own writes. See {@link ReadReplicaWriteListener}.
+ */
+@Service
+@Slf4j
+public class ReadReplica {
+  private static final String REQUEST_WROTE_ATTRIBUTE = ReadReplica.class.getName() + ".wrote";
+
+  /**
+   * Replication lag in seconds, which is zero when the replica has replayed everything received,
+   * since pg_last_xact_replay_timestamp() doesn't advance when the primary is idle. On a server
+   * that's not a replica, the functions return null, which also means zero lag.
+   */
+  private static final String LAG_SQL = "COALESCE(CASE"
+      + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+      + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END, 0)";
+
+  private final ReadReplicaConfig config;
+  private final DSLContext primaryDsl;
+  @Nullable private final DSLContext replicaDsl;
+  @Nullable private final HikariDataSource replicaDataSource;
+  @Nullable private final ScheduledExecutorService lagCheckExecutor;
+  private volatile boolean isReplicaCaughtUp = false;
+
+  public ReadReplica(ReadReplicaConfig config, DSLContext primaryDsl) {
+    this.config = config;
+    this.primaryDsl = primaryDsl;
+
+    if (!config.enabled()) {
+      this.replicaDataSource = null;
+      this.replicaDsl = null;
+      this.lagCheckExecutor = null;
+      return;
+    }
+
+    this.replicaDataSource = createDataSource(config);
+    this.replicaDsl = primaryDsl
+        .configuration()
+        .derive(new DataSourceConnectionProvider(replicaDataSource))
+        .dsl();
+
+    val threadFactory = new CustomizableThreadFactory("read-replica-lag-");
+    threadFactory.setDaemon(true);
+    this.lagCheckExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    lagCheckExecutor.scheduleWithFixedDelay(
+        this::checkLag, 0, config.lagCheckInterval().toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Creates without a data source or lag check executor, so tests can call checkLag() directly.
+   */
+  ReadReplica(ReadReplicaConfig config, DSLContext primaryDsl, DSLContext replicaDsl) {
+    this.config = config;
+    this.primaryDsl = primaryDsl;
+    this.replicaDsl = replicaDsl;
+    this.replicaDataSource = null;
+    this.lagCheckExecutor = null;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (lagCheckExecutor != null) {
+      lagCheckExecutor.shutdownNow();
+    }
+    if (replicaDataSource != null) {
+      replicaDataSource.close();
+    }
+  }
+
+  /**
+   * Gets the DSLContext for a replica-eligible read, which is the replica when it's usable.
+   */
+  public DSLContext readDsl() {
+    return replicaDsl != null && isReplicaCaughtUp && !hasRequestWritten()
+        ? replicaDsl
+        : primaryDsl;
+  }
+
+  /**
+   * Checks the replication lag and updates whether the replica can be used.
+   */
+  void checkLag() {
+    if (replicaDsl == null) {
+      return;
+    }
+
+    boolean isCaughtUp;
+    try {
+      val lagSeconds = replicaDsl
+          .select(field(LAG_SQL, SQLDataType.DOUBLE))
+          .fetchSingle()
+          .value1();
+      val lag = Duration.ofMillis((long) (lagSeconds * 1000));
+      isCaughtUp = lag.compareTo(config.maxLag()) <= 0;
+      if (!isCaughtUp && isReplicaCaughtUp) {
+        log.warn("Read replica lag of {} is over max, so using primary for reads", lag);
+      }
+    } catch (Exception ex) {
+      isCaughtUp = false;
+      if (isReplicaCaughtUp) {
+        log.warn("Read replica lag check FAILED, so using primary for reads", ex);
+      }
+    }
+
+    if (isCaughtUp && !isReplicaCaughtUp) {
+      log.info("Read replica is caught up, so using replica for eligible reads");
+    }
+    isReplicaCaughtUp = isCaughtUp;
+  }
+
+  /**
+   * Marks the current web request as having written to the primary, if in a request.
+   */
+  static void markRequestWrite() {
+    val attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.setAttribute(
+          REQUEST_WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  private static boolean hasRequestWritten() {
+    val attributes = RequestContextHolder.getRequestAttributes();
+    return attributes != null && Boolean.TRUE.equals(
+        attributes.getAttribute(REQUEST_WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+  }
+
+  private static HikariDataSource createDataSource(ReadReplicaConfig config) {
+    val dataSource = new HikariDataSource();
+    dataSource.setPoolName("read-replica");
+    dataSource.setJdbcUrl(config.url());
+    dataSource.setUsername(config.username());
+    dataSource.setPassword(config.password());
+    dataSource.setMaximumPoolSize(config.maxPoolSize());
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+}
@@ -0,0 +1,41 @@
+package com.UoU.infra.db;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Config for {@link ReadReplica}.
+ *
+ * @param enabled          Whether replica-eligible reads can use the read replica.
+ * @param url              JDBC url of the read replica, required if enabled.
+ * @param username         Db user for the read replica, which only needs SELECT.
+ * @param password         Db password for the read replica.
+ * @param maxPoolSize      Max connections to the read replica.
+ * @param maxLag           Max replication lag before reads fall back to the primary.
+ * @param lagCheckInterval How often the replication lag is checked.
+ */
+@ConfigurationProperties("read-replica")
+public record ReadReplicaConfig(
+    boolean enabled,
+    String url,
+    String username,
+    String password,
+    int maxPoolSize,
+    Duration maxLag,
+    Duration lagCheckInterval) {
+
+  public ReadReplicaConfig {
+    if (enabled && (url == null || url.isBlank())) {
+      throw new IllegalArgumentException("Invalid url: " + url);
+    }
+    if (maxPoolSize <= 0) {
+      throw new IllegalArgumentException("Invalid maxPoolSize: " + maxPoolSize);
+    }
+    if (maxLag == null || maxLag.isNegative()) {
+      throw new IllegalArgumentException("Invalid maxLag: " + maxLag);
+    }
+    if (lagCheckInterval == null || lagCheckInterval.isNegative() || lagCheckInterval.isZero()) {
+      throw new IllegalArgumentException("Invalid lagCheckInterval: " + lagCheckInterval);
+    }
+  }
+}
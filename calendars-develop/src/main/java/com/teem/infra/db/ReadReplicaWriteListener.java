@@ -0,0 +1,30 @@
+package com.UoU.infra.db;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.ExecuteType;
+import org.jooq.impl.DefaultExecuteListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks writes to the primary for {@link ReadReplica}, so later reads in the same web request
+ * go to the primary and see the writes.
+ *
+ * <p>Spring Boot adds ExecuteListenerProvider beans to the jooq configuration automatically.
+ */
+@Component
+class ReadReplicaWriteListener extends DefaultExecuteListener implements ExecuteListenerProvider {
+
+  @Override
+  public ExecuteListener provide() {
+    return this;
+  }
+
+  @Override
+  public void executeStart(ExecuteContext ctx) {
+    if (ctx.type() != ExecuteType.READ) {
+      ReadReplica.markRequestWrite();
+    }
+  }
+}
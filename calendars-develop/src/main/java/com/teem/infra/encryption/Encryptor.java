@@ -31,6 +31,12 @@ public class Encryptor {
   private final SecretKeySpec key;
   private final SecureRandom random;
 
+  /**
+   * Cipher instances are not thread-safe, but looking up the provider for each call is costly, so
+   * each thread reuses its own instance. The cipher is re-initialized with a new IV for every call.
+   */
+  private final ThreadLocal<Cipher> cipher = ThreadLocal.withInitial(Encryptor::createCipher);
+
   @SneakyThrows
   Encryptor(Config config) {
     if (config == null) {
@@ -100,11 +106,16 @@ public class Encryptor {
 
   @SneakyThrows
   private Cipher initCipher(int mode, GCMParameterSpec params) {
-    var cipher = Cipher.getInstance(ALGORITHM);
+    var cipher = this.cipher.get();
     cipher.init(mode, key, params);
     return cipher;
   }
 
+  @SneakyThrows
+  private static Cipher createCipher() {
+    return Cipher.getInstance(ALGORITHM);
+  }
+
   /**
    * Generates a secure-random IV/nonce to make encrypted values non-deterministic and more secure.
    *
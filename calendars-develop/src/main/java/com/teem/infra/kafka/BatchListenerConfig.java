@@ -0,0 +1,60 @@
+package com.UoU.infra.kafka;
+
+import com.UoU.core.exceptions.NotFoundException;
+import com.UoU.core.exceptions.ReadOnlyException;
+import lombok.val;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+/**
+ * Container factory for batch listeners, which receive a list of records per poll.
+ *
+ * <p>Non-blocking retry topics (@RetryableTopic) don't support batch listeners, so failed records
+ * are handled by the error handler instead. A batch listener should throw
+ * BatchListenerFailedException with the index of the failed record. Records before it are then
+ * committed, and the failed record is retried with the default retry config. If it still fails,
+ * it goes to the same dead-letter topic that @RetryableTopic uses, so per-record retry/DLT behavior
+ * stays the same except that retries block the partition while waiting for the backoff.
+ */
+@Configuration
+public class BatchListenerConfig {
+  public static final String CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+
+  @Bean(CONTAINER_FACTORY)
+  public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+      ConsumerFactory<Object, Object> consumerFactory,
+      KafkaTemplate<String, Object> kafkaTemplate,
+      @Value("${spring.kafka.consumer.group-id}") String groupId,
+      @Value("${" + ConfigPaths.DEFAULTS + ".retry.attempts}") int attempts,
+      @Value("${" + ConfigPaths.DEFAULTS + ".retry.backoff.delay}") long delay,
+      @Value("${" + ConfigPaths.DEFAULTS + ".retry.backoff.multiplier}") double multiplier) {
+
+    // Negative partition lets kafka pick, since the DLT may not have the same partition count.
+    val recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate, (record, ex) ->
+        new TopicPartition(record.topic() + "--" + groupId + ".dlt", -1));
+
+    // Attempts includes the original attempt, same as @RetryableTopic.
+    val backOff = new ExponentialBackOffWithMaxRetries(Math.max(attempts - 1, 0));
+    backOff.setInitialInterval(delay);
+    backOff.setMultiplier(multiplier);
+
+    val errorHandler = new DefaultErrorHandler(recoverer, backOff);
+    errorHandler.addNotRetryableExceptions(
+        NoRetryException.class, IllegalArgumentException.class, NotFoundException.class,
+        ReadOnlyException.class);
+
+    val factory = new ConcurrentKafkaListenerContainerFactory<Object, Object>();
+    factory.setConsumerFactory(consumerFactory);
+    factory.setBatchListener(true);
+    factory.setCommonErrorHandler(errorHandler);
+    return factory;
+  }
+}
@@ -2,6 +2,7 @@ package com.UoU.infra.kafka;
 
 public class ConfigPaths {
   private static final String BASE = "kafka.configs";
+  public static final String DEFAULTS = BASE + "._defaults";
 
   public static class Tasks {
     private static final String BASE = ConfigPaths.BASE + ".tasks";
@@ -12,6 +13,7 @@ public class ConfigPaths {
         + ".export-calendars-to-nylas";
     public static final String CHANGE_CALENDAR = BASE + ".change-calendar";
     public static final String SYNC_ALL_EVENTS = BASE + ".sync-all-events";
+    public static final String SYNC_EVENT_DELTAS = BASE + ".sync-event-deltas";
     public static final String CHANGE_EVENT = BASE + ".change-event";
     public static final String DELETE_ACCOUNT_FROM_NYLAS = BASE + ".delete-account-from-nylas";
     public static final String UPDATE_ALL_SUBACCOUNT_TOKENS = BASE
@@ -0,0 +1,47 @@
+package com.UoU.infra.kafka;
+
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.infra.avro.publicevents.EventChanged;
+import com.UoU.infra.db.JooqEventOutbox;
+import com.UoU.infra.redis.RedisAvailabilityIndexInvalidator;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.stereotype.Service;
+
+/**
+ * Relays PUBLIC EventChanged messages from the {@link JooqEventOutbox} to kafka.
+ *
+ * <p>This replaces the internal EventChanged consumer when the outbox is enabled, so it also does
+ * the consumer's other job of invalidating the availability index for the changed calendars.
+ */
+@Service
+@AllArgsConstructor
+@Slf4j
+public class EventOutboxRelay {
+  private final JooqEventOutbox outbox;
+  private final Sender sender;
+  private final TopicNames.PublicEvents topicNames;
+  private final RedisAvailabilityIndexInvalidator availabilityIndexInvalidator;
+
+  /**
+   * Relays batches until the outbox is empty, unless another node is relaying, and returns the
+   * count.
+   */
+  public int relay() {
+    val count = outbox.relay(this::send);
+    if (count > 0) {
+      log.debug("Relayed {} PUBLIC EventChanged messages from outbox", count);
+    }
+    return count;
+  }
+
+  private void send(List<EventChanged> batch) {
+    sender.sendAllAndWait(topicNames.getEventChanged(), x -> x.getEventId().toString(), batch);
+
+    availabilityIndexInvalidator.invalidate(batch.stream()
+        .map(x -> new CalendarId(x.getCalendarId().toString()))
+        .toList());
+  }
+}
@@ -7,7 +7,10 @@ import com.UoU.core.events.EventId;
 import com.UoU.core.events.EventPublisher;
 import com.UoU.infra.avro.events.EventChangeType;
 import com.UoU.infra.avro.events.EventChanged;
+import com.UoU.infra.db.JooqEventOutbox;
+import com.UoU.infra.redis.RedisAvailabilityIndexInvalidator;
 import java.util.Collection;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.val;
 import org.springframework.stereotype.Service;
@@ -21,6 +24,8 @@ public class EventProducer implements EventPublisher {
   private final Sender sender;
   private final TopicNames.Events eventTopicNames;
   private final PublicEventProducer publicEventProducer;
+  private final RedisAvailabilityIndexInvalidator availabilityIndexInvalidator;
+  private final JooqEventOutbox outbox;
 
   /**
    * Produces internal EventChanged (created) events.
@@ -43,7 +48,8 @@ public class EventProducer implements EventPublisher {
   }
 
   private void sendEventChanged(EventChangeType changeType, Collection<EventId> eventIds) {
-    if (eventIds.isEmpty()) {
+    // With the outbox, PUBLIC messages are stored with the event changes and relayed from there.
+    if (eventIds.isEmpty() || outbox.isEnabled()) {
       return;
     }
 
@@ -60,10 +66,19 @@ public class EventProducer implements EventPublisher {
    * Produces PUBLIC EventChanged (deleted) events.
    *
    * <p>Since these events don't need any enrichment, they are published directly as PUBLIC events.
+   * They never pass through the internal topic, so the availability index is invalidated here.
+   *
+   * <p>With the outbox, the repository adds them to the outbox in the same transaction as the
+   * deletes, so they are relayed in order with creates and updates, and this does nothing.
    */
   @Override
   public void eventDeleted(
       OrgId orgId, CalendarId calendarId, Collection<EventId> eventIds, DataSource dataSource) {
+    if (outbox.isEnabled()) {
+      return;
+    }
+
+    availabilityIndexInvalidator.invalidate(List.of(calendarId));
     publicEventProducer.eventDeleted(orgId, calendarId, eventIds, dataSource);
   }
 }
@@ -1,9 +1,11 @@
 package com.UoU.infra.kafka;
 
 import static com.UoU.infra.kafka.ConfigPaths.PublicEvents;
+import static com.UoU.infra.kafka.ConfigPaths.Tasks;
 
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,4 +22,32 @@ class NewTopics {
       @Value("${" + PublicEvents.EVENT_CHANGED + ".topic.create.replication}") int replication) {
     return TopicBuilder.name(name).partitions(partitions).replicas(replication).build();
   }
+
+  /**
+   * Creates change-event topics in batch mode, since @RetryableTopic only creates them otherwise.
+   */
+  @Bean
+  @ConditionalOnExpression("${" + Tasks.CHANGE_EVENT + ".batch.enabled:false}"
+      + " and ${" + Tasks.CHANGE_EVENT + ".topic.create.enabled:false}")
+  public NewTopic topicChangeEvent(
+      @Value("${" + Tasks.CHANGE_EVENT + ".topic.name}") String name,
+      @Value("${" + Tasks.CHANGE_EVENT + ".topic.create.partitions}") int partitions,
+      @Value("${" + Tasks.CHANGE_EVENT + ".topic.create.replication}") int replication) {
+    return TopicBuilder.name(name).partitions(partitions).replicas(replication).build();
+  }
+
+  @Bean
+  @ConditionalOnExpression("${" + Tasks.CHANGE_EVENT + ".batch.enabled:false}"
+      + " and ${" + Tasks.CHANGE_EVENT + ".topic.create.enabled:false}")
+  public NewTopic topicChangeEventDlt(
+      @Value("${" + Tasks.CHANGE_EVENT + ".topic.name}") String name,
+      @Value("${spring.kafka.consumer.group-id}") String groupId,
+      @Value("${" + Tasks.CHANGE_EVENT + ".topic.create.partitions}") int partitions,
+      @Value("${" + Tasks.CHANGE_EVENT + ".topic.create.replication}") int replication) {
+    return TopicBuilder
+        .name(name + "--" + groupId + ".dlt")
+        .partitions(partitions)
+        .replicas(replication)
+        .build();
+  }
 }
@@ -15,6 +15,7 @@ import com.UoU.infra.avro.tasks.DeleteAccountFromNylas;
 import com.UoU.infra.avro.tasks.ExportCalendarsToNylas;
 import com.UoU.infra.avro.tasks.ImportAllCalendarsFromNylas;
 import com.UoU.infra.avro.tasks.SyncAllEvents;
+import com.UoU.infra.avro.tasks.SyncEventDeltas;
 import com.UoU.infra.avro.tasks.UpdateAccountSyncState;
 import com.UoU.infra.avro.tasks.UpdateAllSubaccountTokens;
 import com.UoU.infra.avro.tasks.UpdateSubaccountToken;
@@ -137,6 +138,30 @@ class NylasTaskProducer implements NylasTaskScheduler {
             .build());
   }
 
+  @Override
+  public void advanceEventsActivePeriod(AccountId accountId, CalendarId calendarId) {
+    // Use the sync-all-events topic so advances and full syncs for a calendar run in order.
+    sender.send(
+        topicNames.getSyncAllEvents(),
+        calendarId.value(),
+        SyncAllEvents.newBuilder()
+            .setAccountId(accountId.value())
+            .setCalendarId(calendarId.value())
+            .setAdvanceActivePeriodOnly(true)
+            .build());
+  }
+
+  @Override
+  public void syncEventDeltas(AccountId accountId) {
+    // Use account id as key so delta syncs for an account don't run concurrently with each other.
+    sender.send(
+        topicNames.getSyncEventDeltas(),
+        accountId.value(),
+        SyncEventDeltas.newBuilder()
+            .setAccountId(accountId.value())
+            .build());
+  }
+
   @Override
   public void importEventFromNylas(AccountId accountId, EventExternalId externalId) {
     sender.send(
@@ -1,5 +1,8 @@
 package com.UoU.infra.kafka;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -30,6 +33,26 @@ class Sender {
     }
   }
 
+  /**
+   * Sends all values, letting the producer batch them, and waits until all are acked.
+   *
+   * <p>Throws if any send fails, though others may have been sent, so callers must be ok with
+   * resending the whole batch.
+   */
+  public <T> void sendAllAndWait(
+      String topic, Function<T, String> keySelector, Collection<T> values) {
+    if (!enabled) {
+      log.debug("Kafka producer disabled for: topic={}, count={}", topic, values.size());
+      return;
+    }
+
+    CompletableFuture
+        .allOf(values.stream()
+            .map(value -> kafkaTemplate.send(topic, keySelector.apply(value), value).completable())
+            .toArray(CompletableFuture[]::new))
+        .join();
+  }
+
   public void send(String topic, Object value) {
     if (enabled) {
       kafkaTemplate.send(topic, value);
@@ -16,6 +16,7 @@ public class TopicNames {
     private final String exportCalendarsToNylas;
     private final String changeCalendar;
     private final String syncAllEvents;
+    private final String syncEventDeltas;
     private final String changeEvent;
     private final String deleteAccountFromNylas;
     private final String updateAllSubaccountTokens;
@@ -34,6 +35,9 @@ public class TopicNames {
         @Value("${" + ConfigPaths.Tasks.SYNC_ALL_EVENTS + ".topic.name}")
         String syncAllEvents,
 
+        @Value("${" + ConfigPaths.Tasks.SYNC_EVENT_DELTAS + ".topic.name}")
+        String syncEventDeltas,
+
         @Value("${" + ConfigPaths.Tasks.DELETE_ACCOUNT_FROM_NYLAS + ".topic.name}")
         String deleteAccountFromNylas,
 
@@ -61,6 +65,7 @@ public class TopicNames {
       this.importAllCalendarsFromNylas = importAllCalendarsFromNylas;
       this.exportCalendarsToNylas = exportCalendarsToNylas;
       this.syncAllEvents = syncAllEvents;
+      this.syncEventDeltas = syncEventDeltas;
       this.deleteAccountFromNylas = deleteAccountFromNylas;
       this.changeCalendar = changeCalendar;
       this.changeEvent = changeEvent;
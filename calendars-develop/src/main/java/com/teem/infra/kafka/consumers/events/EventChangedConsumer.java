@@ -7,6 +7,7 @@ import com.UoU.infra.kafka.ConfigPaths;
 import com.UoU.infra.kafka.NoRetryException;
 import com.UoU.infra.kafka.PublicEventProducer;
 import com.UoU.infra.kafka.consumers.Runner;
+import com.UoU.infra.redis.RedisAvailabilityIndexInvalidator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,6 +36,7 @@ public class EventChangedConsumer {
   private static final Runner RUNNER = new Runner(log, EventChangedConsumer.class.getSimpleName());
   private final EventRepository eventRepo;
   private final PublicEventProducer publicEventProducer;
+  private final RedisAvailabilityIndexInvalidator availabilityIndexInvalidator;
 
   @KafkaListener(topics = {"${" + CONF + ".topic.name}"})
   @RetryableTopic(
@@ -62,6 +64,9 @@ public class EventChangedConsumer {
 
       retry.run(() -> {
         val eventBatch = eventRepo.listById(ids).toList();
+        availabilityIndexInvalidator.invalidate(eventBatch.stream()
+            .map(x -> x.calendarId())
+            .toList());
 
         switch (changeType) {
           case created -> publicEventProducer.eventCreated(eventBatch);
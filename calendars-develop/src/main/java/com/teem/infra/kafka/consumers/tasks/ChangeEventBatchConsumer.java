@@ -0,0 +1,122 @@
+package com.UoU.infra.kafka.consumers.tasks;
+
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.nylas.tasks.ImportEventsFromNylasTask;
+import com.UoU.infra.avro.tasks.ChangeEvent;
+import com.UoU.infra.avro.tasks.ChangeEventAction;
+import com.UoU.infra.kafka.BatchListenerConfig;
+import com.UoU.infra.kafka.ConfigPaths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch version of {@link ChangeEventConsumer}, enabled with the change-event batch config.
+ *
+ * <p>Records are handled in offset order. Runs of consecutive imports from Nylas are grouped per
+ * account and run with {@link ImportEventsFromNylasTask} so that db changes, etag saves, and
+ * published event changes happen once per group. If a group fails, its records fall back to being
+ * handled one at a time like all other actions. If a single
+ * record fails, the error handler in {@link BatchListenerConfig} retries it and then sends it to
+ * the dead-letter topic. Records after it will be redelivered, which is fine since all the change
+ * tasks can safely be run more than once.
+ */
+@Component
+@ConditionalOnProperty({
+    "kafka.consumers-enabled",
+    ConfigPaths.Tasks.CHANGE_EVENT + ".consumer-enabled",
+    ConfigPaths.Tasks.CHANGE_EVENT + ".batch.enabled"})
+@AllArgsConstructor
+@Slf4j
+public class ChangeEventBatchConsumer {
+  private static final String CONF = ConfigPaths.Tasks.CHANGE_EVENT;
+
+  private final ChangeEventHandler handler;
+  private final ImportEventsFromNylasTask importEventsFromNylasTask;
+
+  @KafkaListener(
+      topics = {"${" + CONF + ".topic.name}"},
+      containerFactory = BatchListenerConfig.CONTAINER_FACTORY,
+      properties = {
+          "max.poll.records=${" + CONF + ".batch.max-records}",
+          "fetch.max.wait.ms=${" + CONF + ".batch.linger-ms}",
+          "fetch.min.bytes=${" + CONF + ".batch.min-bytes}"})
+  private void consume(List<ConsumerRecord<String, ChangeEvent>> records) {
+    log.debug("START consumer batch: records={}", records.size());
+
+    // Records are handled in offset order so changes to the same event are never reordered. Only
+    // runs of consecutive imports are batched, since imports fetch the latest event from Nylas.
+    var batchImported = 0;
+    var i = 0;
+    while (i < records.size()) {
+      if (!isImport(records.get(i))) {
+        handle(records, i++);
+        continue;
+      }
+
+      val runStart = i;
+      while (i < records.size() && isImport(records.get(i))) {
+        i++;
+      }
+      batchImported += importRun(records, runStart, i);
+    }
+
+    log.debug("END consumer batch: records={}, batchImported={}", records.size(), batchImported);
+  }
+
+  /**
+   * Imports the consecutive import records from start (inclusive) to end (exclusive), grouped by
+   * account, and returns how many were batch imported.
+   */
+  private int importRun(List<ConsumerRecord<String, ChangeEvent>> records, int start, int end) {
+    // Group imports by account, keeping the record indexes so failures can be reported by index.
+    val importIndexesByAccount = new LinkedHashMap<AccountId, List<Integer>>();
+    for (var i = start; i < end; i++) {
+      importIndexesByAccount
+          .computeIfAbsent(new AccountId(records.get(i).value().getAccountId()),
+              x -> new ArrayList<>())
+          .add(i);
+    }
+
+    var imported = 0;
+    for (val entry : importIndexesByAccount.entrySet()) {
+      val accountId = entry.getKey();
+      val indexes = entry.getValue();
+      val externalIds = indexes.stream()
+          .map(i -> new EventExternalId(records.get(i).value().getExternalId().orElseThrow()))
+          .toList();
+      try {
+        importEventsFromNylasTask.run(new ImportEventsFromNylasTask.Params(accountId, externalIds));
+        imported += indexes.size();
+      } catch (Exception ex) {
+        log.warn("Batch import failed for {}. Falling back to single imports: {}",
+            accountId, ex.getMessage(), ex);
+        indexes.forEach(i -> handle(records, i));
+      }
+    }
+
+    return imported;
+  }
+
+  private void handle(List<ConsumerRecord<String, ChangeEvent>> records, int index) {
+    try {
+      handler.handle(records.get(index));
+    } catch (Exception ex) {
+      throw new BatchListenerFailedException("Change event failed in batch", ex, index);
+    }
+  }
+
+  private static boolean isImport(ConsumerRecord<String, ChangeEvent> record) {
+    return record.value().getAction() == ChangeEventAction.IMPORT_FROM_NYLAS
+        && record.value().getExternalId().isPresent();
+  }
+}
@@ -0,0 +1,77 @@
+package com.UoU.infra.kafka.consumers.tasks;
+
+import com.UoU.core.Fluent;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.events.EventId;
+import com.UoU.core.nylas.tasks.DeleteEventFromNylasTask;
+import com.UoU.core.nylas.tasks.ExportEventToNylasTask;
+import com.UoU.core.nylas.tasks.HandleEventDeleteFromNylasTask;
+import com.UoU.core.nylas.tasks.ImportEventFromNylasTask;
+import com.UoU.infra.avro.tasks.ChangeEvent;
+import com.UoU.infra.kafka.consumers.Runner;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the task for a change-event record, shared by the single and batch consumers.
+ */
+@Component
+@AllArgsConstructor
+@Slf4j
+class ChangeEventHandler {
+  private static final Runner RUNNER = new Runner(log, ChangeEventHandler.class.getSimpleName());
+
+  private final ImportEventFromNylasTask importEventFromNylasTask;
+  private final HandleEventDeleteFromNylasTask handleEventDeleteFromNylasTask;
+  private final ExportEventToNylasTask exportEventToNylasTask;
+  private final DeleteEventFromNylasTask deleteEventFromNylasTask;
+
+  /**
+   * Handles a single change-event record, throwing retryable or non-retryable exceptions.
+   */
+  public void handle(ConsumerRecord<String, ChangeEvent> record) {
+    RUNNER.runWithRetry(() -> record.value().getAction().toString(), retry -> {
+      val action = record.value().getAction();
+      val accountId = new AccountId(record.value().getAccountId());
+
+      switch (action) {
+        case IMPORT_FROM_NYLAS -> retry.run(() -> Fluent
+            .of(new ImportEventFromNylasTask.Params(accountId, getExternalId(record)))
+            .also(importEventFromNylasTask::run));
+
+        case DELETE -> retry.run(() -> Fluent
+            .of(new HandleEventDeleteFromNylasTask.Params(accountId, getExternalId(record)))
+            .also(handleEventDeleteFromNylasTask::run));
+
+        case EXPORT_TO_NYLAS -> retry.run(() -> Fluent
+            .of(new ExportEventToNylasTask.Params(accountId, getEventId(record)))
+            .also(exportEventToNylasTask::run));
+
+        case DELETE_FROM_NYLAS -> retry.run(() -> Fluent
+            .of(new DeleteEventFromNylasTask.Params(accountId, getExternalId(record)))
+            .also(deleteEventFromNylasTask::run));
+
+        default -> throw new IllegalArgumentException("Invalid action: " + action);
+      }
+    });
+  }
+
+  private static EventId getEventId(ConsumerRecord<String, ChangeEvent> record) {
+    return record.value().getEventId()
+        .map(x -> new EventId(UUID.fromString(x)))
+        .orElseThrow(() -> new IllegalArgumentException(
+            "Action " + record.value().getAction() + " requires eventId"));
+  }
+
+  private static EventExternalId getExternalId(ConsumerRecord<String, ChangeEvent> record) {
+    return record.value().getExternalId()
+        .map(EventExternalId::new)
+        .orElseThrow(() -> new IllegalArgumentException(
+            "Action " + record.value().getAction() + " requires externalId"));
+  }
+}
@@ -55,7 +55,8 @@ public class SyncAllEventsConsumer {
           new AccountId(record.value().getAccountId()),
           new CalendarId(record.value().getCalendarId()),
           record.value().getForceUpdateAllDayEventWhens(),
-          record.value().getInboundSyncAccountLock().map(UUID::fromString).orElse(null));
+          record.value().getInboundSyncAccountLock().map(UUID::fromString).orElse(null),
+          record.value().getAdvanceActivePeriodOnly());
 
       retry.run(() -> task.run(params));
     });
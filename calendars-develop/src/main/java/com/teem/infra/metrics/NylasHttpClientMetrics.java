@@ -0,0 +1,34 @@
+package com.UoU.infra.metrics;
+
+import com.UoU.core.nylas.HttpClientConfig;
+import com.UoU.core.nylas.NylasClientFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpConnectionPoolMetrics;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds metrics for the connection pool shared by all Nylas clients.
+ *
+ * <p>This produces nylas.http.connection.count tagged with state=active|idle, plus
+ * nylas.http.connection.limit for max idle connections, so we can tell whether the pool is sized
+ * well enough for connections to be reused instead of reconnecting for each request.
+ */
+@Component
+@AllArgsConstructor
+class NylasHttpClientMetrics implements MeterBinder {
+  private final NylasClientFactory nylasClientFactory;
+  private final HttpClientConfig httpClientConfig;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    new OkHttpConnectionPoolMetrics(
+        nylasClientFactory.getConnectionPool(),
+        "nylas.http",
+        Tags.empty(),
+        httpClientConfig.maxIdleConnections())
+        .bindTo(registry);
+  }
+}
@@ -0,0 +1,70 @@
+package com.UoU.infra.redis;
+
+import com.UoU.core.calendars.AvailabilityIndex;
+import com.UoU.core.calendars.CalendarId;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Broadcasts {@link AvailabilityIndex} invalidations to all nodes via redis pub/sub.
+ *
+ * <p>Event changes are usually processed by kafka consumer nodes, while the index lives on the api
+ * nodes, so invalidations must be broadcast rather than applied locally. Messages are calendar ids
+ * separated by commas. If a broadcast is missed, the index ttl bounds how long it's stale.
+ */
+@Service
+@Slf4j
+public class RedisAvailabilityIndexInvalidator {
+  private static final String INVALIDATE_CHANNEL = "availability-index-invalidate";
+
+  private final AvailabilityIndex index;
+  private final StringRedisTemplate redisTemplate;
+
+  public RedisAvailabilityIndexInvalidator(
+      AvailabilityIndex index,
+      StringRedisTemplate redisTemplate,
+      RedisMessageListenerContainer listenerContainer) {
+    this.index = index;
+    this.redisTemplate = redisTemplate;
+
+    if (index.isEnabled()) {
+      listenerContainer.addMessageListener(
+          (message, pattern) -> index.invalidate(Arrays
+              .stream(new String(message.getBody(), StandardCharsets.UTF_8).split(","))
+              .map(CalendarId::new)
+              .toList()),
+          new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+  }
+
+  /**
+   * Invalidates the calendars in the index on all nodes (including this one via pub/sub).
+   *
+   * <p>This should be called after the event changes have been committed.
+   */
+  public void invalidate(Collection<CalendarId> calendarIds) {
+    if (!index.isEnabled() || calendarIds.isEmpty()) {
+      return;
+    }
+
+    val message = calendarIds.stream()
+        .map(x -> x.value())
+        .distinct()
+        .collect(Collectors.joining(","));
+
+    try {
+      redisTemplate.convertAndSend(INVALIDATE_CHANNEL, message);
+    } catch (DataAccessException ex) {
+      log.warn("Availability index invalidation broadcast failed for calendars: {}", message, ex);
+    }
+  }
+}
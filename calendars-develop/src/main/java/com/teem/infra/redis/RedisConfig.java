@@ -9,6 +9,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
@@ -33,4 +34,15 @@ class RedisConfig {
         .also(x -> x.setHashKeySerializer(RedisSerializer.string()))
         .get();
   }
+
+  /**
+   * Listener container for redis pub/sub, such as for invalidating in-process caches on all nodes.
+   */
+  @Bean
+  RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory) {
+    return Fluent.of(new RedisMessageListenerContainer())
+        .also(x -> x.setConnectionFactory(redisConnectionFactory))
+        .get();
+  }
 }
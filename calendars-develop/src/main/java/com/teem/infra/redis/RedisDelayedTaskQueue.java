@@ -0,0 +1,191 @@
+package com.UoU.infra.redis;
+
+import com.UoU.core.tasks.DelayedTask;
+import com.UoU.core.tasks.DelayedTaskQueue;
+import com.UoU.infra.redis.scripts.AckDelayedTasksScript;
+import com.UoU.infra.redis.scripts.ClaimDelayedTasksScript;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AllArgsConstructor;
+import lombok.val;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis implementation of the delayed task queue.
+ *
+ * <p>Each task type has a sorted set of queued tasks scored by due time and a sorted set of leased
+ * tasks scored by lease expiration, plus hashes of each leased task's lease token and attempts.
+ * Claiming and acking are done via lua scripts (see scripts directory) so that requeuing expired
+ * leases, rate limiting, leasing, and checking lease tokens are atomic across nodes.
+ *
+ * <p>All keys share the same hash tag so the multi-key scripts work with Redis Cluster, which
+ * requires every key a script touches to be in the same slot.
+ *
+ * <p>This also binds backlog and lag gauges for each task type so we can see when the drainers
+ * are falling behind.
+ */
+@Service
+@AllArgsConstructor
+public class RedisDelayedTaskQueue implements DelayedTaskQueue, MeterBinder {
+  private static final long RATE_WINDOW_TTL_SECONDS = 2;
+
+  private final StringRedisTemplate redisTemplate;
+  private final ClaimDelayedTasksScript claimDelayedTasksScript;
+  private final AckDelayedTasksScript ackDelayedTasksScript;
+
+  @Override
+  public void enqueue(Collection<DelayedTask> tasks, Instant dueAt) {
+    val score = (double) dueAt.toEpochMilli();
+    tasks.stream()
+        .collect(Collectors.groupingBy(DelayedTask::type))
+        .forEach((type, typeTasks) -> redisTemplate.opsForZSet().addIfAbsent(
+            Keys.queue(type),
+            typeTasks.stream()
+                .map(x -> new DefaultTypedTuple<>(Member.create(x), score))
+                .collect(Collectors.toSet())));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<ClaimedTask> claimDue(DelayedTask.Type type, int maxPerSecond, Duration lease) {
+    if (maxPerSecond <= 0) {
+      throw new IllegalArgumentException("Invalid maxPerSecond");
+    }
+
+    if (lease.isZero() || lease.isNegative()) {
+      throw new IllegalArgumentException("Invalid lease");
+    }
+
+    val now = Instant.now();
+    val leaseToken = UUID.randomUUID().toString();
+    final List<String> result = redisTemplate.execute(
+        claimDelayedTasksScript,
+        List.of(
+            Keys.queue(type), Keys.leased(type), Keys.rate(type, now), Keys.leaseTokens(type),
+            Keys.attempts(type)),
+        String.valueOf(now.toEpochMilli()),
+        String.valueOf(now.plus(lease).toEpochMilli()),
+        String.valueOf(maxPerSecond),
+        String.valueOf(RATE_WINDOW_TTL_SECONDS),
+        leaseToken);
+
+    // Result is a flat list of member, attempts pairs.
+    val claimed = new ArrayList<ClaimedTask>(result.size() / 2);
+    for (var i = 0; i + 1 < result.size(); i += 2) {
+      claimed.add(new ClaimedTask(
+          Member.parse(type, result.get(i)), leaseToken, Integer.parseInt(result.get(i + 1))));
+    }
+    return claimed;
+  }
+
+  @Override
+  public void ack(Collection<ClaimedTask> tasks) {
+    tasks.stream()
+        .collect(Collectors.groupingBy(x -> x.task().type()))
+        .forEach((type, typeTasks) -> typeTasks.stream()
+            .collect(Collectors.groupingBy(ClaimedTask::leaseToken))
+            .forEach((leaseToken, tokenTasks) -> redisTemplate.execute(
+                ackDelayedTasksScript,
+                List.of(Keys.leased(type), Keys.leaseTokens(type), Keys.attempts(type)),
+                Stream.concat(
+                    Stream.of(leaseToken),
+                    tokenTasks.stream().map(x -> Member.create(x.task())))
+                    .toArray())));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Arrays.stream(DelayedTask.Type.values()).forEach(type -> {
+      val tag = type.name().toLowerCase();
+
+      Gauge.builder("delayed-tasks.queued", () -> getCount(Keys.queue(type)))
+          .description("Queued delayed tasks, including tasks that are not due yet")
+          .tag("type", tag)
+          .register(registry);
+
+      Gauge.builder("delayed-tasks.leased", () -> getCount(Keys.leased(type)))
+          .description("Delayed tasks claimed by a node but not acked yet")
+          .tag("type", tag)
+          .register(registry);
+
+      Gauge.builder("delayed-tasks.lag", () -> getLagSeconds(type))
+          .description("Seconds the oldest queued delayed task is past due")
+          .baseUnit("seconds")
+          .tag("type", tag)
+          .register(registry);
+    });
+  }
+
+  private long getCount(String key) {
+    val count = redisTemplate.opsForZSet().zCard(key);
+    return count == null ? 0 : count;
+  }
+
+  private double getLagSeconds(DelayedTask.Type type) {
+    val oldest = redisTemplate.opsForZSet().rangeWithScores(Keys.queue(type), 0, 0);
+    if (oldest == null || oldest.isEmpty()) {
+      return 0;
+    }
+
+    val dueAt = oldest.iterator().next().getScore();
+    return dueAt == null ? 0 : Math.max(0, System.currentTimeMillis() - dueAt) / 1000;
+  }
+
+  /**
+   * Converts tasks to and from sorted set members, which are just the args joined by a space.
+   */
+  private static class Member {
+    private static final String SEPARATOR = " ";
+
+    public static String create(DelayedTask task) {
+      if (task.args().stream().anyMatch(x -> x.contains(SEPARATOR))) {
+        throw new IllegalArgumentException("Delayed task args cannot contain spaces: " + task);
+      }
+
+      return String.join(SEPARATOR, task.args());
+    }
+
+    public static DelayedTask parse(DelayedTask.Type type, String member) {
+      return new DelayedTask(type, List.of(member.split(SEPARATOR)));
+    }
+  }
+
+  /**
+   * Creates keys that all use the {delayed-tasks} hash tag so they're in the same cluster slot.
+   */
+  private static class Keys {
+    private static final String PREFIX = "{delayed-tasks}:";
+
+    public static String queue(DelayedTask.Type type) {
+      return PREFIX + type.name().toLowerCase();
+    }
+
+    public static String leased(DelayedTask.Type type) {
+      return queue(type) + ":leased";
+    }
+
+    public static String leaseTokens(DelayedTask.Type type) {
+      return queue(type) + ":lease-tokens";
+    }
+
+    public static String attempts(DelayedTask.Type type) {
+      return queue(type) + ":attempts";
+    }
+
+    public static String rate(DelayedTask.Type type, Instant now) {
+      return queue(type) + ":rate:" + now.getEpochSecond();
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package com.UoU.infra.redis;
+
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.nylas.DeltaCursorConfig;
+import com.UoU.core.nylas.DeltaCursorRepository;
+import java.util.Optional;
+import lombok.AllArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@AllArgsConstructor
+public class RedisDeltaCursorRepository implements DeltaCursorRepository {
+  private final DeltaCursorConfig config;
+  private final StringRedisTemplate redisTemplate;
+
+  @Override
+  public Optional<String> get(AccountId accountId) {
+    return Optional
+        .ofNullable(redisTemplate.opsForValue().get(Key.create(accountId)))
+        .filter(x -> !x.isEmpty());
+  }
+
+  @Override
+  public void save(AccountId accountId, String cursor) {
+    redisTemplate.opsForValue().set(Key.create(accountId), cursor, config.expiration());
+  }
+
+  @Override
+  public void tryDelete(AccountId accountId) {
+    redisTemplate.delete(Key.create(accountId));
+  }
+
+  private static class Key {
+    private static final String PREFIX = "nylas-delta-cursor-";
+
+    public static String create(AccountId accountId) {
+      return PREFIX + accountId.value();
+    }
+  }
+}
@@ -4,19 +4,42 @@ import com.UoU.core.events.EventExternalId;
 import com.UoU.core.nylas.EtagConfig;
 import com.UoU.core.nylas.ExternalEtag;
 import com.UoU.core.nylas.ExternalEtagRepository;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.val;
-import org.springframework.data.redis.connection.StringRedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+/**
+ * Stores external etags compactly in redis hashes, with etags spread over a fixed number of
+ * buckets.
+ *
+ * <p>Each bucket is one hash per generation, where fields are event external ids and values are the
+ * binary etag fingerprint plus the time it was saved. Hash fields can't expire on their own, so
+ * etags are saved to the hash for the current generation, which is as long as the expiration, and
+ * each hash expires at the end of the next generation. Reads check the current and previous
+ * generations, and entries older than the expiration are treated as missing. This way a hash never
+ * holds more than one generation of saves, however busy the bucket is.
+ *
+ * <p>Batch operations are grouped by bucket so there are one or two commands per bucket. Keys use
+ * the bucket as the hash tag, so both generations of a bucket are in the same slot, and each
+ * command only touches a single key, so they can be pipelined and routed per slot in a cluster.
+ *
+ * <p>Etags saved by older versions were stored as one string key per event. When
+ * {@link EtagConfig#readLegacyKeys()} is enabled, those keys are read when an etag isn't in its
+ * bucket, and they're deleted along with bucket entries.
+ */
 @Service
 @AllArgsConstructor
 public class RedisExternalEtagRepository implements ExternalEtagRepository {
@@ -25,74 +48,200 @@ public class RedisExternalEtagRepository implements ExternalEtagRepository {
 
   @Override
   public Optional<ExternalEtag> get(EventExternalId externalId) {
-    return Optional
-        .ofNullable(redisTemplate.opsForValue().get(Key.create(externalId)))
-        .map(ExternalEtag::new);
+    return Optional.ofNullable(get(Set.of(externalId)).get(externalId));
   }
 
   @Override
   public Map<EventExternalId, ExternalEtag> get(Set<EventExternalId> externalIds) {
-    val idsInOrder = new ArrayList<EventExternalId>();
-    val keys = new ArrayList<String>();
-    externalIds.forEach(id -> {
-      idsInOrder.add(id);
-      keys.add(Key.create(id));
-    });
+    if (externalIds.isEmpty()) {
+      return Map.of();
+    }
 
-    val results = redisTemplate.opsForValue().multiGet(keys);
+    val idsByBucket = groupByBucket(externalIds);
+    val generation = currentGeneration();
+    val results = redisTemplate.executePipelined((RedisCallback<?>) conn -> {
+      idsByBucket.forEach((bucket, ids) -> {
+        val fields = ids.stream().map(x -> bytes(x.value())).toArray(byte[][]::new);
+        conn.hashCommands().hMGet(bytes(Key.create(bucket, generation)), fields);
+        conn.hashCommands().hMGet(bytes(Key.create(bucket, generation - 1)), fields);
+      });
+      return null; // RedisCallback requires return
+    }, RedisSerializer.byteArray());
 
     // Result & key size and indexes should match, but ensure redis adapter never changes behavior:
-    if (results.size() != keys.size()) {
-      throw new IndexOutOfBoundsException("Redis multiGet result is not expected size.");
+    if (results.size() != idsByBucket.size() * 2) {
+      throw new IndexOutOfBoundsException("Redis pipeline result is not expected size.");
     }
 
+    val minSavedAt = Instant.now().minus(config.expiration()).getEpochSecond();
     val map = new HashMap<EventExternalId, ExternalEtag>();
-    for (var i = 0; i < results.size(); i++) {
-      val value = results.get(i);
-      if (value != null && !value.isEmpty()) {
-        map.put(idsInOrder.get(i), new ExternalEtag(value));
+    val missing = new ArrayList<EventExternalId>();
+    var resultIndex = 0;
+
+    for (var ids : idsByBucket.values()) {
+      val currentValues = (List<?>) results.get(resultIndex++);
+      val previousValues = (List<?>) results.get(resultIndex++);
+      for (var i = 0; i < ids.size(); i++) {
+        val id = ids.get(i);
+        val currentValue = (byte[]) currentValues.get(i);
+        val value = currentValue != null ? currentValue : (byte[]) previousValues.get(i);
+        if (value == null || Value.savedAt(value) < minSavedAt) {
+          missing.add(id);
+        } else {
+          map.put(id, Value.etag(value));
+        }
       }
     }
 
+    if (config.readLegacyKeys() && !missing.isEmpty()) {
+      map.putAll(getLegacy(missing));
+    }
+
     return map;
   }
 
   @Override
   public void save(EventExternalId externalId, ExternalEtag etag) {
-    redisTemplate.opsForValue().set(Key.create(externalId), etag.toString(), config.expiration());
+    save(Map.of(externalId, etag));
   }
 
   @Override
   public void save(Map<EventExternalId, ExternalEtag> etags) {
-    val keysAndValues = etags.entrySet()
-        .stream()
-        .collect(Collectors.toMap(x -> Key.create(x.getKey()), x -> x.getValue().toString()));
-    val expireSecs = config.expiration().toSeconds();
+    if (etags.isEmpty()) {
+      return;
+    }
+
+    val idsByBucket = groupByBucket(etags.keySet());
+    val savedAt = Instant.now().getEpochSecond();
+    val generation = currentGeneration();
+
+    // The hash is read through the next generation, so it can expire at the end of that one.
+    val expireAt = (generation + 2) * config.expiration().toSeconds();
 
-    // redisTemplate multiSet doesn't take expirations, so we'll use a pipeline with setex.
     redisTemplate.executePipelined((RedisCallback<?>) conn -> {
-      val stringConn = (StringRedisConnection) conn;
-      keysAndValues.entrySet().forEach(x -> stringConn.setEx(x.getKey(), expireSecs, x.getValue()));
+      idsByBucket.forEach((bucket, ids) -> {
+        val keyBytes = bytes(Key.create(bucket, generation));
+        val fields = new HashMap<byte[], byte[]>();
+        ids.forEach(id -> fields.put(bytes(id.value()), Value.create(etags.get(id), savedAt)));
+        conn.hashCommands().hMSet(keyBytes, fields);
+        conn.keyCommands().expireAt(keyBytes, expireAt);
+      });
       return null; // RedisCallback requires return
     });
   }
 
   @Override
   public void tryDelete(EventExternalId externalId) {
-    redisTemplate.delete(Key.create(externalId));
+    tryDelete(Set.of(externalId));
   }
 
   @Override
   public void tryDelete(Set<EventExternalId> externalIds) {
-    val keys = externalIds.stream().map(Key::create).toList();
-    redisTemplate.delete(keys);
+    if (externalIds.isEmpty()) {
+      return;
+    }
+
+    val generation = currentGeneration();
+    redisTemplate.executePipelined((RedisCallback<?>) conn -> {
+      groupByBucket(externalIds).forEach((bucket, ids) -> {
+        val fields = ids.stream().map(x -> bytes(x.value())).toArray(byte[][]::new);
+        conn.hashCommands().hDel(bytes(Key.create(bucket, generation)), fields);
+        conn.hashCommands().hDel(bytes(Key.create(bucket, generation - 1)), fields);
+      });
+      return null; // RedisCallback requires return
+    });
+
+    if (config.readLegacyKeys()) {
+      // Delete legacy keys one by one since they may be in different slots.
+      redisTemplate.executePipelined((RedisCallback<?>) conn -> {
+        externalIds.forEach(id -> conn.keyCommands().del(bytes(Key.createLegacy(id))));
+        return null; // RedisCallback requires return
+      });
+    }
+  }
+
+  private Map<EventExternalId, ExternalEtag> getLegacy(List<EventExternalId> externalIds) {
+    val results = redisTemplate.executePipelined((RedisCallback<?>) conn -> {
+      externalIds.forEach(id -> conn.stringCommands().get(bytes(Key.createLegacy(id))));
+      return null; // RedisCallback requires return
+    });
+
+    if (results.size() != externalIds.size()) {
+      throw new IndexOutOfBoundsException("Redis pipeline result is not expected size.");
+    }
+
+    val map = new HashMap<EventExternalId, ExternalEtag>();
+    for (var i = 0; i < results.size(); i++) {
+      val value = (String) results.get(i);
+      if (value != null && !value.isEmpty()) {
+        map.put(externalIds.get(i), new ExternalEtag(value));
+      }
+    }
+
+    return map;
+  }
+
+  private Map<Integer, List<EventExternalId>> groupByBucket(Set<EventExternalId> externalIds) {
+    val idsByBucket = new LinkedHashMap<Integer, List<EventExternalId>>();
+    externalIds.forEach(id -> idsByBucket
+        .computeIfAbsent(Key.bucket(id, config.buckets()), x -> new ArrayList<>())
+        .add(id));
+    return idsByBucket;
+  }
+
+  /**
+   * Gets the current generation, which changes every expiration period.
+   */
+  private long currentGeneration() {
+    return Instant.now().getEpochSecond() / config.expiration().toSeconds();
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
   }
 
   private static class Key {
-    private static final String PREFIX = "event-external-etag-";
+    private static final String PREFIX = "event-external-etags:";
+    private static final String LEGACY_PREFIX = "event-external-etag-";
+
+    /**
+     * Gets the bucket for the external id.
+     *
+     * <p>String.hashCode() is specified by the JLS, so buckets are stable across processes.
+     */
+    public static int bucket(EventExternalId externalId, int buckets) {
+      return Math.floorMod(externalId.value().hashCode(), buckets);
+    }
+
+    /**
+     * Creates the bucket key, with the bucket as the hash tag so the key slot only depends on it.
+     */
+    public static String create(int bucket, long generation) {
+      return PREFIX + "{" + bucket + "}:" + generation;
+    }
+
+    public static String createLegacy(EventExternalId externalId) {
+      return LEGACY_PREFIX + externalId.value();
+    }
+  }
+
+  /**
+   * Binary hash value: 8 byte etag fingerprint, then 8 byte epoch second when it was saved.
+   */
+  private static class Value {
+    private static final int SIZE = Long.BYTES * 2;
+
+    public static byte[] create(ExternalEtag etag, long savedAt) {
+      return ByteBuffer.allocate(SIZE).putLong(etag.fingerprint()).putLong(savedAt).array();
+    }
+
+    public static ExternalEtag etag(byte[] value) {
+      return ExternalEtag.fromFingerprint(ByteBuffer.wrap(value).getLong(0));
+    }
 
-    public static String create(EventExternalId externalId) {
-      return PREFIX + externalId.value();
+    public static long savedAt(byte[] value) {
+      // Treat malformed values as expired so they're removed and the etag is treated as missing.
+      return value.length == SIZE ? ByteBuffer.wrap(value).getLong(Long.BYTES) : 0;
     }
   }
 }
@@ -0,0 +1,54 @@
+package com.UoU.infra.redis;
+
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.nylas.PendingEventImportConfig;
+import com.UoU.core.nylas.PendingEventImportRepository;
+import java.util.Collection;
+import lombok.AllArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@AllArgsConstructor
+public class RedisPendingEventImportRepository implements PendingEventImportRepository {
+  private final PendingEventImportConfig config;
+  private final StringRedisTemplate redisTemplate;
+
+  @Override
+  public boolean tryAdd(EventExternalId externalId) {
+    if (config.expiration().isZero()) {
+      return true;
+    }
+
+    // SET NX is atomic, so only one of many concurrent webhooks for the event will get true.
+    return Boolean.TRUE.equals(redisTemplate
+        .opsForValue()
+        .setIfAbsent(Key.create(externalId), "1", config.expiration()));
+  }
+
+  @Override
+  public void tryDelete(EventExternalId externalId) {
+    if (config.expiration().isZero()) {
+      return;
+    }
+
+    redisTemplate.delete(Key.create(externalId));
+  }
+
+  @Override
+  public void tryDelete(Collection<EventExternalId> externalIds) {
+    if (config.expiration().isZero() || externalIds.isEmpty()) {
+      return;
+    }
+
+    redisTemplate.delete(externalIds.stream().map(Key::create).toList());
+  }
+
+  private static class Key {
+    private static final String PREFIX = "nylas-pending-event-import-";
+
+    public static String create(EventExternalId externalId) {
+      return PREFIX + externalId.value();
+    }
+  }
+}
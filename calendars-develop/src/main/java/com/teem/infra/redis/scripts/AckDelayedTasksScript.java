@@ -0,0 +1,16 @@
+package com.UoU.infra.redis.scripts;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisScript wrapper for lua script (see lua file for implementation).
+ */
+@Component
+public class AckDelayedTasksScript extends DefaultRedisScript<Long> {
+  protected AckDelayedTasksScript() {
+    setResultType(Long.class);
+    setLocation(new ClassPathResource("redis/ack-delayed-tasks.lua"));
+  }
+}
@@ -0,0 +1,16 @@
+package com.UoU.infra.redis.scripts;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisScript wrapper for lua script (see lua file for implementation).
+ */
+@Component
+public class AcquireRateLimitsScript extends DefaultRedisScript<Long> {
+  protected AcquireRateLimitsScript() {
+    setResultType(Long.class);
+    setLocation(new ClassPathResource("redis/acquire-rate-limits.lua"));
+  }
+}
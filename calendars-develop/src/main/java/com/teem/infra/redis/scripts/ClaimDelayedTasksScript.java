@@ -0,0 +1,18 @@
+package com.UoU.infra.redis.scripts;
+
+import java.util.List;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * RedisScript wrapper for lua script (see lua file for implementation).
+ */
+@Component
+@SuppressWarnings("rawtypes")
+public class ClaimDelayedTasksScript extends DefaultRedisScript<List> {
+  protected ClaimDelayedTasksScript() {
+    setResultType(List.class);
+    setLocation(new ClassPathResource("redis/claim-delayed-tasks.lua"));
+  }
+}
@@ -0,0 +1,3 @@
+-- Add an index so streaming sync can walk a calendar's events by external_id keyset -->
+
+CREATE INDEX event_calendar_id_external_id_idx ON event (calendar_id, external_id);
@@ -0,0 +1,10 @@
+-- Add an outbox for PUBLIC EventChanged messages, written in the same transaction as the events -->
+
+-- Payload is the Avro-encoded PUBLIC EventChanged message, which is relayed to kafka in id order.
+CREATE TABLE event_outbox
+(
+  id         BIGSERIAL PRIMARY KEY,
+  event_id   UUID  NOT NULL,
+  payload    BYTEA NOT NULL,
+  created_at created_at
+);
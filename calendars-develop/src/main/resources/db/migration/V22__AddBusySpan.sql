@@ -0,0 +1,69 @@
+-- Add a compact busy span projection of events with a GiST index for availability queries -->
+
+-- btree_gist allows calendar_id equality and span overlap in the same GiST index.
+-- It's a trusted extension, so the migration user can create it (see _DB_SETUP.md).
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Span is the closed range [start_at, end_at] (or [end_at, start_at] if inverted) for the index
+-- only. It's never empty, so zero-length and inverted events are still found, and queries check
+-- the exact start_at < end AND end_at > start predicate on the copied times, like before.
+-- Recurrence masters are kept but flagged, since busy periods exclude them (instances are used).
+CREATE TABLE busy_span
+(
+  event_id             UUID PRIMARY KEY REFERENCES event (id) ON DELETE CASCADE,
+  calendar_id          VARCHAR(36)              NOT NULL,
+  start_at             TIMESTAMP WITH TIME ZONE NOT NULL,
+  end_at               TIMESTAMP WITH TIME ZONE NOT NULL,
+  span                 TSTZRANGE                NOT NULL,
+  is_recurrence_master BOOLEAN                  NOT NULL
+);
+CREATE INDEX busy_span_calendar_id_span_idx ON busy_span USING GIST (calendar_id, span);
+
+-- Keep busy_span in sync for every event write, including batch and COPY paths, with statement
+-- triggers so batches are projected with one set-based statement. Deletes cascade via the FK.
+CREATE FUNCTION upsert_busy_span() RETURNS TRIGGER
+  LANGUAGE plpgsql AS
+$$
+BEGIN
+  INSERT INTO busy_span (event_id, calendar_id, start_at, end_at, span, is_recurrence_master)
+  SELECT id,
+         calendar_id,
+         start_at,
+         end_at,
+         tstzrange(LEAST(start_at, end_at), GREATEST(start_at, end_at), '[]'),
+         recurrence IS NOT NULL
+  FROM changed_event
+  ON CONFLICT (event_id) DO UPDATE
+    SET calendar_id          = excluded.calendar_id,
+        start_at             = excluded.start_at,
+        end_at               = excluded.end_at,
+        span                 = excluded.span,
+        is_recurrence_master = excluded.is_recurrence_master
+  WHERE (busy_span.calendar_id, busy_span.start_at, busy_span.end_at,
+         busy_span.is_recurrence_master)
+          IS DISTINCT FROM (excluded.calendar_id, excluded.start_at, excluded.end_at,
+                            excluded.is_recurrence_master);
+  RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER event_insert_busy_span
+  AFTER INSERT ON event
+  REFERENCING NEW TABLE AS changed_event
+  FOR EACH STATEMENT
+EXECUTE FUNCTION upsert_busy_span();
+
+CREATE TRIGGER event_update_busy_span
+  AFTER UPDATE ON event
+  REFERENCING NEW TABLE AS changed_event
+  FOR EACH STATEMENT
+EXECUTE FUNCTION upsert_busy_span();
+
+INSERT INTO busy_span (event_id, calendar_id, start_at, end_at, span, is_recurrence_master)
+SELECT id,
+       calendar_id,
+       start_at,
+       end_at,
+       tstzrange(LEAST(start_at, end_at), GREATEST(start_at, end_at), '[]'),
+       recurrence IS NOT NULL
+FROM event;
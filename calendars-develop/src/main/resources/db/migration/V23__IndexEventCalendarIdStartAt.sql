@@ -0,0 +1,3 @@
+-- Add an index so events that left the active period can be range deleted per calendar -->
+
+CREATE INDEX event_calendar_id_start_at_idx ON event (calendar_id, start_at);
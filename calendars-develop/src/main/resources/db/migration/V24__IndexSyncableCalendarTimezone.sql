@@ -0,0 +1,6 @@
+-- Add a partial index so syncable calendars can be listed by timezone for local hour tasks -->
+
+-- The predicate must match the syncable condition in JooqCalendarRepository for the index to be
+-- used. The id column allows keyset paging within each timezone without sorting.
+CREATE INDEX calendar_syncable_timezone_id_idx ON calendar (timezone, id)
+  WHERE account_id IS NOT NULL AND external_id IS NOT NULL AND is_read_only = false;
@@ -0,0 +1,5 @@
+-- Mark non-override recurrence instances that use their master's participants instead of storing
+-- their own, so an instance with no participants is never mistaken for one that inherits -->
+
+ALTER TABLE event
+  ADD COLUMN participants_inherited BOOL NOT NULL DEFAULT FALSE;
@@ -0,0 +1,20 @@
+-----------------
+-- Acks leased tasks by removing them for good, but only the tasks whose lease token still matches,
+-- so a node whose lease expired can't ack a task that another node has claimed again since.
+-- Returns the number of tasks acked.
+-----------------
+local leasedKey, tokensKey, attemptsKey = KEYS[1], KEYS[2], KEYS[3]
+local token = ARGV[1]
+
+local acked = 0
+for i = 2, #ARGV do
+  local task = ARGV[i]
+  if redis.call('HGET', tokensKey, task) == token then
+    redis.call('ZREM', leasedKey, task)
+    redis.call('HDEL', tokensKey, task)
+    redis.call('HDEL', attemptsKey, task)
+    acked = acked + 1
+  end
+end
+
+return acked
@@ -0,0 +1,51 @@
+-----------------
+-- Takes one token from each token bucket if all of them have one, else takes nothing and returns
+-- how many ms to wait before trying again. Each bucket has a backoff key that, while it exists,
+-- blocks the bucket regardless of tokens (such as after a 429 with Retry-After).
+--
+-- KEYS: bucketKey1, backoffKey1, bucketKey2, backoffKey2, ...
+-- ARGV: nowMs, requestsPerSecond1, burst1, requestsPerSecond2, burst2, ...
+-----------------
+local now = tonumber(ARGV[1])
+local count = #KEYS / 2
+local tokens = {}
+local wait = 0
+
+for i = 1, count do
+  local bucketKey, backoffKey = KEYS[i * 2 - 1], KEYS[i * 2]
+  local rate, burst = tonumber(ARGV[i * 2]), tonumber(ARGV[i * 2 + 1])
+
+  local backoff = redis.call('PTTL', backoffKey)
+  if backoff > wait then
+    wait = backoff
+  end
+
+  -- Refill tokens for the time since the last update, up to the burst size.
+  local bucket = redis.call('HMGET', bucketKey, 'tokens', 'updated')
+  local available = tonumber(bucket[1]) or burst
+  local updated = tonumber(bucket[2]) or now
+  available = math.min(burst, available + math.max(0, now - updated) * rate / 1000)
+  tokens[i] = available
+
+  if available < 1 then
+    local refill = math.ceil((1 - available) * 1000 / rate)
+    if refill > wait then
+      wait = refill
+    end
+  end
+end
+
+if wait > 0 then
+  return wait
+end
+
+for i = 1, count do
+  local bucketKey = KEYS[i * 2 - 1]
+  local rate, burst = tonumber(ARGV[i * 2]), tonumber(ARGV[i * 2 + 1])
+
+  -- Expire once the bucket would be full again anyway, so idle buckets don't stick around.
+  redis.call('HSET', bucketKey, 'tokens', tostring(tokens[i] - 1), 'updated', tostring(now))
+  redis.call('PEXPIRE', bucketKey, math.ceil(burst * 1000 / rate) + 1000)
+end
+
+return 0
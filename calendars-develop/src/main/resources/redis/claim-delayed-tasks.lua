@@ -0,0 +1,42 @@
+-----------------
+-- Claims due tasks by moving them from the queue to the leased set, limited to a max number of
+-- claims per rate window across all nodes. Expired leases are first moved back to the queue, so
+-- tasks claimed by a node that died before acking them, or that failed, are retried.
+--
+-- Each claimed task gets the lease token, so only this claim can ack it, and its attempt count is
+-- incremented. Returns a flat list of task, attempts pairs.
+-----------------
+local queueKey, leasedKey, rateKey, tokensKey, attemptsKey =
+  KEYS[1], KEYS[2], KEYS[3], KEYS[4], KEYS[5]
+local now, leaseUntil, limit, rateEx, token =
+  ARGV[1], ARGV[2], tonumber(ARGV[3]), ARGV[4], ARGV[5]
+
+-- Requeue expired leases as due now, unless the same task was queued again in the meantime.
+local expired = redis.call('ZRANGEBYSCORE', leasedKey, '-inf', now)
+for _, task in ipairs(expired) do
+  redis.call('ZADD', queueKey, 'NX', now, task)
+  redis.call('ZREM', leasedKey, task)
+  redis.call('HDEL', tokensKey, task)
+end
+
+local available = limit - tonumber(redis.call('GET', rateKey) or '0')
+if available <= 0 then
+  return {}
+end
+
+local tasks = redis.call('ZRANGEBYSCORE', queueKey, '-inf', now, 'LIMIT', 0, available)
+local result = {}
+for _, task in ipairs(tasks) do
+  redis.call('ZREM', queueKey, task)
+  redis.call('ZADD', leasedKey, leaseUntil, task)
+  redis.call('HSET', tokensKey, task, token)
+  table.insert(result, task)
+  table.insert(result, tostring(redis.call('HINCRBY', attemptsKey, task, 1)))
+end
+
+if #tasks > 0 then
+  redis.call('INCRBY', rateKey, #tasks)
+  redis.call('EXPIRE', rateKey, rateEx)
+end
+
+return result
@@ -58,7 +58,7 @@ class ArchitectureTests {
           "org.slf4j..", // logging
           "com.nylas..", // nylas sdk
           "com.microsoft.graph..", // ms graph sdk for Teams meetings
-          "okhttp3", // required for ms graph sdk, only to be used inside TeamsService
+          "okhttp3", // http client for ms graph and nylas sdks, only for their interceptors/config
           "org.mapstruct..", // type mapping
           "org.dmfs.rfc5545..", // recurrence rrule lib
           "org.springframework.scheduling..", // spring scheduler
@@ -65,6 +65,16 @@ public class NoopNylasTaskScheduler implements NylasTaskScheduler {
     Noop.because("testing");
   }
 
+  @Override
+  public void advanceEventsActivePeriod(AccountId accountId, CalendarId calendarId) {
+    Noop.because("testing");
+  }
+
+  @Override
+  public void syncEventDeltas(AccountId accountId) {
+    Noop.because("testing");
+  }
+
   @Override
   public void importEventFromNylas(AccountId accountId, EventExternalId externalId) {
     Noop.because("testing");
@@ -12,6 +12,7 @@ import com.nylas.Account;
 import com.nylas.Accounts;
 import com.nylas.Calendar;
 import com.nylas.Calendars;
+import com.nylas.Deltas;
 import com.nylas.Event;
 import com.nylas.Events;
 import com.nylas.NylasAccount;
@@ -159,6 +160,7 @@ public class NylasMockFactory {
 
   @SneakyThrows
   @SuppressWarnings("unchecked")
+  @SneakyThrows
   public static NylasAccount createAccountClientMock() {
     val calendars = mock(Calendars.class);
     val calendarRemoteCollection = mock(RemoteCollection.class);
@@ -170,9 +172,13 @@ public class NylasMockFactory {
     when(events.list(any())).thenReturn(eventRemoteCollection);
     when(events.list()).thenReturn(eventRemoteCollection);
 
+    val deltas = mock(Deltas.class);
+    when(deltas.latestCursor()).thenReturn("deltaCursor");
+
     val accountClient = mock(NylasAccount.class);
     when(accountClient.events()).thenReturn(events);
     when(accountClient.calendars()).thenReturn(calendars);
+    when(accountClient.deltas()).thenReturn(deltas);
 
     return accountClient;
   }
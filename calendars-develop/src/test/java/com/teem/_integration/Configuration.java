@@ -31,13 +31,18 @@ import com.UoU.core.conferencing.teams.AuthHttpInterceptor;
 import com.UoU.core.conferencing.teams.TeamsAuthService;
 import com.UoU.core.conferencing.teams.TeamsService;
 import com.UoU.core.events.EventRepository;
+import com.UoU.core.nylas.DeltaCursorRepository;
 import com.UoU.core.nylas.ExternalEtagRepository;
+import com.UoU.core.nylas.PendingEventImportRepository;
 import com.UoU.core.nylas.auth.NylasAuthService;
 import com.UoU.core.nylas.mapping.NylasAccountMapper;
 import com.UoU.core.nylas.mapping.NylasCalendarMapper;
 import com.UoU.core.nylas.mapping.NylasEventMapper;
+import com.UoU.core.nylas.tasks.ConcurrentEventFetcher;
 import com.UoU.core.nylas.tasks.EventHelper;
 import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import com.UoU.core.nylas.tasks.SyncAllEventsConfig;
+import com.UoU.core.tasks.DelayedTaskQueue;
 import com.UoU.core.tasks.TaskScheduler;
 import com.UoU.core.validation.ValidatorWrapper;
 import com.UoU.infra.oauth.OauthClient;
@@ -84,7 +89,12 @@ class Configuration {
       NylasAccountMapper nylasAccountMapper,
       NylasCalendarMapper nylasCalendarMapper,
       NylasEventMapper nylasEventMapper,
-      OauthHandlerProvider oauthHandlerProvider) {
+      OauthHandlerProvider oauthHandlerProvider,
+      SyncAllEventsConfig syncAllEventsConfig,
+      ConcurrentEventFetcher concurrentEventFetcher,
+      DeltaCursorRepository deltaCursorRepo,
+      PendingEventImportRepository pendingEventImportRepo,
+      DelayedTaskQueue delayedTaskQueue) {
 
     val appClientMock = NylasMockFactory.createApplicationClient();
     val accountClientMock = NylasMockFactory.createAccountClientMock();
@@ -104,14 +114,16 @@ class Configuration {
     val eventPublisherMock = new EventPublisherMock();
     val inboundSyncLocker = new FakeInboundSyncLocker();
     val internalCalendarsConfig = TestData.internalCalendarsConfig();
+    val delayedTaskQueueSpy = spy(delayedTaskQueue);
     val nylasTaskRunner = spy(new NylasTaskRunner(
         clientFactoryMock, accountRepo, calendarRepo, eventRepo, etagRepo, nylasAccountMapper,
         nylasCalendarMapper, nylasEventMapperSpy, authService, nylasAuthService, eventHelper,
-        eventPublisherMock, inboundSyncLocker, internalCalendarsConfig));
+        eventPublisherMock, inboundSyncLocker, internalCalendarsConfig, syncAllEventsConfig,
+        concurrentEventFetcher, deltaCursorRepo, pendingEventImportRepo, delayedTaskQueueSpy));
 
     return new BaseNylasTaskTest.TestDependencies(
         nylasTaskRunner, appClientMock, accountClientMock, nylasEventMapperSpy, eventsConfig,
-        eventPublisherMock, internalCalendarsConfig);
+        eventPublisherMock, internalCalendarsConfig, delayedTaskQueueSpy);
   }
 
   /**
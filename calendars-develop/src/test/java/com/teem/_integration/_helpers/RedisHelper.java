@@ -4,6 +4,7 @@ import com.UoU.core.OrgId;
 import com.UoU.core.auth.AuthCodeCreateRequest;
 import com.UoU.core.auth.AuthCodeRepository;
 import com.UoU.core.diagnostics.DiagnosticRepository;
+import com.UoU.core.nylas.DeltaCursorRepository;
 import com.UoU.core.nylas.ExternalEtagRepository;
 import java.time.Duration;
 import java.util.UUID;
@@ -19,6 +20,7 @@ public class RedisHelper {
   AuthCodeRepository authCodeRepo;
   DiagnosticRepository diagnosticRepo;
   ExternalEtagRepository externalEtagRepo;
+  DeltaCursorRepository deltaCursorRepo;
 
   public UUID createAuthCode(OrgId orgId) {
     return createAuthCode(orgId, Duration.ofSeconds(60));
@@ -4,9 +4,9 @@ import com.UoU.core.accounts.ServiceAccountId;
 import com.UoU.core.accounts.ServiceAccountRepository;
 import com.UoU.core.auth.AuthService;
 import com.UoU.core.calendars.CalendarRepository;
-import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import com.UoU.core.tasks.AdvanceEventsActivePeriodConfig;
 import com.UoU.core.tasks.AdvanceEventsActivePeriodTask;
-import com.UoU.core.tasks.BatchSpringTaskScheduler;
+import com.UoU.core.tasks.BatchDelayedTaskScheduler;
 import com.UoU.core.tasks.TaskScheduler;
 import com.UoU.core.tasks.UpdateExpiredServiceAccountRefreshTokensTask;
 import com.UoU.core.tasks.UpdateServiceAccountRefreshTokenTask;
@@ -15,23 +15,23 @@ import lombok.val;
 
 @AllArgsConstructor
 public class TaskRunner implements TaskScheduler {
+  private final AdvanceEventsActivePeriodConfig advanceEventsActivePeriodConfig;
   private final ServiceAccountRepository serviceAccountRepo;
   private final CalendarRepository calendarRepo;
   private final AuthService authService;
-  private final NylasTaskScheduler nylasTaskScheduler;
-  private final BatchSpringTaskScheduler batchSpringTaskScheduler;
+  private final BatchDelayedTaskScheduler batchDelayedTaskScheduler;
 
   @Override
   public void advanceEventsActivePeriod() {
     val task = new AdvanceEventsActivePeriodTask(
-        calendarRepo, nylasTaskScheduler, batchSpringTaskScheduler);
+        advanceEventsActivePeriodConfig, calendarRepo, batchDelayedTaskScheduler);
     task.run();
   }
 
   @Override
   public void updateExpiredServiceAccountRefreshTokens() {
     val task = new UpdateExpiredServiceAccountRefreshTokensTask(
-        serviceAccountRepo, this, batchSpringTaskScheduler);
+        serviceAccountRepo, batchDelayedTaskScheduler);
     task.run();
   }
 
@@ -12,13 +12,16 @@ import com.UoU.core.events.EventExternalId;
 import com.UoU.core.events.EventId;
 import com.UoU.core.events.EventPublisher;
 import com.UoU.core.events.EventRepository;
+import com.UoU.core.nylas.DeltaCursorRepository;
 import com.UoU.core.nylas.ExternalEtagRepository;
 import com.UoU.core.nylas.InboundSyncLocker;
 import com.UoU.core.nylas.NylasClientFactory;
+import com.UoU.core.nylas.PendingEventImportRepository;
 import com.UoU.core.nylas.auth.NylasAuthService;
 import com.UoU.core.nylas.mapping.NylasAccountMapper;
 import com.UoU.core.nylas.mapping.NylasCalendarMapper;
 import com.UoU.core.nylas.mapping.NylasEventMapper;
+import com.UoU.core.nylas.tasks.ConcurrentEventFetcher;
 import com.UoU.core.nylas.tasks.DeleteAccountFromNylasTask;
 import com.UoU.core.nylas.tasks.DeleteEventFromNylasTask;
 import com.UoU.core.nylas.tasks.EventHelper;
@@ -29,11 +32,15 @@ import com.UoU.core.nylas.tasks.HandleEventDeleteFromNylasTask;
 import com.UoU.core.nylas.tasks.ImportAllCalendarsFromNylasTask;
 import com.UoU.core.nylas.tasks.ImportCalendarFromNylasTask;
 import com.UoU.core.nylas.tasks.ImportEventFromNylasTask;
+import com.UoU.core.nylas.tasks.ImportEventsFromNylasTask;
 import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import com.UoU.core.nylas.tasks.SyncAllEventsConfig;
 import com.UoU.core.nylas.tasks.SyncAllEventsTask;
+import com.UoU.core.nylas.tasks.SyncEventDeltasTask;
 import com.UoU.core.nylas.tasks.UpdateAccountSyncStateTask;
 import com.UoU.core.nylas.tasks.UpdateAllSubaccountTokensTask;
 import com.UoU.core.nylas.tasks.UpdateSubaccountTokenTask;
+import com.UoU.core.tasks.DelayedTaskQueue;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.UUID;
@@ -59,6 +66,11 @@ public class NylasTaskRunner implements NylasTaskScheduler {
   private final EventPublisher eventPublisher;
   private final InboundSyncLocker inboundSyncLocker;
   private final InternalCalendarsConfig internalCalendarsConfig;
+  private final SyncAllEventsConfig syncAllEventsConfig;
+  private final ConcurrentEventFetcher concurrentEventFetcher;
+  private final DeltaCursorRepository deltaCursorRepo;
+  private final PendingEventImportRepository pendingEventImportRepo;
+  private final DelayedTaskQueue delayedTaskQueue;
 
   @Override
   public void updateAllSubaccountTokens(ServiceAccountId serviceAccountId) {
@@ -93,7 +105,7 @@ public class NylasTaskRunner implements NylasTaskScheduler {
     val params = new ImportAllCalendarsFromNylasTask.Params(
         accountId, includeEvents, UUID.randomUUID());
     val task = new ImportAllCalendarsFromNylasTask(clientFactory, accountRepo, calendarRepo,
-        nylasCalendarMapper, this, inboundSyncLocker, Duration.ofMinutes(1));
+        nylasCalendarMapper, this, inboundSyncLocker, deltaCursorRepo, Duration.ofMinutes(1));
     task.run(params);
   }
 
@@ -129,20 +141,37 @@ public class NylasTaskRunner implements NylasTaskScheduler {
   public void syncAllEvents(
       AccountId accountId, CalendarId calendarId, boolean forceUpdateAllDayEventWhens,
       UUID inboundSyncAccountLock) {
-    val params = new SyncAllEventsTask.Params(
-        accountId, calendarId, forceUpdateAllDayEventWhens, inboundSyncAccountLock);
-    val task = new SyncAllEventsTask(
-        eventHelper, eventRepo, etagRepo, calendarRepo, nylasEventMapper, eventPublisher,
-        inboundSyncLocker);
+    runSyncAllEvents(new SyncAllEventsTask.Params(
+        accountId, calendarId, forceUpdateAllDayEventWhens, inboundSyncAccountLock, false));
+  }
+
+  @Override
+  public void advanceEventsActivePeriod(AccountId accountId, CalendarId calendarId) {
+    runSyncAllEvents(new SyncAllEventsTask.Params(accountId, calendarId, false, null, true));
+  }
+
+  @Override
+  public void syncEventDeltas(AccountId accountId) {
+    val params = new SyncEventDeltasTask.Params(accountId);
+    val task = new SyncEventDeltasTask(
+        eventHelper, deltaCursorRepo, this, inboundSyncLocker, delayedTaskQueue);
     task.run(params);
   }
 
   @Override
   public void importEventFromNylas(AccountId accountId, EventExternalId externalId) {
     val params = new ImportEventFromNylasTask.Params(accountId, externalId);
-    val task = new ImportEventFromNylasTask(
+    createImportEventFromNylasTask().run(params);
+  }
+
+  /**
+   * Runs the batch import, which is only used by the batch kafka consumer and so isn't scheduled.
+   */
+  public void importEventsFromNylas(AccountId accountId, Collection<EventExternalId> externalIds) {
+    val params = new ImportEventsFromNylasTask.Params(accountId, externalIds);
+    val task = new ImportEventsFromNylasTask(
         eventHelper, eventRepo, etagRepo, nylasEventMapper, eventPublisher, inboundSyncLocker,
-        new HandleEventDeleteFromNylasTask(eventRepo, etagRepo, eventPublisher, inboundSyncLocker));
+        pendingEventImportRepo, concurrentEventFetcher, createImportEventFromNylasTask());
     task.run(params);
   }
 
@@ -168,4 +197,18 @@ public class NylasTaskRunner implements NylasTaskScheduler {
     val task = new DeleteEventFromNylasTask(eventHelper, etagRepo);
     task.run(params);
   }
+
+  private void runSyncAllEvents(SyncAllEventsTask.Params params) {
+    val task = new SyncAllEventsTask(
+        eventHelper, eventRepo, etagRepo, calendarRepo, nylasEventMapper, eventPublisher,
+        inboundSyncLocker, syncAllEventsConfig, concurrentEventFetcher);
+    task.run(params);
+  }
+
+  private ImportEventFromNylasTask createImportEventFromNylasTask() {
+    return new ImportEventFromNylasTask(
+        eventHelper, eventRepo, etagRepo, nylasEventMapper, eventPublisher, inboundSyncLocker,
+        new HandleEventDeleteFromNylasTask(eventRepo, etagRepo, eventPublisher, inboundSyncLocker),
+        pendingEventImportRepo);
+  }
 }
@@ -14,6 +14,7 @@ import com.UoU.core.events.EventExternalId;
 import com.UoU.core.events.EventId;
 import com.UoU.core.events.EventsConfig;
 import com.UoU.core.nylas.mapping.NylasEventMapper;
+import com.UoU.core.tasks.DelayedTaskQueue;
 import com.UoU.infra.jooq.tables.records.EventRecord;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -42,6 +43,10 @@ public class BaseNylasTaskTest extends BaseAppIntegrationTest {
     return dependencies.getNylasEventMapperSpy();
   }
 
+  public DelayedTaskQueue getDelayedTaskQueueSpy() {
+    return dependencies.getDelayedTaskQueueSpy();
+  }
+
   public EventsConfig getEventsConfig() {
     return dependencies.getEventsConfig();
   }
@@ -65,6 +70,7 @@ public class BaseNylasTaskTest extends BaseAppIntegrationTest {
     private EventsConfig eventsConfig;
     private EventPublisherMock eventPublisherMock;
     private InternalCalendarsConfig internalCalendarsConfig;
+    private DelayedTaskQueue delayedTaskQueueSpy;
   }
 
   protected void validate(
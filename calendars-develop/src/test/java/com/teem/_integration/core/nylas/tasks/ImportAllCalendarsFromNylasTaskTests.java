@@ -2,6 +2,10 @@ package com.UoU._integration.core.nylas.tasks;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -13,6 +17,7 @@ import com.UoU.core.OrgId;
 import com.UoU.core.accounts.AccountId;
 import com.UoU.infra.jooq.tables.records.CalendarRecord;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -70,6 +75,28 @@ public class ImportAllCalendarsFromNylasTaskTests extends BaseNylasTaskTest {
     validateResults(calendarMocks, calendars);
   }
 
+  @SneakyThrows
+  @Test
+  void shouldSyncAllEventsInsteadOfDeltasWhenCalendarIsNoLongerReadOnly() {
+    val calendarExternalId = TestData.calendarExternalId();
+    val calendarMock = NylasMockFactory.createCalendarMock(calendarExternalId, accountId);
+    val calendarId = dbHelper.createCalendar(orgId, x -> x
+        .accountId(accountId)
+        .externalId(calendarExternalId)
+        .name(calendarMock.getName())
+        .timezone(calendarMock.getTimezone())
+        .isReadOnly(true));
+    when(getAccountClientMock().calendars().list().fetchAll()).thenReturn(List.of(calendarMock));
+    redisHelper.getDeltaCursorRepo().save(accountId, TestData.uuidString());
+
+    getNylasTaskRunnerSpy().importAllCalendarsFromNylas(accountId, true);
+
+    assertThat(dbHelper.getCalendar(calendarId).getIsReadOnly()).isFalse();
+    verify(getNylasTaskRunnerSpy())
+        .syncAllEvents(eq(accountId), eq(calendarId), eq(false), any(UUID.class));
+    verify(getNylasTaskRunnerSpy(), never()).syncEventDeltas(accountId);
+  }
+
   @Test
   void shouldDeleteCalendarsWithExternalIds() {
     val externalIds = Stream.generate(TestData::calendarExternalId).limit(2).toList();
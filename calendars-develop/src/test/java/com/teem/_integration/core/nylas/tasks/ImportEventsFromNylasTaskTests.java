@@ -0,0 +1,98 @@
+package com.UoU._integration.core.nylas.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.UoU._fakes.nylas.NylasMockFactory;
+import com.UoU._helpers.TestData;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.calendars.CalendarExternalId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.DataSource;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.nylas.ExternalEtag;
+import java.util.List;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jooq.exception.NoDataFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ImportEventsFromNylasTaskTests extends BaseNylasTaskTest {
+  AccountId accountId;
+  CalendarId calendarId;
+  CalendarExternalId calendarExternalId;
+
+  @BeforeEach
+  void setup() {
+    accountId = dbHelper.createAccount(orgId);
+    calendarExternalId = TestData.calendarExternalId();
+    calendarId = dbHelper.createCalendar(orgId, accountId, calendarExternalId);
+    getEventPublisherMock().reset();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCreateAndUpdateEventsInBatch() {
+    val newNylasEvent = NylasMockFactory.createEventMock(calendarExternalId);
+    val newExternalId = new EventExternalId(newNylasEvent.getId());
+    val existingNylasEvent = NylasMockFactory.createEventMock(calendarExternalId);
+    val existingExternalId = new EventExternalId(existingNylasEvent.getId());
+    val existingId = dbHelper.createEvent(orgId, calendarId, existingExternalId);
+
+    when(getAccountClientMock().events().get(newExternalId.value())).thenReturn(newNylasEvent);
+    when(getAccountClientMock().events().get(existingExternalId.value()))
+        .thenReturn(existingNylasEvent);
+
+    getNylasTaskRunnerSpy().importEventsFromNylas(
+        accountId, List.of(newExternalId, existingExternalId));
+    val newId = dbHelper.getEventIdByExternalId(newExternalId);
+
+    validate(newNylasEvent, newExternalId, calendarExternalId);
+    validate(existingNylasEvent, existingId, calendarExternalId);
+    assertThat(redisHelper.getExternalEtagRepo().get(newExternalId))
+        .contains(new ExternalEtag(newNylasEvent));
+    assertThat(redisHelper.getExternalEtagRepo().get(existingExternalId))
+        .contains(new ExternalEtag(existingNylasEvent));
+    verifyEventPublisherMock()
+        .hasEventCreated(newId)
+        .hasEventUpdated(existingId)
+        .noEventDeleted();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldUpdateEventThatMovedToAnotherCalendarInsteadOfDuplicating() {
+    val otherCalendarExternalId = TestData.calendarExternalId();
+    dbHelper.createCalendar(orgId, accountId, otherCalendarExternalId);
+    val movedNylasEvent = NylasMockFactory.createEventMock(otherCalendarExternalId);
+    val movedExternalId = new EventExternalId(movedNylasEvent.getId());
+    val movedId = dbHelper.createEvent(orgId, calendarId, movedExternalId);
+
+    when(getAccountClientMock().events().get(movedExternalId.value())).thenReturn(movedNylasEvent);
+
+    getNylasTaskRunnerSpy().importEventsFromNylas(accountId, List.of(movedExternalId));
+
+    assertThat(dbHelper.getEventIdByExternalId(movedExternalId)).isEqualTo(movedId);
+    verifyEventPublisherMock()
+        .noEventCreated()
+        .hasEventUpdated(movedId)
+        .noEventDeleted();
+  }
+
+  @Test
+  void shouldDeleteEventsMissingFromNylas() {
+    val externalId = TestData.eventExternalId();
+    val eventId = dbHelper.createEvent(orgId, calendarId, externalId);
+
+    // Account client mock returns null for unknown ids, which is treated the same as a 404.
+    getNylasTaskRunnerSpy().importEventsFromNylas(accountId, List.of(externalId));
+
+    assertThrows(NoDataFoundException.class, () -> dbHelper.getEvent(eventId));
+    verifyEventPublisherMock()
+        .noEventCreated()
+        .noEventUpdated()
+        .hasEventDeleted(DataSource.PROVIDER, eventId);
+  }
+}
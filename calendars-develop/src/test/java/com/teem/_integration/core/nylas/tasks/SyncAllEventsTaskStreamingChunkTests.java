@@ -0,0 +1,151 @@
+package com.UoU._integration.core.nylas.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nylas.Event;
+import com.nylas.EventQuery;
+import com.nylas.RemoteCollection;
+import com.UoU._fakes.nylas.NylasMockFactory;
+import com.UoU._helpers.TestData;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.calendars.CalendarExternalId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.EventExternalId;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.jooq.exception.NoDataFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Tests streaming sync with a tiny chunk size, so Nylas offset pages and local keyset pages both
+ * span several chunks.
+ *
+ * <p>{@link SyncAllEventsTaskStreamingTests} runs the general sync tests with streaming enabled,
+ * but with the default chunk size, every list in those tests fits in one chunk.
+ */
+@TestPropertySource(properties = {
+    "nylas.tasks.sync-all-events.streaming=true",
+    "nylas.tasks.sync-all-events.chunk-size=" + SyncAllEventsTaskStreamingChunkTests.CHUNK_SIZE,
+})
+public class SyncAllEventsTaskStreamingChunkTests extends BaseNylasTaskTest {
+  static final int CHUNK_SIZE = 2;
+
+  private AccountId accountId;
+  private CalendarId calendarId;
+  private CalendarExternalId calendarExternalId;
+
+  @BeforeEach
+  void setUp() {
+    accountId = dbHelper.createAccount(orgId);
+    calendarExternalId = TestData.calendarExternalId();
+    calendarId = dbHelper.createCalendar(orgId, accountId, calendarExternalId);
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldSyncEventsAcrossSeveralChunks() {
+    // Odd counts so the last Nylas and local pages are short.
+    val nylasEvents = createNylasEvents(7);
+    mockNylasEventPages(nylasEvents);
+
+    // Local events that match some Nylas events should be updated, and local events missing from
+    // Nylas should be deleted. Random external ids mix both across the local keyset pages.
+    val matchingEventIds = nylasEvents.subList(0, 3).stream()
+        .map(x -> dbHelper.createEvent(orgId, calendarId, new EventExternalId(x.getId())))
+        .toList();
+    val missingEventIds = IntStream.range(0, 6)
+        .mapToObj(i -> dbHelper.createEvent(orgId, calendarId, TestData.eventExternalId()))
+        .toList();
+
+    runTask();
+
+    nylasEvents.forEach(x -> validate(x, new EventExternalId(x.getId()), calendarExternalId));
+    matchingEventIds.forEach(id -> assertThat(dbHelper.getEvent(id).getUpdatedAt())
+        .as("Matching local event should be updated, not duplicated")
+        .isNotNull());
+    missingEventIds.forEach(id -> assertThrows(
+        NoDataFoundException.class, () -> dbHelper.getEvent(id),
+        "Local event missing from Nylas should be deleted"));
+    assertThat(dbHelper.getEventRepo().listExternalIdPairsByCalendar(calendarId, null, 100))
+        .hasSize(nylasEvents.size());
+    verify(getAccountClientMock().events(), atLeast(nylasEvents.size() / CHUNK_SIZE))
+        .list(any(EventQuery.class));
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldSyncEventsWhenCountsAreMultiplesOfChunkSize() {
+    // Even counts so the last Nylas and local pages are full, and an empty page follows.
+    val nylasEvents = createNylasEvents(6);
+    mockNylasEventPages(nylasEvents);
+
+    nylasEvents.subList(0, 2)
+        .forEach(x -> dbHelper.createEvent(orgId, calendarId, new EventExternalId(x.getId())));
+    val missingEventIds = IntStream.range(0, 4)
+        .mapToObj(i -> dbHelper.createEvent(orgId, calendarId, TestData.eventExternalId()))
+        .toList();
+
+    runTask();
+
+    nylasEvents.forEach(x -> validate(x, new EventExternalId(x.getId()), calendarExternalId));
+    missingEventIds.forEach(
+        id -> assertThrows(NoDataFoundException.class, () -> dbHelper.getEvent(id)));
+    assertThat(dbHelper.getEventRepo().listExternalIdPairsByCalendar(calendarId, null, 100))
+        .hasSize(nylasEvents.size());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldDeleteAllLocalEventsAcrossSeveralChunksWhenNylasHasNone() {
+    mockNylasEventPages(List.of());
+    val missingEventIds = IntStream.range(0, 5)
+        .mapToObj(i -> dbHelper.createEvent(orgId, calendarId, TestData.eventExternalId()))
+        .toList();
+
+    runTask();
+
+    missingEventIds.forEach(
+        id -> assertThrows(NoDataFoundException.class, () -> dbHelper.getEvent(id)));
+    assertThat(dbHelper.getEventRepo().listExternalIdPairsByCalendar(calendarId, null, 100))
+        .isEmpty();
+  }
+
+  private void runTask() {
+    getNylasTaskRunnerSpy().syncAllEvents(accountId, calendarId);
+  }
+
+  private List<Event> createNylasEvents(int count) {
+    return NylasMockFactory.createEventMocks(calendarExternalId).limit(count).toList();
+  }
+
+  /**
+   * Mocks Nylas event list requests to return the page of events for the query offset and limit,
+   * like the real api, so full pages are followed by more requests until a short page.
+   */
+  @SuppressWarnings("unchecked")
+  private void mockNylasEventPages(List<Event> events) {
+    doAnswer(invocation -> {
+      val query = invocation.getArgument(0, EventQuery.class);
+      val offset = (Integer) ReflectionTestUtils.getField(query, "offset");
+      val limit = (Integer) ReflectionTestUtils.getField(query, "limit");
+      val from = Math.min(offset == null ? 0 : offset, events.size());
+      val to = limit == null ? events.size() : Math.min(from + limit, events.size());
+
+      val page = mock(RemoteCollection.class);
+      when(page.fetchAll()).thenReturn(events.subList(from, to));
+      return page;
+    }).when(getAccountClientMock().events()).list(any(EventQuery.class));
+  }
+}
@@ -0,0 +1,10 @@
+package com.UoU._integration.core.nylas.tasks;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs all the {@link SyncAllEventsTaskTests} again with streaming sync enabled.
+ */
+@TestPropertySource(properties = "nylas.tasks.sync-all-events.streaming=true")
+public class SyncAllEventsTaskStreamingTests extends SyncAllEventsTaskTests {
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.within;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -19,6 +20,9 @@ import com.UoU.core.calendars.CalendarExternalId;
 import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.calendars.CalendarUpdateRequest;
 import com.UoU.core.events.EventExternalId;
+import com.UoU.core.events.When;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
@@ -274,6 +278,35 @@ public class SyncAllEventsTaskTests extends BaseNylasTaskTest {
         .isEqualTo(date.plusDays(1).atStartOfDay(newTimezone).toOffsetDateTime());
   }
 
+  @Test
+  @SneakyThrows
+  void advanceEventsActivePeriod_shouldImportNewEventsAndDeleteOnlyPastEvents() {
+    val nylasEvent = NylasMockFactory.createEventMock(calendarExternalId);
+    val externalId = new EventExternalId(nylasEvent.getId());
+    when(getAccountClientMock().events().list(any(EventQuery.class)).fetchAll())
+        .thenReturn(List.of(nylasEvent));
+
+    // pastEventId - started before the active period and should be deleted
+    // currentEventId - in the active period and should be kept, even though Nylas didn't return it
+    // unexportedEventId - started before the active period but has no external id, so is kept
+    val pastStart = Instant.now().minus(Duration.ofDays(60));
+    val pastWhen = new When.TimeSpan(pastStart, pastStart.plus(Duration.ofHours(1)));
+    val pastExternalId = TestData.eventExternalId();
+    val pastEventId = dbHelper.createEvent(
+        orgId, calendarId, x -> x.externalId(pastExternalId).when(pastWhen));
+    val currentEventId = dbHelper.createEvent(orgId, calendarId, TestData.eventExternalId());
+    val unexportedEventId = dbHelper.createEvent(orgId, calendarId, x -> x.when(pastWhen));
+
+    getNylasTaskRunnerSpy().advanceEventsActivePeriod(accountId, calendarId);
+
+    validate(nylasEvent, externalId, calendarExternalId);
+    assertThat(redisHelper.getExternalEtagRepo().get(externalId)).isPresent();
+    assertThrows(NoDataFoundException.class, () -> dbHelper.getEvent(pastEventId));
+    assertThatCode(() -> dbHelper.getEvent(currentEventId)).doesNotThrowAnyException();
+    assertThatCode(() -> dbHelper.getEvent(unexportedEventId)).doesNotThrowAnyException();
+    verify(getAccountClientMock().events(), never()).create(any(Event.class), any(Boolean.class));
+  }
+
   private void updateCalendarTimezone(String timezone) {
     dbHelper.getCalendarRepo().update(CalendarUpdateRequest.builder()
         .id(calendarId)
@@ -0,0 +1,124 @@
+package com.UoU._integration.core.nylas.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nylas.Delta;
+import com.nylas.DeltaCursor;
+import com.nylas.RequestFailedException;
+import com.UoU._fakes.nylas.FakeInboundSyncLocker;
+import com.UoU._helpers.TestData;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.nylas.NylasValues;
+import com.UoU.core.tasks.DelayedTask;
+import java.time.Instant;
+import java.util.List;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class SyncEventDeltasTaskTests extends BaseNylasTaskTest {
+  private AccountId accountId;
+
+  @BeforeEach
+  void setup() {
+    accountId = dbHelper.createAccount(orgId);
+  }
+
+  @Test
+  void shouldFallBackToFullImportWhenNoCursor() {
+    getNylasTaskRunnerSpy().syncEventDeltas(accountId);
+
+    verify(getNylasTaskRunnerSpy()).importAllCalendarsFromNylas(accountId, true);
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldSkipWithoutMovingCursorIfInboundSyncIsLockedForAccount() {
+    val cursor = TestData.uuidString();
+    redisHelper.getDeltaCursorRepo().save(accountId, cursor);
+
+    FakeInboundSyncLocker.fakeIsAccountLockedResult(accountId, true);
+    getNylasTaskRunnerSpy().syncEventDeltas(accountId);
+
+    verify(getAccountClientMock().deltas(), never()).since(cursor);
+    assertThat(redisHelper.getDeltaCursorRepo().get(accountId)).contains(cursor);
+  }
+
+  @Test
+  void shouldRescheduleWithDelayIfInboundSyncIsLockedForAccount() {
+    val before = Instant.now();
+    FakeInboundSyncLocker.fakeIsAccountLockedResult(accountId, true);
+    getNylasTaskRunnerSpy().syncEventDeltas(accountId);
+
+    verify(getDelayedTaskQueueSpy()).enqueue(
+        eq(List.of(DelayedTask.syncEventDeltas(accountId))),
+        argThat(dueAt -> dueAt.isAfter(before)));
+    verify(getNylasTaskRunnerSpy(), never()).importAllCalendarsFromNylas(accountId, true);
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldScheduleLastChangePerEventAndSaveCursor() {
+    val cursor = TestData.uuidString();
+    val nextCursor = TestData.uuidString();
+    val changedThenDeletedId = TestData.eventExternalId();
+    val modifiedId = TestData.eventExternalId();
+    redisHelper.getDeltaCursorRepo().save(accountId, cursor);
+
+    val deltaCursor = createDeltaCursorMock(nextCursor, List.of(
+        createDeltaMock(changedThenDeletedId, NylasValues.Delta.EVENT_CREATE),
+        createDeltaMock(changedThenDeletedId, NylasValues.Delta.EVENT_DELETE),
+        createDeltaMock(modifiedId, NylasValues.Delta.EVENT_MODIFY)));
+    val emptyCursor = createDeltaCursorMock(nextCursor, List.of());
+    when(getAccountClientMock().deltas().since(cursor)).thenReturn(deltaCursor);
+    when(getAccountClientMock().deltas().since(nextCursor)).thenReturn(emptyCursor);
+
+    getNylasTaskRunnerSpy().syncEventDeltas(accountId);
+
+    verify(getNylasTaskRunnerSpy()).handleEventDeleteFromNylas(accountId, changedThenDeletedId);
+    verify(getNylasTaskRunnerSpy(), never()).importEventFromNylas(accountId, changedThenDeletedId);
+    verify(getNylasTaskRunnerSpy()).importEventFromNylas(accountId, modifiedId);
+    assertThat(redisHelper.getDeltaCursorRepo().get(accountId)).contains(nextCursor);
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldDeleteCursorAndFallBackToFullImportWhenCursorIsInvalid() {
+    val cursor = TestData.uuidString();
+    redisHelper.getDeltaCursorRepo().save(accountId, cursor);
+
+    when(getAccountClientMock().deltas().since(cursor))
+        .thenThrow(new RequestFailedException(400, "Invalid cursor", "invalid_request_error"));
+
+    getNylasTaskRunnerSpy().syncEventDeltas(accountId);
+
+    verify(getNylasTaskRunnerSpy()).importAllCalendarsFromNylas(accountId, true);
+    assertThat(redisHelper.getDeltaCursorRepo().get(accountId))
+        .as("Full import should have saved the latest cursor in place of the invalid one.")
+        .isPresent()
+        .doesNotContain(cursor);
+  }
+
+  private static DeltaCursor createDeltaCursorMock(String cursorEnd, List<Delta<?>> deltas) {
+    val deltaCursor = Mockito.mock(DeltaCursor.class);
+    when(deltaCursor.getCursorEnd()).thenReturn(cursorEnd);
+    when(deltaCursor.getDeltas()).thenReturn(deltas);
+    return deltaCursor;
+  }
+
+  private static Delta<?> createDeltaMock(EventExternalId externalId, String event) {
+    val delta = Mockito.mock(Delta.class);
+    when(delta.getObject()).thenReturn(NylasValues.Delta.OBJECT_EVENT);
+    when(delta.getId()).thenReturn(externalId.value());
+    when(delta.getEvent()).thenReturn(event);
+    return delta;
+  }
+}
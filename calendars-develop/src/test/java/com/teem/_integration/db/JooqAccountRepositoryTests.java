@@ -117,6 +117,20 @@ public class JooqAccountRepositoryTests extends BaseAppIntegrationTest {
         .doesNotContain(createRequest.accessToken().value());
   }
 
+  @Test
+  void updateAccessToken_shouldInvalidateCachedAccessToken() {
+    val id = dbHelper.createAccount(orgId);
+    val accountRepo = dbHelper.getAccountRepo();
+    accountRepo.getAccessToken(id); // cache the original token
+
+    val newToken = new SecretString("this-is-a-new-token");
+    accountRepo.updateAccessToken(id, newToken);
+
+    assertThat(accountRepo.getAccessToken(id).value())
+        .as("should get the new token, not the cached original token")
+        .isEqualTo(newToken.value());
+  }
+
   @Test
   void createError_shouldKeepMaxNewestErrors() {
     val id = dbHelper.createAccount(orgId);
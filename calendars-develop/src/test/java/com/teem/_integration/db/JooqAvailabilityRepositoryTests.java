@@ -8,11 +8,14 @@ import com.UoU._integration.BaseAppIntegrationTest;
 import com.UoU.core.TimeSpan;
 import com.UoU.core.calendars.AvailabilityRequest;
 import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.DataSource;
+import com.UoU.core.events.EventUpdateRequest;
 import com.UoU.core.events.When;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 import lombok.val;
@@ -132,8 +135,26 @@ public class JooqAvailabilityRepositoryTests extends BaseAppIntegrationTest {
             searchWindow,
             "UTC",
             whenTimeSpan(end.minus(5, MINUTES), end.plus(5, MINUTES))),
+        Arguments.of(
+            false,
+            "Zero-length event inside window",
+            searchWindow,
+            "UTC",
+            whenTimeSpan(start.plus(30, MINUTES), start.plus(30, MINUTES))),
 
         // Events that keep calendar available
+        Arguments.of(
+            true,
+            "Zero-length event at start of window",
+            searchWindow,
+            "UTC",
+            whenTimeSpan(start, start)),
+        Arguments.of(
+            true,
+            "Zero-length event at end of window",
+            searchWindow,
+            "UTC",
+            whenTimeSpan(end, end)),
         Arguments.of(
             true,
             "Event abuts start of window",
@@ -221,6 +242,86 @@ public class JooqAvailabilityRepositoryTests extends BaseAppIntegrationTest {
         new TimeSpan(overlappingWhen.startTime(), overlappingWhen.endTime()));
   }
 
+  @Test
+  void listEventSpans_shouldIncludeOrgAndOverlappingSpansAndExcludeMissingCalendars() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val emptyCalendarId = dbHelper.createCalendar(orgId);
+    val baseTime = Instant.now().truncatedTo(ChronoUnit.DAYS);
+    val timeSpan = new TimeSpan(baseTime, baseTime.plusSeconds(3600));
+    val insideWhen = whenTimeSpan(baseTime.plusSeconds(60), baseTime.plusSeconds(120));
+    dbHelper.createEvent(orgId, calendarId, x -> x.when(insideWhen));
+    dbHelper.createEvent(orgId, calendarId, x -> x.when(
+        whenTimeSpan(timeSpan.end(), timeSpan.end().plusSeconds(60))));
+
+    val result = dbHelper.getAvailabilityRepo().listEventSpans(
+        Set.of(calendarId, emptyCalendarId, new CalendarId("invalid")), timeSpan);
+
+    assertThat(result.keySet()).containsExactlyInAnyOrder(calendarId, emptyCalendarId);
+    assertThat(result.get(calendarId).orgId()).isEqualTo(orgId);
+    assertThat(result.get(calendarId).eventSpans()).containsExactly(
+        new TimeSpan(insideWhen.startTime(), insideWhen.endTime()));
+    assertThat(result.get(emptyCalendarId).eventSpans()).isEmpty();
+  }
+
+  @Test
+  void listEventSpans_shouldMatchZeroLengthAndTouchingEventsLikeStartEndComparison() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val baseTime = Instant.now().truncatedTo(ChronoUnit.DAYS);
+    val timeSpan = new TimeSpan(baseTime, baseTime.plusSeconds(3600));
+    val zeroLengthInside = whenTimeSpan(baseTime.plusSeconds(60), baseTime.plusSeconds(60));
+    val alignsWithStart = whenTimeSpan(timeSpan.start(), timeSpan.start().plusSeconds(60));
+    Stream
+        .of(
+            zeroLengthInside,
+            alignsWithStart,
+            whenTimeSpan(timeSpan.start(), timeSpan.start()),
+            whenTimeSpan(timeSpan.end(), timeSpan.end()),
+            whenTimeSpan(timeSpan.start().minusSeconds(60), timeSpan.start()),
+            whenTimeSpan(timeSpan.end(), timeSpan.end().plusSeconds(60)))
+        .forEach(when -> dbHelper.createEvent(orgId, calendarId, x -> x.when(when)));
+
+    val result = dbHelper.getAvailabilityRepo().listEventSpans(Set.of(calendarId), timeSpan);
+
+    assertThat(result.get(calendarId).eventSpans())
+        .as("Only the zero-length event inside and the event at the start should overlap")
+        .containsExactlyInAnyOrder(
+            new TimeSpan(zeroLengthInside.startTime(), zeroLengthInside.endTime()),
+            new TimeSpan(alignsWithStart.startTime(), alignsWithStart.endTime()));
+  }
+
+  @Test
+  void allAvailabilityMethods_shouldReflectEventUpdatesAndDeletes() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val baseTime = Instant.now().truncatedTo(ChronoUnit.DAYS);
+    val request = new AvailabilityRequest(
+        orgId, Set.of(calendarId), new TimeSpan(baseTime, baseTime.plusSeconds(3600)));
+    val eventId = dbHelper.createEvent(orgId, calendarId, x -> x.when(
+        whenTimeSpan(baseTime.plusSeconds(3600), baseTime.plusSeconds(7200))));
+    val repo = dbHelper.getAvailabilityRepo();
+
+    assertThat(repo.getAvailability(request).get(calendarId)).isTrue();
+
+    val movedWhen = whenTimeSpan(baseTime.plusSeconds(60), baseTime.plusSeconds(120));
+    dbHelper.getEventRepo().update(EventUpdateRequest.builder()
+        .id(eventId)
+        .orgId(orgId)
+        .when(movedWhen)
+        .build());
+
+    assertThat(repo.getAvailability(request).get(calendarId))
+        .as("Busy span should move with the event update")
+        .isFalse();
+    assertThat(repo.getBusyPeriods(request).get(calendarId))
+        .containsExactly(new TimeSpan(movedWhen.startTime(), movedWhen.endTime()));
+
+    dbHelper.getEventRepo().batchDelete(List.of(eventId), DataSource.PROVIDER);
+
+    assertThat(repo.getAvailability(request).get(calendarId))
+        .as("Busy span should be deleted with the event")
+        .isTrue();
+    assertThat(repo.getDetailedBusyPeriods(request).get(calendarId)).isEmpty();
+  }
+
   private static When.TimeSpan whenTimeSpan(Instant startTime, Instant endTime) {
     return ModelBuilders.whenTimeSpan().startTime(startTime).endTime(endTime).build();
   }
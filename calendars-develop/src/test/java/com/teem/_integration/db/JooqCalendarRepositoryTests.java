@@ -11,9 +11,11 @@ import com.UoU.core.PageParams;
 import com.UoU.core.accounts.AccountId;
 import com.UoU.core.calendars.CalendarCreateRequest;
 import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.calendars.CalendarUpdateRequest;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -156,4 +158,93 @@ public class JooqCalendarRepositoryTests extends BaseAppIntegrationTest {
       assertThat(x.getRight()).isIn(nullTzCalendarIds);
     }));
   }
+
+  @Test
+  void listSyncableCalendarsAtLocalHour_shouldFillBatchesAcrossTimezonesAtSameHour() {
+    dbHelper.resetCalendars();
+    val accountId = dbHelper.createAccount(orgId);
+
+    // Rome and Berlin always have the same offset, so both are at the same local hour.
+    val calendarIds = Stream.of("Europe/Rome", "Europe/Rome", "Europe/Berlin", "Europe/Berlin")
+        .map(timezone -> dbHelper.createCalendar(orgId, x -> x
+            .accountId(accountId)
+            .externalId(TestData.calendarExternalId())
+            .timezone(timezone)
+            .isReadOnly(false)))
+        .collect(Collectors.toSet());
+
+    val hour = OffsetTime.now(ZoneId.of("Europe/Rome")).getHour();
+    val batches = dbHelper.getCalendarRepo().listSyncableCalendarsAtLocalHour(hour, 3).toList();
+
+    assertThat(batches).extracting(x -> x.size()).containsExactly(3, 1);
+    assertThat(batches.stream().flatMap(Collection::stream).map(x -> x.getRight()).toList())
+        .containsExactlyInAnyOrderElementsOf(calendarIds);
+  }
+
+  @Test
+  void listSyncableCalendarsAtLocalHour_shouldUsePostgresRulesForNonRegionTimezones() {
+    dbHelper.resetCalendars();
+    val accountId = dbHelper.createAccount(orgId);
+
+    // Postgres treats UTC+5 as a POSIX-style zone, which means 5 hours BEHIND utc, unlike java.
+    val calendarId = dbHelper.createCalendar(orgId, x -> x
+        .accountId(accountId)
+        .externalId(TestData.calendarExternalId())
+        .timezone("UTC+5")
+        .isReadOnly(false));
+
+    val hour = OffsetTime.now(ZoneOffset.ofHours(-5)).getHour();
+    val batches = dbHelper.getCalendarRepo().listSyncableCalendarsAtLocalHour(hour, 2).toList();
+
+    assertThat(batches).containsExactly(List.of(Pair.of(accountId, calendarId)));
+  }
+
+  @Test
+  void update_shouldInvalidateCachedMetadata() {
+    val id = dbHelper.createCalendar(orgId, x -> x.timezone("America/Denver").isReadOnly(false));
+    val repo = dbHelper.getCalendarRepo();
+    assertThat(repo.getTimezone(id)).isEqualTo("America/Denver"); // caches
+    assertThat(repo.tryGetAccessInfo(id).orElseThrow().isReadOnly()).isFalse();
+
+    repo.update(CalendarUpdateRequest.builder()
+        .id(id)
+        .orgId(orgId)
+        .timezone("Europe/Rome")
+        .isReadOnly(true)
+        .build());
+
+    assertThat(repo.getTimezone(id)).isEqualTo("Europe/Rome");
+    assertThat(repo.tryGetAccessInfo(id).orElseThrow().isReadOnly()).isTrue();
+  }
+
+  @Test
+  void link_shouldInvalidateCachedMetadata() {
+    val id = dbHelper.createCalendar(orgId, x -> x.accountId(null).externalId(null));
+    val repo = dbHelper.getCalendarRepo();
+    assertThat(repo.getAccountId(id)).isEmpty(); // caches
+
+    val accountId = dbHelper.createAccount(orgId);
+    val externalId = TestData.calendarExternalId();
+    repo.link(id, accountId, externalId);
+
+    assertThat(repo.getAccountId(id)).hasValue(accountId);
+    assertThat(repo.tryGetExternalId(id)).hasValue(externalId);
+    assertThat(repo.getAccountProvider(id)).isPresent();
+  }
+
+  @Test
+  void delete_shouldInvalidateCachedExternalIdSoItCanBeReused() {
+    val accountId = dbHelper.createAccount(orgId);
+    val externalId = TestData.calendarExternalId();
+    val id = dbHelper.createCalendar(orgId, accountId, externalId);
+    val repo = dbHelper.getCalendarRepo();
+    assertThat(repo.tryGetId(externalId)).hasValue(id); // caches
+
+    repo.delete(id);
+    assertThat(repo.tryGetId(externalId)).isEmpty();
+    assertThat(repo.tryGetAccessInfo(id)).isEmpty();
+
+    val newId = dbHelper.createCalendar(orgId, accountId, externalId);
+    assertThat(repo.tryGetId(externalId)).hasValue(newId);
+  }
 }
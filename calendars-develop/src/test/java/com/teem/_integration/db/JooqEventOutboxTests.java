@@ -0,0 +1,111 @@
+package com.UoU._integration.db;
+
+import static com.UoU.infra.jooq.Tables.EVENT_OUTBOX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.UoU._integration.BaseAppIntegrationTest;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.events.DataSource;
+import com.UoU.core.events.EventId;
+import com.UoU.infra.avro.publicevents.EventChangeType;
+import com.UoU.infra.avro.publicevents.EventChanged;
+import com.UoU.infra.db.JooqEventOutbox;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "event-outbox.enabled=true",
+    "event-outbox.batch-size=2",
+})
+class JooqEventOutboxTests extends BaseAppIntegrationTest {
+  @Autowired
+  private JooqEventOutbox outbox;
+
+  private CalendarId calendarId;
+
+  @BeforeEach
+  void setUp() {
+    dbHelper.getDsl().deleteFrom(EVENT_OUTBOX).execute();
+    calendarId = dbHelper.createCalendar(orgId);
+  }
+
+  @Test
+  void relay_shouldPublishInIdOrderInBatchesUntilEmpty() {
+    val eventIds = createEvents(5);
+    val batches = new ArrayList<List<EventChanged>>();
+
+    val count = outbox.relay(batches::add);
+
+    assertThat(count).isEqualTo(5);
+    assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+    assertThat(batches.stream().flatMap(List::stream).map(x -> x.getEventId().toString()))
+        .containsExactlyElementsOf(eventIds.stream().map(x -> x.value().toString()).toList());
+    assertThat(countOutbox()).isZero();
+  }
+
+  @Test
+  void relay_shouldKeepMessagesWhenPublishFailsSoTheyAreRetried() {
+    val eventIds = createEvents(3);
+
+    assertThrows(IllegalStateException.class, () -> outbox.relay(batch -> {
+      throw new IllegalStateException("test");
+    }));
+    assertThat(countOutbox()).as("Failed batch should be kept").isEqualTo(3);
+
+    val relayed = new ArrayList<EventChanged>();
+    outbox.relay(relayed::addAll);
+
+    assertThat(relayed.stream().map(x -> x.getEventId().toString()))
+        .containsExactlyElementsOf(eventIds.stream().map(x -> x.value().toString()).toList());
+    assertThat(countOutbox()).isZero();
+  }
+
+  @Test
+  void relay_shouldOnlyDeleteRelayedMessagesById() {
+    createEvents(1);
+    val addedDuringPublish = new ArrayList<EventId>();
+
+    // Add a message while the batch is being published, which must not be deleted with the batch.
+    outbox.relay(batch -> {
+      if (addedDuringPublish.isEmpty()) {
+        addedDuringPublish.add(dbHelper.createEvent(orgId, calendarId));
+      }
+    });
+
+    assertThat(dbHelper.getDsl().selectFrom(EVENT_OUTBOX).fetch(EVENT_OUTBOX.EVENT_ID))
+        .containsExactly(addedDuringPublish.get(0).value());
+  }
+
+  @Test
+  void delete_shouldAddDeletedMessageAfterCreatedMessage() {
+    val eventId = dbHelper.createEvent(orgId, calendarId);
+    dbHelper.getEventRepo().delete(eventId, DataSource.PROVIDER);
+
+    val relayed = new ArrayList<EventChanged>();
+    outbox.relay(relayed::addAll);
+
+    assertThat(relayed)
+        .allMatch(x -> x.getEventId().toString().equals(eventId.value().toString()))
+        .extracting(EventChanged::getChangeType)
+        .containsExactly(EventChangeType.created, EventChangeType.deleted);
+    assertThat(relayed.get(1).getChangeSource().toString())
+        .isEqualTo(DataSource.PROVIDER.value());
+  }
+
+  private List<EventId> createEvents(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> dbHelper.createEvent(orgId, calendarId))
+        .toList();
+  }
+
+  private int countOutbox() {
+    return dbHelper.getDsl().fetchCount(EVENT_OUTBOX);
+  }
+}
@@ -1,6 +1,7 @@
 package com.UoU._integration.db;
 
 import static com.UoU._helpers.PagingAssertions.assertPagesContainValues;
+import static com.UoU.infra.jooq.Tables.PARTICIPANT;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.UoU._helpers.ModelBuilders;
@@ -9,16 +10,26 @@ import com.UoU._integration.BaseAppIntegrationTest;
 import com.UoU.core.Fluent;
 import com.UoU.core.Noop;
 import com.UoU.core.PageParams;
+import com.UoU.core.events.DataSource;
 import com.UoU.core.events.Event;
+import com.UoU.core.events.EventExternalId;
 import com.UoU.core.events.EventId;
 import com.UoU.core.events.EventQuery;
 import com.UoU.core.events.EventUpdateRequest;
 import com.UoU.core.events.Owner;
 import com.UoU.core.events.ParticipantRequest;
 import com.UoU.core.events.ParticipantStatus;
+import com.UoU.core.events.Recurrence;
 import com.UoU.core.events.When;
+import com.UoU.infra.db.CalendarMetadataCache;
+import com.UoU.infra.db.EventBulkCopyConfig;
+import com.UoU.infra.db.JooqEventOutbox;
+import com.UoU.infra.db.JooqEventRepository;
+import com.UoU.infra.db.ReadReplica;
+import com.UoU.infra.db._helpers.Mappers;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -28,9 +39,19 @@ import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
 import org.assertj.core.api.BooleanAssert;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class JooqEventRepositoryTests extends BaseAppIntegrationTest {
 
+  @Autowired
+  private JooqEventOutbox outbox;
+
+  @Autowired
+  private ReadReplica readReplica;
+
+  @Autowired
+  private CalendarMetadataCache calendarMetadataCache;
+
   @Test
   void list_shouldPageAndSortByStartTimeAndId() {
     val calendarId = dbHelper.createCalendar(orgId);
@@ -231,6 +252,32 @@ public class JooqEventRepositoryTests extends BaseAppIntegrationTest {
         .isEqualTo(updateName));
   }
 
+  @Test
+  void batchUpdate_shouldUpdateOnlyChangedFieldsForEachEvent() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val id1 = dbHelper.createEvent(orgId, calendarId);
+    val id2 = dbHelper.createEvent(orgId, calendarId);
+    val id3 = dbHelper.createEvent(orgId, calendarId);
+    val original2 = dbHelper.getEventRepo().get(id2);
+    val when = TestData.whenDateSpan();
+
+    dbHelper.getEventRepo().batchUpdate(List.of(
+        EventUpdateRequest.builder().id(id1).orgId(orgId).title("title 1").build(),
+        EventUpdateRequest.builder().id(id2).orgId(orgId)
+            .when(when)
+            .status(Event.Status.TENTATIVE)
+            .build(),
+        EventUpdateRequest.builder().id(id3).orgId(orgId).title("title 3").build()));
+
+    assertThat(dbHelper.getEventRepo().get(id1).title()).isEqualTo("title 1");
+    assertThat(dbHelper.getEventRepo().get(id3).title()).isEqualTo("title 3");
+    assertThat(dbHelper.getEventRepo().get(id2))
+        .returns(when, x -> x.when())
+        .returns(Event.Status.TENTATIVE, x -> x.status())
+        .returns(original2.title(), x -> x.title())
+        .returns(original2.description(), x -> x.description());
+  }
+
   @Test
   void batchUpdate_shouldInsertUpdateDeleteParticipants() {
     val calendarId = dbHelper.createCalendar(orgId);
@@ -358,4 +405,270 @@ public class JooqEventRepositoryTests extends BaseAppIntegrationTest {
         .endTime(baseTime.plus(plusDuration).plusSeconds(1))
         .build();
   }
+
+  @Test
+  void batchCreate_shouldNotStoreParticipantsForNonOverrideInstancesThatMatchMaster() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val participants = List.of(TestData.participantRequest(), TestData.participantRequest());
+    val masterId = EventId.create();
+    val matchingInstanceId = EventId.create();
+    val differentInstanceId = EventId.create();
+    val differentParticipants = List.of(TestData.participantRequest());
+
+    dbHelper.getEventRepo().batchCreate(List.of(
+        ModelBuilders.eventCreateRequestWithTestData()
+            .id(masterId).orgId(orgId).calendarId(calendarId)
+            .recurrence(TestData.recurrenceMaster())
+            .participants(participants)
+            .build(),
+        ModelBuilders.eventCreateRequestWithTestData()
+            .id(matchingInstanceId).orgId(orgId).calendarId(calendarId)
+            .recurrence(Recurrence.instance(masterId, false))
+            .participants(participants)
+            .build(),
+        ModelBuilders.eventCreateRequestWithTestData()
+            .id(differentInstanceId).orgId(orgId).calendarId(calendarId)
+            .recurrence(Recurrence.instance(masterId, false))
+            .participants(differentParticipants)
+            .build()));
+
+    assertThat(countStoredParticipants(matchingInstanceId))
+        .as("Matching instance should not store participants")
+        .isZero();
+    assertThat(countStoredParticipants(differentInstanceId)).isEqualTo(1);
+
+    val masterEmails = participants.stream().map(x -> x.email()).toList();
+    assertThat(dbHelper.getEventRepo().get(matchingInstanceId).participants())
+        .as("Matching instance should inherit master participants on get")
+        .extracting(x -> x.email())
+        .containsExactlyInAnyOrderElementsOf(masterEmails);
+    assertThat(dbHelper.getEventRepo().listRecurrenceInstances(masterId))
+        .as("Instances should inherit master participants on list only if they have none")
+        .allSatisfy(x -> assertThat(x.participants())
+            .extracting(p -> p.email())
+            .containsExactlyInAnyOrderElementsOf(x.id().equals(matchingInstanceId)
+                ? masterEmails
+                : List.of(differentParticipants.get(0).email())));
+  }
+
+  @Test
+  void updateRecurrenceInstance_shouldCopyInheritedParticipantsWhenBecomingOverride() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val participants = List.of(TestData.participantRequest());
+    val masterId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(TestData.recurrenceMaster())
+        .participants(participants));
+    val instanceId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(Recurrence.instance(masterId, false))
+        .participants(participants));
+    assertThat(countStoredParticipants(instanceId)).isZero();
+
+    dbHelper.getEventRepo().updateRecurrenceInstance(
+        instanceId, new EventExternalId(UUID.randomUUID().toString()), true, DataSource.PROVIDER);
+
+    assertThat(countStoredParticipants(instanceId))
+        .as("Override should store its own copy of the master participants")
+        .isEqualTo(1);
+    assertThat(dbHelper.getEventRepo().get(instanceId).participants())
+        .extracting(x -> x.email())
+        .containsExactly(participants.get(0).email());
+  }
+
+  @Test
+  void create_shouldNotInheritMasterParticipantsForInstanceWithEmptyParticipants() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val masterId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(TestData.recurrenceMaster())
+        .participants(List.of(TestData.participantRequest())));
+    val instanceId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(Recurrence.instance(masterId, false))
+        .participants(List.of()));
+
+    assertThat(dbHelper.getEventRepo().get(instanceId).participants())
+        .as("Instance with no participants on purpose should not show the master's")
+        .isEmpty();
+    assertThat(dbHelper.getEventRepo().listRecurrenceInstances(masterId))
+        .singleElement()
+        .satisfies(x -> assertThat(x.participants()).isEmpty());
+  }
+
+  @Test
+  void update_shouldStopInheritingWhenInstanceParticipantsAreEmptied() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val participants = List.of(TestData.participantRequest());
+    val masterId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(TestData.recurrenceMaster())
+        .participants(participants));
+    val instanceId1 = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(Recurrence.instance(masterId, false))
+        .participants(participants));
+    val instanceId2 = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(Recurrence.instance(masterId, false))
+        .participants(participants));
+
+    dbHelper.getEventRepo().update(EventUpdateRequest.builder()
+        .id(instanceId1).orgId(orgId).participants(List.of()).build());
+    dbHelper.getEventRepo().batchUpdate(List.of(EventUpdateRequest.builder()
+        .id(instanceId2).orgId(orgId).participants(List.of()).build()));
+
+    assertThat(List.of(instanceId1, instanceId2)).allSatisfy(id -> {
+      assertThat(dbHelper.getEventRepo().get(id).participants()).isEmpty();
+      assertThat(countStoredParticipants(id)).isZero();
+    });
+  }
+
+  @Test
+  void update_shouldKeepInheritingWithoutStoringWhenParticipantsStillMatchMaster() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val participant = TestData.participantRequest();
+    val masterId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(TestData.recurrenceMaster())
+        .participants(List.of(participant)));
+    val instanceId1 = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(Recurrence.instance(masterId, false))
+        .participants(List.of(participant)));
+    val instanceId2 = dbHelper.createEvent(orgId, calendarId, x -> x
+        .recurrence(Recurrence.instance(masterId, false))
+        .participants(List.of(participant)));
+
+    // Only the name is set, so status and comment are kept from the inherited participant.
+    val sameParticipant = ParticipantRequest.builder()
+        .email(participant.email())
+        .name(participant.name())
+        .build();
+    dbHelper.getEventRepo().update(EventUpdateRequest.builder()
+        .id(instanceId1).orgId(orgId).participants(List.of(sameParticipant)).build());
+    dbHelper.getEventRepo().batchUpdate(List.of(EventUpdateRequest.builder()
+        .id(instanceId2).orgId(orgId).participants(List.of(sameParticipant)).build()));
+
+    assertThat(List.of(instanceId1, instanceId2)).allSatisfy(id -> {
+      assertThat(countStoredParticipants(id)).isZero();
+      assertThat(dbHelper.getEventRepo().get(id).participants())
+          .extracting(x -> x.email())
+          .containsExactly(participant.email());
+    });
+  }
+
+  @Test
+  void update_shouldKeepInheritedParticipantsOfInstancesWhenMasterParticipantsChange() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val participant = TestData.participantRequest();
+    val masterIds = new ArrayList<EventId>();
+    val instanceIds = new ArrayList<EventId>();
+    for (var i = 0; i < 2; i++) {
+      val masterId = dbHelper.createEvent(orgId, calendarId, x -> x
+          .recurrence(TestData.recurrenceMaster())
+          .participants(List.of(participant)));
+      masterIds.add(masterId);
+      instanceIds.add(dbHelper.createEvent(orgId, calendarId, x -> x
+          .recurrence(Recurrence.instance(masterId, false))
+          .participants(List.of(participant))));
+    }
+    assertThat(instanceIds).allSatisfy(id -> assertThat(countStoredParticipants(id)).isZero());
+
+    // Changing master participants must not silently change the instances, which get no update.
+    val newParticipants = List.of(TestData.participantRequest());
+    dbHelper.getEventRepo().update(EventUpdateRequest.builder()
+        .id(masterIds.get(0)).orgId(orgId).participants(newParticipants).build());
+    dbHelper.getEventRepo().batchUpdate(List.of(EventUpdateRequest.builder()
+        .id(masterIds.get(1)).orgId(orgId).participants(newParticipants).build()));
+
+    assertThat(instanceIds).allSatisfy(id -> {
+      assertThat(countStoredParticipants(id)).isEqualTo(1);
+      assertThat(dbHelper.getEventRepo().get(id).participants())
+          .extracting(x -> x.email())
+          .containsExactly(participant.email());
+    });
+    assertThat(masterIds).allSatisfy(id -> assertThat(
+        dbHelper.getEventRepo().get(id).participants())
+        .extracting(x -> x.email())
+        .containsExactly(newParticipants.get(0).email()));
+  }
+
+  @Test
+  void batchCreate_shouldCreateSameEventsWithBulkCopy() {
+    val copyRepo = new JooqEventRepository(
+        dbHelper.getDsl(),
+        Mappers.EVENT_MAPPER,
+        Mappers.PARTICIPANT_MAPPER,
+        outbox,
+        new EventBulkCopyConfig(true, 1),
+        readReplica,
+        calendarMetadataCache);
+    val calendarId = dbHelper.createCalendar(orgId);
+    val masterId = EventId.create();
+    val requests = List.of(
+        ModelBuilders.eventCreateRequestWithTestData()
+            .orgId(orgId).calendarId(calendarId)
+            .status(Event.Status.TENTATIVE)
+            .isBusy(true)
+            .participants(TestData.participantRequestList(2))
+            .build(),
+        ModelBuilders.eventCreateRequestWithTestData()
+            .orgId(orgId).calendarId(calendarId)
+            .when(TestData.whenDateSpan())
+            .description(null)
+            .build(),
+        // Instance before master to check the FK is only checked after the whole insert.
+        ModelBuilders.eventCreateRequestWithTestData()
+            .orgId(orgId).calendarId(calendarId)
+            .recurrence(Recurrence.instance(masterId, true))
+            .build(),
+        ModelBuilders.eventCreateRequestWithTestData()
+            .id(masterId).orgId(orgId).calendarId(calendarId)
+            .recurrence(TestData.recurrenceMaster())
+            .participants(TestData.participantRequestList(1))
+            .build());
+
+    copyRepo.batchCreate(requests);
+
+    assertThat(requests).allSatisfy(request -> {
+      val event = dbHelper.getEventRepo().get(request.id());
+      assertThat(event.title()).isEqualTo(request.title());
+      assertThat(event.description()).isEqualTo(request.description());
+      assertThat(event.when()).isEqualTo(request.when());
+      assertThat(event.recurrence()).isEqualTo(request.recurrence());
+      assertThat(event.status()).isEqualTo(request.status());
+      assertThat(event.isBusy()).isEqualTo(request.isBusy());
+      assertThat(event.createdAt()).as("Should use column default").isNotNull();
+      assertThat(event.participants())
+          .extracting(x -> x.email())
+          .containsExactlyInAnyOrderElementsOf(
+              request.participants().stream().map(x -> x.email()).toList());
+    });
+  }
+
+  @Test
+  void deleteByCalendarStartingBefore_shouldOnlyDeleteExportedNonMasterEventsBeforeTime() {
+    val calendarId = dbHelper.createCalendar(orgId);
+    val otherCalendarId = dbHelper.createCalendar(orgId);
+    val before = Instant.now().minus(Duration.ofDays(10));
+    val pastWhen = new When.TimeSpan(
+        before.minus(Duration.ofDays(1)), before.minus(Duration.ofDays(1)).plusSeconds(1800));
+    val pastExternalId = TestData.eventExternalId();
+
+    val pastId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .externalId(pastExternalId).when(pastWhen)
+        .participants(TestData.participantRequestList(2)));
+    val currentId = dbHelper.createEvent(orgId, calendarId, TestData.eventExternalId());
+    val unexportedId = dbHelper.createEvent(orgId, calendarId, x -> x.when(pastWhen));
+    val masterId = dbHelper.createEvent(orgId, calendarId, x -> x
+        .externalId(TestData.eventExternalId()).when(pastWhen)
+        .recurrence(TestData.recurrenceMaster()));
+    val otherCalendarEventId = dbHelper.createEvent(orgId, otherCalendarId, x -> x
+        .externalId(TestData.eventExternalId()).when(pastWhen));
+
+    val deleted = dbHelper.getEventRepo().deleteByCalendarStartingBefore(
+        calendarId, before, DataSource.PROVIDER);
+
+    assertThat(deleted).containsExactly(Pair.of(pastId, pastExternalId));
+    assertThat(dbHelper.getEventRepo().tryGet(pastId)).isEmpty();
+    assertThat(countStoredParticipants(pastId)).isZero();
+    assertThat(List.of(currentId, unexportedId, masterId, otherCalendarEventId))
+        .allSatisfy(id -> assertThat(dbHelper.getEventRepo().tryGet(id)).isPresent());
+  }
+
+  private int countStoredParticipants(EventId eventId) {
+    return dbHelper.getDsl().fetchCount(PARTICIPANT, PARTICIPANT.EVENT_ID.eq(eventId.value()));
+  }
 }
@@ -0,0 +1,105 @@
+package com.UoU._integration.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.UoU._helpers.TestData;
+import com.UoU._integration.BaseAppIntegrationTest;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.tasks.DelayedTask;
+import com.UoU.core.tasks.DelayedTaskQueue;
+import com.UoU.infra.redis.RedisDelayedTaskQueue;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RedisDelayedTaskQueueTests extends BaseAppIntegrationTest {
+  private static final DelayedTask.Type TYPE = DelayedTask.Type.SYNC_ALL_EVENTS;
+  private static final Duration LEASE = Duration.ofMinutes(1);
+
+  @Autowired
+  private RedisDelayedTaskQueue queue;
+
+  @Test
+  void shouldOnlyClaimDueTasksOnceUntilAcked() {
+    val dueTask = createTask();
+    val futureTask = createTask();
+    queue.enqueue(List.of(dueTask), Instant.now());
+    queue.enqueue(List.of(futureTask), Instant.now().plusSeconds(60));
+
+    val claimed = queue.claimDue(TYPE, 1000, LEASE);
+    assertThat(tasks(claimed))
+        .as("Should claim due task but not future task")
+        .contains(dueTask)
+        .doesNotContain(futureTask);
+
+    assertThat(tasks(queue.claimDue(TYPE, 1000, LEASE)))
+        .as("Should not claim leased task again")
+        .doesNotContain(dueTask);
+
+    queue.ack(claimed);
+    queue.enqueue(List.of(dueTask), Instant.now());
+    assertThat(queue.claimDue(TYPE, 1000, LEASE))
+        .as("Should claim task again after ack and enqueue, with attempts reset")
+        .filteredOn(x -> x.task().equals(dueTask))
+        .singleElement()
+        .returns(1, DelayedTaskQueue.ClaimedTask::attempts);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRetryTaskAfterLeaseExpires() {
+    val task = createTask();
+    queue.enqueue(List.of(task), Instant.now());
+
+    assertThat(tasks(queue.claimDue(TYPE, 1000, Duration.ofMillis(1)))).contains(task);
+    Thread.sleep(10);
+
+    assertThat(queue.claimDue(TYPE, 1000, LEASE))
+        .as("Should claim task again after lease expires without ack, with attempts counted")
+        .filteredOn(x -> x.task().equals(task))
+        .singleElement()
+        .returns(2, DelayedTaskQueue.ClaimedTask::attempts);
+  }
+
+  @Test
+  @SneakyThrows
+  void ack_shouldNotRemoveTaskClaimedAgainAfterLeaseExpired() {
+    val task = createTask();
+    queue.enqueue(List.of(task), Instant.now());
+
+    val staleClaim = queue.claimDue(TYPE, 1000, Duration.ofMillis(1));
+    assertThat(tasks(staleClaim)).contains(task);
+    Thread.sleep(10);
+    assertThat(tasks(queue.claimDue(TYPE, 1000, Duration.ofMillis(1)))).contains(task);
+
+    queue.ack(staleClaim);
+    Thread.sleep(10);
+
+    assertThat(tasks(queue.claimDue(TYPE, 1000, LEASE)))
+        .as("Should not ack task with stale lease token, so it's retried after the new lease")
+        .contains(task);
+  }
+
+  @Test
+  void shouldLimitClaimsPerSecond() {
+    val tasks = IntStream.range(0, 5).mapToObj(i -> createTask()).toList();
+    queue.enqueue(tasks, Instant.now());
+
+    assertThat(queue.claimDue(TYPE, 2, LEASE).size())
+        .as("Should claim no more than the per second limit, even though 5 tasks are due")
+        .isLessThanOrEqualTo(2);
+  }
+
+  private static List<DelayedTask> tasks(List<DelayedTaskQueue.ClaimedTask> claimed) {
+    return claimed.stream().map(DelayedTaskQueue.ClaimedTask::task).toList();
+  }
+
+  private static DelayedTask createTask() {
+    return DelayedTask.syncAllEvents(TestData.accountId(), CalendarId.create());
+  }
+}
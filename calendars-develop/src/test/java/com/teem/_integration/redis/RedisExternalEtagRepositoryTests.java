@@ -4,14 +4,24 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 import com.UoU._helpers.TestData;
 import com.UoU._integration.BaseAppIntegrationTest;
+import com.UoU.core.nylas.EtagConfig;
 import com.UoU.core.nylas.ExternalEtag;
 import com.UoU.infra.redis.RedisExternalEtagRepository;
 import java.util.Map;
+import java.util.Set;
 import lombok.val;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 public class RedisExternalEtagRepositoryTests extends BaseAppIntegrationTest {
 
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+
+  @Autowired
+  private EtagConfig config;
+
   @Test
   void save_get_delete_shouldWork() {
     val externalId = TestData.eventExternalId();
@@ -40,6 +50,37 @@ public class RedisExternalEtagRepositoryTests extends BaseAppIntegrationTest {
     assertThat(repo().get(etags.keySet())).isEmpty();
   }
 
+  @Test
+  void save_shouldStoreEtagsInBucketHashes() {
+    val externalId = TestData.eventExternalId();
+    repo().save(externalId, new ExternalEtag(TestData.uuidString()));
+
+    val keys = redisTemplate.keys("event-external-etags:{*}:*");
+
+    assertThat(keys).anySatisfy(key -> {
+      assertThat(redisTemplate.opsForHash().hasKey(key, externalId.value())).isTrue();
+      assertThat(redisTemplate.getExpire(key))
+          .as("Generation hash should expire by the end of the next generation")
+          .isPositive()
+          .isLessThanOrEqualTo(config.expiration().multipliedBy(2).toSeconds());
+    });
+    assertThat(redisTemplate.hasKey("event-external-etag-" + externalId.value())).isFalse();
+  }
+
+  @Test
+  void get_delete_shouldUseLegacyKeys() {
+    val externalId = TestData.eventExternalId();
+    val legacyKey = "event-external-etag-" + externalId.value();
+    val legacyValue = TestData.uuidString();
+    redisTemplate.opsForValue().set(legacyKey, legacyValue);
+
+    val result = repo().get(Set.of(externalId));
+    repo().tryDelete(externalId);
+
+    assertThat(result).containsEntry(externalId, new ExternalEtag(legacyValue));
+    assertThat(redisTemplate.hasKey(legacyKey)).isFalse();
+  }
+
   private RedisExternalEtagRepository repo() {
     return (RedisExternalEtagRepository) redisHelper.getExternalEtagRepo();
   }
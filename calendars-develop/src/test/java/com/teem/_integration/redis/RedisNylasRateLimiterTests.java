@@ -0,0 +1,104 @@
+package com.UoU._integration.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.UoU._integration.BaseAppIntegrationTest;
+import com.UoU.core.nylas.NylasRateLimiter;
+import com.UoU.core.nylas.RateLimitConfig;
+import com.UoU.infra.redis.RedisNylasRateLimiter;
+import com.UoU.infra.redis.scripts.AcquireRateLimitsScript;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+class RedisNylasRateLimiterTests extends BaseAppIntegrationTest {
+  private static final RateLimitConfig CONFIG = new RateLimitConfig(
+      true,
+      new RateLimitConfig.Limit(1, 2),
+      new RateLimitConfig.Limit(1000, 1000),
+      10,
+      Duration.ofSeconds(5),
+      2,
+      Duration.ofSeconds(1),
+      Duration.ofSeconds(5));
+
+  @Autowired
+  private StringRedisTemplate redisTemplate;
+
+  @Autowired
+  private AcquireRateLimitsScript acquireRateLimitsScript;
+
+  private SimpleMeterRegistry meterRegistry;
+  private RedisNylasRateLimiter rateLimiter;
+  private NylasRateLimiter.Target target;
+
+  @BeforeEach
+  void beforeEach() {
+    meterRegistry = new SimpleMeterRegistry();
+    rateLimiter = new RedisNylasRateLimiter(
+        CONFIG, redisTemplate, acquireRateLimitsScript, meterRegistry);
+    target = new NylasRateLimiter.Target(
+        UUID.randomUUID().toString(), UUID.randomUUID().toString());
+  }
+
+  @Test
+  @SneakyThrows
+  void acquire_shouldAllowBurstThenWaitForRefill() {
+    val start = System.nanoTime();
+    rateLimiter.acquire(target).close();
+    rateLimiter.acquire(target).close();
+    val burstMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+    rateLimiter.acquire(target).close();
+    val totalMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+    assertThat(burstMillis)
+        .as("Burst of 2 should not wait")
+        .isLessThan(500);
+    assertThat(totalMillis)
+        .as("Third request should wait ~1s for a token at 1 request per second")
+        .isGreaterThanOrEqualTo(500);
+    assertThat(meterRegistry.get("nylas.throttle.wait").tag("client", "account").timer().count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  @SneakyThrows
+  void acquire_shouldWaitForBackoff() {
+    rateLimiter.backoff(target, Duration.ofMillis(800));
+
+    val start = System.nanoTime();
+    rateLimiter.acquire(target).close();
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis())
+        .as("Should wait for the backoff to expire")
+        .isGreaterThanOrEqualTo(500);
+    assertThat(meterRegistry.get("nylas.throttle.backoffs").tag("client", "account").counter()
+        .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @SneakyThrows
+  void acquire_shouldWaitForMaxWaitThenFail() {
+    rateLimiter.backoff(target, Duration.ofMinutes(1));
+
+    val start = System.nanoTime();
+    assertThatThrownBy(() -> rateLimiter.acquire(target))
+        .isInstanceOf(NylasRateLimiter.MaxWaitExceededException.class);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis())
+        .as("Should wait until the max wait instead of proceeding right away")
+        .isGreaterThanOrEqualTo(CONFIG.maxWait().toMillis() - 100);
+    assertThat(meterRegistry.get("nylas.throttle.overruns").tag("client", "account").counter()
+        .count())
+        .isEqualTo(1);
+  }
+}
@@ -0,0 +1,101 @@
+package com.UoU.app.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.UoU.core.SecretString;
+import com.UoU.core.nylas.ClientConfig;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HmacUtilTests {
+  private static final byte[] MESSAGE = "{\"deltas\":[]}".getBytes(StandardCharsets.UTF_8);
+
+  private final HmacUtil hmacUtil = create("secret");
+
+  @Test
+  void createHmac_shouldMatchKnownValue() {
+    // Well-known HMAC-SHA256 test vector:
+    val hmac = create("key").createHmac("The quick brown fox jumps over the lazy dog");
+
+    assertThat(hmac).isEqualTo("f7bc83f430538424b13298e6aa6fb143ef4d59a14946175997479dbc2d1a3cd8");
+  }
+
+  @Test
+  void validate_shouldBeTrueForMatchingHmac() {
+    val hmac = hmacUtil.createHmac(new String(MESSAGE, StandardCharsets.UTF_8));
+
+    assertThat(hmacUtil.validate(hmac, MESSAGE)).isTrue();
+    assertThat(hmacUtil.validate(hmac.toUpperCase(), MESSAGE)).isTrue();
+  }
+
+  @Test
+  void validate_shouldBeFalseForOtherMessageOrKey() {
+    val hmac = hmacUtil.createHmac(new String(MESSAGE, StandardCharsets.UTF_8));
+
+    assertThat(hmacUtil.validate(hmac, "{}".getBytes(StandardCharsets.UTF_8))).isFalse();
+    assertThat(create("other").validate(hmac, MESSAGE)).isFalse();
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"abc", "zz"})
+  void validate_shouldBeFalseForInvalidHex(String hmac) {
+    assertThat(hmacUtil.validate(hmac, MESSAGE)).isFalse();
+  }
+
+  @Test
+  void validate_shouldBeFalseForNonHexCharsOfValidLength() {
+    val hmac = hmacUtil.createHmac(new String(MESSAGE, StandardCharsets.UTF_8));
+    val invalid = "g" + hmac.substring(1);
+
+    assertThat(hmacUtil.validate(invalid, MESSAGE)).isFalse();
+  }
+
+  @Test
+  void validate_shouldBeFalseForNonAsciiDigitsOfValidLength() {
+    val hmac = hmacUtil.createHmac(new String(MESSAGE, StandardCharsets.UTF_8));
+    // Arabic-Indic digits, which Character.digit() parses like ASCII digits:
+    val invalid = hmac.chars()
+        .map(c -> c >= '0' && c <= '9' ? '\u0660' + (c - '0') : c)
+        .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+        .toString();
+
+    assertThat(invalid).isNotEqualTo(hmac);
+    assertThat(hmacUtil.validate(invalid, MESSAGE)).isFalse();
+  }
+
+  @Test
+  @SneakyThrows
+  void validate_shouldWorkConcurrently() {
+    val messages = IntStream.range(0, 500)
+        .mapToObj(i -> ("{\"deltas\":[" + i + "]}"))
+        .toList();
+    val hmacs = messages.stream().map(hmacUtil::createHmac).toList();
+    val executor = Executors.newFixedThreadPool(8);
+    try {
+      val results = executor.invokeAll(IntStream.range(0, messages.size())
+          .<Callable<Boolean>>mapToObj(i -> () -> hmacUtil.validate(
+              hmacs.get(i), messages.get(i).getBytes(StandardCharsets.UTF_8)))
+          .toList());
+      for (val result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @SneakyThrows
+  private static HmacUtil create(String secret) {
+    return new HmacUtil(new ClientConfig(
+        new SecretString("id"), new SecretString(secret), "https://localhost"));
+  }
+}
@@ -4,16 +4,29 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.util.Base64;
 import java.security.InvalidKeyException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.SneakyThrows;
+import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
 import org.springframework.security.oauth2.jwt.BadJwtException;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
 class JwtDecoderTests {
   private static final String JWT_AUDIENCE = "test";
@@ -33,6 +46,8 @@ class JwtDecoderTests {
       + "R1VellmWOV_o58sYKlmhRfnxSqBeuu6VBH6wrwxlgqxtNvPs4FLXIy9dMVJMw_EUWCXaxcu3FN7v-yPIQ\""
       + "}";
 
+  private static final JwtCacheConfig CACHE_CONFIG = new JwtCacheConfig(10, Duration.ofMinutes(10));
+
   private JwtValidator validatorMock;
 
   @BeforeEach
@@ -45,7 +60,7 @@ class JwtDecoderTests {
   void ctor_shouldFailWithInvalidKey() {
     var config = new JwtConfig(JWT_AUDIENCE, "invalid-key");
 
-    assertThatCode(() -> new JwtDecoder(config, validatorMock))
+    assertThatCode(() -> new JwtDecoder(config, validatorMock, CACHE_CONFIG))
         .isInstanceOf(InvalidKeyException.class);
   }
 
@@ -61,7 +76,7 @@ class JwtDecoderTests {
         + "}";
     var config = new JwtConfig(JWT_AUDIENCE, wrongKey);
 
-    var decoder = new JwtDecoder(config, validatorMock);
+    var decoder = new JwtDecoder(config, validatorMock, CACHE_CONFIG);
     assertThatCode(() -> decoder.decode(JWT))
         .isInstanceOf(BadJwtException.class);
   }
@@ -69,7 +84,7 @@ class JwtDecoderTests {
   @Test
   void decode_shouldUseJwkToDecodeAndValidate() {
     var config = new JwtConfig(JWT_AUDIENCE, JWK_PUBLIC_KEY);
-    var decoder = new JwtDecoder(config, validatorMock);
+    var decoder = new JwtDecoder(config, validatorMock, CACHE_CONFIG);
     var result = decoder.decode(JWT);
 
     assertThat(result.getSubject()).isNotEmpty();
@@ -79,10 +94,70 @@ class JwtDecoderTests {
   @Test
   void decode_shouldUseBase64JwkToDecodeAndValidate() {
     var config = new JwtConfig(JWT_AUDIENCE, Base64.encode(JWK_PUBLIC_KEY).toString());
-    var decoder = new JwtDecoder(config, validatorMock);
+    var decoder = new JwtDecoder(config, validatorMock, CACHE_CONFIG);
     var result = decoder.decode(JWT);
 
     assertThat(result.getSubject()).isNotEmpty();
     verify(validatorMock).validate(any(Jwt.class));
   }
+
+  @Test
+  void decode_shouldCacheVerifiedTokenAndSkipValidation() {
+    var config = new JwtConfig(JWT_AUDIENCE, JWK_PUBLIC_KEY);
+    var decoder = new JwtDecoder(config, validatorMock, CACHE_CONFIG);
+    var first = decoder.decode(JWT);
+    var second = decoder.decode(JWT);
+
+    assertThat(second).isSameAs(first);
+    verify(validatorMock, times(1)).validate(any(Jwt.class));
+  }
+
+  @Test
+  void decode_shouldNotCacheWhenMaxTtlIsZero() {
+    var config = new JwtConfig(JWT_AUDIENCE, JWK_PUBLIC_KEY);
+    var cacheConfig = new JwtCacheConfig(10, Duration.ZERO);
+    var decoder = new JwtDecoder(config, validatorMock, cacheConfig);
+    decoder.decode(JWT);
+    decoder.decode(JWT);
+
+    verify(validatorMock, times(2)).validate(any(Jwt.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void decode_shouldNotCacheTokenThatExpiresWithinClockSkew() {
+    val key = new RSAKeyGenerator(2048).generate();
+    val jwt = createJwt(key, Instant.now().plusSeconds(30));
+    var config = new JwtConfig(JWT_AUDIENCE, key.toPublicJWK().toJSONString());
+    var decoder = new JwtDecoder(config, validatorMock, CACHE_CONFIG);
+    decoder.decode(jwt);
+    decoder.decode(jwt);
+
+    verify(validatorMock, times(2)).validate(any(Jwt.class));
+  }
+
+  @Test
+  @SneakyThrows
+  void decode_shouldCacheEachTokenSeparately() {
+    val key = new RSAKeyGenerator(2048).generate();
+    val jwt1 = createJwt(key, Instant.now().plusSeconds(600));
+    val jwt2 = createJwt(key, Instant.now().plusSeconds(601));
+    var config = new JwtConfig(JWT_AUDIENCE, key.toPublicJWK().toJSONString());
+    var decoder = new JwtDecoder(config, validatorMock, CACHE_CONFIG);
+
+    assertThat(decoder.decode(jwt1).getTokenValue()).isEqualTo(jwt1);
+    assertThat(decoder.decode(jwt2).getTokenValue()).isEqualTo(jwt2);
+    assertThat(decoder.decode(jwt1).getTokenValue()).isEqualTo(jwt1);
+    verify(validatorMock, times(2)).validate(any(Jwt.class));
+  }
+
+  private static String createJwt(RSAKey key, Instant expiresAt) {
+    val encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+    return encoder.encode(JwtEncoderParameters.from(JwtClaimsSet.builder()
+        .subject("test@example.com")
+        .audience(List.of(JWT_AUDIENCE))
+        .issuedAt(Instant.now())
+        .expiresAt(expiresAt)
+        .build())).getTokenValue();
+  }
 }
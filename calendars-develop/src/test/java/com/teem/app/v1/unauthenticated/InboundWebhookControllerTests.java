@@ -0,0 +1,101 @@
+package com.UoU.app.v1.unauthenticated;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.UoU._helpers.TestData;
+import com.UoU.app.security.HmacUtil;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.nylas.PendingEventImportRepository;
+import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import java.nio.charset.StandardCharsets;
+import lombok.val;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class InboundWebhookControllerTests {
+
+  @Test
+  void push_shouldHandleEveryDelta() {
+    val scenario = new Scenario();
+    val eventId1 = TestData.eventExternalId();
+    val eventId2 = TestData.eventExternalId();
+
+    scenario.push(new JSONArray()
+        .put(createDelta("event.created", "event", eventId1.value(), 1))
+        .put(createDelta("event.created", "event", eventId2.value(), 1))
+        .put(createDelta("account.running", "account", scenario.accountId.value(), 1)));
+
+    verify(scenario.schedulerMock).importEventFromNylas(scenario.accountId, eventId1);
+    verify(scenario.schedulerMock).importEventFromNylas(scenario.accountId, eventId2);
+    verify(scenario.schedulerMock).updateAccountSyncState(scenario.accountId);
+  }
+
+  @Test
+  void push_shouldHandleOnlyLatestDeltaPerObject() {
+    val scenario = new Scenario();
+    val eventId = TestData.eventExternalId();
+
+    scenario.push(new JSONArray()
+        .put(createDelta("event.created", "event", eventId.value(), 1))
+        .put(createDelta("event.deleted", "event", eventId.value(), 3))
+        .put(createDelta("event.updated", "event", eventId.value(), 2)));
+
+    verify(scenario.schedulerMock).handleEventDeleteFromNylas(scenario.accountId, eventId);
+    verify(scenario.schedulerMock, never()).importEventFromNylas(any(), any());
+  }
+
+  @Test
+  void push_shouldSkipEventImportThatIsAlreadyPending() {
+    val scenario = new Scenario();
+    val eventId = TestData.eventExternalId();
+    when(scenario.pendingRepoMock.tryAdd(eventId)).thenReturn(true, false);
+
+    scenario.push(new JSONArray().put(createDelta("event.created", "event", eventId.value(), 1)));
+    scenario.push(new JSONArray().put(createDelta("event.updated", "event", eventId.value(), 2)));
+
+    verify(scenario.schedulerMock, times(1)).importEventFromNylas(scenario.accountId, eventId);
+  }
+
+  private JSONObject createDelta(String type, String object, String id, long date) {
+    return new JSONObject()
+        .put("object_data", new JSONObject()
+            .put("account_id", Scenario.ACCOUNT_ID)
+            .put("object", object)
+            .put("id", id))
+        .put("date", date)
+        .put("object", object)
+        .put("type", type);
+  }
+
+  private static class Scenario {
+    private static final String ACCOUNT_ID = "testAccountId";
+
+    private final AccountId accountId = new AccountId(ACCOUNT_ID);
+    private final HmacUtil hmacUtilMock = mock(HmacUtil.class);
+    private final NylasTaskScheduler schedulerMock = mock(NylasTaskScheduler.class);
+    private final PendingEventImportRepository pendingRepoMock =
+        mock(PendingEventImportRepository.class);
+    private final InboundWebhookController controller = new InboundWebhookController(
+        hmacUtilMock, schedulerMock, pendingRepoMock, new ObjectMapper());
+
+    public Scenario() {
+      when(hmacUtilMock.validate(anyString(), any(byte[].class))).thenReturn(true);
+      when(pendingRepoMock.tryAdd(any())).thenReturn(true);
+    }
+
+    public void push(JSONArray deltas) {
+      controller.push(
+          new JSONObject().put("deltas", deltas).toString().getBytes(StandardCharsets.UTF_8),
+          "hmac");
+    }
+  }
+}
@@ -3,8 +3,11 @@ package com.UoU.core;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +43,22 @@ class ChecksumTests {
 
     assertThat(valueSet.size()).isEqualTo(checksums.size());
   }
+
+  @Test
+  void value_shouldMatchJoinedUtf8Bytes() {
+    // Includes 2, 3, and 4 byte UTF-8 chars, an unpaired surrogate, and a value past the buffer.
+    val values = new String[] {
+        "plain", null, "caf\u00e9", "\u65e5\u672c", "\ud83d\ude00", "bad\ud83d", "x".repeat(1000)};
+
+    val bytes = IntStream
+        .range(0, values.length)
+        .mapToObj(i -> i + "(" + values[i] + ")")
+        .collect(Collectors.joining())
+        .getBytes(StandardCharsets.UTF_8);
+    val crc = new CRC32C();
+    crc.update(bytes, 0, bytes.length);
+    val expected = String.valueOf(crc.getValue()) + values.length + bytes.length;
+
+    assertThat(new Checksum(values).getValue()).isEqualTo(expected);
+  }
 }
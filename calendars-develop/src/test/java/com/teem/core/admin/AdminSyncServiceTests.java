@@ -2,6 +2,7 @@ package com.UoU.core.admin;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,6 +19,7 @@ import com.UoU.core.calendars.CalendarExternalId;
 import com.UoU.core.calendars.CalendarId;
 import com.UoU.core.calendars.CalendarRepository;
 import com.UoU.core.exceptions.NotFoundException;
+import com.UoU.core.nylas.DeltaCursorRepository;
 import com.UoU.core.nylas.NylasClientFactory;
 import com.UoU.core.nylas.tasks.NylasTaskScheduler;
 import java.util.Optional;
@@ -37,6 +39,19 @@ class AdminSyncServiceTests {
     verify(scenario.deps.nylasTaskSchedulerMock).importAllCalendarsFromNylas(accountId, true);
   }
 
+  @Test
+  void syncAllCalendars_shouldDeleteDeltaCursorBeforeImportSoEventsAreFullySynced() {
+    val scenario = new Scenario().withAccount();
+    val accountId = scenario.accountId.orElseThrow();
+
+    scenario.service.syncAllCalendars(scenario.admin, accountId);
+
+    val inOrder = inOrder(scenario.deps.deltaCursorRepoMock, scenario.deps.nylasTaskSchedulerMock);
+    inOrder.verify(scenario.deps.deltaCursorRepoMock).tryDelete(accountId);
+    inOrder.verify(scenario.deps.nylasTaskSchedulerMock)
+        .importAllCalendarsFromNylas(accountId, true);
+  }
+
   @Test
   void syncAllCalendars_shouldThrowForAccountInDifferentOrg() {
     val scenario = new Scenario().withAccount();
@@ -157,12 +172,14 @@ class AdminSyncServiceTests {
         mock(NylasTaskScheduler.class),
         NylasMockFactory.createClientFactoryMock(
             NylasMockFactory.createAccountClientMock(),
-            NylasMockFactory.createApplicationClient()));
+            NylasMockFactory.createApplicationClient()),
+        mock(DeltaCursorRepository.class));
     private AdminSyncService service = new AdminSyncService(
         deps.accountRepoMock,
         deps.calendarRepoMock,
         deps.nylasTaskSchedulerMock,
-        deps.nylasClientFactoryMock);
+        deps.nylasClientFactoryMock,
+        deps.deltaCursorRepoMock);
 
     public Scenario withAccount() {
       accountId = Optional.of(TestData.accountId());
@@ -196,7 +213,8 @@ class AdminSyncServiceTests {
         AccountRepository accountRepoMock,
         CalendarRepository calendarRepoMock,
         NylasTaskScheduler nylasTaskSchedulerMock,
-        NylasClientFactory nylasClientFactoryMock) {
+        NylasClientFactory nylasClientFactoryMock,
+        DeltaCursorRepository deltaCursorRepoMock) {
     }
   }
 }
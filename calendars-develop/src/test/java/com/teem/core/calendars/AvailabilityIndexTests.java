@@ -0,0 +1,136 @@
+package com.UoU.core.calendars;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.UoU._helpers.TestData;
+import com.UoU.core.OrgId;
+import com.UoU.core.TimeSpan;
+import com.UoU.core.events.EventsConfig;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ExecutorServiceAdapter;
+
+class AvailabilityIndexTests {
+  private static final EventsConfig EVENTS_CONFIG = TestData.eventsConfig();
+  private static final AvailabilityIndexConfig CONFIG = new AvailabilityIndexConfig(
+      true, 100, Duration.ofMinutes(10));
+
+  private OrgId orgId;
+  private CalendarId calendarId;
+  private TimeSpan event;
+  private TimeSpan recurrenceMaster;
+  private AvailabilityRepository repoMock;
+
+  @BeforeEach
+  void beforeEach() {
+    orgId = TestData.orgId();
+    calendarId = CalendarId.create();
+    val start = EVENTS_CONFIG.activePeriod().current().start().plusSeconds(3600);
+    event = new TimeSpan(start, start.plusSeconds(900));
+    recurrenceMaster = new TimeSpan(start.plusSeconds(1800), start.plusSeconds(2700));
+
+    repoMock = mock(AvailabilityRepository.class);
+    when(repoMock.listEventSpans(any(), any())).thenReturn(Map.of(
+        calendarId, new CalendarEventSpans(orgId, List.of(event), List.of(recurrenceMaster))));
+  }
+
+  @Test
+  void tryGet_shouldMissAndLoadThenHit() {
+    val index = createIndex(CONFIG);
+    val request = request(orgId, Set.of(calendarId), event.start(), recurrenceMaster.end());
+
+    assertThat(index.tryGetAvailability(request)).as("Cold index should miss").isEmpty();
+
+    assertThat(index.tryGetAvailability(request)).contains(Map.of(calendarId, false));
+    assertThat(index.tryGetBusyPeriods(request))
+        .as("Busy periods should exclude recurrence masters")
+        .contains(Map.of(calendarId, List.of(event)));
+    verify(repoMock).listEventSpans(List.of(calendarId), EVENTS_CONFIG.activePeriod().current());
+  }
+
+  @Test
+  void tryGetAvailability_shouldIncludeRecurrenceMasters() {
+    val index = createIndex(CONFIG);
+    val request = request(orgId, Set.of(calendarId), event.end(), recurrenceMaster.end());
+
+    index.tryGetAvailability(request);
+
+    assertThat(index.tryGetAvailability(request)).contains(Map.of(calendarId, false));
+    assertThat(index.tryGetBusyPeriods(request)).contains(Map.of(calendarId, List.of()));
+  }
+
+  @Test
+  void tryGet_shouldExcludeCalendarsForOtherOrgsAndMissingCalendars() {
+    val index = createIndex(CONFIG);
+    val missingCalendarId = CalendarId.create();
+    val request = request(
+        TestData.orgId(), Set.of(calendarId, missingCalendarId), event.start(), event.end());
+
+    index.tryGetAvailability(request);
+
+    assertThat(index.tryGetAvailability(request)).contains(Map.of());
+  }
+
+  @Test
+  void invalidate_shouldCauseReload() {
+    val index = createIndex(CONFIG);
+    val request = request(orgId, Set.of(calendarId), event.start(), event.end());
+    index.tryGetAvailability(request);
+
+    index.invalidate(List.of(calendarId));
+
+    assertThat(index.tryGetAvailability(request)).isEmpty();
+    assertThat(index.tryGetAvailability(request)).isPresent();
+    verify(repoMock, times(2)).listEventSpans(any(), any());
+  }
+
+  @Test
+  void invalidate_shouldDiscardLoadInProgress() {
+    val index = createIndex(CONFIG);
+    val request = request(orgId, Set.of(calendarId), event.start(), event.end());
+    when(repoMock.listEventSpans(any(), any())).thenAnswer(inv -> {
+      index.invalidate(List.of(calendarId));
+      return Map.of(calendarId, new CalendarEventSpans(orgId, List.of(), List.of()));
+    });
+
+    index.tryGetAvailability(request);
+
+    assertThat(index.tryGetAvailability(request))
+        .as("Load invalidated while in progress should not be stored")
+        .isEmpty();
+  }
+
+  @Test
+  void tryGet_shouldDoNothingWhenDisabled() {
+    val index = createIndex(new AvailabilityIndexConfig(false, 100, Duration.ofMinutes(10)));
+    val request = request(orgId, Set.of(calendarId), event.start(), event.end());
+
+    assertThat(index.tryGetAvailability(request)).isEmpty();
+    assertThat(index.tryGetBusyPeriods(request)).isEmpty();
+    verifyNoInteractions(repoMock);
+  }
+
+  private AvailabilityIndex createIndex(AvailabilityIndexConfig config) {
+    // Load synchronously so tests don't have to wait for the background load.
+    return new AvailabilityIndex(
+        config, repoMock, EVENTS_CONFIG, new ExecutorServiceAdapter(new SyncTaskExecutor()));
+  }
+
+  private static AvailabilityRequest request(
+      OrgId orgId, Set<CalendarId> calendarIds, Instant start, Instant end) {
+    return new AvailabilityRequest(orgId, calendarIds, new TimeSpan(start, end));
+  }
+}
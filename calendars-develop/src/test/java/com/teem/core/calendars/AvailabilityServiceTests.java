@@ -21,6 +21,7 @@ class AvailabilityServiceTests {
   private static final EventsConfig EVENTS_CONFIG = TestData.eventsConfig();
   private static final AvailabilityService SERVICE = new AvailabilityService(
       mock(AvailabilityRepository.class),
+      mock(AvailabilityIndex.class),
       ValidatorWrapperFactory.createRealInstance(),
       EVENTS_CONFIG);
 
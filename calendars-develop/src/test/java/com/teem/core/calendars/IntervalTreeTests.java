@@ -0,0 +1,74 @@
+package com.UoU.core.calendars;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.UoU.core.TimeSpan;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class IntervalTreeTests {
+  private static final Instant BASE = Instant.parse("2022-01-01T00:00:00Z");
+
+  @Test
+  void overlapsAny_shouldTreatStartAsInclusiveAndEndAsExclusive() {
+    val tree = new IntervalTree(List.of(span(10, 20)));
+
+    assertThat(tree.overlapsAny(span(0, 10))).as("abuts start").isFalse();
+    assertThat(tree.overlapsAny(span(20, 30))).as("abuts end").isFalse();
+    assertThat(tree.overlapsAny(span(0, 11))).as("overlaps start").isTrue();
+    assertThat(tree.overlapsAny(span(19, 30))).as("overlaps end").isTrue();
+    assertThat(tree.overlapsAny(span(12, 15))).as("inside").isTrue();
+    assertThat(tree.overlapsAny(span(0, 30))).as("contains").isTrue();
+  }
+
+  @Test
+  void listOverlapping_shouldReturnDistinctSpansInOrder() {
+    val tree = new IntervalTree(List.of(span(50, 60), span(10, 20), span(10, 20), span(10, 90)));
+
+    assertThat(tree.size()).isEqualTo(3);
+    assertThat(tree.listOverlapping(span(15, 55)))
+        .containsExactly(span(10, 20), span(10, 90), span(50, 60));
+    assertThat(tree.listOverlapping(span(70, 80)))
+        .as("Long span should be found even though later spans end before the query")
+        .containsExactly(span(10, 90));
+  }
+
+  @Test
+  void listOverlapping_shouldMatchBruteForce() {
+    val random = new Random(42);
+    val spans = new ArrayList<TimeSpan>();
+    for (var i = 0; i < 500; i++) {
+      val start = random.nextInt(10000);
+      spans.add(span(start, start + 1 + random.nextInt(200)));
+    }
+    val tree = new IntervalTree(spans);
+
+    for (var i = 0; i < 200; i++) {
+      val start = random.nextInt(10000);
+      val query = span(start, start + 1 + random.nextInt(500));
+      val expected = spans.stream()
+          .filter(x -> x.start().isBefore(query.end()) && x.end().isAfter(query.start()))
+          .distinct()
+          .toList();
+
+      assertThat(tree.listOverlapping(query)).containsExactlyInAnyOrderElementsOf(expected);
+      assertThat(tree.overlapsAny(query)).isEqualTo(!expected.isEmpty());
+    }
+  }
+
+  @Test
+  void emptyTree_shouldNotOverlap() {
+    val tree = new IntervalTree(List.of());
+
+    assertThat(tree.overlapsAny(span(0, 10))).isFalse();
+    assertThat(tree.listOverlapping(span(0, 10))).isEmpty();
+  }
+
+  private static TimeSpan span(int startSeconds, int endSeconds) {
+    return new TimeSpan(BASE.plusSeconds(startSeconds), BASE.plusSeconds(endSeconds));
+  }
+}
@@ -5,6 +5,7 @@ import static com.UoU.core._helpers.ValidationAssertions.assertViolationExceptio
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -486,7 +487,7 @@ class EventServiceTests {
     assertThatCode(() -> scenario.service.delete(scenario.buildEventRequest().build()))
         .doesNotThrowAnyException();
 
-    verify(scenario.deps.eventRepoMock).delete(scenario.eventId);
+    verify(scenario.deps.eventRepoMock).delete(eq(scenario.eventId), any());
     verify(scenario.deps.nylasTaskSchedulerMock)
         .deleteEventFromNylas(any(), any());
   }
@@ -501,7 +502,7 @@ class EventServiceTests {
     assertThatCode(() -> scenario.service.delete(scenario.buildEventRequest().build()))
         .doesNotThrowAnyException();
 
-    verify(scenario.deps.eventRepoMock).delete(scenario.eventId);
+    verify(scenario.deps.eventRepoMock).delete(eq(scenario.eventId), any());
     verify(scenario.deps.nylasTaskSchedulerMock)
         .deleteEventFromNylas(any(), any());
   }
@@ -514,7 +515,7 @@ class EventServiceTests {
     assertThatCode(() -> scenario.service.delete(scenario.buildEventRequest().build()))
         .doesNotThrowAnyException();
 
-    verify(scenario.deps.eventRepoMock).delete(scenario.eventId);
+    verify(scenario.deps.eventRepoMock).delete(eq(scenario.eventId), any());
     verifyNoInteractions(scenario.deps.nylasTaskSchedulerMock);
   }
 
@@ -567,7 +568,7 @@ class EventServiceTests {
         .isInstanceOf(NotFoundException.class)
         .hasMessageContaining("Event");
 
-    verify(scenario.deps.eventRepoMock, never()).delete(any());
+    verify(scenario.deps.eventRepoMock, never()).delete(any(), any());
     verifyNoInteractions(scenario.deps.nylasTaskSchedulerMock);
   }
 
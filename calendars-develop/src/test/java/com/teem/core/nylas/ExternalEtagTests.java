@@ -43,6 +43,15 @@ class ExternalEtagTests {
     assertThat(etag1.equals(etag3)).isFalse();
   }
 
+  @Test
+  void fromFingerprint_shouldEqualOriginal() {
+    val etag = new ExternalEtag(TestData.nylasEvent());
+
+    assertThat(ExternalEtag.fromFingerprint(etag.fingerprint())).isEqualTo(etag);
+    assertThat(ExternalEtag.fromFingerprint(etag.fingerprint()).toString())
+        .isEqualTo(etag.toString());
+  }
+
   @ParameterizedTest
   @MethodSource
   void equals_shouldBeTrueWhenBasicFieldsAreEqual(Consumer<Event> changer) {
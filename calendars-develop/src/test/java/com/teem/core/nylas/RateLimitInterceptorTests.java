@@ -0,0 +1,130 @@
+package com.UoU.core.nylas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import lombok.SneakyThrows;
+import lombok.val;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimitInterceptorTests {
+  private static final RateLimitConfig CONFIG = new RateLimitConfig(
+      true,
+      new RateLimitConfig.Limit(10, 20),
+      new RateLimitConfig.Limit(100, 200),
+      10,
+      Duration.ofSeconds(30),
+      2,
+      Duration.ofSeconds(5),
+      Duration.ofSeconds(60));
+  private static final NylasRateLimiter.Target TARGET = new NylasRateLimiter.Target("app", "acct");
+
+  private static MockWebServer SERVER;
+
+  private NylasRateLimiter rateLimiterMock;
+  private NylasRateLimiter.Permit permitMock;
+  private OkHttpClient http;
+
+  @BeforeAll
+  static void beforeAll() throws IOException {
+    SERVER = new MockWebServer();
+    SERVER.start();
+  }
+
+  @AfterAll
+  static void afterAll() throws IOException {
+    SERVER.shutdown();
+  }
+
+  @BeforeEach
+  @SneakyThrows
+  void beforeEach() {
+    rateLimiterMock = mock(NylasRateLimiter.class);
+    permitMock = mock(NylasRateLimiter.Permit.class);
+    when(rateLimiterMock.acquire(TARGET)).thenReturn(permitMock);
+    http = new OkHttpClient.Builder()
+        .addInterceptor(new RateLimitInterceptor(rateLimiterMock, CONFIG, TARGET))
+        .build();
+  }
+
+  @Test
+  void shouldAcquireAndClosePermitForRequest() {
+    SERVER.enqueue(new MockResponse().setResponseCode(200));
+
+    val response = doRequest();
+
+    assertThat(response.code()).isEqualTo(200);
+    verify(permitMock).close();
+    verify(rateLimiterMock, never()).backoff(any(), any());
+  }
+
+  @Test
+  void shouldBackOffWithRetryAfterAndRetryOn429() {
+    SERVER.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "7"));
+    SERVER.enqueue(new MockResponse().setResponseCode(200));
+
+    val response = doRequest();
+
+    assertThat(response.code()).isEqualTo(200);
+    verify(rateLimiterMock).backoff(TARGET, Duration.ofSeconds(7));
+    verify(permitMock, times(2)).close();
+  }
+
+  @Test
+  void shouldUseDefaultRetryAfterWhenMissingAndCapAtMax() {
+    SERVER.enqueue(new MockResponse().setResponseCode(429));
+    SERVER.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "9999"));
+    SERVER.enqueue(new MockResponse().setResponseCode(200));
+
+    doRequest();
+
+    verify(rateLimiterMock).backoff(TARGET, CONFIG.defaultRetryAfter());
+    verify(rateLimiterMock).backoff(TARGET, CONFIG.maxRetryAfter());
+  }
+
+  @Test
+  void shouldReturn429AfterMaxRetries() {
+    for (var i = 0; i <= CONFIG.maxRetries(); i++) {
+      SERVER.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "1"));
+    }
+
+    val response = doRequest();
+
+    assertThat(response.code()).isEqualTo(429);
+    verify(rateLimiterMock, times(CONFIG.maxRetries())).backoff(TARGET, Duration.ofSeconds(1));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldFailWithoutSendingWhenMaxWaitExceeded() {
+    when(rateLimiterMock.acquire(TARGET))
+        .thenThrow(new NylasRateLimiter.MaxWaitExceededException(TARGET, CONFIG.maxWait()));
+    val requestCount = SERVER.getRequestCount();
+
+    assertThatThrownBy(this::doRequest)
+        .isInstanceOf(IOException.class)
+        .hasCauseInstanceOf(NylasRateLimiter.MaxWaitExceededException.class);
+    assertThat(SERVER.getRequestCount()).isEqualTo(requestCount);
+  }
+
+  @SneakyThrows
+  private Response doRequest() {
+    return http.newCall(new Request.Builder().url(SERVER.url("")).get().build()).execute();
+  }
+}
@@ -0,0 +1,122 @@
+package com.UoU.core.nylas.mapping;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.nylas.Event;
+import com.UoU._fakes.nylas.NylasMockFactory;
+import com.UoU._helpers.ModelBuilders;
+import com.UoU._helpers.TestData;
+import com.UoU.core.events.EventExternalId;
+import com.UoU.core.events.Participant;
+import com.UoU.core.mapping.WrappedValueMapperImpl;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class NylasEventChangesTests {
+  private static final NylasEventMapper MAPPER = new NylasEventMapperImpl(
+      new NylasParticipantMapperImpl(),
+      new WrappedValueMapperImpl());
+
+  @Test
+  void isUnchanged_shouldBeTrueWhenUpdateRequestHasNoUpdates() {
+    val event = createEvent();
+    val localEvent = toLocalEvent(event);
+
+    assertThat(MAPPER.toUpdateRequestModel(event, localEvent).hasUpdates()).isFalse();
+    assertThat(MAPPER.isUnchanged(event, localEvent)).isTrue();
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void isUnchanged_shouldBeFalseWhenUpdateRequestHasUpdates(Consumer<Event> changer) {
+    val event = createEvent();
+    val localEvent = toLocalEvent(event);
+    changer.accept(event);
+
+    assertThat(MAPPER.toUpdateRequestModel(event, localEvent).hasUpdates()).isTrue();
+    assertThat(MAPPER.isUnchanged(event, localEvent)).isFalse();
+  }
+
+  static Stream<Consumer<Event>> isUnchanged_shouldBeFalseWhenUpdateRequestHasUpdates() {
+    val str = TestData.uuidString();
+    return Stream.of(
+        x -> when(x.getIcalUid()).thenReturn(str),
+        x -> when(x.getTitle()).thenReturn(str),
+        x -> when(x.getDescription()).thenReturn(null),
+        x -> when(x.getLocation()).thenReturn(str),
+        x -> when(x.getBusy()).thenReturn(false),
+        x -> when(x.getReadOnly()).thenReturn(true),
+        x -> when(x.getStatus()).thenReturn("tentative"),
+        x -> when(x.getOwner()).thenReturn("Someone Else <someone.else@example.com>"),
+        x -> when(x.getWhen()).thenReturn(new Event.Date(TestData.localDate())),
+        x -> {
+          val when = (Event.Timespan) x.getWhen();
+          when(x.getWhen()).thenReturn(
+              new Event.Timespan(when.getStartTime(), when.getEndTime().plusSeconds(1)));
+        },
+        x -> when(x.getRecurrence()).thenReturn(
+            new Event.Recurrence("UTC", List.of("RRULE:FREQ=DAILY"))),
+        x -> when(x.getParticipants()).thenReturn(x.getParticipants().subList(0, 1)),
+        x -> when(x.getParticipants().get(0).getName()).thenReturn(str),
+        x -> when(x.getParticipants().get(0).getStatus()).thenReturn("yes"),
+        x -> when(x.getParticipants().get(0).getComment()).thenReturn(str));
+  }
+
+  @Test
+  void isUnchanged_shouldMatchParticipantsInAnyOrder() {
+    val event = createEvent();
+    val localEvent = toLocalEvent(event);
+    when(event.getParticipants()).thenReturn(List.of(
+        event.getParticipants().get(1), event.getParticipants().get(0)));
+
+    assertThat(MAPPER.toUpdateRequestModel(event, localEvent).hasUpdates()).isFalse();
+    assertThat(MAPPER.isUnchanged(event, localEvent)).isTrue();
+  }
+
+  @Test
+  void isUnchanged_shouldBeFalseForUnusualOwnerFormatsEvenIfUnchanged() {
+    val event = createEvent();
+    val localEvent = toLocalEvent(event);
+    when(event.getOwner()).thenReturn("  Owner Name   <owner@example.com>  ");
+
+    assertThat(MAPPER.toUpdateRequestModel(event, localEvent).hasUpdates()).isFalse();
+    assertThat(MAPPER.isUnchanged(event, localEvent))
+        .as("Should be conservative and leave unusual formats to the mapper")
+        .isFalse();
+  }
+
+  private static Event createEvent() {
+    val event = NylasMockFactory.createEventMock(TestData.calendarExternalId());
+    when(event.getBusy()).thenReturn(true);
+    when(event.getOwner()).thenReturn("Owner Name <owner@example.com>");
+    return event;
+  }
+
+  private static com.UoU.core.events.Event toLocalEvent(Event event) {
+    return ModelBuilders.eventWithTestData()
+        .externalId(new EventExternalId(event.getId()))
+        .icalUid(event.getIcalUid())
+        .title(event.getTitle())
+        .description(event.getDescription())
+        .location(event.getLocation())
+        .when(MAPPER.toWhenModel(event.getWhen()))
+        .status(MAPPER.toStatusModel(event.getStatus()))
+        .isBusy(event.getBusy())
+        .isReadOnly(event.getReadOnly())
+        .owner(MAPPER.toOwnerModelFromNylasString(event.getOwner()))
+        .participants(event.getParticipants().stream()
+            .map(x -> new Participant(
+                x.getName(),
+                x.getEmail(),
+                new NylasParticipantMapperImpl().mapStatus(x.getStatus()),
+                x.getComment()))
+            .toList())
+        .build();
+  }
+}
@@ -0,0 +1,111 @@
+package com.UoU.core.nylas.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nylas.EventQuery;
+import com.nylas.NylasAccount;
+import com.nylas.RequestFailedException;
+import com.UoU._fakes.nylas.NylasMockFactory;
+import com.UoU._helpers.TestData;
+import com.UoU.core.calendars.CalendarExternalId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentEventFetcherTests {
+  private final CalendarExternalId calendarExternalId = TestData.calendarExternalId();
+  private NylasAccount client;
+  private ConcurrentEventFetcher fetcher;
+
+  @BeforeEach
+  void setUp() {
+    client = NylasMockFactory.createAccountClientMock();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (fetcher != null) {
+      fetcher.shutdown();
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void listEventPages_shouldReturnPagesInOrderUntilShortPage() {
+    fetcher = createFetcher(4, 1);
+    val events = NylasMockFactory.createEventMocks(calendarExternalId).limit(5).toList();
+    when(client.events().list(any(EventQuery.class)).fetchAll())
+        .thenReturn(events.subList(0, 2), events.subList(2, 4), events.subList(4, 5));
+
+    val pages = fetcher.listEventPages(client, EventQuery::new, 2);
+
+    assertThat(pages.next()).containsExactlyElementsOf(events.subList(0, 2));
+    assertThat(pages.next()).containsExactlyElementsOf(events.subList(2, 4));
+    assertThat(pages.next()).containsExactlyElementsOf(events.subList(4, 5));
+    assertThat(pages.hasNext()).isFalse();
+  }
+
+  @Test
+  @SneakyThrows
+  void listEventPages_shouldNotPrefetchWhenFirstPageIsShort() {
+    fetcher = createFetcher(4, 3);
+    val events = NylasMockFactory.createEventMocks(calendarExternalId).limit(1).toList();
+    when(client.events().list(any(EventQuery.class)).fetchAll()).thenReturn(events);
+
+    val result = fetcher.listEventPages(client, EventQuery::new, 2).fetchAll();
+
+    assertThat(result).containsExactlyElementsOf(events);
+    verify(client.events().list(any(EventQuery.class)), times(1)).fetchAll();
+  }
+
+  @Test
+  @SneakyThrows
+  void tryGetEvents_shouldOmitNotFound() {
+    fetcher = createFetcher(4, 1);
+    val found = NylasMockFactory.createEventMock(calendarExternalId);
+    when(client.events().get(anyString()))
+        .thenThrow(new RequestFailedException(404, "message", "type"));
+    doReturn(found).when(client.events()).get(found.getId());
+
+    val result = fetcher.tryGetEvents(client, List.of(found.getId(), "missing"));
+
+    assertThat(result).containsOnlyKeys(found.getId());
+    assertThat(result.get(found.getId())).isSameAs(found);
+  }
+
+  @Test
+  @SneakyThrows
+  void tryGetEvents_shouldLimitConcurrencyPerCall() {
+    fetcher = createFetcher(2, 1);
+    val current = new AtomicInteger();
+    val max = new AtomicInteger();
+    when(client.events().get(anyString())).then(x -> {
+      max.accumulateAndGet(current.incrementAndGet(), Math::max);
+      Thread.sleep(20);
+      current.decrementAndGet();
+      return null;
+    });
+
+    val ids = List.of("1", "2", "3", "4", "5", "6");
+    fetcher.tryGetEvents(client, ids);
+
+    verify(client.events(), times(ids.size())).get(anyString());
+    assertThat(max.get()).isLessThanOrEqualTo(2);
+  }
+
+  private static ConcurrentEventFetcher createFetcher(
+      int maxConcurrencyPerCall, int prefetchPages) {
+    return new ConcurrentEventFetcher(
+        new EventFetchConfig(8, maxConcurrencyPerCall, prefetchPages, 100));
+  }
+}
@@ -0,0 +1,78 @@
+package com.UoU.core.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.UoU._helpers.TestData;
+import com.UoU.core.accounts.AccountId;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.calendars.CalendarRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+class AdvanceEventsActivePeriodTaskTests {
+  private static final int CALENDAR_COUNT = 100;
+
+  @Test
+  void run_shouldScheduleFullSyncsWhenNotIncremental() {
+    val tasks = runAndGetScheduledTasks(new AdvanceEventsActivePeriodConfig(false, 7));
+
+    assertThat(tasks)
+        .hasSize(CALENDAR_COUNT)
+        .allMatch(x -> x.type() == DelayedTask.Type.SYNC_ALL_EVENTS);
+  }
+
+  @Test
+  void run_shouldScheduleFullSyncsWhenIntervalIsOneDay() {
+    val tasks = runAndGetScheduledTasks(new AdvanceEventsActivePeriodConfig(true, 1));
+
+    assertThat(tasks)
+        .hasSize(CALENDAR_COUNT)
+        .allMatch(x -> x.type() == DelayedTask.Type.SYNC_ALL_EVENTS);
+  }
+
+  @Test
+  void run_shouldScheduleMostlyIncrementalAdvancesWhenIncremental() {
+    val tasks = runAndGetScheduledTasks(new AdvanceEventsActivePeriodConfig(true, 1000));
+
+    assertThat(tasks).hasSize(CALENDAR_COUNT);
+    assertThat(tasks)
+        .as("Each calendar should get a full sync on only one day of the interval")
+        .filteredOn(x -> x.type() == DelayedTask.Type.ADVANCE_EVENTS_ACTIVE_PERIOD)
+        .hasSizeGreaterThan(CALENDAR_COUNT / 2);
+  }
+
+  private static List<DelayedTask> runAndGetScheduledTasks(AdvanceEventsActivePeriodConfig config) {
+    val accountId = TestData.accountId();
+    val calendars = IntStream.range(0, CALENDAR_COUNT)
+        .mapToObj(x -> Pair.<AccountId, CalendarId>of(accountId, CalendarId.create()))
+        .toList();
+
+    val calendarRepoMock = mock(CalendarRepository.class);
+    when(calendarRepoMock.listSyncableCalendarsAtLocalHour(anyInt(), anyInt()))
+        .thenReturn(Stream.of(calendars));
+
+    val tasks = new ArrayList<DelayedTask>();
+    val schedulerMock = mock(BatchDelayedTaskScheduler.class);
+    doAnswer(inv -> {
+      Iterator<? extends Collection<DelayedTask>> batches = inv.getArgument(0);
+      batches.forEachRemaining(tasks::addAll);
+      return null;
+    }).when(schedulerMock).scheduleBatches(any(), anyInt());
+
+    new AdvanceEventsActivePeriodTask(config, calendarRepoMock, schedulerMock).run();
+
+    return tasks;
+  }
+}
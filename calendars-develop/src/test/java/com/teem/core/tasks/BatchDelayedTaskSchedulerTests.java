@@ -0,0 +1,70 @@
+package com.UoU.core.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.UoU._helpers.TestData;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class BatchDelayedTaskSchedulerTests {
+
+  @Test
+  void scheduleBatches_shouldEnqueueInOrderWithDelay() {
+    // Mock the queue so that we can record the batches and due times as they're enqueued.
+    val enqueuedBatches = new ArrayList<Collection<DelayedTask>>();
+    val dueTimes = new ArrayList<Instant>();
+    val queueMock = mock(DelayedTaskQueue.class);
+    doAnswer(inv -> {
+      enqueuedBatches.add(inv.getArgument(0));
+      dueTimes.add(inv.getArgument(1));
+      return null;
+    }).when(queueMock).enqueue(any(), any());
+
+    val scheduler = new BatchDelayedTaskScheduler(queueMock);
+    val batches = List.of(
+        List.of(DelayedTask.updateServiceAccountRefreshToken(TestData.serviceAccountId())),
+        List.of(DelayedTask.updateServiceAccountRefreshToken(TestData.serviceAccountId())),
+        List.of(DelayedTask.updateServiceAccountRefreshToken(TestData.serviceAccountId())));
+    val batchDelaySeconds = 60;
+
+    val now = Instant.now();
+    scheduler.scheduleBatches(batches.iterator(), batchDelaySeconds);
+
+    assertThat(enqueuedBatches)
+        .as("Batches should have been enqueued in order")
+        .containsExactlyElementsOf(batches);
+
+    assertThat(dueTimes.get(0))
+        .as("Batch 1 should be due now")
+        .isCloseTo(now, within(5, ChronoUnit.SECONDS));
+
+    assertThat(dueTimes.get(1))
+        .as("Batch 2 should be due at +" + batchDelaySeconds)
+        .isCloseTo(now.plusSeconds(batchDelaySeconds), within(5, ChronoUnit.SECONDS));
+
+    assertThat(dueTimes.get(2))
+        .as("Batch 3 should be due at +" + batchDelaySeconds * 2)
+        .isCloseTo(now.plusSeconds(batchDelaySeconds * 2), within(5, ChronoUnit.SECONDS));
+  }
+
+  @Test
+  void scheduleBatches_shouldThrowForInvalidDelay() {
+    val queueMock = mock(DelayedTaskQueue.class);
+    val scheduler = new BatchDelayedTaskScheduler(queueMock);
+
+    assertThatCode(() -> scheduler.scheduleBatches(List.<List<DelayedTask>>of().iterator(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    verifyNoInteractions(queueMock);
+  }
+}
@@ -0,0 +1,123 @@
+package com.UoU.core.tasks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.UoU._helpers.TestData;
+import com.UoU.core.calendars.CalendarId;
+import com.UoU.core.nylas.tasks.NylasTaskScheduler;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class DelayedTaskDrainerTests {
+  private static final DelayedTaskConfig CONFIG = new DelayedTaskConfig(
+      Duration.ofMinutes(1),
+      3,
+      Map.of(
+          DelayedTask.Type.SYNC_ALL_EVENTS, 50,
+          DelayedTask.Type.SYNC_EVENT_DELTAS, 50,
+          DelayedTask.Type.ADVANCE_EVENTS_ACTIVE_PERIOD, 50,
+          DelayedTask.Type.UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN, 10));
+
+  @Test
+  void drain_shouldClaimWithRateLimitsAndRunAndAck() {
+    val accountId = TestData.accountId();
+    val calendarId = CalendarId.create();
+    val serviceAccountId = TestData.serviceAccountId();
+    val syncTasks = List.of(claimed(DelayedTask.syncAllEvents(accountId, calendarId), 1));
+    val tokenTasks = List.of(
+        claimed(DelayedTask.updateServiceAccountRefreshToken(serviceAccountId), 1));
+
+    val queueMock = mock(DelayedTaskQueue.class);
+    when(queueMock.claimDue(DelayedTask.Type.SYNC_ALL_EVENTS, 50, CONFIG.lease()))
+        .thenReturn(syncTasks);
+    when(queueMock.claimDue(
+        DelayedTask.Type.UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN, 10, CONFIG.lease()))
+        .thenReturn(tokenTasks);
+    val nylasTaskSchedulerMock = mock(NylasTaskScheduler.class);
+    val taskSchedulerMock = mock(TaskScheduler.class);
+
+    new DelayedTaskDrainer(CONFIG, queueMock, nylasTaskSchedulerMock, taskSchedulerMock).drain();
+
+    verify(nylasTaskSchedulerMock).syncAllEvents(accountId, calendarId);
+    verify(taskSchedulerMock).updateServiceAccountRefreshToken(serviceAccountId);
+    verify(queueMock).ack(syncTasks);
+    verify(queueMock).ack(tokenTasks);
+  }
+
+  @Test
+  void drain_shouldNotAckFailedTasksBeforeMaxAttemptsSoTheyAreRetried() {
+    val serviceAccountId = TestData.serviceAccountId();
+    val failedTask = claimed(DelayedTask.updateServiceAccountRefreshToken(serviceAccountId), 1);
+    val okTask = claimed(
+        DelayedTask.updateServiceAccountRefreshToken(TestData.serviceAccountId()), 1);
+
+    val queueMock = mock(DelayedTaskQueue.class);
+    when(queueMock.claimDue(any(), anyInt(), any())).thenReturn(List.of());
+    when(queueMock.claimDue(
+        eq(DelayedTask.Type.UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN), anyInt(), any()))
+        .thenReturn(List.of(failedTask, okTask));
+    val taskSchedulerMock = mock(TaskScheduler.class);
+    doThrow(new IllegalStateException("test"))
+        .when(taskSchedulerMock).updateServiceAccountRefreshToken(serviceAccountId);
+
+    new DelayedTaskDrainer(CONFIG, queueMock, mock(NylasTaskScheduler.class), taskSchedulerMock)
+        .drain();
+
+    verify(queueMock).ack(List.of(okTask));
+  }
+
+  @Test
+  void drain_shouldAckFailedTasksOnMaxAttemptsSoTheyAreNotRetriedForever() {
+    val serviceAccountId = TestData.serviceAccountId();
+    val tasks = List.of(claimed(
+        DelayedTask.updateServiceAccountRefreshToken(serviceAccountId), CONFIG.maxAttempts()));
+
+    val queueMock = mock(DelayedTaskQueue.class);
+    when(queueMock.claimDue(any(), anyInt(), any())).thenReturn(List.of());
+    when(queueMock.claimDue(
+        eq(DelayedTask.Type.UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN), anyInt(), any()))
+        .thenReturn(tasks);
+    val taskSchedulerMock = mock(TaskScheduler.class);
+    doThrow(new IllegalStateException("test"))
+        .when(taskSchedulerMock).updateServiceAccountRefreshToken(serviceAccountId);
+
+    new DelayedTaskDrainer(CONFIG, queueMock, mock(NylasTaskScheduler.class), taskSchedulerMock)
+        .drain();
+
+    verify(queueMock).ack(tasks);
+  }
+
+  @Test
+  void drain_shouldNotAckWhenAllTasksFailBeforeMaxAttempts() {
+    val serviceAccountId = TestData.serviceAccountId();
+    val tasks = List.of(claimed(DelayedTask.updateServiceAccountRefreshToken(serviceAccountId), 1));
+
+    val queueMock = mock(DelayedTaskQueue.class);
+    when(queueMock.claimDue(any(), anyInt(), any())).thenReturn(List.of());
+    when(queueMock.claimDue(
+        eq(DelayedTask.Type.UPDATE_SERVICE_ACCOUNT_REFRESH_TOKEN), anyInt(), any()))
+        .thenReturn(tasks);
+    val taskSchedulerMock = mock(TaskScheduler.class);
+    doThrow(new IllegalStateException("test"))
+        .when(taskSchedulerMock).updateServiceAccountRefreshToken(serviceAccountId);
+
+    new DelayedTaskDrainer(CONFIG, queueMock, mock(NylasTaskScheduler.class), taskSchedulerMock)
+        .drain();
+
+    verify(queueMock, never()).ack(any());
+  }
+
+  private static DelayedTaskQueue.ClaimedTask claimed(DelayedTask task, int attempts) {
+    return new DelayedTaskQueue.ClaimedTask(task, "lease-token", attempts);
+  }
+}
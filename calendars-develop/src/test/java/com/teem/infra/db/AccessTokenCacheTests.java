@@ -0,0 +1,58 @@
+package com.UoU.infra.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.UoU._helpers.TestData;
+import com.UoU.core.SecretString;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+class AccessTokenCacheTests {
+
+  @Test
+  void get_shouldLoadOnceUntilInvalidated() {
+    val redisTemplateMock = mock(StringRedisTemplate.class);
+    val cache = new AccessTokenCache(
+        new AccessTokenCacheConfig(10, Duration.ofMinutes(1)),
+        redisTemplateMock,
+        mock(RedisMessageListenerContainer.class));
+    val id = TestData.accountId();
+    val loads = new AtomicInteger();
+
+    cache.get(id, () -> new SecretString("token" + loads.incrementAndGet()));
+    val cached = cache.get(id, () -> new SecretString("token" + loads.incrementAndGet()));
+    assertThat(cached.value()).isEqualTo("token1");
+
+    cache.invalidate(id);
+    val reloaded = cache.get(id, () -> new SecretString("token" + loads.incrementAndGet()));
+    assertThat(reloaded.value()).isEqualTo("token2");
+    verify(redisTemplateMock).convertAndSend(any(), any());
+  }
+
+  @Test
+  void get_shouldAlwaysLoadWhenDisabled() {
+    val redisTemplateMock = mock(StringRedisTemplate.class);
+    val listenerContainerMock = mock(RedisMessageListenerContainer.class);
+    val cache = new AccessTokenCache(
+        new AccessTokenCacheConfig(10, Duration.ZERO), redisTemplateMock, listenerContainerMock);
+    val id = TestData.accountId();
+    val loads = new AtomicInteger();
+
+    cache.get(id, () -> new SecretString("token" + loads.incrementAndGet()));
+    cache.get(id, () -> new SecretString("token" + loads.incrementAndGet()));
+    cache.invalidate(id);
+
+    assertThat(loads.get()).isEqualTo(2);
+    verify(redisTemplateMock, never()).convertAndSend(any(), any());
+    verify(listenerContainerMock, never()).addMessageListener(any(), any(Topic.class));
+  }
+}
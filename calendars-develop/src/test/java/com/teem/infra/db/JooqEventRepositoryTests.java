@@ -1,21 +1,23 @@
 package com.UoU.infra.db;
 
+import static com.UoU.infra.jooq.Tables.EVENT;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.UoU._helpers.TestData;
+import com.UoU.core.events.DataSource;
 import com.UoU.core.events.EventId;
 import com.UoU.core.events.EventUpdateRequest;
 import com.UoU.infra.db._helpers.Mappers;
 import com.UoU.infra.jooq.tables.records.EventRecord;
-import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 import lombok.val;
-import org.jooq.Batch;
 import org.jooq.DSLContext;
 import org.jooq.TransactionalRunnable;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 class JooqEventRepositoryTests {
   private DSLContext dslMock;
+  private JooqEventOutbox outboxMock;
   private JooqEventRepository repo;
 
   @BeforeEach
@@ -30,7 +33,15 @@ class JooqEventRepositoryTests {
     dslMock = mock(DSLContext.class);
     when(dslMock.executeUpdate(any(EventRecord.class))).thenReturn(1);
 
-    repo = new JooqEventRepository(dslMock, Mappers.EVENT_MAPPER, Mappers.PARTICIPANT_MAPPER);
+    outboxMock = mock(JooqEventOutbox.class);
+    repo = new JooqEventRepository(
+        dslMock,
+        Mappers.EVENT_MAPPER,
+        Mappers.PARTICIPANT_MAPPER,
+        outboxMock,
+        new EventBulkCopyConfig(true, 1000),
+        mock(ReadReplica.class),
+        mock(CalendarMetadataCache.class));
   }
 
   @Test
@@ -70,16 +81,24 @@ class JooqEventRepositoryTests {
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void batchUpdate_shouldExecuteWithNoTransactionIfOnlyEventChanges() {
-    when(dslMock.batchUpdate(any(Collection.class))).thenReturn(mock(Batch.class));
+  void batchUpdate_shouldExecuteOneStatementWithNoTransactionIfOnlyEventChanges() {
+    val deepDslMock = mock(DSLContext.class, RETURNS_DEEP_STUBS);
+    repo = new JooqEventRepository(
+        deepDslMock,
+        Mappers.EVENT_MAPPER,
+        Mappers.PARTICIPANT_MAPPER,
+        outboxMock,
+        new EventBulkCopyConfig(true, 1000),
+        mock(ReadReplica.class),
+        mock(CalendarMetadataCache.class));
 
     val requests = Stream
         .generate(() -> updateBuilder().description("test").build())
         .limit(2)
         .toList();
     repo.batchUpdate(requests);
-    verify(dslMock).batchUpdate(any(Collection.class));
+    verify(deepDslMock).update(EVENT);
+    verify(deepDslMock, never()).transaction(any(TransactionalRunnable.class));
   }
 
   @Test
@@ -94,15 +113,27 @@ class JooqEventRepositoryTests {
     verify(dslMock).transaction(any(TransactionalRunnable.class));
   }
 
+  @Test
+  void batchUpdate_shouldExecuteWithTransactionIfOutboxEnabled() {
+    when(outboxMock.isEnabled()).thenReturn(true);
+
+    val requests = Stream
+        .generate(() -> updateBuilder().description("test").build())
+        .limit(2)
+        .toList();
+    repo.batchUpdate(requests);
+    verify(dslMock).transaction(any(TransactionalRunnable.class));
+  }
+
   @Test
   void batchDelete_shouldSkipEmptyList() {
-    repo.batchDelete(List.of());
+    repo.batchDelete(List.of(), DataSource.PROVIDER);
     verifyNoInteractions(dslMock);
   }
 
   @Test
   void batchDelete_shouldExecute() {
-    repo.batchDelete(List.of(EventId.create()));
+    repo.batchDelete(List.of(EventId.create()), DataSource.PROVIDER);
     verify(dslMock).transaction(any(TransactionalRunnable.class));
   }
 
@@ -0,0 +1,104 @@
+package com.UoU.infra.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import lombok.val;
+import org.jooq.DSLContext;
+import org.jooq.SelectField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReadReplicaTests {
+  private static final ReadReplicaConfig CONFIG = new ReadReplicaConfig(
+      true, "jdbc:postgresql://replica", "user", "pass", 1, Duration.ofSeconds(5),
+      Duration.ofSeconds(1));
+
+  private DSLContext primaryDslMock;
+  private DSLContext replicaDslMock;
+  private ReadReplica readReplica;
+
+  @BeforeEach
+  void beforeEach() {
+    primaryDslMock = mock(DSLContext.class);
+    replicaDslMock = mock(DSLContext.class, RETURNS_DEEP_STUBS);
+    readReplica = new ReadReplica(CONFIG, primaryDslMock, replicaDslMock);
+  }
+
+  @AfterEach
+  void afterEach() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void readDsl_shouldUsePrimaryUntilLagIsChecked() {
+    assertThat(readReplica.readDsl()).isSameAs(primaryDslMock);
+  }
+
+  @Test
+  void readDsl_shouldUseReplicaWhenLagIsUnderMax() {
+    mockLagSeconds(1.5);
+    readReplica.checkLag();
+
+    assertThat(readReplica.readDsl()).isSameAs(replicaDslMock);
+  }
+
+  @Test
+  void readDsl_shouldUsePrimaryWhenLagIsOverMax() {
+    mockLagSeconds(1.5);
+    readReplica.checkLag();
+    mockLagSeconds(30);
+    readReplica.checkLag();
+
+    assertThat(readReplica.readDsl()).isSameAs(primaryDslMock);
+  }
+
+  @Test
+  void readDsl_shouldUsePrimaryWhenLagCheckFails() {
+    mockLagSeconds(0);
+    readReplica.checkLag();
+    when(replicaDslMock.select(any(SelectField.class))).thenThrow(new IllegalStateException());
+    readReplica.checkLag();
+
+    assertThat(readReplica.readDsl()).isSameAs(primaryDslMock);
+  }
+
+  @Test
+  void readDsl_shouldUsePrimaryAfterWriteInSameRequest() {
+    mockLagSeconds(0);
+    readReplica.checkLag();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    assertThat(readReplica.readDsl()).isSameAs(replicaDslMock);
+    ReadReplica.markRequestWrite();
+    assertThat(readReplica.readDsl()).isSameAs(primaryDslMock);
+
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    assertThat(readReplica.readDsl())
+        .as("New request should use replica again")
+        .isSameAs(replicaDslMock);
+  }
+
+  @Test
+  void readDsl_shouldUsePrimaryWhenDisabled() {
+    val config = new ReadReplicaConfig(
+        false, null, null, null, 1, Duration.ofSeconds(5), Duration.ofSeconds(1));
+
+    assertThat(new ReadReplica(config, primaryDslMock).readDsl()).isSameAs(primaryDslMock);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void mockLagSeconds(double seconds) {
+    when(replicaDslMock.select(any(SelectField.class)).fetchSingle().value1()).thenReturn(seconds);
+  }
+}